@@ -0,0 +1,120 @@
+package com.cleverpine.specification.benchmark;
+
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.parser.json.FilterJsonArrayParser;
+import com.cleverpine.specification.parser.json.FilterJsonStreamingParser;
+import com.cleverpine.specification.parser.json.SortJsonArrayParser;
+import com.cleverpine.specification.parser.separator.FilterSeparatorBasedParser;
+import com.cleverpine.specification.parser.separator.SortSeparatorBasedParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parsing of filter and sort parameters by the JSON and the separator-based parsers for a growing number
+ * of filter items. Every third filter item is a multi-value {@code in} filter.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParsingBenchmark {
+
+    @Param({"1", "10", "40"})
+    private int filterCount;
+
+    private FilterJsonArrayParser filterJsonArrayParser;
+
+    private FilterJsonStreamingParser filterJsonStreamingParser;
+
+    private FilterSeparatorBasedParser filterSeparatorBasedParser;
+
+    private SortJsonArrayParser sortJsonArrayParser;
+
+    private SortSeparatorBasedParser sortSeparatorBasedParser;
+
+    private String jsonFilterParam;
+
+    private String jsonNestedArrayFilterParam;
+
+    private List<String> separatorFilterParams;
+
+    private String jsonSortParam;
+
+    private List<String> separatorSortParams;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        filterJsonArrayParser = new FilterJsonArrayParser(objectMapper);
+        filterJsonStreamingParser = new FilterJsonStreamingParser(objectMapper);
+        filterSeparatorBasedParser = new FilterSeparatorBasedParser(":", ";");
+        sortJsonArrayParser = new SortJsonArrayParser(objectMapper);
+        sortSeparatorBasedParser = new SortSeparatorBasedParser(":");
+
+        List<String> jsonItems = new ArrayList<>();
+        List<String> jsonNestedArrayItems = new ArrayList<>();
+        separatorFilterParams = new ArrayList<>();
+        for (int i = 0; i < filterCount; i++) {
+            if (i % 3 == 2) {
+                jsonItems.add(String.format("[\"id\",\"in\",\"[\\\"%d\\\",\\\"%d\\\",\\\"%d\\\"]\"]", i, i + 1, i + 2));
+                jsonNestedArrayItems.add(String.format("[\"id\",\"in\",[\"%d\",\"%d\",\"%d\"]]", i, i + 1, i + 2));
+                separatorFilterParams.add(String.format("id:in:%d;%d;%d", i, i + 1, i + 2));
+            } else {
+                jsonItems.add(String.format("[\"title\",\"like\",\"Title %d\"]", i));
+                jsonNestedArrayItems.add(String.format("[\"title\",\"like\",\"Title %d\"]", i));
+                separatorFilterParams.add(String.format("title:like:Title %d", i));
+            }
+        }
+        jsonFilterParam = jsonItems.stream().collect(Collectors.joining(",", "[", "]"));
+        jsonNestedArrayFilterParam = jsonNestedArrayItems.stream().collect(Collectors.joining(",", "[", "]"));
+        jsonSortParam = "[\"title\",\"asc\"]";
+        separatorSortParams = List.of("title:asc", "genreName:desc");
+    }
+
+    @Benchmark
+    public List<FilterItem<Object>> jsonArrayFilterParser() {
+        return filterJsonArrayParser.parseFilterParam(jsonFilterParam);
+    }
+
+    @Benchmark
+    public List<FilterItem<Object>> jsonStreamingFilterParser() {
+        return filterJsonStreamingParser.parseFilterParam(jsonFilterParam);
+    }
+
+    @Benchmark
+    public List<FilterItem<Object>> jsonStreamingFilterParserNestedArrays() {
+        return filterJsonStreamingParser.parseFilterParam(jsonNestedArrayFilterParam);
+    }
+
+    @Benchmark
+    public List<FilterItem<Object>> separatorFilterParser() {
+        return filterSeparatorBasedParser.parseFilterParams(separatorFilterParams);
+    }
+
+    @Benchmark
+    public List<OrderByItem<Object>> jsonArraySortParser() {
+        return sortJsonArrayParser.parseSortParam(jsonSortParam);
+    }
+
+    @Benchmark
+    public List<OrderByItem<Object>> separatorSortParser() {
+        return sortSeparatorBasedParser.parseSortParams(separatorSortParams);
+    }
+}
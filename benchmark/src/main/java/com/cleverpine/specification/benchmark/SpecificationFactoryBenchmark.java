@@ -0,0 +1,80 @@
+package com.cleverpine.specification.benchmark;
+
+import com.cleverpine.specification.item.MultiFilterItem;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.QueryContext;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import com.cleverpine.specification.util.ValueConverter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Compares the creation of filter specifications through the pre-bound factories of {@link FilterOperator} with the
+ * reflective constructor lookup, which was used before them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SpecificationFactoryBenchmark {
+
+    private static final String ATTRIBUTE = "title";
+
+    private static final String VALUE = "Deadpool";
+
+    private static final List<String> VALUES = List.of("1", "2", "3");
+
+    private QueryContext<Object> queryContext;
+
+    private ValueConverter valueConverter;
+
+    private SingleFilterItem<Object> equalFilterItem;
+
+    private MultiFilterItem<Object> inFilterItem;
+
+    @Setup
+    public void setUp() {
+        queryContext = new QueryContext<>(SpecificationQueryConfig.builder().build());
+        valueConverter = new ValueConverter();
+        equalFilterItem = new SingleFilterItem<>(ATTRIBUTE, FilterOperator.EQUAL, VALUE);
+        inFilterItem = new MultiFilterItem<>(ATTRIBUTE, FilterOperator.IN, VALUES);
+    }
+
+    @Benchmark
+    public Specification<Object> singleValueFactory() {
+        return equalFilterItem.createSpecification(queryContext, valueConverter);
+    }
+
+    @Benchmark
+    public Object singleValueReflective() throws ReflectiveOperationException {
+        return FilterOperator.EQUAL.getSpecificationType()
+                .getDeclaredConstructor(String.class, String.class, QueryContext.class, ValueConverter.class)
+                .newInstance(ATTRIBUTE, VALUE, queryContext, valueConverter);
+    }
+
+    @Benchmark
+    public Specification<Object> multiValueFactory() {
+        return inFilterItem.createSpecification(queryContext, valueConverter);
+    }
+
+    @Benchmark
+    public Object multiValueReflective() throws ReflectiveOperationException {
+        return FilterOperator.IN.getSpecificationType()
+                .getDeclaredConstructor(String.class, List.class, QueryContext.class, ValueConverter.class)
+                .newInstance(ATTRIBUTE, VALUES, queryContext, valueConverter);
+    }
+}
@@ -0,0 +1,150 @@
+package com.cleverpine.specification.benchmark;
+
+import com.cleverpine.specification.benchmark.criteria.MovieFilterCriteria;
+import com.cleverpine.specification.benchmark.entity.Movie;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.parser.SpecificationParserManager;
+import com.cleverpine.specification.parser.json.FilterJsonArrayParser;
+import com.cleverpine.specification.parser.json.SortJsonArrayParser;
+import com.cleverpine.specification.producer.ComplexSpecificationProducer;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import com.cleverpine.specification.util.SpecificationRequest;
+import com.cleverpine.specification.util.ValueConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.JoinType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Measures every stage of the specification pipeline separately - producing the filter items from a request, creating
+ * the {@link Specification}, building the criteria query with Hibernate's {@link CriteriaBuilder} and executing the
+ * query on an in-memory H2 database with the {@code Movie}, {@code Genre} and {@code Actor} entities.
+ * <p>
+ * The benchmarks share one {@link EntityManager}, so they should be run with a single thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SpecificationPipelineBenchmark {
+
+    private static final String PERSISTENCE_UNIT_NAME = "cp-spring-specification-resolver-benchmark";
+
+    private static final String FILTER_PARAM = "["
+            + "[\"title\",\"like\",\"Dead\"],"
+            + "[\"id\",\"in\",\"[\\\"1\\\",\\\"2\\\",\\\"3\\\",\\\"4\\\"]\"],"
+            + "[\"genreName\",\"eq\",\"Comedy\"],"
+            + "[\"actorLastName\",\"neq\",\"Smith\"]"
+            + "]";
+
+    private static final String SORT_PARAM = "[\"title\",\"asc\"]";
+
+    private EntityManagerFactory entityManagerFactory;
+
+    private EntityManager entityManager;
+
+    private CriteriaBuilder criteriaBuilder;
+
+    private SpecificationParserManager specificationParserManager;
+
+    private ComplexSpecificationProducer<Movie> specificationProducer;
+
+    private SpecificationRequest<Movie> specificationRequest;
+
+    private Specification<Movie> specification;
+
+    @Setup
+    public void setUp() {
+        entityManagerFactory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME);
+        entityManager = entityManagerFactory.createEntityManager();
+        criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        specificationParserManager = SpecificationParserManager.builder()
+                .withSingleFilterParser(new FilterJsonArrayParser(objectMapper))
+                .withSingleSortParser(new SortJsonArrayParser(objectMapper))
+                .build();
+
+        // @formatter:off
+        SpecificationQueryConfig<Movie> specificationQueryConfig = SpecificationQueryConfig.<Movie>builder()
+                .joinConfig()
+                .defineJoinClause(Movie.class, "genre", "g", JoinType.INNER)
+                .defineJoinClause(Movie.class, "actors", "a", JoinType.LEFT)
+                .end()
+                .attributePathConfig()
+                .addAttributePathMapping("genreName", "g.name")
+                .addAttributePathMapping("actorFirstName", "a.firstName")
+                .addAttributePathMapping("actorLastName", "a.lastName")
+                .end()
+                .entityDistinctRequired(true)
+                .build();
+        // @formatter:on
+
+        specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                new ValueConverter(),
+                specificationQueryConfig);
+
+        specificationRequest = SpecificationRequest.<Movie>builder()
+                .withFilterParam(FILTER_PARAM)
+                .withSortParam(SORT_PARAM)
+                .build();
+        specification = specificationProducer.createSpecification(specificationRequest);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public List<FilterItem<Movie>> produceFilterItems() {
+        return specificationParserManager.produceFilterItems(specificationRequest);
+    }
+
+    @Benchmark
+    public Specification<Movie> createSpecification() {
+        return specificationProducer.createSpecification(specificationRequest);
+    }
+
+    @Benchmark
+    public CriteriaQuery<Movie> toPredicate() {
+        return buildQuery();
+    }
+
+    @Benchmark
+    public List<Movie> executeQuery() {
+        List<Movie> movies = entityManager.createQuery(buildQuery()).getResultList();
+        entityManager.clear();
+        return movies;
+    }
+
+    private CriteriaQuery<Movie> buildQuery() {
+        CriteriaQuery<Movie> query = criteriaBuilder.createQuery(Movie.class);
+        Root<Movie> root = query.from(Movie.class);
+        query.where(specification.toPredicate(root, query, criteriaBuilder));
+        return query;
+    }
+}
@@ -0,0 +1,14 @@
+package com.cleverpine.specification.benchmark.criteria;
+
+public class MovieFilterCriteria {
+
+    private Long id;
+
+    private String title;
+
+    private String genreName;
+
+    private String actorFirstName;
+
+    private String actorLastName;
+}
@@ -0,0 +1,194 @@
+package com.cleverpine.specification.processor;
+
+import com.cleverpine.specification.processor.SpecificationCriteriaProcessor.AttributeModel;
+import com.cleverpine.specification.processor.SpecificationCriteriaProcessor.FilterTypeModel;
+import com.cleverpine.specification.processor.SpecificationCriteriaProcessor.JoinModel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+/**
+ * Writes the source code of a generated {@link com.cleverpine.specification.descriptor.FilterTypeDescriptor}. The user types
+ * are referenced by their canonical names, so the generated code does not depend on the imports of the filter type.
+ */
+class DescriptorWriter {
+
+    private static final String INDENT = "    ";
+
+    /**
+     * The types with a parse method, which the {@link com.cleverpine.specification.util.ValueConverter} does not support.
+     */
+    private static final Set<String> PARSEABLE_TYPES = Set.of(
+            "java.time.Duration",
+            "java.time.Instant",
+            "java.time.LocalDate",
+            "java.time.LocalDateTime",
+            "java.time.LocalTime",
+            "java.time.OffsetDateTime",
+            "java.time.OffsetTime",
+            "java.time.Year",
+            "java.time.YearMonth");
+
+    private final Types types;
+
+    DescriptorWriter(Types types) {
+        this.types = types;
+    }
+
+    String write(String descriptorName, FilterTypeModel filterType) {
+        int packageEnd = descriptorName.lastIndexOf('.');
+        String entity = typeLiteral(filterType.entity.asType());
+        StringBuilder source = new StringBuilder();
+        if (packageEnd > 0) {
+            source.append("package ").append(descriptorName, 0, packageEnd).append(";\n\n");
+        }
+        source.append("import com.cleverpine.specification.descriptor.FilterTypeDescriptor;\n")
+                .append("import com.cleverpine.specification.descriptor.FilterTypeDescriptors;\n")
+                .append("import com.cleverpine.specification.item.JoinItem;\n")
+                .append("import com.cleverpine.specification.util.JoinStrategy;\n")
+                .append("import jakarta.persistence.criteria.JoinType;\n")
+                .append("import java.util.Collections;\n")
+                .append("import java.util.LinkedHashMap;\n")
+                .append("import java.util.List;\n")
+                .append("import java.util.Map;\n")
+                .append("import java.util.function.Function;\n")
+                .append("import javax.annotation.processing.Generated;\n\n")
+                .append("@Generated(\"").append(SpecificationCriteriaProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(descriptorName.substring(packageEnd + 1))
+                .append(" implements FilterTypeDescriptor<").append(entity).append("> {\n\n");
+
+        line(source, 1, "private static final Map<String, Class<?>> ATTRIBUTE_TYPES;\n");
+        line(source, 1, "private static final Map<String, String> ATTRIBUTE_PATH_MAPPINGS;\n");
+        line(source, 1, "private static final Map<Class<?>, Function<String, Object>> VALUE_CONVERTERS;\n");
+        writeJoinItems(source, filterType);
+        line(source, 1, "static {");
+        writeAttributes(source, filterType);
+        writeValueConverters(source, filterType);
+        line(source, 1, "}\n");
+
+        writeGetter(source, "Class<?>", "getFilterType", typeLiteral(filterType.type.asType()) + ".class");
+        writeGetter(source, "Class<" + entity + ">", "getEntityType", entity + ".class");
+        writeGetter(source, "Map<String, Class<?>>", "getAttributeTypes", "ATTRIBUTE_TYPES");
+        writeGetter(source, "Map<String, String>", "getAttributePathMappings", "ATTRIBUTE_PATH_MAPPINGS");
+        writeGetter(source, "List<JoinItem>", "getJoinItems", "JOIN_ITEMS");
+        writeGetter(source, "Map<Class<?>, Function<String, Object>>", "getValueConverters", "VALUE_CONVERTERS");
+        source.setLength(source.length() - 1);
+        return source.append("}\n").toString();
+    }
+
+    private void writeJoinItems(StringBuilder source, FilterTypeModel filterType) {
+        if (filterType.joins.isEmpty()) {
+            line(source, 1, "private static final List<JoinItem> JOIN_ITEMS = List.of();\n");
+            return;
+        }
+        line(source, 1, "private static final List<JoinItem> JOIN_ITEMS = List.of(");
+        for (int i = 0; i < filterType.joins.size(); i++) {
+            JoinModel join = filterType.joins.get(i);
+            line(source, 3, "new JoinItem(" + typeLiteral(join.from.asType()) + ".class, " + quote(join.attribute) + ", "
+                    + quote(join.alias) + ", JoinType." + join.joinType + ", JoinStrategy." + join.strategy + ", "
+                    + join.collection + ")" + (i < filterType.joins.size() - 1 ? "," : ");\n"));
+        }
+    }
+
+    private void writeAttributes(StringBuilder source, FilterTypeModel filterType) {
+        line(source, 2, "Map<String, Class<?>> attributeTypes = new LinkedHashMap<>();");
+        for (AttributeModel attribute : filterType.attributes.values()) {
+            line(source, 2, "attributeTypes.put(" + quote(attribute.name) + ", " + typeLiteral(attribute.type) + ".class);");
+        }
+        line(source, 2, "ATTRIBUTE_TYPES = Collections.unmodifiableMap(attributeTypes);\n");
+
+        line(source, 2, "Map<String, String> attributePathMappings = new LinkedHashMap<>();");
+        for (AttributeModel attribute : filterType.attributes.values()) {
+            if (Objects.nonNull(attribute.path)) {
+                line(source, 2, "attributePathMappings.put(" + quote(attribute.name) + ", " + quote(attribute.path) + ");");
+            }
+        }
+        line(source, 2, "ATTRIBUTE_PATH_MAPPINGS = Collections.unmodifiableMap(attributePathMappings);\n");
+    }
+
+    private void writeValueConverters(StringBuilder source, FilterTypeModel filterType) {
+        Map<String, String> valueConverters = new LinkedHashMap<>();
+        for (AttributeModel attribute : filterType.attributes.values()) {
+            addValueConverters(valueConverters, attribute.type);
+            if (Objects.nonNull(attribute.entityAttributeType)) {
+                addValueConverters(valueConverters, attribute.entityAttributeType);
+            }
+        }
+        line(source, 2, "Map<Class<?>, Function<String, Object>> valueConverters = new LinkedHashMap<>();");
+        valueConverters.forEach((type, converter) ->
+                line(source, 2, "valueConverters.put(" + type + ".class, " + converter + ");"));
+        line(source, 2, "VALUE_CONVERTERS = Collections.unmodifiableMap(valueConverters);");
+    }
+
+    /**
+     * Adds the converter of the given type, if the type is not supported by the value converter out of the box. A primitive
+     * type is registered together with its wrapper, because the entity may declare either of them.
+     */
+    private void addValueConverters(Map<String, String> valueConverters, TypeMirror type) {
+        TypeMirror boxedType = type.getKind().isPrimitive() ? types.boxedClass(types.getPrimitiveType(type.getKind())).asType() : type;
+        if (boxedType.getKind() != TypeKind.DECLARED) {
+            return;
+        }
+        TypeElement typeElement = (TypeElement) types.asElement(boxedType);
+        String typeName = typeElement.getQualifiedName().toString();
+        String parser;
+        if (typeElement.getKind() == ElementKind.ENUM || typeName.equals("java.lang.Short") || typeName.equals("java.lang.Byte")) {
+            parser = typeName + "::valueOf";
+        } else if (typeName.equals("java.lang.Boolean")) {
+            parser = "FilterTypeDescriptors::parseBoolean";
+        } else if (typeName.equals("java.math.BigInteger")) {
+            parser = "java.math.BigInteger::new";
+        } else if (PARSEABLE_TYPES.contains(typeName)) {
+            parser = typeName + "::parse";
+        } else {
+            return;
+        }
+        String converter = "FilterTypeDescriptors.converter(" + typeName + ".class, " + parser + ")";
+        valueConverters.putIfAbsent(typeName, converter);
+        if (isUnboxable(typeName)) {
+            valueConverters.putIfAbsent(types.unboxedType(boxedType).toString(), converter);
+        }
+    }
+
+    private boolean isUnboxable(String typeName) {
+        return typeName.equals("java.lang.Boolean") || typeName.equals("java.lang.Short") || typeName.equals("java.lang.Byte");
+    }
+
+    private String typeLiteral(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.getPrimitiveType(type.getKind()).toString();
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return typeLiteral(((ArrayType) type).getComponentType()) + "[]";
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) types.asElement(type)).getQualifiedName().toString();
+        }
+        if (type.getKind() == TypeKind.TYPEVAR) {
+            return typeLiteral(types.erasure(type));
+        }
+        return Object.class.getName();
+    }
+
+    private void writeGetter(StringBuilder source, String returnType, String name, String value) {
+        line(source, 1, "@Override");
+        line(source, 1, "public " + returnType + " " + name + "() {");
+        line(source, 2, "return " + value + ";");
+        line(source, 1, "}\n");
+    }
+
+    private static void line(StringBuilder source, int indent, String line) {
+        source.append(INDENT.repeat(indent)).append(line).append('\n');
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
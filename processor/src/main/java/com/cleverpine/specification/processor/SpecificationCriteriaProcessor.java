@@ -0,0 +1,357 @@
+package com.cleverpine.specification.processor;
+
+import com.cleverpine.specification.descriptor.AttributePath;
+import com.cleverpine.specification.descriptor.FilterTypeDescriptor;
+import com.cleverpine.specification.descriptor.FilterTypeDescriptors;
+import com.cleverpine.specification.descriptor.SpecificationCriteria;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * The {@link SpecificationCriteriaProcessor} generates a {@link FilterTypeDescriptor} for each class annotated with
+ * {@link SpecificationCriteria}. The descriptor holds the attributes of the filter type with their types, the value
+ * converters of the attribute types, the attribute path mappings and the joins, so the library does not reflect on the
+ * filter type at runtime.
+ * <p>
+ * The attribute paths are validated against the entity the same way as they are at query time - each join alias of a path
+ * must be defined, each join must start from the entity reached by the previous token and the last entity must declare
+ * the leaf attribute. An invalid path is reported as a compilation error on the field, which declares it.
+ */
+@SupportedAnnotationTypes("com.cleverpine.specification.descriptor.SpecificationCriteria")
+public class SpecificationCriteriaProcessor extends AbstractProcessor {
+
+    static final String INVALID_FILTER_TYPE = "@SpecificationCriteria can be applied only to a non-private class";
+
+    static final String DUPLICATE_JOIN_ALIAS = "Join with alias [%s] is defined more than once";
+
+    static final String JOIN_ATTRIBUTE_NOT_DECLARED = "Join attribute [%s] is not declared in [%s] entity";
+
+    static final String JOIN_TARGET_NOT_RESOLVED = "Cannot resolve the entity joined with [%s] from [%s] entity";
+
+    static final String JOIN_NOT_DEFINED = "Join with alias [%s] of path [%s] is not defined";
+
+    static final String INVALID_JOIN = "Cannot join [%s] from [%s] entity in path [%s]. Entity [%s] is defined for this join";
+
+    static final String ATTRIBUTE_NOT_DECLARED = "Attribute [%s] of path [%s] is not declared in [%s] entity";
+
+    private static final Pattern ENTITY_ATTRIBUTE_SEPARATOR_PATTERN = Pattern.compile("\\.");
+
+    private Elements elements;
+
+    private Types types;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(SpecificationCriteria.class)) {
+            if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.PRIVATE)) {
+                error(INVALID_FILTER_TYPE, element);
+                continue;
+            }
+            FilterTypeModel filterType = readFilterType((TypeElement) element);
+            if (Objects.nonNull(filterType)) {
+                writeDescriptor(filterType);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads and validates the annotated filter type.
+     *
+     * @return the model of the filter type or null if it is not valid
+     */
+    private FilterTypeModel readFilterType(TypeElement filterType) {
+        AnnotationMirror criteria = getAnnotationMirror(filterType, SpecificationCriteria.class.getName());
+        Map<String, AnnotationValue> criteriaValues = getValues(criteria);
+        TypeElement entity = asTypeElement((TypeMirror) criteriaValues.get("entity").getValue());
+
+        boolean valid = true;
+        Map<String, JoinModel> joins = new LinkedHashMap<>();
+        for (AnnotationValue joinValue : getList(criteriaValues.get("joins"))) {
+            JoinModel join = readJoin(filterType, criteria, (AnnotationMirror) joinValue.getValue());
+            if (Objects.isNull(join)) {
+                valid = false;
+            } else if (Objects.nonNull(joins.putIfAbsent(join.alias, join))) {
+                error(String.format(DUPLICATE_JOIN_ALIAS, join.alias), filterType, criteria);
+                valid = false;
+            }
+        }
+
+        Map<String, AttributeModel> attributes = new LinkedHashMap<>();
+        for (TypeElement type = filterType; Objects.nonNull(type); type = getSuperclass(type)) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC) || attributes.containsKey(field.getSimpleName().toString())) {
+                    continue;
+                }
+                AttributeModel attribute = readAttribute(field, entity, joins);
+                valid &= Objects.nonNull(attribute);
+                if (Objects.nonNull(attribute)) {
+                    attributes.put(attribute.name, attribute);
+                }
+            }
+        }
+        return valid ? new FilterTypeModel(filterType, entity, attributes, new ArrayList<>(joins.values())) : null;
+    }
+
+    private JoinModel readJoin(TypeElement filterType, AnnotationMirror criteria, AnnotationMirror join) {
+        Map<String, AnnotationValue> joinValues = getValues(join);
+        TypeElement from = asTypeElement((TypeMirror) joinValues.get("from").getValue());
+        String attribute = (String) joinValues.get("attribute").getValue();
+        String alias = (String) joinValues.get("alias").getValue();
+        String joinType = ((VariableElement) joinValues.get("type").getValue()).getSimpleName().toString();
+        String strategy = ((VariableElement) joinValues.get("strategy").getValue()).getSimpleName().toString();
+
+        VariableElement joinField = findField(from, attribute);
+        if (Objects.isNull(joinField)) {
+            error(String.format(JOIN_ATTRIBUTE_NOT_DECLARED, attribute, from.getSimpleName()), filterType, criteria);
+            return null;
+        }
+        boolean collection = isAssignable(joinField.asType(), Collection.class) || isAssignable(joinField.asType(), Map.class);
+        TypeElement target = resolveJoinTarget(joinField.asType());
+        if (Objects.isNull(target)) {
+            error(String.format(JOIN_TARGET_NOT_RESOLVED, attribute, from.getSimpleName()), filterType, criteria);
+            return null;
+        }
+        return new JoinModel(from, attribute, alias, joinType, strategy, collection, target);
+    }
+
+    private AttributeModel readAttribute(VariableElement field, TypeElement entity, Map<String, JoinModel> joins) {
+        String name = field.getSimpleName().toString();
+        AnnotationMirror attributePath = getAnnotationMirror(field, AttributePath.class.getName());
+        if (Objects.isNull(attributePath)) {
+            // an attribute without a mapping can be backed by a custom expression, so it is not required in the entity
+            VariableElement entityField = findField(entity, name);
+            return new AttributeModel(name, field.asType(), null,
+                    Objects.nonNull(entityField) ? entityField.asType() : null);
+        }
+
+        String path = (String) getValues(attributePath).get("value").getValue();
+        String[] tokens = ENTITY_ATTRIBUTE_SEPARATOR_PATTERN.split(path, -1);
+        TypeElement current = entity;
+        for (int i = 0; i < tokens.length - 1; i++) {
+            JoinModel join = joins.get(tokens[i]);
+            if (Objects.isNull(join)) {
+                error(String.format(JOIN_NOT_DEFINED, tokens[i], path), field, attributePath);
+                return null;
+            }
+            if (!types.isSameType(types.erasure(current.asType()), types.erasure(join.from.asType()))) {
+                error(String.format(INVALID_JOIN, join.attribute, current.getSimpleName(), path, join.from.getSimpleName()),
+                        field, attributePath);
+                return null;
+            }
+            current = join.target;
+        }
+        String leafAttribute = tokens[tokens.length - 1];
+        VariableElement entityField = findField(current, leafAttribute);
+        if (Objects.isNull(entityField)) {
+            error(String.format(ATTRIBUTE_NOT_DECLARED, leafAttribute, path, current.getSimpleName()), field, attributePath);
+            return null;
+        }
+        return new AttributeModel(name, field.asType(), path, entityField.asType());
+    }
+
+    private void writeDescriptor(FilterTypeModel filterType) {
+        String descriptorName = getDescriptorName(filterType.type);
+        try (Writer writer = processingEnv.getFiler().createSourceFile(descriptorName, filterType.type).openWriter()) {
+            writer.write(new DescriptorWriter(types).write(descriptorName, filterType));
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), filterType.type);
+        }
+    }
+
+    /**
+     * Gets the name of the descriptor class in the form expected by {@link FilterTypeDescriptors#getDescriptorName(Class)}.
+     */
+    private String getDescriptorName(TypeElement filterType) {
+        StringBuilder simpleName = new StringBuilder(filterType.getSimpleName());
+        Element element = filterType;
+        while (element instanceof TypeElement && ((TypeElement) element).getNestingKind() == NestingKind.MEMBER) {
+            element = element.getEnclosingElement();
+            simpleName.insert(0, '_').insert(0, element.getSimpleName());
+        }
+        String packageName = elements.getPackageOf(filterType).getQualifiedName().toString();
+        simpleName.append(FilterTypeDescriptors.DESCRIPTOR_SUFFIX);
+        return packageName.isEmpty() ? simpleName.toString() : packageName + "." + simpleName;
+    }
+
+    /**
+     * Resolves the entity reached by a join attribute - the element type of a collection, the value type of a map or the
+     * attribute type itself.
+     */
+    private TypeElement resolveJoinTarget(TypeMirror attributeType) {
+        if (attributeType.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) attributeType).getTypeArguments();
+        TypeMirror targetType = attributeType;
+        if (isAssignable(attributeType, Collection.class)) {
+            targetType = typeArguments.size() == 1 ? typeArguments.get(0) : null;
+        } else if (isAssignable(attributeType, Map.class)) {
+            targetType = typeArguments.size() == 2 ? typeArguments.get(1) : null;
+        }
+        return Objects.nonNull(targetType) && targetType.getKind() == TypeKind.DECLARED ? asTypeElement(targetType) : null;
+    }
+
+    private VariableElement findField(TypeElement type, String name) {
+        for (TypeElement current = type; Objects.nonNull(current); current = getSuperclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC) && field.getSimpleName().contentEquals(name)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement superclassElement = asTypeElement(superclass);
+        return superclassElement.getQualifiedName().contentEquals(Object.class.getName()) ? null : superclassElement;
+    }
+
+    private boolean isAssignable(TypeMirror type, Class<?> targetType) {
+        TypeElement targetElement = elements.getTypeElement(targetType.getName());
+        return type.getKind() == TypeKind.DECLARED
+                && types.isAssignable(types.erasure(type), types.erasure(targetElement.asType()));
+    }
+
+    private TypeElement asTypeElement(TypeMirror type) {
+        return (TypeElement) types.asElement(type);
+    }
+
+    private AnnotationMirror getAnnotationMirror(Element element, String annotationName) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            if (asTypeElement(annotationMirror.getAnnotationType()).getQualifiedName().contentEquals(annotationName)) {
+                return annotationMirror;
+            }
+        }
+        return null;
+    }
+
+    private Map<String, AnnotationValue> getValues(AnnotationMirror annotationMirror) {
+        Map<String, AnnotationValue> values = new LinkedHashMap<>();
+        elements.getElementValuesWithDefaults(annotationMirror)
+                .forEach((element, value) -> values.put(element.getSimpleName().toString(), value));
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AnnotationValue> getList(AnnotationValue annotationValue) {
+        return (List<AnnotationValue>) annotationValue.getValue();
+    }
+
+    private void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void error(String message, Element element, AnnotationMirror annotationMirror) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element, annotationMirror);
+    }
+
+    static final class FilterTypeModel {
+
+        final TypeElement type;
+
+        final TypeElement entity;
+
+        final Map<String, AttributeModel> attributes;
+
+        final List<JoinModel> joins;
+
+        FilterTypeModel(TypeElement type, TypeElement entity, Map<String, AttributeModel> attributes, List<JoinModel> joins) {
+            this.type = type;
+            this.entity = entity;
+            this.attributes = attributes;
+            this.joins = joins;
+        }
+    }
+
+    static final class AttributeModel {
+
+        final String name;
+
+        final TypeMirror type;
+
+        /**
+         * The mapped path to the entity attribute or null if the attribute is not mapped.
+         */
+        final String path;
+
+        /**
+         * The type of the entity attribute or null if the entity does not declare an unmapped attribute.
+         */
+        final TypeMirror entityAttributeType;
+
+        AttributeModel(String name, TypeMirror type, String path, TypeMirror entityAttributeType) {
+            this.name = name;
+            this.type = type;
+            this.path = path;
+            this.entityAttributeType = entityAttributeType;
+        }
+    }
+
+    static final class JoinModel {
+
+        final TypeElement from;
+
+        final String attribute;
+
+        final String alias;
+
+        final String joinType;
+
+        final String strategy;
+
+        final boolean collection;
+
+        final TypeElement target;
+
+        JoinModel(TypeElement from, String attribute, String alias, String joinType, String strategy, boolean collection,
+                  TypeElement target) {
+            this.from = from;
+            this.attribute = attribute;
+            this.alias = alias;
+            this.joinType = joinType;
+            this.strategy = strategy;
+            this.collection = collection;
+            this.target = target;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.cleverpine.specification.processor;
+
+import com.cleverpine.specification.descriptor.FilterTypeDescriptor;
+import com.cleverpine.specification.descriptor.FilterTypeDescriptors;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.JoinItem;
+import com.cleverpine.specification.util.FilterTypeMetadata;
+import com.cleverpine.specification.util.JoinStrategy;
+import com.cleverpine.specification.util.ValueConverter;
+import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpecificationCriteriaProcessorTest {
+
+    private static final String GENRE = "package sample;\n"
+            + "public class Genre {\n"
+            + "    private Long id;\n"
+            + "    private String name;\n"
+            + "}\n";
+
+    private static final String ACTOR = "package sample;\n"
+            + "public class Actor {\n"
+            + "    private Long id;\n"
+            + "    private String lastName;\n"
+            + "    private java.util.Set<Movie> movies;\n"
+            + "}\n";
+
+    private static final String MOVIE = "package sample;\n"
+            + "public class Movie {\n"
+            + "    public enum Status { RELEASED, ANNOUNCED }\n"
+            + "    private Long id;\n"
+            + "    private String title;\n"
+            + "    private java.time.LocalDate releaseDate;\n"
+            + "    private boolean archived;\n"
+            + "    private Status status;\n"
+            + "    private Genre genre;\n"
+            + "    private java.util.Set<Actor> actors;\n"
+            + "}\n";
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void process_onValidFilterType_shouldGenerateTheDescriptor() throws Exception {
+        // @formatter:off
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(
+                source("sample.BaseCriteria", "package sample;\n"
+                        + "public class BaseCriteria {\n"
+                        + "    private Long id;\n"
+                        + "    private Integer title;\n"
+                        + "}\n"),
+                source("sample.MovieFilterCriteria", "package sample;\n"
+                        + "import com.cleverpine.specification.descriptor.*;\n"
+                        + "import jakarta.persistence.criteria.JoinType;\n"
+                        + "@SpecificationCriteria(entity = Movie.class, joins = {\n"
+                        + "        @SpecificationJoin(from = Movie.class, attribute = \"genre\", alias = \"g\"),\n"
+                        + "        @SpecificationJoin(from = Movie.class, attribute = \"actors\", alias = \"a\", type = JoinType.LEFT)\n"
+                        + "})\n"
+                        + "public class MovieFilterCriteria extends BaseCriteria {\n"
+                        + "    private static final long serialVersionUID = 1L;\n"
+                        + "    private String title;\n"
+                        + "    @AttributePath(\"g.name\")\n"
+                        + "    private String genreName;\n"
+                        + "    @AttributePath(\"a.lastName\")\n"
+                        + "    private String actorLastName;\n"
+                        + "    private String releaseDate;\n"
+                        + "    private String archived;\n"
+                        + "    private String status;\n"
+                        + "    private String titleGenreName;\n"
+                        + "}\n"));
+        // @formatter:on
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        try (URLClassLoader classLoader = createClassLoader()) {
+            Class<?> filterType = classLoader.loadClass("sample.MovieFilterCriteria");
+            Class<?> movie = classLoader.loadClass("sample.Movie");
+            FilterTypeDescriptor<?> descriptor = FilterTypeDescriptors.find(filterType);
+
+            assertNotNull(descriptor);
+            assertEquals(filterType, descriptor.getFilterType());
+            assertEquals(movie, descriptor.getEntityType());
+            assertEquals(List.of("title", "genreName", "actorLastName", "releaseDate", "archived", "status", "titleGenreName", "id"),
+                    new ArrayList<>(descriptor.getAttributeTypes().keySet()));
+            assertEquals(String.class, descriptor.getAttributeTypes().get("title"));
+            assertEquals(Long.class, descriptor.getAttributeTypes().get("id"));
+            assertEquals(Map.of("genreName", "g.name", "actorLastName", "a.lastName"), descriptor.getAttributePathMappings());
+            assertEquals(descriptor.getAttributeTypes(), FilterTypeMetadata.of(filterType).getAttributeTypes());
+
+            List<JoinItem> joinItems = descriptor.getJoinItems();
+            assertEquals(2, joinItems.size());
+            assertJoinItem(joinItems.get(0), movie, "genre", "g", JoinType.INNER, false);
+            assertJoinItem(joinItems.get(1), movie, "actors", "a", JoinType.LEFT, true);
+        }
+    }
+
+    @Test
+    void process_onEntityAttributeTypesWithoutBuiltInConverter_shouldGenerateValueConverters() throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(
+                source("sample.MovieFilterCriteria", "package sample;\n"
+                        + "@com.cleverpine.specification.descriptor.SpecificationCriteria(entity = Movie.class)\n"
+                        + "public class MovieFilterCriteria {\n"
+                        + "    private String releaseDate;\n"
+                        + "    private String archived;\n"
+                        + "    private String status;\n"
+                        + "}\n"));
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        try (URLClassLoader classLoader = createClassLoader()) {
+            FilterTypeDescriptor<?> descriptor = FilterTypeDescriptors.find(classLoader.loadClass("sample.MovieFilterCriteria"));
+            Class<?> status = classLoader.loadClass("sample.Movie$Status");
+            ValueConverter valueConverter = descriptor.configure(new ValueConverter());
+
+            assertEquals(LocalDate.of(2024, 1, 31), valueConverter.convert(LocalDate.class, "2024-01-31"));
+            assertEquals(true, valueConverter.convert(boolean.class, "TRUE"));
+            assertEquals(false, valueConverter.convert(Boolean.class, "false"));
+            assertEquals("RELEASED", valueConverter.convert(status, "RELEASED").toString());
+            assertThrows(InvalidSpecificationException.class, () -> valueConverter.convert(boolean.class, "yes"));
+            assertThrows(InvalidSpecificationException.class, () -> valueConverter.convert(status, "invalid"));
+        }
+    }
+
+    @Test
+    void process_onNestedFilterType_shouldGenerateTheDescriptorWithTheEnclosingClassName() throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(
+                source("sample.MovieController", "package sample;\n"
+                        + "public class MovieController {\n"
+                        + "    @com.cleverpine.specification.descriptor.SpecificationCriteria(entity = Movie.class)\n"
+                        + "    public static class Criteria {\n"
+                        + "        private String title;\n"
+                        + "    }\n"
+                        + "}\n"));
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        try (URLClassLoader classLoader = createClassLoader()) {
+            FilterTypeDescriptor<?> descriptor = FilterTypeDescriptors.find(classLoader.loadClass("sample.MovieController$Criteria"));
+
+            assertEquals("sample.MovieController_Criteria_SpecificationDescriptor", descriptor.getClass().getName());
+        }
+    }
+
+    @Test
+    void process_whenJoinAliasOfPathIsNotDefined_shouldFailTheCompilation() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> errors = compileCriteria("", "@AttributePath(\"g.name\")");
+
+        assertErrors(errors, "Join with alias [g] of path [g.name] is not defined");
+    }
+
+    @Test
+    void process_whenLeafAttributeIsNotDeclared_shouldFailTheCompilation() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> errors = compileCriteria(
+                "@SpecificationJoin(from = Movie.class, attribute = \"genre\", alias = \"g\")", "@AttributePath(\"g.title\")");
+
+        assertErrors(errors, "Attribute [title] of path [g.title] is not declared in [Genre] entity");
+    }
+
+    @Test
+    void process_whenJoinStartsFromAnotherEntity_shouldFailTheCompilation() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> errors = compileCriteria(
+                "@SpecificationJoin(from = Actor.class, attribute = \"movies\", alias = \"m\")", "@AttributePath(\"m.title\")");
+
+        assertErrors(errors, "Cannot join [movies] from [Movie] entity in path [m.title]. Entity [Actor] is defined for this join");
+    }
+
+    @Test
+    void process_onJoinChain_shouldResolveTheEntityOfEachJoin() throws IOException {
+        // @formatter:off
+        List<Diagnostic<? extends JavaFileObject>> errors = compileCriteria(
+                "@SpecificationJoin(from = Movie.class, attribute = \"actors\", alias = \"a\"),"
+                        + "@SpecificationJoin(from = Actor.class, attribute = \"movies\", alias = \"m\")",
+                "@AttributePath(\"a.m.title\")");
+        // @formatter:on
+
+        assertTrue(errors.isEmpty(), errors.toString());
+    }
+
+    @Test
+    void process_whenJoinAttributeIsNotDeclared_shouldFailTheCompilation() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> errors = compileCriteria(
+                "@SpecificationJoin(from = Movie.class, attribute = \"director\", alias = \"d\")", "");
+
+        assertErrors(errors, "Join attribute [director] is not declared in [Movie] entity");
+    }
+
+    @Test
+    void process_whenJoinAliasIsDuplicated_shouldFailTheCompilation() throws IOException {
+        // @formatter:off
+        List<Diagnostic<? extends JavaFileObject>> errors = compileCriteria(
+                "@SpecificationJoin(from = Movie.class, attribute = \"genre\", alias = \"g\"),"
+                        + "@SpecificationJoin(from = Movie.class, attribute = \"actors\", alias = \"g\")",
+                "");
+        // @formatter:on
+
+        assertErrors(errors, "Join with alias [g] is defined more than once");
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compileCriteria(String joins, String pathAnnotation) throws IOException {
+        return compile(source("sample.MovieFilterCriteria", "package sample;\n"
+                + "import com.cleverpine.specification.descriptor.*;\n"
+                + "@SpecificationCriteria(entity = Movie.class, joins = {" + joins + "})\n"
+                + "public class MovieFilterCriteria {\n"
+                + "    " + pathAnnotation + "\n"
+                + "    private String attribute;\n"
+                + "}\n"));
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(JavaFileObject... criteriaSources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> sources = new ArrayList<>(List.of(
+                source("sample.Genre", GENRE), source("sample.Actor", ACTOR), source("sample.Movie", MOVIE)));
+        sources.addAll(List.of(criteriaSources));
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(outputDirectory));
+            fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(outputDirectory));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-classpath", System.getProperty("java.class.path")), null, sources);
+            task.setProcessors(List.of(new SpecificationCriteriaProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .collect(Collectors.toList());
+    }
+
+    private URLClassLoader createClassLoader() throws IOException {
+        return new URLClassLoader(new URL[] {outputDirectory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    private static void assertErrors(List<Diagnostic<? extends JavaFileObject>> errors, String message) {
+        assertEquals(1, errors.size(), errors.toString());
+        assertEquals(message, errors.get(0).getMessage(Locale.ROOT));
+    }
+
+    private static void assertJoinItem(JoinItem joinItem, Class<?> fromEntity, String joinAttribute, String alias, JoinType type,
+                                       boolean collection) {
+        assertEquals(fromEntity, joinItem.getFromEntity());
+        assertEquals(joinAttribute, joinItem.getJoinAttribute());
+        assertEquals(alias, joinItem.getAlias());
+        assertEquals(type, joinItem.getType());
+        assertEquals(JoinStrategy.JOIN, joinItem.getStrategy());
+        assertEquals(collection, joinItem.isCollection());
+    }
+}
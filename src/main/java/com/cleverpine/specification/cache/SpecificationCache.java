@@ -0,0 +1,225 @@
+package com.cleverpine.specification.cache;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static com.cleverpine.specification.util.FilterConstants.INVALID_CACHE_CONFIGURATION;
+
+/**
+ * The {@link SpecificationCache} class is a bounded, thread-safe cache of immutable {@link Specification} instances.
+ * The entries are evicted in least-recently-used order when the maximum size is exceeded and, optionally, when they
+ * become older than the configured time-to-live. The cache counts its hits, misses and evictions, which can be read
+ * through {@link #getStats()}.
+ * <p>
+ * A cache instance should be used by a single specification producer, because the keys do not include the filter type
+ * and the configuration of the producer.
+ *
+ * @param <T> the type of the entity
+ */
+public class SpecificationCache<T> {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final int maximumSize;
+
+    private final Duration expireAfterWrite;
+
+    private final Clock clock;
+
+    private final Map<SpecificationCacheKey, CacheEntry<T>> entries;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    private SpecificationCache(int maximumSize, Duration expireAfterWrite, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SpecificationCacheKey, CacheEntry<T>> eldest) {
+                boolean evict = size() > SpecificationCache.this.maximumSize;
+                if (evict) {
+                    evictionCount++;
+                }
+                return evict;
+            }
+        };
+    }
+
+    public static <T> SpecificationCacheBuilder<T> builder() {
+        return new SpecificationCacheBuilder<>();
+    }
+
+    /**
+     * Returns the cached specification of the given key or creates it with the given loader on a miss. The loader is
+     * called outside the lock of the cache, so a slow creation does not block other lookups. Exceptions thrown by the
+     * loader are propagated and nothing is cached.
+     *
+     * @param key    the key of the specification
+     * @param loader the function, which creates the specification on a miss
+     * @return the cached or the newly created specification
+     */
+    public Specification<T> get(SpecificationCacheKey key, Supplier<Specification<T>> loader) {
+        Specification<T> specification = lookup(key, true);
+        if (Objects.nonNull(specification)) {
+            return specification;
+        }
+        specification = loader.get();
+        put(key, specification);
+        return specification;
+    }
+
+    /**
+     * Returns the cached specification of the given key. Only a successful lookup is recorded in the statistics, which
+     * allows a cheap lookup to be followed by {@link #get(SpecificationCacheKey, Supplier)} without counting one request
+     * twice.
+     *
+     * @param key the key of the specification
+     * @return the cached specification or null if it is not present or has expired
+     */
+    public Specification<T> getIfPresent(SpecificationCacheKey key) {
+        return lookup(key, false);
+    }
+
+    /**
+     * Puts the given specification in the cache.
+     *
+     * @param key           the key of the specification
+     * @param specification the specification to be cached
+     */
+    public synchronized void put(SpecificationCacheKey key, Specification<T> specification) {
+        entries.put(key, new CacheEntry<>(specification, clock.instant()));
+    }
+
+    /**
+     * Removes all entries from the cache. The statistics are not reset.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the maximum number of cached specifications.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets a snapshot of the current statistics of the cache.
+     *
+     * @return the cache statistics
+     */
+    public synchronized SpecificationCacheStats getStats() {
+        return new SpecificationCacheStats(hitCount, missCount, evictionCount, entries.size());
+    }
+
+    private synchronized Specification<T> lookup(SpecificationCacheKey key, boolean recordMiss) {
+        CacheEntry<T> entry = entries.get(key);
+        if (Objects.nonNull(entry) && isExpired(entry)) {
+            entries.remove(key);
+            evictionCount++;
+            entry = null;
+        }
+        if (Objects.nonNull(entry)) {
+            hitCount++;
+            return entry.specification;
+        }
+        if (recordMiss) {
+            missCount++;
+        }
+        return null;
+    }
+
+    private boolean isExpired(CacheEntry<T> entry) {
+        return Objects.nonNull(expireAfterWrite)
+                && !clock.instant().isBefore(entry.createdAt.plus(expireAfterWrite));
+    }
+
+    private static class CacheEntry<T> {
+
+        private final Specification<T> specification;
+
+        private final Instant createdAt;
+
+        private CacheEntry(Specification<T> specification, Instant createdAt) {
+            this.specification = specification;
+            this.createdAt = createdAt;
+        }
+    }
+
+    public static class SpecificationCacheBuilder<T> {
+
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+        private Duration expireAfterWrite;
+
+        private Clock clock = Clock.systemUTC();
+
+        private SpecificationCacheBuilder() {
+        }
+
+        /**
+         * Sets the maximum number of cached specifications.
+         *
+         * @param maximumSize the maximum size, which should be positive
+         * @return this builder
+         */
+        public SpecificationCacheBuilder<T> withMaximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the time-to-live of the cached specifications. By default, the entries do not expire.
+         *
+         * @param expireAfterWrite the time after the creation of an entry, when it expires
+         * @return this builder
+         */
+        public SpecificationCacheBuilder<T> withExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        public SpecificationCacheBuilder<T> withClock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds the cache.
+         *
+         * @return a new empty {@link SpecificationCache}
+         * @throws IllegalSpecificationException if the maximum size or the time-to-live is not positive
+         */
+        public SpecificationCache<T> build() {
+            if (maximumSize <= 0) {
+                throw new IllegalSpecificationException(
+                        String.format(INVALID_CACHE_CONFIGURATION, "maximum size", maximumSize));
+            }
+            if (Objects.nonNull(expireAfterWrite) && (expireAfterWrite.isNegative() || expireAfterWrite.isZero())) {
+                throw new IllegalSpecificationException(
+                        String.format(INVALID_CACHE_CONFIGURATION, "expire after write", expireAfterWrite));
+            }
+            return new SpecificationCache<>(maximumSize, expireAfterWrite, Objects.requireNonNull(clock));
+        }
+    }
+}
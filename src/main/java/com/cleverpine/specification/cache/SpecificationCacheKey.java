@@ -0,0 +1,84 @@
+package com.cleverpine.specification.cache;
+
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.util.SpecificationRequest;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The {@link SpecificationCacheKey} class is the key of a cached {@link org.springframework.data.jpa.domain.Specification}.
+ * There are two kinds of keys:
+ * <ul>
+ *     <li>a parameter key - built from the raw filter and sort parameters of a {@link SpecificationRequest}. It allows
+ *     reusing a specification without parsing the request at all.</li>
+ *     <li>an item key - built from the canonical form of the parsed filter and order-by items. The filter items are
+ *     combined with AND, so their order and duplicates do not matter, while the order of the order-by items is
+ *     preserved. Requests, which differ only in their formatting, share the same item key.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@ToString
+public final class SpecificationCacheKey {
+
+    private final Kind kind;
+
+    private final List<Object> components;
+
+    /**
+     * Creates a parameter key from the raw filter and sort parameters of the given request.
+     *
+     * @param specificationRequest the specification request
+     * @return the parameter key or null if the request holds programmatically created filter or sort items, which
+     * cannot be keyed by their raw parameters
+     */
+    public static SpecificationCacheKey ofParameters(SpecificationRequest<?> specificationRequest) {
+        if (Objects.isNull(specificationRequest)) {
+            return new SpecificationCacheKey(Kind.PARAMETERS, Arrays.asList(null, null, null, null));
+        }
+        if (isNotEmpty(specificationRequest.getFilterItems()) || isNotEmpty(specificationRequest.getSortItems())) {
+            return null;
+        }
+        return new SpecificationCacheKey(Kind.PARAMETERS, Arrays.asList(
+                specificationRequest.getFilterParam(),
+                copyOf(specificationRequest.getFilterParams()),
+                specificationRequest.getSortParam(),
+                copyOf(specificationRequest.getSortParams())));
+    }
+
+    /**
+     * Creates an item key from the canonical form of the given filter and order-by items.
+     *
+     * @param filterItems  the filter items
+     * @param orderByItems the order-by items
+     * @param <T>          the type of the entity
+     * @return the item key
+     */
+    public static <T> SpecificationCacheKey ofItems(List<FilterItem<T>> filterItems, List<OrderByItem<T>> orderByItems) {
+        Set<FilterItem<T>> canonicalFilterItems = Objects.isNull(filterItems) ? Set.of() : new HashSet<>(filterItems);
+        List<OrderByItem<T>> canonicalOrderByItems = Objects.isNull(orderByItems) ? List.of() : List.copyOf(orderByItems);
+        return new SpecificationCacheKey(Kind.ITEMS, List.of(canonicalFilterItems, canonicalOrderByItems));
+    }
+
+    private static boolean isNotEmpty(List<?> items) {
+        return Objects.nonNull(items) && !items.isEmpty();
+    }
+
+    private static List<String> copyOf(List<String> params) {
+        return Objects.isNull(params) ? null : Arrays.asList(params.toArray(new String[0]));
+    }
+
+    private enum Kind {
+        PARAMETERS,
+        ITEMS
+    }
+}
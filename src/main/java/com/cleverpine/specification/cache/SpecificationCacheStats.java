@@ -0,0 +1,41 @@
+package com.cleverpine.specification.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * An immutable snapshot of the statistics of a {@link SpecificationCache}.
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public class SpecificationCacheStats {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    private final int size;
+
+    /**
+     * Gets the total number of lookups.
+     *
+     * @return the sum of the hits and the misses
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Gets the ratio of the lookups, which were served from the cache.
+     *
+     * @return the hit rate between 0 and 1 or 1 if there were no lookups
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
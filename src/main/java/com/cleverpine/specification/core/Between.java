@@ -33,6 +33,21 @@ public class Between<T> extends MultiValueSpecification<T> {
         super(attributePath, values, queryContext, valueConverter);
     }
 
+    /**
+     * Constructs a new specification with values, which are already converted to the type of the property, so they are only
+     * bound to the predicate.
+     *
+     * @param attributePath   the path of the property to filter on
+     * @param values          the list of values to filter by
+     * @param convertedValues the values converted to the type of the property
+     * @param queryContext    the query context to use for the specification
+     * @param valueConverter  the value converter to use for converting values to the appropriate types
+     */
+    public Between(String attributePath, List<String> values, List<Object> convertedValues, QueryContext<T> queryContext,
+                   ValueConverter valueConverter) {
+        super(attributePath, values, convertedValues, queryContext, valueConverter);
+    }
+
     /**
      * Generates a predicate for the criteria API to check whether a given property falls within a specified range of values.
      *
@@ -51,11 +66,8 @@ public class Between<T> extends MultiValueSpecification<T> {
         }
 
         Expression<? extends Comparable<Object>> criteriaExpression = buildCriteriaExpression(root, criteriaBuilder);
-        Class<? extends Comparable<Object>> propertyType = criteriaExpression.getJavaType();
-
-        Comparable<Object> firstValue = getValueConverter().convertToComparable(propertyType, values.get(0));
-        Comparable<Object> secondValue = getValueConverter().convertToComparable(propertyType, values.get(1));
-        return criteriaBuilder.between(criteriaExpression, firstValue, secondValue);
+        List<Comparable<Object>> comparableValues = bindComparableValues(criteriaExpression);
+        return criteriaBuilder.between(criteriaExpression, comparableValues.get(0), comparableValues.get(1));
     }
 
 }
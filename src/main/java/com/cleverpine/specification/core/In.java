@@ -1,5 +1,6 @@
 package com.cleverpine.specification.core;
 
+import com.cleverpine.specification.in.InStrategy;
 import com.cleverpine.specification.util.QueryContext;
 import com.cleverpine.specification.util.ValueConverter;
 import java.util.List;
@@ -8,7 +9,8 @@ import jakarta.persistence.criteria.*;
 /**
  * The {@link In} class represents a multi-value specification that checks if a property is within a list of specified values.
  * It extends the {@link MultiValueSpecification} abstract class and implements the {@link #toPredicate(Root, CriteriaQuery, CriteriaBuilder)}
- * method to generate a predicate for the criteria API.
+ * method to generate a predicate for the criteria API. The predicate is built by the {@link InStrategy} configured for the
+ * attribute, which is a single IN list by default.
  *
  * @param <T> the type of the root entity
  */
@@ -26,6 +28,21 @@ public class In<T> extends MultiValueSpecification<T> {
         super(attributePath, values, queryContext, valueConverter);
     }
 
+    /**
+     * Constructs a new specification with values, which are already converted to the type of the property, so they are only
+     * bound to the predicate.
+     *
+     * @param attributePath   the path of the property to filter on
+     * @param values          the list of values to filter by
+     * @param convertedValues the values converted to the type of the property
+     * @param queryContext    the query context to use for the specification
+     * @param valueConverter  the value converter to use for converting values to the appropriate types
+     */
+    public In(String attributePath, List<String> values, List<Object> convertedValues, QueryContext<T> queryContext,
+              ValueConverter valueConverter) {
+        super(attributePath, values, convertedValues, queryContext, valueConverter);
+    }
+
     /**
      * Converts this specification into a JPA criteria API predicate.
      *
@@ -37,8 +54,12 @@ public class In<T> extends MultiValueSpecification<T> {
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
         Expression<?> criteriaExpression = buildCriteriaExpression(root, criteriaBuilder);
-        Class<?> propertyType = criteriaExpression.getJavaType();
-        return criteriaExpression.in(getValueConverter().convert(propertyType, getValues()));
+        List<Object> values = bindValues(criteriaExpression);
+        if (values.isEmpty()) {
+            return criteriaExpression.in(values);
+        }
+        return getQueryContext().getInStrategy(getAttributePath())
+                .createPredicate(criteriaExpression, values, getQueryContext(), query, criteriaBuilder);
     }
 
 }
@@ -0,0 +1,163 @@
+package com.cleverpine.specification.core;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.expression.SpecificationExpressionFactory;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.pagination.KeysetCursor;
+import com.cleverpine.specification.pagination.KeysetIdAttribute;
+import com.cleverpine.specification.util.NullPrecedenceStrategy;
+import com.cleverpine.specification.util.QueryContext;
+import com.cleverpine.specification.util.SortDirection;
+import com.cleverpine.specification.util.ValueConverter;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.data.jpa.domain.Specification;
+
+import static com.cleverpine.specification.util.FilterConstants.INVALID_KEYSET_CURSOR_VALUES_COUNT;
+
+/**
+ * A Specification for keyset (seek) pagination. It restricts the query to the rows, which come after the row described by
+ * a {@link KeysetCursor} in the order of the given {@link OrderByItem}s, so a page is read without an offset.
+ * <p>
+ * The order by items are expected to be applied to the query by {@link OrderBySpecification}s with the same
+ * {@link QueryContext}. This specification appends the id of the root entity as a final ascending sort key, which makes
+ * the order stable. The predicate follows the null ordering of {@link OrderBySpecification} - the null values are last in
+ * ascending order and first in descending order.
+ *
+ * @param <T> the type of the root entity
+ */
+public class KeysetSpecification<T> implements Specification<T> {
+
+    private final List<OrderByItem<T>> orderByItems;
+
+    private final KeysetCursor keysetCursor;
+
+    private final KeysetIdAttribute idAttribute;
+
+    private final QueryContext<T> queryContext;
+
+    private final ValueConverter valueConverter;
+
+    /**
+     * Constructs a keyset specification for the given order by items and cursor.
+     *
+     * @param orderByItems   the order by items of the query
+     * @param keysetCursor   the cursor of the last row of the previous page or null for the first page
+     * @param idAttribute    the id attribute of the root entity, which is shared with the cursor writer
+     * @param queryContext   the query context
+     * @param valueConverter the value converter to use for converting the cursor values to the attribute types
+     */
+    public KeysetSpecification(List<OrderByItem<T>> orderByItems, KeysetCursor keysetCursor, KeysetIdAttribute idAttribute,
+                               QueryContext<T> queryContext, ValueConverter valueConverter) {
+        this.orderByItems = orderByItems;
+        this.keysetCursor = keysetCursor;
+        this.idAttribute = idAttribute;
+        this.queryContext = queryContext;
+        this.valueConverter = valueConverter;
+    }
+
+    /**
+     * Appends the id tie-breaker to the order of the query and builds the predicate, which selects the rows after the cursor.
+     *
+     * @param root            the root entity
+     * @param query           the query to which the tie-breaker order is added
+     * @param criteriaBuilder the builder to use for constructing the predicate
+     * @return the predicate or null if there is no cursor
+     * @throws InvalidSpecificationException if the number of the cursor values does not match the sort keys or a cursor
+     *                                       value cannot be parsed to the type of its sort key
+     * @throws IllegalSpecificationException if the type of a sort key cannot be parsed from a cursor value or the entity
+     *                                       has no single id attribute
+     */
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        List<Expression<?>> sortKeys = new ArrayList<>(orderByItems.size() + 1);
+        List<SortDirection> sortDirections = new ArrayList<>(orderByItems.size() + 1);
+        List<Boolean> nullsOrdered = new ArrayList<>(orderByItems.size() + 1);
+        for (OrderByItem<T> orderByItem : orderByItems) {
+            sortKeys.add(SpecificationExpressionFactory.createSpecificationExpression(orderByItem.getAttribute(), queryContext)
+                    .produceExpression(root, criteriaBuilder));
+            sortDirections.add(orderByItem.getDirection());
+            nullsOrdered.add(queryContext.getNullPrecedenceStrategy(orderByItem.getAttribute()) != NullPrecedenceStrategy.NONE);
+        }
+        Expression<?> idSortKey = root.get(idAttribute.resolve(root));
+        sortKeys.add(idSortKey);
+        sortDirections.add(SortDirection.ASC);
+        nullsOrdered.add(false);
+
+        if (!queryContext.isCountQuery()) {
+            List<Order> orderClauses = new ArrayList<>(query.getOrderList());
+            orderClauses.add(criteriaBuilder.asc(idSortKey));
+            query.orderBy(orderClauses);
+        }
+        if (Objects.isNull(keysetCursor)) {
+            return null;
+        }
+        List<String> cursorValues = keysetCursor.getValues();
+        if (cursorValues.size() != sortKeys.size()) {
+            throw new InvalidSpecificationException(
+                    String.format(INVALID_KEYSET_CURSOR_VALUES_COUNT, sortKeys.size(), cursorValues.size()));
+        }
+        return createAfterCursorPredicate(criteriaBuilder, sortKeys, sortDirections, nullsOrdered, cursorValues);
+    }
+
+    /**
+     * Builds {@code (k1 after c1) OR (k1 = c1 AND k2 after c2) OR ...}, where a null cursor value is matched with
+     * {@code IS NULL} and the keys after a null value are the non-null ones in descending order only. The keys with
+     * {@link NullPrecedenceStrategy#NONE} are expected to be non-null and are compared without the null checks.
+     */
+    private Predicate createAfterCursorPredicate(CriteriaBuilder criteriaBuilder, List<Expression<?>> sortKeys,
+                                                 List<SortDirection> sortDirections, List<Boolean> nullsOrdered,
+                                                 List<String> cursorValues) {
+        List<Predicate> alternatives = new ArrayList<>(sortKeys.size());
+        List<Predicate> equalPrefix = new ArrayList<>(sortKeys.size());
+        for (int i = 0; i < sortKeys.size(); i++) {
+            Expression<Comparable<Object>> sortKey = asComparable(sortKeys.get(i));
+            String cursorValue = cursorValues.get(i);
+            Comparable<Object> value = KeysetCursor.parseValue(sortKey.getJavaType(), cursorValue, valueConverter);
+
+            Predicate after = createAfterValuePredicate(criteriaBuilder, sortKey, sortDirections.get(i), nullsOrdered.get(i), value);
+            if (Objects.nonNull(after)) {
+                List<Predicate> alternative = new ArrayList<>(equalPrefix);
+                alternative.add(after);
+                alternatives.add(criteriaBuilder.and(alternative.toArray(Predicate[]::new)));
+            }
+            equalPrefix.add(Objects.isNull(value)
+                    ? criteriaBuilder.isNull(sortKey)
+                    : criteriaBuilder.equal(sortKey, value));
+        }
+        return criteriaBuilder.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    private Predicate createAfterValuePredicate(CriteriaBuilder criteriaBuilder, Expression<Comparable<Object>> sortKey,
+                                                SortDirection sortDirection, boolean nullsOrdered, Comparable<Object> value) {
+        if (!nullsOrdered) {
+            if (Objects.isNull(value)) {
+                return null;
+            }
+            return sortDirection.isAscending()
+                    ? criteriaBuilder.greaterThan(sortKey, value)
+                    : criteriaBuilder.lessThan(sortKey, value);
+        }
+        if (sortDirection.isAscending()) {
+            return Objects.isNull(value)
+                    ? null
+                    : criteriaBuilder.or(criteriaBuilder.greaterThan(sortKey, value), criteriaBuilder.isNull(sortKey));
+        }
+        return Objects.isNull(value)
+                ? criteriaBuilder.isNotNull(sortKey)
+                : criteriaBuilder.lessThan(sortKey, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Expression<Comparable<Object>> asComparable(Expression<?> expression) {
+        return (Expression<Comparable<Object>>) expression;
+    }
+}
@@ -0,0 +1,71 @@
+package com.cleverpine.specification.core;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * A Specification, which is known to select no entities, e.g. because its filter items contradict each other. The
+ * result of a query with it is empty, so the query can be skipped, see
+ * {@link com.cleverpine.specification.repository.KnownEmptySpecificationExecutor}. If the query is executed anyway, the
+ * specification produces a constant false predicate.
+ * <p>
+ * The marker is lost when the specification is combined with {@link Specification#or(Specification)} or
+ * {@link Specification#not(Specification)}. The combination with {@link #and(Specification)} is still known to be empty.
+ *
+ * @param <T> the type of the root entity
+ */
+public final class KnownEmptySpecification<T> implements Specification<T> {
+
+    private static final KnownEmptySpecification<?> INSTANCE = new KnownEmptySpecification<>();
+
+    private KnownEmptySpecification() {
+    }
+
+    /**
+     * Gets the known empty specification.
+     *
+     * @param <T> the type of the root entity
+     * @return the shared known empty specification
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> KnownEmptySpecification<T> instance() {
+        return (KnownEmptySpecification<T>) INSTANCE;
+    }
+
+    /**
+     * Checks if the given specification is known to select no entities.
+     *
+     * @param specification the specification to check
+     * @return true if the specification is a {@link KnownEmptySpecification}, false otherwise
+     */
+    public static boolean isKnownEmpty(Specification<?> specification) {
+        return specification instanceof KnownEmptySpecification;
+    }
+
+    /**
+     * Combines this specification with another one. No entity matches both, so the combination is this specification.
+     *
+     * @param other the other specification
+     * @return this specification
+     */
+    @Override
+    public Specification<T> and(Specification<T> other) {
+        return this;
+    }
+
+    /**
+     * Produces a constant false predicate.
+     *
+     * @param root            the root entity
+     * @param query           the query to which the predicate is added
+     * @param criteriaBuilder the builder to use for constructing the predicate
+     * @return a predicate, which matches no rows
+     */
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        return criteriaBuilder.disjunction();
+    }
+}
@@ -2,12 +2,17 @@ package com.cleverpine.specification.core;
 
 import com.cleverpine.specification.util.QueryContext;
 import com.cleverpine.specification.util.ValueConverter;
-import lombok.Getter;
-
+import jakarta.persistence.criteria.Expression;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
 
 /**
  * Abstract class representing a specification with multiple values to be used in a query.
+ * <p>
+ * The values can be given already converted to the type of the attribute, e.g. by a
+ * {@link com.cleverpine.specification.item.TypedMultiFilterItem}, in which case the specification only binds them.
  *
  * @param <T> the type of the query result
  */
@@ -16,6 +21,11 @@ public abstract class MultiValueSpecification<T> extends ValueSpecification<T> {
 
     private final List<String> values;
 
+    /**
+     * The values converted to the type of the attribute or null if the values are converted when the predicate is built.
+     */
+    private final List<Object> convertedValues;
+
     /**
      * Constructor for a MultiValueSpecification.
      *
@@ -25,7 +35,51 @@ public abstract class MultiValueSpecification<T> extends ValueSpecification<T> {
      * @param valueConverter the value converter for the specification
      */
     public MultiValueSpecification(String attributePath, List<String> values, QueryContext<T> queryContext, ValueConverter valueConverter) {
+        this(attributePath, values, null, queryContext, valueConverter);
+    }
+
+    /**
+     * Constructor for a MultiValueSpecification with values, which are already converted to the type of the attribute.
+     *
+     * @param attributePath the path for the specification
+     * @param values the list of values for the specification
+     * @param convertedValues the converted values or null if the values should be converted when the predicate is built
+     * @param queryContext the query context for the specification
+     * @param valueConverter the value converter for the specification
+     */
+    public MultiValueSpecification(String attributePath, List<String> values, List<Object> convertedValues,
+                                   QueryContext<T> queryContext, ValueConverter valueConverter) {
         super(attributePath, queryContext, valueConverter);
         this.values = values;
+        this.convertedValues = convertedValues;
+    }
+
+    /**
+     * Gets the values to bind to the predicate - the converted values, if they are given, or the values converted to the
+     * type of the attribute.
+     *
+     * @param criteriaExpression the criteria expression of the attribute
+     * @return the values in the type of the attribute
+     */
+    protected List<Object> bindValues(Expression<?> criteriaExpression) {
+        return Objects.nonNull(convertedValues) ? convertedValues : convertValues(criteriaExpression, values);
+    }
+
+    /**
+     * Gets the comparable values to bind to the predicate - the converted values, if they are given, or the values
+     * converted to the type of the attribute, which is required to be comparable.
+     *
+     * @param criteriaExpression the criteria expression of the attribute
+     * @return the values in the type of the attribute
+     */
+    @SuppressWarnings("unchecked")
+    protected List<Comparable<Object>> bindComparableValues(Expression<?> criteriaExpression) {
+        List<Comparable<Object>> comparableValues = new ArrayList<>(values.size());
+        if (Objects.nonNull(convertedValues)) {
+            convertedValues.forEach(convertedValue -> comparableValues.add((Comparable<Object>) convertedValue));
+        } else {
+            values.forEach(value -> comparableValues.add(convertToComparable(criteriaExpression, value)));
+        }
+        return comparableValues;
     }
 }
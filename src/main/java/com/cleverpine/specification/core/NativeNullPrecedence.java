@@ -0,0 +1,113 @@
+package com.cleverpine.specification.core;
+
+import jakarta.persistence.criteria.Order;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Applies {@code NULLS FIRST} / {@code NULLS LAST} to a JPA {@link Order} through the null precedence support of the
+ * JPA provider, e.g. {@code org.hibernate.query.criteria.JpaOrder#nullPrecedence} of Hibernate 6. The standard JPA
+ * criteria API has no null precedence, so the provider method is looked up once per {@link Order} implementation and
+ * invoked through a {@link MethodHandle}.
+ */
+final class NativeNullPrecedence {
+
+    private static final String NULL_PRECEDENCE_METHOD = "nullPrecedence";
+
+    private static final ClassValue<NativeNullPrecedence> NULL_PRECEDENCES = new ClassValue<>() {
+        @Override
+        protected NativeNullPrecedence computeValue(Class<?> orderType) {
+            return resolve(orderType);
+        }
+    };
+
+    private static final NativeNullPrecedence UNSUPPORTED = new NativeNullPrecedence(null, null, null);
+
+    private final MethodHandle nullPrecedenceMethod;
+
+    private final Object nullsFirst;
+
+    private final Object nullsLast;
+
+    private NativeNullPrecedence(MethodHandle nullPrecedenceMethod, Object nullsFirst, Object nullsLast) {
+        this.nullPrecedenceMethod = nullPrecedenceMethod;
+        this.nullsFirst = nullsFirst;
+        this.nullsLast = nullsLast;
+    }
+
+    /**
+     * Applies the null precedence to the given order.
+     *
+     * @param order      the order without null precedence
+     * @param nullsFirst whether the null values should be first or last
+     * @return the order with the null precedence or null if the JPA provider does not support it
+     * @throws UndeclaredThrowableException if the provider method throws a checked exception
+     */
+    static Order apply(Order order, boolean nullsFirst) {
+        NativeNullPrecedence nullPrecedence = NULL_PRECEDENCES.get(order.getClass());
+        if (nullPrecedence == UNSUPPORTED) {
+            return null;
+        }
+        try {
+            Object result = nullPrecedence.nullPrecedenceMethod.invoke(order,
+                    nullsFirst ? nullPrecedence.nullsFirst : nullPrecedence.nullsLast);
+            return result instanceof Order ? (Order) result : order;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Finds a public {@code nullPrecedence} method with a single enum parameter, which has {@code FIRST} and {@code LAST}
+     * constants, in the public types of the order implementation.
+     */
+    private static NativeNullPrecedence resolve(Class<?> orderType) {
+        Deque<Class<?>> types = new ArrayDeque<>();
+        types.add(orderType);
+        while (!types.isEmpty()) {
+            Class<?> type = types.poll();
+            if (Modifier.isPublic(type.getModifiers())) {
+                for (Method method : type.getDeclaredMethods()) {
+                    NativeNullPrecedence nullPrecedence = resolve(method);
+                    if (Objects.nonNull(nullPrecedence)) {
+                        return nullPrecedence;
+                    }
+                }
+            }
+            if (Objects.nonNull(type.getSuperclass())) {
+                types.add(type.getSuperclass());
+            }
+            types.addAll(List.of(type.getInterfaces()));
+        }
+        return UNSUPPORTED;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static NativeNullPrecedence resolve(Method method) {
+        if (!NULL_PRECEDENCE_METHOD.equals(method.getName())
+                || !Modifier.isPublic(method.getModifiers())
+                || Modifier.isStatic(method.getModifiers())
+                || method.getParameterCount() != 1
+                || !method.getParameterTypes()[0].isEnum()) {
+            return null;
+        }
+        Class<? extends Enum> precedenceType = (Class<? extends Enum>) method.getParameterTypes()[0];
+        try {
+            MethodHandle methodHandle = MethodHandles.publicLookup().unreflect(method);
+            return new NativeNullPrecedence(methodHandle,
+                    Enum.valueOf(precedenceType, "FIRST"),
+                    Enum.valueOf(precedenceType, "LAST"));
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -29,6 +29,21 @@ public class NotEquals<T> extends SingleValueSpecification<T> {
         super(attributePath, value, queryContext, valueConverter);
     }
 
+    /**
+     * Constructs an instance of the {@link NotEquals} specification with a value, which is already converted to the type of the
+     * property, so it is only bound to the predicate.
+     *
+     * @param attributePath  the path of the property to filter on
+     * @param value          the value to filter by
+     * @param convertedValue the value converted to the type of the property
+     * @param queryContext   the query context to use for the specification
+     * @param valueConverter the value converter to use for converting values to the appropriate types
+     */
+    public NotEquals(String attributePath, String value, Object convertedValue, QueryContext<T> queryContext,
+                     ValueConverter valueConverter) {
+        super(attributePath, value, convertedValue, queryContext, valueConverter);
+    }
+
     /**
      * Converts this specification into a JPA criteria API predicate.
      *
@@ -40,8 +55,7 @@ public class NotEquals<T> extends SingleValueSpecification<T> {
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
         Expression<?> criteriaExpression = buildCriteriaExpression(root, criteriaBuilder);
-        Class<?> propertyType = criteriaExpression.getJavaType();
-        return criteriaBuilder.notEqual(criteriaExpression, getValueConverter().convert(propertyType, getValue()));
+        return criteriaBuilder.notEqual(criteriaExpression, bindValue(criteriaExpression));
     }
 
 }
@@ -1,5 +1,6 @@
 package com.cleverpine.specification.core;
 
+import com.cleverpine.specification.util.NullPrecedenceStrategy;
 import com.cleverpine.specification.util.QueryContext;
 import com.cleverpine.specification.util.SortDirection;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -8,11 +9,16 @@ import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * A Specification for an order by clause in a JPA query (sorting by a certain property). This specification extends the {@link CriteriaExpressionSpecification} class.
+ * <p>
+ * The null values are last in ascending order and first in descending order. The way the null ordering is built is
+ * configured per sort attribute with a {@link NullPrecedenceStrategy} - not at all, natively or with a CASE expression.
  *
  * @param <T> the type of the root entity
  */
@@ -33,25 +39,38 @@ public class OrderBySpecification<T> extends CriteriaExpressionSpecification<T>
     }
 
     /**
-     * Converts this specification into a JPA criteria API predicate.
+     * Appends the order clauses of this specification to the ones already present in the query, so several order by
+     * specifications applied one after another sort by all their attributes in the same order.
      *
      * @param root            the root entity
-     * @param query           the query to which the predicate is added
-     * @param criteriaBuilder the builder to use for constructing the predicate
-     * @return a predicate that corresponds to this specification
+     * @param query           the query to which the order clauses are added
+     * @param criteriaBuilder the builder to use for constructing the order clauses
+     * @return null, because the specification does not restrict the query
      */
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
         Expression<?> criteriaExpression = buildCriteriaExpression(root, criteriaBuilder);
-        List<Order> orderClauses = createOrderClauses(criteriaBuilder, criteriaExpression);
+        List<Order> orderClauses = new ArrayList<>(query.getOrderList());
+        orderClauses.addAll(createOrderClauses(criteriaBuilder, criteriaExpression));
         query.orderBy(orderClauses);
         return null;
     }
 
     private List<Order> createOrderClauses(CriteriaBuilder criteriaBuilder, Expression<?> criteriaExpression) {
+        Order order = sortDirection.isAscending() ? criteriaBuilder.asc(criteriaExpression) : criteriaBuilder.desc(criteriaExpression);
+        NullPrecedenceStrategy nullPrecedenceStrategy = getQueryContext().getNullPrecedenceStrategy(getAttributePath());
+        if (nullPrecedenceStrategy == NullPrecedenceStrategy.NONE) {
+            return List.of(order);
+        }
+        if (nullPrecedenceStrategy == NullPrecedenceStrategy.NATIVE) {
+            Order nativeOrder = NativeNullPrecedence.apply(order, !sortDirection.isAscending());
+            if (Objects.nonNull(nativeOrder)) {
+                return List.of(nativeOrder);
+            }
+        }
         return Arrays.asList(
                 criteriaBuilder.asc(criteriaBuilder.selectCase().when(criteriaBuilder.isNull(criteriaExpression), sortDirection.isAscending() ? 1 : -1).otherwise(0)),
-                sortDirection.isAscending() ? criteriaBuilder.asc(criteriaExpression) : criteriaBuilder.desc(criteriaExpression)
+                order
         );
     }
 }
@@ -2,10 +2,15 @@ package com.cleverpine.specification.core;
 
 import com.cleverpine.specification.util.QueryContext;
 import com.cleverpine.specification.util.ValueConverter;
+import jakarta.persistence.criteria.Expression;
+import java.util.Objects;
 import lombok.Getter;
 
 /**
  * Abstract class representing a specification with single value to be used in a query.
+ * <p>
+ * The value can be given already converted to the type of the attribute, e.g. by a
+ * {@link com.cleverpine.specification.item.TypedSingleFilterItem}, in which case the specification only binds it.
  *
  * @param <T> the type of the query result
  */
@@ -14,6 +19,11 @@ public abstract class SingleValueSpecification<T> extends ValueSpecification<T>
 
     private final String value;
 
+    /**
+     * The value converted to the type of the attribute or null if the value is converted when the predicate is built.
+     */
+    private final Object convertedValue;
+
     /**
      * Constructor for a SingleValueSpecification.
      *
@@ -23,8 +33,48 @@ public abstract class SingleValueSpecification<T> extends ValueSpecification<T>
      * @param valueConverter the value converter for the specification
      */
     public SingleValueSpecification(String attributePath, String value, QueryContext<T> queryContext, ValueConverter valueConverter) {
+        this(attributePath, value, null, queryContext, valueConverter);
+    }
+
+    /**
+     * Constructor for a SingleValueSpecification with a value, which is already converted to the type of the attribute.
+     *
+     * @param attributePath the path for the specification
+     * @param value the value for the specification
+     * @param convertedValue the converted value or null if the value should be converted when the predicate is built
+     * @param queryContext the query context for the specification
+     * @param valueConverter the value converter for the specification
+     */
+    public SingleValueSpecification(String attributePath, String value, Object convertedValue, QueryContext<T> queryContext,
+                                    ValueConverter valueConverter) {
         super(attributePath, queryContext, valueConverter);
         this.value = value;
+        this.convertedValue = convertedValue;
+    }
+
+    /**
+     * Gets the value to bind to the predicate - the converted value, if it is given, or the value converted to the type of
+     * the attribute.
+     *
+     * @param criteriaExpression the criteria expression of the attribute
+     * @return the value in the type of the attribute
+     */
+    protected Object bindValue(Expression<?> criteriaExpression) {
+        return Objects.nonNull(convertedValue) ? convertedValue : convertValue(criteriaExpression, value);
+    }
+
+    /**
+     * Gets the comparable value to bind to the predicate - the converted value, if it is given, or the value converted to
+     * the type of the attribute, which is required to be comparable.
+     *
+     * @param criteriaExpression the criteria expression of the attribute
+     * @return the value in the type of the attribute
+     */
+    @SuppressWarnings("unchecked")
+    protected Comparable<Object> bindComparableValue(Expression<?> criteriaExpression) {
+        return Objects.nonNull(convertedValue)
+                ? (Comparable<Object>) convertedValue
+                : convertToComparable(criteriaExpression, value);
     }
 
 }
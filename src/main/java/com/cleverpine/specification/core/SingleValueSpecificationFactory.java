@@ -0,0 +1,28 @@
+package com.cleverpine.specification.core;
+
+import com.cleverpine.specification.util.QueryContext;
+import com.cleverpine.specification.util.ValueConverter;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * A factory for single-value specifications. The built-in filter operators carry a constructor reference of their
+ * specification implementation, so creating a specification is a plain method call instead of a reflective lookup.
+ * A custom factory can be given to a filter item in order to produce a custom {@link Specification} implementation.
+ *
+ * @param <T> the type of the entity
+ */
+@FunctionalInterface
+public interface SingleValueSpecificationFactory<T> {
+
+    /**
+     * Creates a new specification for the given attribute path and value.
+     *
+     * @param attributePath  the path of the attribute to filter on
+     * @param value          the value to filter by
+     * @param queryContext   the query context to use for the specification
+     * @param valueConverter the value converter to use for the specification
+     * @return the created specification
+     */
+    Specification<T> create(String attributePath, String value, QueryContext<T> queryContext, ValueConverter valueConverter);
+
+}
@@ -1,12 +1,20 @@
 package com.cleverpine.specification.core;
 
 import com.cleverpine.specification.util.QueryContext;
+import com.cleverpine.specification.util.ResolvedAttribute;
 import com.cleverpine.specification.util.ValueConverter;
+import jakarta.persistence.criteria.Expression;
+import java.util.List;
+import java.util.Objects;
 import lombok.Getter;
 
 /**
  * This {@link ValueSpecification} is used for all the specifications. It has a {@link ValueConverter} that is used in all the
  * specification implementation to convert the input value to the required one.
+ * <p>
+ * If the {@link QueryContext} resolves the attribute with a {@link com.cleverpine.specification.util.MetamodelAttributeResolver},
+ * the values are converted with the cached converter of the resolved attribute, otherwise the converter is looked up by the
+ * type of the criteria expression.
  *
  * @param <T> the type of the entity being queried
  */
@@ -20,4 +28,46 @@ public abstract class ValueSpecification<T> extends CriteriaExpressionSpecificat
         this.valueConverter = valueConverter;
     }
 
+    /**
+     * Converts a value to the type of the attribute.
+     *
+     * @param criteriaExpression the criteria expression of the attribute
+     * @param value              the value to convert
+     * @return the converted value
+     */
+    protected Object convertValue(Expression<?> criteriaExpression, String value) {
+        ResolvedAttribute resolvedAttribute = getQueryContext().getResolvedAttribute(getAttributePath());
+        return Objects.nonNull(resolvedAttribute)
+                ? resolvedAttribute.convert(value)
+                : valueConverter.convert(criteriaExpression.getJavaType(), value);
+    }
+
+    /**
+     * Converts a list of values to the type of the attribute.
+     *
+     * @param criteriaExpression the criteria expression of the attribute
+     * @param values             the values to convert
+     * @return the converted values
+     */
+    protected List<Object> convertValues(Expression<?> criteriaExpression, List<String> values) {
+        ResolvedAttribute resolvedAttribute = getQueryContext().getResolvedAttribute(getAttributePath());
+        return Objects.nonNull(resolvedAttribute)
+                ? resolvedAttribute.convert(values)
+                : valueConverter.convert(criteriaExpression.getJavaType(), values);
+    }
+
+    /**
+     * Converts a value to the type of the attribute, which is required to be comparable.
+     *
+     * @param criteriaExpression the criteria expression of the attribute
+     * @param value              the value to convert
+     * @return the converted value
+     */
+    protected Comparable<Object> convertToComparable(Expression<?> criteriaExpression, String value) {
+        ResolvedAttribute resolvedAttribute = getQueryContext().getResolvedAttribute(getAttributePath());
+        return Objects.nonNull(resolvedAttribute)
+                ? resolvedAttribute.convertToComparable(value)
+                : valueConverter.convertToComparable(criteriaExpression.getJavaType(), value);
+    }
+
 }
@@ -0,0 +1,28 @@
+package com.cleverpine.specification.descriptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps an attribute of a {@link SpecificationCriteria} filter type to a path of the entity, e.g. {@code "g.name"}. It is
+ * the compile-time counterpart of
+ * {@link com.cleverpine.specification.util.SpecificationQueryConfig.AttributePathConfig#addAttributePathMapping}.
+ * <p>
+ * Each token of the path except the last one must be an alias of a join of the filter type. The processor checks that every
+ * join starts from the entity reached by the previous token and that the last entity declares the leaf attribute.
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.CLASS)
+public @interface AttributePath {
+
+    /**
+     * The path to the entity attribute.
+     *
+     * @return the path
+     */
+    String value();
+}
@@ -0,0 +1,93 @@
+package com.cleverpine.specification.descriptor;
+
+import com.cleverpine.specification.item.JoinItem;
+import com.cleverpine.specification.util.SpecificationQueryConfig.AttributePathConfig;
+import com.cleverpine.specification.util.SpecificationQueryConfig.JoinConfig;
+import com.cleverpine.specification.util.SpecificationQueryConfig.SpecificationQueryConfigBuilder;
+import com.cleverpine.specification.util.ValueConverter;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A {@link FilterTypeDescriptor} holds the static description of a filter type. The implementations are generated at compile
+ * time for the classes annotated with {@link SpecificationCriteria}, so the attributes, the joins and the attribute path
+ * mappings are known without reflection and the paths are validated by the build.
+ * <p>
+ * A generated descriptor is a class with the name of the filter type and the {@link FilterTypeDescriptors#DESCRIPTOR_SUFFIX}
+ * suffix in the same package. It is picked up by {@link com.cleverpine.specification.util.FilterTypeMetadata} automatically
+ * and can be found with {@link FilterTypeDescriptors#find(Class)}.
+ *
+ * @param <T> the type of the root entity
+ */
+public interface FilterTypeDescriptor<T> {
+
+    /**
+     * Gets the filter type, which this descriptor describes.
+     *
+     * @return the filter type
+     */
+    Class<?> getFilterType();
+
+    /**
+     * Gets the root entity, to which the filter type is applied.
+     *
+     * @return the entity type
+     */
+    Class<T> getEntityType();
+
+    /**
+     * Gets the declared Java types of all attributes in the filter type. The attributes of a subclass come before the ones
+     * of its superclasses.
+     *
+     * @return an unmodifiable map of attribute types by attribute name
+     */
+    Map<String, Class<?>> getAttributeTypes();
+
+    /**
+     * Gets the paths to the entity attributes of the mapped filter attributes.
+     *
+     * @return an unmodifiable map of entity attribute paths by filter attribute name
+     */
+    Map<String, String> getAttributePathMappings();
+
+    /**
+     * Gets the joins of the filter type in their declaration order.
+     *
+     * @return an unmodifiable list of the joins
+     */
+    List<JoinItem> getJoinItems();
+
+    /**
+     * Gets the value converters of the attribute types, which the {@link ValueConverter} does not support out of the box,
+     * e.g. enums, booleans and the {@code java.time} types.
+     *
+     * @return an unmodifiable map of value converters by attribute type
+     */
+    Map<Class<?>, Function<String, Object>> getValueConverters();
+
+    /**
+     * Defines the joins and the attribute path mappings of this descriptor in the given builder.
+     *
+     * @param builder the builder of the specification query configuration
+     * @return the given builder
+     */
+    default SpecificationQueryConfigBuilder<T> configure(SpecificationQueryConfigBuilder<T> builder) {
+        JoinConfig<T> joinConfig = builder.joinConfig();
+        getJoinItems().forEach(joinConfig::defineJoinClause);
+        AttributePathConfig<T> attributePathConfig = builder.attributePathConfig();
+        getAttributePathMappings().forEach(attributePathConfig::addAttributePathMapping);
+        return builder;
+    }
+
+    /**
+     * Registers the value converters of this descriptor in the given {@link ValueConverter}.
+     *
+     * @param valueConverter the value converter
+     * @return the given value converter
+     */
+    default ValueConverter configure(ValueConverter valueConverter) {
+        valueConverter.addCustomValueConverters(getValueConverters());
+        return valueConverter;
+    }
+}
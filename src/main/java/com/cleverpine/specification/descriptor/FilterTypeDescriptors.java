@@ -0,0 +1,120 @@
+package com.cleverpine.specification.descriptor;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import java.time.DateTimeException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.cleverpine.specification.util.FilterConstants.INVALID_FILTER_TYPE_DESCRIPTOR;
+import static com.cleverpine.specification.util.FilterConstants.INVALID_VALUE_FOR_CLASS;
+
+/**
+ * Utility methods for the generated {@link FilterTypeDescriptor}s. The descriptor of a filter type is looked up only once
+ * and the result is cached per filter type.
+ */
+public final class FilterTypeDescriptors {
+
+    /**
+     * The suffix of the generated descriptor classes.
+     */
+    public static final String DESCRIPTOR_SUFFIX = "_SpecificationDescriptor";
+
+    private static final ClassValue<Optional<FilterTypeDescriptor<?>>> DESCRIPTOR_BY_FILTER_TYPE = new ClassValue<>() {
+        @Override
+        protected Optional<FilterTypeDescriptor<?>> computeValue(Class<?> filterType) {
+            return Optional.ofNullable(loadDescriptor(filterType));
+        }
+    };
+
+    private FilterTypeDescriptors() {
+    }
+
+    /**
+     * Finds the generated descriptor of the given filter type.
+     *
+     * @param filterType the filter type
+     * @return the descriptor or null if there is no descriptor generated for the filter type
+     * @throws IllegalSpecificationException if the descriptor class exists, but cannot be instantiated
+     */
+    public static FilterTypeDescriptor<?> find(Class<?> filterType) {
+        return DESCRIPTOR_BY_FILTER_TYPE.get(filterType).orElse(null);
+    }
+
+    /**
+     * Gets the fully qualified name of the descriptor class of the given filter type. The names of the enclosing classes
+     * of a nested filter type are joined with an underscore, e.g. {@code com.example.Outer_Criteria_SpecificationDescriptor}.
+     *
+     * @param filterType the filter type
+     * @return the name of the descriptor class
+     */
+    public static String getDescriptorName(Class<?> filterType) {
+        String packageName = filterType.getPackageName();
+        String simpleBinaryName = packageName.isEmpty()
+                ? filterType.getName()
+                : filterType.getName().substring(packageName.length() + 1);
+        String descriptorSimpleName = simpleBinaryName.replace('$', '_') + DESCRIPTOR_SUFFIX;
+        return packageName.isEmpty() ? descriptorSimpleName : packageName + "." + descriptorSimpleName;
+    }
+
+    /**
+     * Wraps the given parser in a value converter, which reports the values that cannot be parsed the same way as the
+     * {@link com.cleverpine.specification.util.ValueConverter} does.
+     *
+     * @param type   the type, to which the parser converts the values
+     * @param parser the parser
+     * @return the value converter
+     */
+    public static Function<String, Object> converter(Class<?> type, Function<String, ?> parser) {
+        return value -> {
+            try {
+                return parser.apply(value);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw new InvalidSpecificationException(String.format(INVALID_VALUE_FOR_CLASS, value, type.getSimpleName()));
+            }
+        };
+    }
+
+    /**
+     * Parses a boolean value. Unlike {@link Boolean#valueOf(String)}, only {@code true} and {@code false} in any case are
+     * accepted.
+     *
+     * @param value the value to parse
+     * @return the parsed value
+     * @throws IllegalArgumentException if the value is not a boolean
+     */
+    public static Boolean parseBoolean(String value) {
+        if (Boolean.TRUE.toString().equalsIgnoreCase(value)) {
+            return Boolean.TRUE;
+        }
+        if (Boolean.FALSE.toString().equalsIgnoreCase(value)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException(value);
+    }
+
+    private static FilterTypeDescriptor<?> loadDescriptor(Class<?> filterType) {
+        ClassLoader classLoader = filterType.getClassLoader();
+        if (Objects.isNull(classLoader)) {
+            return null;
+        }
+        String descriptorName = getDescriptorName(filterType);
+        Class<?> descriptorType;
+        try {
+            descriptorType = Class.forName(descriptorName, true, classLoader);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        try {
+            FilterTypeDescriptor<?> descriptor = (FilterTypeDescriptor<?>) descriptorType.getDeclaredConstructor().newInstance();
+            if (descriptor.getFilterType() == filterType) {
+                return descriptor;
+            }
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            // the class is not a descriptor of the filter type
+        }
+        throw new IllegalSpecificationException(
+                String.format(INVALID_FILTER_TYPE_DESCRIPTOR, descriptorName, filterType.getSimpleName()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.cleverpine.specification.descriptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a filter type - the class, which declares the possible filter and sorting attributes - for the annotation
+ * processor of the <i>cp-spring-jpa-specification-resolver-processor</i> module. The processor generates a
+ * {@link FilterTypeDescriptor} for the annotated class, which holds its attributes with their types, the value converters,
+ * the attribute path mappings and the join chains, and validates the paths against the entity at compile time.
+ * <p>
+ * The non-static fields of the class and its superclasses are the attributes. A field can be mapped to a path of the entity
+ * with {@link AttributePath}, otherwise the attribute name is used as the path.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface SpecificationCriteria {
+
+    /**
+     * The root entity, to which the filter type is applied.
+     *
+     * @return the root entity type
+     */
+    Class<?> entity();
+
+    /**
+     * The joins, which can be used in the attribute paths.
+     *
+     * @return the join definitions
+     */
+    SpecificationJoin[] joins() default {};
+}
@@ -0,0 +1,53 @@
+package com.cleverpine.specification.descriptor;
+
+import com.cleverpine.specification.util.JoinStrategy;
+import jakarta.persistence.criteria.JoinType;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines a join of a {@link SpecificationCriteria} filter type. It is the compile-time counterpart of
+ * {@link com.cleverpine.specification.util.SpecificationQueryConfig.JoinConfig#defineJoinClause}.
+ */
+@Documented
+@Target({})
+@Retention(RetentionPolicy.CLASS)
+public @interface SpecificationJoin {
+
+    /**
+     * The entity, from which the join starts. It must be the root entity or the target entity of another join.
+     *
+     * @return the entity type
+     */
+    Class<?> from();
+
+    /**
+     * The attribute of the entity to join.
+     *
+     * @return the attribute name
+     */
+    String attribute();
+
+    /**
+     * The alias of the join used in the attribute paths.
+     *
+     * @return the alias
+     */
+    String alias();
+
+    /**
+     * The type of the join.
+     *
+     * @return the join type
+     */
+    JoinType type() default JoinType.INNER;
+
+    /**
+     * The strategy of building the filter predicates through the join.
+     *
+     * @return the join strategy
+     */
+    JoinStrategy strategy() default JoinStrategy.JOIN;
+}
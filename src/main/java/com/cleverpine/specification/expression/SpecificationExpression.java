@@ -2,6 +2,7 @@ package com.cleverpine.specification.expression;
 
 import com.cleverpine.specification.exception.IllegalSpecificationException;
 import com.cleverpine.specification.item.JoinItem;
+import com.cleverpine.specification.util.AttributePathPlan;
 import com.cleverpine.specification.util.QueryContext;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Expression;
@@ -9,18 +10,12 @@ import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Root;
-import java.util.ArrayDeque;
-import java.util.Arrays;
-import java.util.Deque;
-import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 
-import static com.cleverpine.specification.util.FilterConstants.ENTITY_ATTRIBUTE_SEPARATOR;
 import static com.cleverpine.specification.util.FilterConstants.INVALID_JOIN;
-import static com.cleverpine.specification.util.FilterConstants.JOIN_NOT_DEFINED;
 
 /**
  * The SpecificationExpression class is an abstract class that serves as the base class for all specification
@@ -49,6 +44,7 @@ public abstract class SpecificationExpression<T, G> {
 
     /**
      * Builds a JPA path expression to the entity attribute by building a join or fetch path/s from the root.
+     * Fetch paths are built only when the query context requires fetch joins.
      *
      * @param <S> the type of attribute of the path expression, which will be returned
      * @param entityAttributePath the full path to the entity attribute
@@ -56,111 +52,74 @@ public abstract class SpecificationExpression<T, G> {
      * @return the path expression to the entity attribute
      */
     protected <S> Path<S> buildPathExpressionToEntityAttribute(String entityAttributePath, Root<T> root) {
-        return queryContext.isEntityDistinctRequired()
-                ? buildFetchPathToAttribute(root, entityAttributePath)
-                : buildJoinPathToAttribute(root, entityAttributePath);
+        AttributePathPlan attributePathPlan = queryContext.getAttributePathPlan(entityAttributePath);
+        return queryContext.isFetchJoinRequired()
+                ? buildFetchPathToAttribute(root, attributePathPlan)
+                : buildJoinPathToAttribute(root, attributePathPlan);
     }
 
     /**
-     * Builds a join path to the attribute in the entity, starting from the root. It splits the attribute's path.
+     * Builds a join path to the attribute in the entity, starting from the root. It follows the precompiled join chain of the path.
      *
      * @param <S> the type of attribute of the join path, which will be returned
      * @param root the root object of the query
+     * @param attributePathPlan the compiled path to the attribute
      * @return the join path to the attribute
      */
-    private <S> Path<S> buildJoinPathToAttribute(Root<T> root, String path) {
-        if (isSingleAttributePath(path)) {
-            return root.get(path);
-        }
-
-        String[] attributePathTokens = path.split("\\" + ENTITY_ATTRIBUTE_SEPARATOR);
-        Deque<String> joinPathAliasesQueue = getJoinPathAliases(attributePathTokens);
-
+    private <S> Path<S> buildJoinPathToAttribute(Root<T> root, AttributePathPlan attributePathPlan) {
         From<?, ?> joinPath = root;
-
-        while (!joinPathAliasesQueue.isEmpty()) {
-            joinPath = joinWith(joinPath, joinPathAliasesQueue.poll());
+        for (int i = 0; i < attributePathPlan.getJoinCount(); i++) {
+            joinPath = joinWith(joinPath, attributePathPlan.getJoinItem(i));
         }
-
-        String attribute = attributePathTokens[attributePathTokens.length - 1];
-        return joinPath.get(attribute);
+        return joinPath.get(attributePathPlan.getAttribute());
     }
 
     /**
-     * Builds a fetch path to the attribute in the entity, starting from the root. It splits the attribute's path.
+     * Builds a fetch path to the attribute in the entity, starting from the root. It follows the precompiled join chain of the path.
      *
      * @param <S> the type of attribute of the path expression, which will be returned
      * @param root the root object of the query
+     * @param attributePathPlan the compiled path to the attribute
      * @return the fetch path to the attribute
      */
-    private <S> Path<S> buildFetchPathToAttribute(Root<T> root, String path) {
-        if (isSingleAttributePath(path)) {
-            return root.get(path);
-        }
-
-        String[] attributePathTokens = path.split("\\" + ENTITY_ATTRIBUTE_SEPARATOR);
-        Deque<String> joinPathAliasesQueue = getJoinPathAliases(attributePathTokens);
-
+    private <S> Path<S> buildFetchPathToAttribute(Root<T> root, AttributePathPlan attributePathPlan) {
         From<?, ?> joinPath = root;
-
-        while (!joinPathAliasesQueue.isEmpty()) {
-            joinPath = joinFetchWith(joinPath, joinPathAliasesQueue.poll());
+        for (int i = 0; i < attributePathPlan.getJoinCount(); i++) {
+            joinPath = joinFetchWith(joinPath, attributePathPlan.getJoinItem(i));
         }
-
-        String attribute = attributePathTokens[attributePathTokens.length - 1];
-        return joinPath.get(attribute);
+        return joinPath.get(attributePathPlan.getAttribute());
     }
 
-    /**
-     * Gets the aliases of the join paths in the attribute path, in the order they appear.
-     *
-     * @param attributePathToken the path to the attribute, split into tokens
-     * @return the aliases of the join paths
-     */
-    private Deque<String> getJoinPathAliases(String[] attributePathToken) {
-        Deque<String> joinPathAliases = new ArrayDeque<>();
-        Arrays.stream(Arrays.copyOfRange(attributePathToken, 0, attributePathToken.length - 1))
-                .forEach(joinPathAliases::offer);
-        return joinPathAliases;
-    }
-
-    private Join<?, ?> joinWith(From<?, ?> from, String joinPathAlias) {
+    private Join<?, ?> joinWith(From<?, ?> from, JoinItem joinItem) {
+        String joinPathAlias = joinItem.getAlias();
         if (queryContext.isJoinPresent(joinPathAlias)) {
             return queryContext.getJoinByAlias(joinPathAlias);
         }
 
-        JoinItem joinItem = queryContext.getJoinItemByAlias(joinPathAlias);
-        validateJoin(joinItem, from.getJavaType(), joinPathAlias);
+        validateJoin(joinItem, from.getJavaType());
 
         Join<?, ?> joinPath = from.join(joinItem.getJoinAttribute(), joinItem.getType());
         queryContext.addJoin(joinPathAlias, joinPath);
         return joinPath;
     }
 
-    private Join<?, ?> joinFetchWith(From<?, ?> from, String joinPathAlias) {
+    private Join<?, ?> joinFetchWith(From<?, ?> from, JoinItem joinItem) {
+        String joinPathAlias = joinItem.getAlias();
         if (queryContext.isJoinPresent(joinPathAlias)) {
             return queryContext.getJoinByAlias(joinPathAlias);
         }
 
-        JoinItem joinItem = queryContext.getJoinItemByAlias(joinPathAlias);
-        validateJoin(joinItem, from.getJavaType(), joinPathAlias);
+        validateJoin(joinItem, from.getJavaType());
 
         Join<?, ?> joinPath = (Join<?, ?>) from.fetch(joinItem.getJoinAttribute(), joinItem.getType());
         queryContext.addJoin(joinPathAlias, joinPath);
         return joinPath;
     }
 
-    private void validateJoin(JoinItem joinItem, Class<?> joinType, String joinPathAlias) {
-        if (Objects.isNull(joinItem)) {
-            throw new IllegalSpecificationException(String.format(JOIN_NOT_DEFINED, joinPathAlias));
-        }
+    private void validateJoin(JoinItem joinItem, Class<?> joinType) {
         if (!joinType.equals(joinItem.getFromEntity())) {
             throw new IllegalSpecificationException(
                     String.format(INVALID_JOIN, joinItem.getJoinAttribute(), joinType.getSimpleName(), joinItem.getFromEntity().getSimpleName()));
         }
     }
-
-    private boolean isSingleAttributePath(String path) {
-        return !path.contains(ENTITY_ATTRIBUTE_SEPARATOR);
-    }
 }
@@ -3,16 +3,21 @@ package com.cleverpine.specification.expression;
 import com.cleverpine.specification.exception.IllegalSpecificationException;
 import com.cleverpine.specification.util.QueryContext;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Objects;
 
 import static com.cleverpine.specification.util.FilterConstants.INVALID_EXPRESSION_CREATION;
 
 public class SpecificationExpressionFactory {
 
+    private static final MethodType PROVIDER_METHOD_TYPE =
+            MethodType.methodType(SpecificationExpression.class, String.class, QueryContext.class);
+
     /**
      * Creates a new SpecificationExpression from the given attribute path and query context. It creates a custom
-     * {@link SpecificationExpression} if there is a configured custom specification class for the given attribute path,
+     * {@link SpecificationExpression} if there is a configured custom specification provider for the given attribute path,
      * otherwise it initializes a {@link PathSpecificationExpression} instance.
      *
      * @param attributePath the attribute path to create the expression for
@@ -20,26 +25,55 @@ public class SpecificationExpressionFactory {
      * @param <G>           the type of the expression
      * @param <T>           the type of the entity being queried
      * @return a new SpecificationExpression for the given attribute path and query context
-     * @throws IllegalSpecificationException if the {@link SpecificationExpression} cannot be initialized.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("unchecked")
     public static <G, T> SpecificationExpression<T, G> createSpecificationExpression(String attributePath,
                                                                                      QueryContext<T> queryContext) {
-        Class<? extends SpecificationExpression> customSpecificationExpressionType =
-                queryContext.getCustomSpecificationExpressionByAttribute(attributePath);
+        SpecificationExpressionProvider<T> customSpecificationExpressionProvider =
+                queryContext.getCustomSpecificationExpressionProviderByAttribute(attributePath);
+
+        if (Objects.isNull(customSpecificationExpressionProvider)) {
+            return new PathSpecificationExpression<>(attributePath, queryContext);
+        }
+        return (SpecificationExpression<T, G>) customSpecificationExpressionProvider.create(attributePath, queryContext);
+    }
+
+    /**
+     * Resolves the constructor of the given {@link SpecificationExpression} type only once and wraps it in a
+     * {@link SpecificationExpressionProvider}. The type should declare a constructor with an attribute path and a query context.
+     *
+     * @param specificationExpressionType the type of the specification expression
+     * @param <T>                         the type of the entity being queried
+     * @return a provider that creates instances of the given type
+     * @throws IllegalSpecificationException if the required constructor is not found or is not accessible
+     */
+    @SuppressWarnings("rawtypes")
+    public static <T> SpecificationExpressionProvider<T> createSpecificationExpressionProvider(
+            Class<? extends SpecificationExpression> specificationExpressionType) {
+        MethodHandle constructor;
+        try {
+            constructor = MethodHandles.lookup()
+                    .unreflectConstructor(specificationExpressionType.getDeclaredConstructor(String.class, QueryContext.class))
+                    .asType(PROVIDER_METHOD_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalSpecificationException(
+                    String.format(INVALID_EXPRESSION_CREATION, specificationExpressionType.getSimpleName()));
+        }
+        return (attributePath, queryContext) -> invokeConstructor(constructor, attributePath, queryContext, specificationExpressionType);
+    }
 
-        Class<? extends SpecificationExpression> specificationExpression =
-                Objects.nonNull(customSpecificationExpressionType) ?
-                        customSpecificationExpressionType :
-                        PathSpecificationExpression.class;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> SpecificationExpression<T, ?> invokeConstructor(MethodHandle constructor,
+                                                                       String attributePath,
+                                                                       QueryContext<T> queryContext,
+                                                                       Class<? extends SpecificationExpression> specificationExpressionType) {
         try {
-            return (SpecificationExpression<T, G>) specificationExpression
-                    .getDeclaredConstructor(String.class, QueryContext.class)
-                    .newInstance(attributePath, queryContext);
-        } catch (InstantiationException | NoSuchMethodException | InvocationTargetException |
-                 IllegalAccessException e) {
+            return (SpecificationExpression<T, ?>) (SpecificationExpression) constructor.invokeExact(attributePath, (QueryContext) queryContext);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new IllegalSpecificationException(
-                    String.format(INVALID_EXPRESSION_CREATION, specificationExpression.getSimpleName()));
+                    String.format(INVALID_EXPRESSION_CREATION, specificationExpressionType.getSimpleName()));
         }
     }
 }
@@ -0,0 +1,23 @@
+package com.cleverpine.specification.expression;
+
+import com.cleverpine.specification.util.QueryContext;
+
+/**
+ * A factory for {@link SpecificationExpression} instances. Custom specification expressions can be registered as
+ * providers, so no reflection is involved when a specification builds its criteria expression.
+ *
+ * @param <T> the type of the entity being queried
+ */
+@FunctionalInterface
+public interface SpecificationExpressionProvider<T> {
+
+    /**
+     * Creates a new {@link SpecificationExpression} for the given attribute path and query context.
+     *
+     * @param attributePath the attribute path to create the expression for
+     * @param queryContext  the query context to use in creating the expression
+     * @return the created specification expression
+     */
+    SpecificationExpression<T, ?> create(String attributePath, QueryContext<T> queryContext);
+
+}
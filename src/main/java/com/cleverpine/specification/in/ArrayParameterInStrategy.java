@@ -0,0 +1,112 @@
+package com.cleverpine.specification.in;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.util.QueryContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+import static com.cleverpine.specification.util.FilterConstants.ARRAY_PARAMETER_NOT_SUPPORTED;
+import static com.cleverpine.specification.util.FilterConstants.INVALID_IN_STRATEGY_CONFIGURATION;
+
+/**
+ * An {@link InStrategy}, which binds all the values as a single array and compares the expression with the array through
+ * an SQL function, e.g. {@code expression = ANY(?)} on PostgreSQL. The statement is the same for any number of values and
+ * the parameter limit of the driver does not apply.
+ * <p>
+ * The JPA criteria API has no array comparison, so the function has to be registered in the dialect of the JPA provider
+ * under the given name with the expression as the first and the array as the second argument. For example, with
+ * Hibernate 6 a {@code FunctionContributor} can register a pattern function {@code (?1 = any(?2))}. The array is bound as
+ * a parameter through {@code HibernateCriteriaBuilder#value}, so the criteria builder of the provider has to declare a
+ * public {@code value(Object)} method, which returns an {@link Expression}.
+ */
+public class ArrayParameterInStrategy implements InStrategy {
+
+    private static final String VALUE_METHOD = "value";
+
+    private static final ClassValue<MethodHandle> VALUE_METHODS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> criteriaBuilderType) {
+            return findValueMethod(criteriaBuilderType);
+        }
+    };
+
+    private final String functionName;
+
+    /**
+     * Creates an array parameter strategy with the given SQL function.
+     *
+     * @param functionName the name of the function registered in the dialect, which compares the expression with the array
+     * @throws IllegalSpecificationException if the function name is empty
+     */
+    public ArrayParameterInStrategy(String functionName) {
+        if (Objects.isNull(functionName) || functionName.isBlank()) {
+            throw new IllegalSpecificationException(
+                    String.format(INVALID_IN_STRATEGY_CONFIGURATION, "array function", functionName));
+        }
+        this.functionName = functionName;
+    }
+
+    @Override
+    public Predicate createPredicate(Expression<?> expression, List<Object> values, QueryContext<?> queryContext,
+                                     CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        Expression<?> arrayExpression = createValueExpression(criteriaBuilder, toArray(expression.getJavaType(), values));
+        return criteriaBuilder.isTrue(criteriaBuilder.function(functionName, Boolean.class, expression, arrayExpression));
+    }
+
+    /**
+     * Returns the name of the SQL function, which compares the expression with the array.
+     *
+     * @return the function name
+     */
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    private static Object[] toArray(Class<?> elementType, List<Object> values) {
+        List<Object> distinctValues = new ArrayList<>(new LinkedHashSet<>(values));
+        Class<?> componentType = Objects.isNull(elementType) || elementType.isPrimitive() ? Object.class : elementType;
+        return distinctValues.toArray((Object[]) Array.newInstance(componentType, distinctValues.size()));
+    }
+
+    private static Expression<?> createValueExpression(CriteriaBuilder criteriaBuilder, Object[] array) {
+        MethodHandle valueMethod = VALUE_METHODS.get(criteriaBuilder.getClass());
+        if (Objects.isNull(valueMethod)) {
+            throw new IllegalSpecificationException(
+                    String.format(ARRAY_PARAMETER_NOT_SUPPORTED, criteriaBuilder.getClass().getName()));
+        }
+        try {
+            return (Expression<?>) valueMethod.invokeExact(criteriaBuilder, (Object) array);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private static MethodHandle findValueMethod(Class<?> criteriaBuilderType) {
+        try {
+            Method valueMethod = criteriaBuilderType.getMethod(VALUE_METHOD, Object.class);
+            if (!Expression.class.isAssignableFrom(valueMethod.getReturnType())) {
+                return null;
+            }
+            return MethodHandles.publicLookup()
+                    .unreflect(valueMethod)
+                    .asType(MethodType.methodType(Expression.class, CriteriaBuilder.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // the criteria builder has no public value method
+            return null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.cleverpine.specification.in;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.util.QueryContext;
+import com.cleverpine.specification.util.SpecificationUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static com.cleverpine.specification.util.FilterConstants.INVALID_IN_STRATEGY_CONFIGURATION;
+
+/**
+ * An {@link InStrategy}, which splits the values into {@code IN} lists of a bounded size combined with {@code OR}, so the
+ * number of values in a single list stays below the limits of the database, e.g. 1000 expressions in a list on Oracle.
+ * The duplicate values are removed and, in the bind-parameter-stable mode, the last list is padded to a power-of-two size.
+ * <p>
+ * The total number of the bind parameters is not reduced, so the parameter limit of the driver, e.g. 32767 on PostgreSQL
+ * or 2100 on SQL Server, still applies. Use {@link ArrayParameterInStrategy} or {@link SubqueryInStrategy} for larger lists.
+ */
+public class ChunkedInStrategy implements InStrategy {
+
+    /**
+     * The default size of a single list.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final int chunkSize;
+
+    /**
+     * Creates a chunked strategy with the {@link #DEFAULT_CHUNK_SIZE default} maximum size of a single list.
+     */
+    public ChunkedInStrategy() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a chunked strategy with the given maximum size of a single list.
+     *
+     * @param chunkSize the maximum number of values in a single list
+     * @throws IllegalSpecificationException if the chunk size is not positive
+     */
+    public ChunkedInStrategy(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalSpecificationException(
+                    String.format(INVALID_IN_STRATEGY_CONFIGURATION, "chunk size", chunkSize));
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Predicate createPredicate(Expression<?> expression, List<Object> values, QueryContext<?> queryContext,
+                                     CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        List<Object> distinctValues = new ArrayList<>(new LinkedHashSet<>(values));
+        List<Predicate> chunkPredicates = new ArrayList<>(distinctValues.size() / chunkSize + 1);
+        for (int start = 0; start < distinctValues.size(); start += chunkSize) {
+            List<Object> chunk = distinctValues.subList(start, Math.min(start + chunkSize, distinctValues.size()));
+            if (queryContext.isBindParameterStable()) {
+                chunk = SpecificationUtil.padToPowerOfTwo(chunk, chunkSize);
+            }
+            chunkPredicates.add(expression.in(chunk));
+        }
+        return chunkPredicates.size() == 1
+                ? chunkPredicates.get(0)
+                : criteriaBuilder.or(chunkPredicates.toArray(Predicate[]::new));
+    }
+
+    /**
+     * Returns the maximum number of values in a single list.
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+}
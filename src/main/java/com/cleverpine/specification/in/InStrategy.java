@@ -0,0 +1,31 @@
+package com.cleverpine.specification.in;
+
+import com.cleverpine.specification.util.QueryContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.List;
+
+/**
+ * A strategy of building the predicate of an IN filter. The strategies are configured per filter attribute or as a default
+ * in the {@link com.cleverpine.specification.util.SpecificationQueryConfig.FilterConfig}, so large value lists can be
+ * split, bound as a single array or moved to a subquery instead of a single IN list.
+ */
+@FunctionalInterface
+public interface InStrategy {
+
+    /**
+     * Creates a predicate, which checks if the expression is equal to one of the values.
+     *
+     * @param expression      the expression of the filter attribute
+     * @param values          the converted values of the filter, there is at least one value
+     * @param queryContext    the context of the query
+     * @param query           the query, to which the predicate is added
+     * @param criteriaBuilder the builder to use for constructing the predicate
+     * @return the IN predicate
+     */
+    Predicate createPredicate(Expression<?> expression, List<Object> values, QueryContext<?> queryContext,
+                              CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder);
+
+}
@@ -0,0 +1,27 @@
+package com.cleverpine.specification.in;
+
+import java.util.List;
+
+/**
+ * Stores the values of an IN filter in a values table for a {@link SubqueryInStrategy}. The stored values are reused by
+ * all the queries of the same value list, until the strategy releases their key.
+ */
+public interface InValuesStore {
+
+    /**
+     * Stores the given values under a new key. The values must stay visible to the queries until the key is released, so
+     * they should be written to a regular table and committed, e.g. in a separate transaction.
+     *
+     * @param values the distinct values of the filter
+     * @return the key, under which the values are stored
+     */
+    Object store(List<Object> values);
+
+    /**
+     * Removes the values stored under the given key. The key is not used by any new query afterwards.
+     *
+     * @param key the key returned by {@link #store(List)}
+     */
+    void release(Object key);
+
+}
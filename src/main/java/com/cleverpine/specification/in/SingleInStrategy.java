@@ -0,0 +1,22 @@
+package com.cleverpine.specification.in;
+
+import com.cleverpine.specification.util.QueryContext;
+import com.cleverpine.specification.util.SpecificationUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.List;
+
+/**
+ * The default {@link InStrategy}, which builds a single {@code IN} list with all the values. In the bind-parameter-stable
+ * mode the list is padded to a power-of-two size.
+ */
+public class SingleInStrategy implements InStrategy {
+
+    @Override
+    public Predicate createPredicate(Expression<?> expression, List<Object> values, QueryContext<?> queryContext,
+                                     CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        return expression.in(queryContext.isBindParameterStable() ? SpecificationUtil.padToPowerOfTwo(values) : values);
+    }
+}
@@ -0,0 +1,112 @@
+package com.cleverpine.specification.in;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.util.QueryContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static com.cleverpine.specification.util.FilterConstants.INVALID_IN_STRATEGY_CONFIGURATION;
+
+/**
+ * An {@link InStrategy}, which chooses another strategy by the number of the values, e.g. a single list for small lists,
+ * chunked lists for medium ones and a subquery for the largest ones.
+ *
+ * <pre>{@code
+ * SizeBasedInStrategy.builder()
+ *         .upTo(1000, new SingleInStrategy())
+ *         .upTo(10000, new ChunkedInStrategy())
+ *         .otherwise(new SubqueryInStrategy(FilterValue.class, "key", "value", valuesStore))
+ *         .build();
+ * }</pre>
+ */
+public class SizeBasedInStrategy implements InStrategy {
+
+    private final NavigableMap<Integer, InStrategy> strategiesByMaxSize;
+
+    private final InStrategy otherwiseStrategy;
+
+    private SizeBasedInStrategy(NavigableMap<Integer, InStrategy> strategiesByMaxSize, InStrategy otherwiseStrategy) {
+        this.strategiesByMaxSize = Collections.unmodifiableNavigableMap(strategiesByMaxSize);
+        this.otherwiseStrategy = otherwiseStrategy;
+    }
+
+    public static SizeBasedInStrategyBuilder builder() {
+        return new SizeBasedInStrategyBuilder();
+    }
+
+    @Override
+    public Predicate createPredicate(Expression<?> expression, List<Object> values, QueryContext<?> queryContext,
+                                     CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        return getStrategy(values.size()).createPredicate(expression, values, queryContext, query, criteriaBuilder);
+    }
+
+    /**
+     * Gets the strategy of the given number of values.
+     *
+     * @param size the number of the values
+     * @return the strategy with the smallest maximum size, which is not less than the given size, or the otherwise strategy
+     */
+    public InStrategy getStrategy(int size) {
+        Map.Entry<Integer, InStrategy> strategy = strategiesByMaxSize.ceilingEntry(size);
+        return Objects.isNull(strategy) ? otherwiseStrategy : strategy.getValue();
+    }
+
+    public static class SizeBasedInStrategyBuilder {
+
+        private final NavigableMap<Integer, InStrategy> strategiesByMaxSize = new TreeMap<>();
+
+        private InStrategy otherwiseStrategy = new SingleInStrategy();
+
+        private SizeBasedInStrategyBuilder() {
+        }
+
+        /**
+         * Uses the given strategy for lists up to the given size, which are not covered by a smaller size.
+         *
+         * @param maxSize  the maximum number of values
+         * @param strategy the strategy of the lists
+         * @return this builder
+         * @throws IllegalSpecificationException if the size is not positive or the strategy is missing
+         */
+        public SizeBasedInStrategyBuilder upTo(int maxSize, InStrategy strategy) {
+            if (maxSize < 1) {
+                throw new IllegalSpecificationException(
+                        String.format(INVALID_IN_STRATEGY_CONFIGURATION, "maximum size", maxSize));
+            }
+            strategiesByMaxSize.put(maxSize, requireStrategy(strategy));
+            return this;
+        }
+
+        /**
+         * Uses the given strategy for lists larger than all the configured sizes. The default is {@link SingleInStrategy}.
+         *
+         * @param strategy the strategy of the largest lists
+         * @return this builder
+         * @throws IllegalSpecificationException if the strategy is missing
+         */
+        public SizeBasedInStrategyBuilder otherwise(InStrategy strategy) {
+            this.otherwiseStrategy = requireStrategy(strategy);
+            return this;
+        }
+
+        public SizeBasedInStrategy build() {
+            return new SizeBasedInStrategy(new TreeMap<>(strategiesByMaxSize), otherwiseStrategy);
+        }
+
+        private static InStrategy requireStrategy(InStrategy strategy) {
+            if (Objects.isNull(strategy)) {
+                throw new IllegalSpecificationException(
+                        String.format(INVALID_IN_STRATEGY_CONFIGURATION, "strategy", null));
+            }
+            return strategy;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.cleverpine.specification.in;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.util.QueryContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.cleverpine.specification.util.FilterConstants.INVALID_IN_STRATEGY_CONFIGURATION;
+
+/**
+ * An {@link InStrategy}, which stores the values in a values table and builds a semi-join against it -
+ * {@code expression IN (SELECT v.value FROM ValuesEntity v WHERE v.key = ?)}. The statement has a single parameter for any
+ * number of values and the database can plan the filter as a join.
+ * <p>
+ * The values table is mapped as an entity with a key and a value attribute and the values are written by an
+ * {@link InValuesStore}. The predicate is built for every query the specification is applied to, e.g. for both the
+ * select and the count query of a page and for every reuse of a cached specification, so the keys of the stored value
+ * lists are kept in a bounded cache - an equal list of values is stored only once. The least recently used keys over the
+ * maximum are released through the store, the remaining ones through {@link #releaseAll()}.
+ */
+public class SubqueryInStrategy implements InStrategy {
+
+    /**
+     * The default maximum number of the stored value lists.
+     */
+    public static final int DEFAULT_MAXIMUM_STORED_LISTS = 1000;
+
+    private final Class<?> valuesEntity;
+
+    private final String keyAttribute;
+
+    private final String valueAttribute;
+
+    private final InValuesStore valuesStore;
+
+    private final int maximumStoredLists;
+
+    private final Map<Set<Object>, Object> storedKeys = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Creates a subquery strategy against the given values entity, which keeps at most
+     * {@link #DEFAULT_MAXIMUM_STORED_LISTS} value lists stored.
+     *
+     * @param valuesEntity   the entity of the values table
+     * @param keyAttribute   the attribute of the entity, which holds the key of the stored values
+     * @param valueAttribute the attribute of the entity, which holds a single value
+     * @param valuesStore    the store, which writes the values to the table and removes them
+     * @throws IllegalSpecificationException if an argument is missing
+     */
+    public SubqueryInStrategy(Class<?> valuesEntity, String keyAttribute, String valueAttribute, InValuesStore valuesStore) {
+        this(valuesEntity, keyAttribute, valueAttribute, valuesStore, DEFAULT_MAXIMUM_STORED_LISTS);
+    }
+
+    /**
+     * Creates a subquery strategy against the given values entity.
+     *
+     * @param valuesEntity       the entity of the values table
+     * @param keyAttribute       the attribute of the entity, which holds the key of the stored values
+     * @param valueAttribute     the attribute of the entity, which holds a single value
+     * @param valuesStore        the store, which writes the values to the table and removes them
+     * @param maximumStoredLists the maximum number of the value lists kept stored
+     * @throws IllegalSpecificationException if an argument is missing or the maximum is not positive
+     */
+    public SubqueryInStrategy(Class<?> valuesEntity, String keyAttribute, String valueAttribute, InValuesStore valuesStore,
+                              int maximumStoredLists) {
+        if (Objects.isNull(valuesEntity) || Objects.isNull(keyAttribute) || Objects.isNull(valueAttribute)
+                || Objects.isNull(valuesStore)) {
+            throw new IllegalSpecificationException(
+                    String.format(INVALID_IN_STRATEGY_CONFIGURATION, "values table", valuesEntity));
+        }
+        if (maximumStoredLists < 1) {
+            throw new IllegalSpecificationException(
+                    String.format(INVALID_IN_STRATEGY_CONFIGURATION, "maximum stored lists", maximumStoredLists));
+        }
+        this.valuesEntity = valuesEntity;
+        this.keyAttribute = keyAttribute;
+        this.valueAttribute = valueAttribute;
+        this.valuesStore = valuesStore;
+        this.maximumStoredLists = maximumStoredLists;
+    }
+
+    @Override
+    public Predicate createPredicate(Expression<?> expression, List<Object> values, QueryContext<?> queryContext,
+                                     CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        Object key = getStoredKey(new LinkedHashSet<>(values));
+
+        Subquery<Object> subquery = query.subquery(Object.class);
+        Root<?> valuesRoot = subquery.from(valuesEntity);
+        subquery.select(valuesRoot.get(valueAttribute))
+                .where(criteriaBuilder.equal(valuesRoot.get(keyAttribute), key));
+        return expression.in(subquery);
+    }
+
+    /**
+     * Releases the keys of all the stored value lists through the {@link InValuesStore}. The next predicates store their
+     * values again.
+     */
+    public void releaseAll() {
+        List<Object> releasedKeys;
+        synchronized (storedKeys) {
+            releasedKeys = new ArrayList<>(storedKeys.values());
+            storedKeys.clear();
+        }
+        releasedKeys.forEach(valuesStore::release);
+    }
+
+    private Object getStoredKey(Set<Object> distinctValues) {
+        synchronized (storedKeys) {
+            Object key = storedKeys.get(distinctValues);
+            if (Objects.nonNull(key)) {
+                return key;
+            }
+        }
+
+        Object storedKey = valuesStore.store(new ArrayList<>(distinctValues));
+        Object key;
+        List<Object> releasedKeys = new ArrayList<>();
+        synchronized (storedKeys) {
+            key = storedKeys.putIfAbsent(distinctValues, storedKey);
+            if (Objects.nonNull(key)) {
+                // another thread has stored the same values in the meantime
+                releasedKeys.add(storedKey);
+            } else {
+                key = storedKey;
+                Iterator<Object> eldestKeys = storedKeys.values().iterator();
+                while (storedKeys.size() > maximumStoredLists) {
+                    releasedKeys.add(eldestKeys.next());
+                    eldestKeys.remove();
+                }
+            }
+        }
+        releasedKeys.forEach(valuesStore::release);
+        return key;
+    }
+}
@@ -4,6 +4,7 @@ import com.cleverpine.specification.util.FilterOperator;
 import com.cleverpine.specification.util.QueryContext;
 import com.cleverpine.specification.util.ValueConverter;
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -12,10 +13,12 @@ import org.springframework.data.jpa.domain.Specification;
 /**
  * An abstract class representing a filter item, which consists of an attribute and an operator.
  * Subclasses should implement the {@link #createSpecification(QueryContext queryContext, ValueConverter valueConverter)} method to create a custom Specification for the given filter item.
+ * Filter items are value objects - two items with the same attribute, operator and values are equal.
  * @param <T> the type of the entity
  */
 @RequiredArgsConstructor
 @Getter(AccessLevel.PROTECTED)
+@EqualsAndHashCode
 public abstract class FilterItem<T> {
 
     @NonNull
@@ -28,6 +31,20 @@ public abstract class FilterItem<T> {
         return attribute;
     }
 
+    public FilterOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * Checks if the specification of the filter item is created by the default factory of its operator. The filter items
+     * of other subclasses are treated as custom ones.
+     *
+     * @return true if the filter item creates the default specification of its operator, false otherwise
+     */
+    public boolean hasDefaultSpecification() {
+        return false;
+    }
+
     /**
      * Create a custom Specification for the filter item.
      *
@@ -0,0 +1,355 @@
+package com.cleverpine.specification.item;
+
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.FilterTypeMetadata;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import com.cleverpine.specification.util.ValueConverter;
+import java.time.chrono.ChronoZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The {@link FilterItemNormalizer} simplifies the filter items of a specification before its predicates are built:
+ * <ul>
+ *     <li>the duplicate filter items are removed;</li>
+ *     <li>the {@code eq}, {@code in}, {@code gt}, {@code gte}, {@code lt}, {@code lte} and {@code between} filter items
+ *     on the same attribute are merged into a single {@code eq} or {@code in} item, a single {@code between} item or
+ *     the tightest lower and upper bound;</li>
+ *     <li>the filter items, which no value can match, e.g. {@code eq 1} and {@code gt 5} or an {@code in} without
+ *     values, make the result unsatisfiable.</li>
+ * </ul>
+ * The values are compared after conversion to the declared type of the attribute in the filter type. The attributes of
+ * string types, of types which the {@link ValueConverter} does not convert and of custom expressions are only
+ * de-duplicated, because their comparison depends on the database. The filter items with a custom specification factory
+ * are kept as they are, as well as the filter items of an attribute with a value, which cannot be converted.
+ * <p>
+ * The merged filter items take the position of the first filter item on their attribute.
+ */
+public class FilterItemNormalizer {
+
+    private static final Set<FilterOperator> MERGEABLE_OPERATORS = EnumSet.of(
+            FilterOperator.EQUAL,
+            FilterOperator.IN,
+            FilterOperator.GREATER_THAN,
+            FilterOperator.GREATER_THAN_EQUAL,
+            FilterOperator.LESS_THAN,
+            FilterOperator.LESS_THAN_EQUAL,
+            FilterOperator.BETWEEN);
+
+    private static final int BETWEEN_VALUES_COUNT = 2;
+
+    private final ValueConverter valueConverter;
+
+    /**
+     * Creates a new {@link FilterItemNormalizer}.
+     *
+     * @param valueConverter the converter of the values to the attribute types
+     */
+    public FilterItemNormalizer(ValueConverter valueConverter) {
+        this.valueConverter = valueConverter;
+    }
+
+    /**
+     * Normalizes the given filter items.
+     *
+     * @param filterItems              the filter items of the request and the configuration
+     * @param filterType               the class, which declares the filter attributes and their types
+     * @param specificationQueryConfig the configuration of the custom attribute expressions
+     * @param <T>                      the type of the entity
+     * @return the normalized filter items or an unsatisfiable result
+     */
+    public <T> NormalizedFilterItems<T> normalize(List<FilterItem<T>> filterItems, Class<?> filterType,
+                                                   SpecificationQueryConfig<T> specificationQueryConfig) {
+        List<FilterItem<T>> distinctFilterItems = new ArrayList<>(new LinkedHashSet<>(filterItems));
+        FilterTypeMetadata filterTypeMetadata = FilterTypeMetadata.of(filterType);
+
+        Map<String, List<FilterItem<T>>> mergeableFilterItems = new LinkedHashMap<>();
+        for (FilterItem<T> filterItem : distinctFilterItems) {
+            if (isEmptyIn(filterItem)) {
+                return NormalizedFilterItems.unsatisfiable();
+            }
+            if (isMergeable(filterItem, filterTypeMetadata, specificationQueryConfig)) {
+                mergeableFilterItems.computeIfAbsent(filterItem.getAttribute(), attribute -> new ArrayList<>())
+                        .add(filterItem);
+            }
+        }
+
+        List<FilterItem<T>> normalizedFilterItems = new ArrayList<>(distinctFilterItems.size());
+        Set<String> mergedAttributes = new HashSet<>();
+        for (FilterItem<T> filterItem : distinctFilterItems) {
+            String attribute = filterItem.getAttribute();
+            List<FilterItem<T>> attributeFilterItems = mergeableFilterItems.get(attribute);
+            if (Objects.isNull(attributeFilterItems) || !attributeFilterItems.contains(filterItem)) {
+                normalizedFilterItems.add(filterItem);
+                continue;
+            }
+            if (!mergedAttributes.add(attribute)) {
+                continue;
+            }
+            NormalizedFilterItems<T> mergedFilterItems =
+                    merge(attribute, ClassUtils.resolvePrimitiveIfNecessary(filterTypeMetadata.getAttributeType(attribute)),
+                            attributeFilterItems);
+            if (Objects.isNull(mergedFilterItems)) {
+                normalizedFilterItems.addAll(attributeFilterItems);
+            } else if (mergedFilterItems.isUnsatisfiable()) {
+                return mergedFilterItems;
+            } else {
+                normalizedFilterItems.addAll(mergedFilterItems.getFilterItems());
+            }
+        }
+        return NormalizedFilterItems.of(normalizedFilterItems);
+    }
+
+    private <T> boolean isEmptyIn(FilterItem<T> filterItem) {
+        return filterItem.getOperator() == FilterOperator.IN
+                && filterItem.hasDefaultSpecification()
+                && ((MultiFilterItem<T>) filterItem).getValues().isEmpty();
+    }
+
+    private <T> boolean isMergeable(FilterItem<T> filterItem, FilterTypeMetadata filterTypeMetadata,
+                                    SpecificationQueryConfig<T> specificationQueryConfig) {
+        FilterOperator operator = filterItem.getOperator();
+        if (!MERGEABLE_OPERATORS.contains(operator) || !filterItem.hasDefaultSpecification()) {
+            return false;
+        }
+        String attribute = filterItem.getAttribute();
+        SpecificationQueryConfig.CustomExpressionConfig<T> customExpressionConfig =
+                specificationQueryConfig.getCustomExpressionConfig();
+        if (Objects.nonNull(customExpressionConfig.getCustomSpecificationExpressionByAttribute(attribute))
+                || Objects.nonNull(customExpressionConfig.getCustomSpecificationExpressionProviderByAttribute(attribute))) {
+            return false;
+        }
+        Class<?> attributeType = filterTypeMetadata.getAttributeType(attribute);
+        return Objects.nonNull(attributeType)
+                && !CharSequence.class.isAssignableFrom(attributeType)
+                && Comparable.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(attributeType));
+    }
+
+    /**
+     * Merges the filter items of a single attribute.
+     *
+     * @param valueType the attribute type, with primitives resolved to their wrapper types
+     * @return the merged filter items, an unsatisfiable result or null if a value cannot be compared
+     */
+    private <T> NormalizedFilterItems<T> merge(String attribute, Class<?> valueType, List<FilterItem<T>> filterItems) {
+        Bound lowerBound = null;
+        Bound upperBound = null;
+        List<Value> allowedValues = null;
+        try {
+            for (FilterItem<T> filterItem : filterItems) {
+                switch (filterItem.getOperator()) {
+                    case EQUAL -> allowedValues = restrict(allowedValues,
+                            convert(valueType, List.of(((SingleFilterItem<T>) filterItem).getValue())));
+                    case IN -> allowedValues = restrict(allowedValues,
+                            convert(valueType, ((MultiFilterItem<T>) filterItem).getValues()));
+                    case GREATER_THAN, GREATER_THAN_EQUAL -> lowerBound = tighterLowerBound(lowerBound, new Bound(
+                            convert(valueType, ((SingleFilterItem<T>) filterItem).getValue()),
+                            filterItem.getOperator() == FilterOperator.GREATER_THAN_EQUAL));
+                    case LESS_THAN, LESS_THAN_EQUAL -> upperBound = tighterUpperBound(upperBound, new Bound(
+                            convert(valueType, ((SingleFilterItem<T>) filterItem).getValue()),
+                            filterItem.getOperator() == FilterOperator.LESS_THAN_EQUAL));
+                    case BETWEEN -> {
+                        List<String> values = ((MultiFilterItem<T>) filterItem).getValues();
+                        if (values.size() != BETWEEN_VALUES_COUNT) {
+                            return null;
+                        }
+                        lowerBound = tighterLowerBound(lowerBound, new Bound(convert(valueType, values.get(0)), true));
+                        upperBound = tighterUpperBound(upperBound, new Bound(convert(valueType, values.get(1)), true));
+                    }
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+        } catch (InvalidSpecificationException e) {
+            // the value is invalid for the declared type, so the filter items are left to the specifications
+            return null;
+        }
+
+        if (Objects.nonNull(allowedValues)) {
+            return createAllowedValuesFilterItems(attribute, allowedValues, lowerBound, upperBound);
+        }
+        return createRangeFilterItems(attribute, lowerBound, upperBound);
+    }
+
+    private <T> NormalizedFilterItems<T> createAllowedValuesFilterItems(String attribute, List<Value> allowedValues,
+                                                                       Bound lowerBound, Bound upperBound) {
+        List<String> values = new ArrayList<>(allowedValues.size());
+        for (Value value : allowedValues) {
+            if (isAbove(value, lowerBound) && isBelow(value, upperBound)) {
+                values.add(value.text);
+            }
+        }
+        if (values.isEmpty()) {
+            return NormalizedFilterItems.unsatisfiable();
+        }
+        if (values.size() == 1) {
+            return NormalizedFilterItems.of(List.of(new SingleFilterItem<>(attribute, FilterOperator.EQUAL, values.get(0))));
+        }
+        return NormalizedFilterItems.of(List.of(new MultiFilterItem<>(attribute, FilterOperator.IN, values)));
+    }
+
+    private <T> NormalizedFilterItems<T> createRangeFilterItems(String attribute, Bound lowerBound, Bound upperBound) {
+        List<FilterItem<T>> filterItems = new ArrayList<>(2);
+        if (Objects.nonNull(lowerBound) && Objects.nonNull(upperBound)) {
+            int comparison = lowerBound.value.compareTo(upperBound.value);
+            if (comparison > 0 || (comparison == 0 && !(lowerBound.inclusive && upperBound.inclusive))) {
+                return NormalizedFilterItems.unsatisfiable();
+            }
+            if (comparison == 0) {
+                filterItems.add(new SingleFilterItem<>(attribute, FilterOperator.EQUAL, lowerBound.value.text));
+                return NormalizedFilterItems.of(filterItems);
+            }
+            if (lowerBound.inclusive && upperBound.inclusive) {
+                filterItems.add(new MultiFilterItem<>(attribute, FilterOperator.BETWEEN,
+                        List.of(lowerBound.value.text, upperBound.value.text)));
+                return NormalizedFilterItems.of(filterItems);
+            }
+        }
+        if (Objects.nonNull(lowerBound)) {
+            filterItems.add(new SingleFilterItem<>(attribute,
+                    lowerBound.inclusive ? FilterOperator.GREATER_THAN_EQUAL : FilterOperator.GREATER_THAN,
+                    lowerBound.value.text));
+        }
+        if (Objects.nonNull(upperBound)) {
+            filterItems.add(new SingleFilterItem<>(attribute,
+                    upperBound.inclusive ? FilterOperator.LESS_THAN_EQUAL : FilterOperator.LESS_THAN,
+                    upperBound.value.text));
+        }
+        return NormalizedFilterItems.of(filterItems);
+    }
+
+    private List<Value> restrict(List<Value> allowedValues, List<Value> values) {
+        if (Objects.isNull(allowedValues)) {
+            List<Value> distinctValues = new ArrayList<>(values.size());
+            for (Value value : values) {
+                if (!contains(distinctValues, value)) {
+                    distinctValues.add(value);
+                }
+            }
+            return distinctValues;
+        }
+        List<Value> restrictedValues = new ArrayList<>(allowedValues.size());
+        for (Value value : allowedValues) {
+            if (contains(values, value)) {
+                restrictedValues.add(value);
+            }
+        }
+        return restrictedValues;
+    }
+
+    private List<Value> convert(Class<?> valueType, List<String> texts) {
+        List<Value> values = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            values.add(convert(valueType, text));
+        }
+        return values;
+    }
+
+    private Value convert(Class<?> valueType, String text) {
+        Comparable<Object> value = valueConverter.convertToComparable(valueType, text);
+        if (!valueType.isInstance(value)) {
+            // the converter does not support the type and returned the text, which does not compare as the type
+            throw new InvalidSpecificationException(text);
+        }
+        return new Value(text, value);
+    }
+
+    private static boolean contains(List<Value> values, Value value) {
+        for (Value candidate : values) {
+            if (candidate.compareTo(value) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAbove(Value value, Bound lowerBound) {
+        if (Objects.isNull(lowerBound)) {
+            return true;
+        }
+        int comparison = value.compareTo(lowerBound.value);
+        return comparison > 0 || (comparison == 0 && lowerBound.inclusive);
+    }
+
+    private static boolean isBelow(Value value, Bound upperBound) {
+        if (Objects.isNull(upperBound)) {
+            return true;
+        }
+        int comparison = value.compareTo(upperBound.value);
+        return comparison < 0 || (comparison == 0 && upperBound.inclusive);
+    }
+
+    private static Bound tighterLowerBound(Bound current, Bound bound) {
+        if (Objects.isNull(current)) {
+            return bound;
+        }
+        int comparison = current.value.compareTo(bound.value);
+        if (comparison == 0) {
+            return current.inclusive ? bound : current;
+        }
+        return comparison > 0 ? current : bound;
+    }
+
+    private static Bound tighterUpperBound(Bound current, Bound bound) {
+        if (Objects.isNull(current)) {
+            return bound;
+        }
+        int comparison = current.value.compareTo(bound.value);
+        if (comparison == 0) {
+            return current.inclusive ? bound : current;
+        }
+        return comparison < 0 ? current : bound;
+    }
+
+    /**
+     * A filter value in its textual form, which is kept in the normalized filter items, and its converted form.
+     */
+    private static final class Value implements Comparable<Value> {
+
+        private final String text;
+
+        private final Comparable<Object> value;
+
+        private Value(String text, Comparable<Object> value) {
+            this.text = text;
+            this.value = value;
+        }
+
+        /**
+         * Compares the converted values, in which the date-times of the same instant are equal as in the database.
+         */
+        @Override
+        public int compareTo(Value other) {
+            Object convertedValue = value;
+            Object otherConvertedValue = other.value;
+            if (convertedValue instanceof ChronoZonedDateTime<?> zonedValue
+                    && otherConvertedValue instanceof ChronoZonedDateTime<?> otherZonedValue
+                    && zonedValue.isEqual(otherZonedValue)) {
+                return 0;
+            }
+            return value.compareTo(other.value);
+        }
+    }
+
+    private static final class Bound {
+
+        private final Value value;
+
+        private final boolean inclusive;
+
+        private Bound(Value value, boolean inclusive) {
+            this.value = value;
+            this.inclusive = inclusive;
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.cleverpine.specification.item;
 
+import com.cleverpine.specification.util.JoinStrategy;
 import jakarta.persistence.criteria.JoinType;
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * An abstract class representing a join item, which holds the details for a join operation.
  */
-@RequiredArgsConstructor
 @Getter
 public class JoinItem {
 
@@ -19,4 +23,43 @@ public class JoinItem {
 
     private final JoinType type;
 
+    private final JoinStrategy strategy;
+
+    /**
+     * Whether the join attribute is declared as a collection or a map, so the join can multiply the rows.
+     */
+    private final boolean collection;
+
+    public JoinItem(Class<?> fromEntity, String joinAttribute, String alias, JoinType type) {
+        this(fromEntity, joinAttribute, alias, type, JoinStrategy.JOIN);
+    }
+
+    public JoinItem(Class<?> fromEntity, String joinAttribute, String alias, JoinType type, JoinStrategy strategy) {
+        this(fromEntity, joinAttribute, alias, type, strategy, isCollectionAttribute(fromEntity, joinAttribute));
+    }
+
+    /**
+     * Creates a join item, whose collection flag is already known, e.g. from a generated
+     * {@link com.cleverpine.specification.descriptor.FilterTypeDescriptor}, so the join attribute is not looked up by
+     * reflection.
+     */
+    public JoinItem(Class<?> fromEntity, String joinAttribute, String alias, JoinType type, JoinStrategy strategy,
+                    boolean collection) {
+        this.fromEntity = fromEntity;
+        this.joinAttribute = joinAttribute;
+        this.alias = alias;
+        this.type = type;
+        this.strategy = strategy;
+        this.collection = collection;
+    }
+
+    private static boolean isCollectionAttribute(Class<?> entity, String attribute) {
+        if (Objects.isNull(entity) || Objects.isNull(attribute)) {
+            return false;
+        }
+        Field field = ReflectionUtils.findField(entity, attribute);
+        return Objects.nonNull(field)
+                && (Collection.class.isAssignableFrom(field.getType()) || Map.class.isAssignableFrom(field.getType()));
+    }
+
 }
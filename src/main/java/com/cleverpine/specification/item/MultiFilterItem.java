@@ -1,14 +1,16 @@
 package com.cleverpine.specification.item;
 
+import com.cleverpine.specification.core.MultiValueSpecificationFactory;
 import com.cleverpine.specification.exception.IllegalSpecificationException;
 import com.cleverpine.specification.util.FilterOperator;
 import com.cleverpine.specification.util.QueryContext;
 import com.cleverpine.specification.util.ValueConverter;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.Objects;
 
 import static com.cleverpine.specification.util.FilterConstants.INVALID_SPECIFICATION_CREATION;
 
@@ -16,10 +18,13 @@ import static com.cleverpine.specification.util.FilterConstants.INVALID_SPECIFIC
  * An implementation of {@link FilterItem} that represents a filter with multiple values.
  * @param <T> the type of the entity
  */
+@EqualsAndHashCode(callSuper = true)
 public class MultiFilterItem<T> extends FilterItem<T> {
 
     private final List<String> values;
 
+    private final MultiValueSpecificationFactory<T> specificationFactory;
+
     /**
      * Constructs a new {@link MultiFilterItem} instance with the specified attribute, operator, and values.
      *
@@ -29,8 +34,39 @@ public class MultiFilterItem<T> extends FilterItem<T> {
      * @throws NullPointerException if the {@code attribute} or {@code values} parameter is {@code null}
      */
     public MultiFilterItem(String attribute, FilterOperator operator, @NonNull List<String> values) {
+        this(attribute, operator, values, operator.getMultiValueSpecificationFactory());
+    }
+
+    /**
+     * Constructs a new {@link MultiFilterItem} instance with the specified attribute, operator, values and a custom
+     * factory, which creates the specification instead of the default one of the operator.
+     *
+     * @param attribute the name of the attribute to filter on
+     * @param operator the operator to use for the filter
+     * @param values the list of values to filter by
+     * @param specificationFactory the factory, which creates the specification of this filter item
+     * @throws NullPointerException if the {@code attribute} or {@code values} parameter is {@code null}
+     */
+    public MultiFilterItem(String attribute, FilterOperator operator, @NonNull List<String> values,
+                           MultiValueSpecificationFactory<T> specificationFactory) {
         super(attribute, operator);
         this.values = values;
+        this.specificationFactory = specificationFactory;
+    }
+
+    /**
+     * Gets the values of the filter item in their textual form.
+     *
+     * @return the list of values to filter by
+     */
+    public List<String> getValues() {
+        return values;
+    }
+
+    @Override
+    public boolean hasDefaultSpecification() {
+        return !getOperator().isSingleFilterValue()
+                && specificationFactory == getOperator().getMultiValueSpecificationFactory();
     }
 
     /**
@@ -42,17 +78,12 @@ public class MultiFilterItem<T> extends FilterItem<T> {
      * @throws IllegalSpecificationException if the specification cannot be created
      */
     @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public Specification<T> createSpecification(QueryContext<T> queryContext, ValueConverter valueConverter) {
-        Class<? extends Specification> specificationType = getOperator().getSpecificationType();
-        try {
-            return (Specification<T>) specificationType
-                    .getDeclaredConstructor(String.class, List.class, QueryContext.class, ValueConverter.class)
-                    .newInstance(getAttribute(), values, queryContext, valueConverter);
-        } catch (InstantiationException | NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+        if (Objects.isNull(specificationFactory)) {
             throw new IllegalSpecificationException(
-                    String.format(INVALID_SPECIFICATION_CREATION, specificationType.getSimpleName()));
+                    String.format(INVALID_SPECIFICATION_CREATION, getOperator().getSpecificationType().getSimpleName()));
         }
+        return specificationFactory.create(getAttribute(), values, queryContext, valueConverter);
     }
 
 }
@@ -0,0 +1,63 @@
+package com.cleverpine.specification.item;
+
+import java.util.List;
+
+/**
+ * The result of a {@link FilterItemNormalizer} - the simplified filter items or the information, that the filter items
+ * contradict each other and no entity can match them.
+ *
+ * @param <T> the type of the entity
+ */
+public final class NormalizedFilterItems<T> {
+
+    private static final NormalizedFilterItems<?> UNSATISFIABLE = new NormalizedFilterItems<>(List.of(), true);
+
+    private final List<FilterItem<T>> filterItems;
+
+    private final boolean unsatisfiable;
+
+    private NormalizedFilterItems(List<FilterItem<T>> filterItems, boolean unsatisfiable) {
+        this.filterItems = filterItems;
+        this.unsatisfiable = unsatisfiable;
+    }
+
+    /**
+     * Creates a result with the given filter items.
+     *
+     * @param filterItems the normalized filter items
+     * @param <T>         the type of the entity
+     * @return the result holding an unmodifiable copy of the filter items
+     */
+    public static <T> NormalizedFilterItems<T> of(List<FilterItem<T>> filterItems) {
+        return new NormalizedFilterItems<>(List.copyOf(filterItems), false);
+    }
+
+    /**
+     * Gets the result of filter items, which no entity can match.
+     *
+     * @param <T> the type of the entity
+     * @return the unsatisfiable result without filter items
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> NormalizedFilterItems<T> unsatisfiable() {
+        return (NormalizedFilterItems<T>) UNSATISFIABLE;
+    }
+
+    /**
+     * Gets the normalized filter items.
+     *
+     * @return an unmodifiable list of the filter items, which is empty if the filter items are unsatisfiable
+     */
+    public List<FilterItem<T>> getFilterItems() {
+        return filterItems;
+    }
+
+    /**
+     * Checks if the filter items contradict each other, so the result of the query is known to be empty.
+     *
+     * @return true if no entity can match the filter items, false otherwise
+     */
+    public boolean isUnsatisfiable() {
+        return unsatisfiable;
+    }
+}
@@ -4,6 +4,7 @@ package com.cleverpine.specification.item;
 import com.cleverpine.specification.core.OrderBySpecification;
 import com.cleverpine.specification.util.QueryContext;
 import com.cleverpine.specification.util.SortDirection;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.data.jpa.domain.Specification;
  */
 @RequiredArgsConstructor
 @Getter
+@EqualsAndHashCode
 public class OrderByItem<T> {
 
     @NonNull
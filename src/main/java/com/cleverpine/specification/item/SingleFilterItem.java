@@ -1,13 +1,15 @@
 package com.cleverpine.specification.item;
 
+import com.cleverpine.specification.core.SingleValueSpecificationFactory;
 import com.cleverpine.specification.exception.IllegalSpecificationException;
 import com.cleverpine.specification.util.FilterOperator;
 import com.cleverpine.specification.util.QueryContext;
 import com.cleverpine.specification.util.ValueConverter;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
 
 import static com.cleverpine.specification.util.FilterConstants.INVALID_SPECIFICATION_CREATION;
 
@@ -15,10 +17,13 @@ import static com.cleverpine.specification.util.FilterConstants.INVALID_SPECIFIC
  * An implementation of {@link SingleFilterItem} that represents a filter with a single value.
  * @param <T> the type of the entity
  */
+@EqualsAndHashCode(callSuper = true)
 public class SingleFilterItem<T> extends FilterItem<T> {
 
     private final String value;
 
+    private final SingleValueSpecificationFactory<T> specificationFactory;
+
     /**
      * Constructs a new {@link SingleFilterItem} instance with the specified attribute, operator, and value.
      *
@@ -28,8 +33,39 @@ public class SingleFilterItem<T> extends FilterItem<T> {
      * @throws NullPointerException if the {@code attribute} or {@code value} parameter is {@code null}
      */
     public SingleFilterItem(String attribute, FilterOperator operator, @NonNull String value) {
+        this(attribute, operator, value, operator.getSingleValueSpecificationFactory());
+    }
+
+    /**
+     * Constructs a new {@link SingleFilterItem} instance with the specified attribute, operator, value and a custom
+     * factory, which creates the specification instead of the default one of the operator.
+     *
+     * @param attribute the name of the attribute to filter on
+     * @param operator the operator to use for the filter
+     * @param value the value to filter by
+     * @param specificationFactory the factory, which creates the specification of this filter item
+     * @throws NullPointerException if the {@code attribute} or {@code value} parameter is {@code null}
+     */
+    public SingleFilterItem(String attribute, FilterOperator operator, @NonNull String value,
+                            SingleValueSpecificationFactory<T> specificationFactory) {
         super(attribute, operator);
         this.value = value;
+        this.specificationFactory = specificationFactory;
+    }
+
+    /**
+     * Gets the value of the filter item in its textual form.
+     *
+     * @return the value to filter by
+     */
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean hasDefaultSpecification() {
+        return getOperator().isSingleFilterValue()
+                && specificationFactory == getOperator().getSingleValueSpecificationFactory();
     }
 
     /**
@@ -41,17 +77,12 @@ public class SingleFilterItem<T> extends FilterItem<T> {
      * @throws IllegalSpecificationException if the specification cannot be created
      */
     @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public Specification<T> createSpecification(QueryContext<T> queryContext, ValueConverter valueConverter) {
-        Class<? extends Specification> specificationType = getOperator().getSpecificationType();
-        try {
-            return (Specification<T>) specificationType
-                    .getDeclaredConstructor(String.class, String.class, QueryContext.class, ValueConverter.class)
-                    .newInstance(getAttribute(), value, queryContext, valueConverter);
-        } catch (InstantiationException | NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+        if (Objects.isNull(specificationFactory)) {
             throw new IllegalSpecificationException(
-                    String.format(INVALID_SPECIFICATION_CREATION, specificationType.getSimpleName()));
+                    String.format(INVALID_SPECIFICATION_CREATION, getOperator().getSpecificationType().getSimpleName()));
         }
+        return specificationFactory.create(getAttribute(), value, queryContext, valueConverter);
     }
 
 }
@@ -0,0 +1,69 @@
+package com.cleverpine.specification.item;
+
+import com.cleverpine.specification.core.Between;
+import com.cleverpine.specification.core.In;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.QueryContext;
+import com.cleverpine.specification.util.ValueConverter;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * A {@link MultiFilterItem}, which holds its values already converted to the type of the filtered attribute. The values are
+ * converted once, when the target type is known, and the created specification only binds them to the predicate.
+ * <p>
+ * The operators, which do not convert their values, create the same specification as a {@link MultiFilterItem}.
+ *
+ * @param <T> the type of the entity
+ */
+@EqualsAndHashCode(callSuper = true)
+public class TypedMultiFilterItem<T> extends MultiFilterItem<T> {
+
+    private final List<Object> convertedValues;
+
+    /**
+     * Constructs a new {@link TypedMultiFilterItem} instance with the specified attribute, operator, values and converted
+     * values.
+     *
+     * @param attribute the name of the attribute to filter on
+     * @param operator the operator to use for the filter
+     * @param values the list of values to filter by
+     * @param convertedValues the values converted to the type of the attribute, in the order of the values
+     * @throws NullPointerException if the {@code attribute}, {@code values} or {@code convertedValues} parameter is
+     *                              {@code null}
+     */
+    public TypedMultiFilterItem(String attribute, FilterOperator operator, @NonNull List<String> values,
+                                @NonNull List<Object> convertedValues) {
+        super(attribute, operator, values);
+        this.convertedValues = List.copyOf(convertedValues);
+    }
+
+    /**
+     * Gets the values of the filter item converted to the type of the attribute.
+     *
+     * @return the list of converted values to filter by
+     */
+    public List<Object> getConvertedValues() {
+        return convertedValues;
+    }
+
+    /**
+     * Creates the specification of the operator with the converted values.
+     *
+     * @param queryContext the query context to use for the specification
+     * @param valueConverter the value converter to use for the specification
+     * @return a new {@link Specification} instance based on this filter item
+     */
+    @Override
+    public Specification<T> createSpecification(QueryContext<T> queryContext, ValueConverter valueConverter) {
+        return switch (getOperator()) {
+            case BETWEEN -> new Between<>(getAttribute(), getValues(), convertedValues, queryContext, valueConverter);
+            case IN -> new In<>(getAttribute(), getValues(), convertedValues, queryContext, valueConverter);
+            default -> super.createSpecification(queryContext, valueConverter);
+        };
+    }
+
+}
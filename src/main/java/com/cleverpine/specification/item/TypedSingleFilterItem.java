@@ -0,0 +1,76 @@
+package com.cleverpine.specification.item;
+
+import com.cleverpine.specification.core.Equals;
+import com.cleverpine.specification.core.GreaterThan;
+import com.cleverpine.specification.core.GreaterThanOrEquals;
+import com.cleverpine.specification.core.LessThan;
+import com.cleverpine.specification.core.LessThanOrEquals;
+import com.cleverpine.specification.core.NotEquals;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.QueryContext;
+import com.cleverpine.specification.util.ValueConverter;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * A {@link SingleFilterItem}, which holds its value already converted to the type of the filtered attribute. The value is
+ * converted once, when the target type is known, and the created specification only binds it to the predicate.
+ * <p>
+ * The operators, which do not convert their value, create the same specification as a {@link SingleFilterItem}.
+ *
+ * @param <T> the type of the entity
+ */
+@EqualsAndHashCode(callSuper = true)
+public class TypedSingleFilterItem<T> extends SingleFilterItem<T> {
+
+    private final Object convertedValue;
+
+    /**
+     * Constructs a new {@link TypedSingleFilterItem} instance with the specified attribute, operator, value and converted
+     * value.
+     *
+     * @param attribute the name of the attribute to filter on
+     * @param operator the operator to use for the filter
+     * @param value the value to filter by
+     * @param convertedValue the value converted to the type of the attribute
+     * @throws NullPointerException if the {@code attribute}, {@code value} or {@code convertedValue} parameter is {@code null}
+     */
+    public TypedSingleFilterItem(String attribute, FilterOperator operator, @NonNull String value,
+                                 @NonNull Object convertedValue) {
+        super(attribute, operator, value);
+        this.convertedValue = convertedValue;
+    }
+
+    /**
+     * Gets the value of the filter item converted to the type of the attribute.
+     *
+     * @return the converted value to filter by
+     */
+    public Object getConvertedValue() {
+        return convertedValue;
+    }
+
+    /**
+     * Creates the specification of the operator with the converted value.
+     *
+     * @param queryContext the query context to use for the specification
+     * @param valueConverter the value converter to use for the specification
+     * @return a new {@link Specification} instance based on this filter item
+     */
+    @Override
+    public Specification<T> createSpecification(QueryContext<T> queryContext, ValueConverter valueConverter) {
+        String attribute = getAttribute();
+        String value = getValue();
+        return switch (getOperator()) {
+            case EQUAL -> new Equals<>(attribute, value, convertedValue, queryContext, valueConverter);
+            case NOT_EQUAL -> new NotEquals<>(attribute, value, convertedValue, queryContext, valueConverter);
+            case GREATER_THAN -> new GreaterThan<>(attribute, value, convertedValue, queryContext, valueConverter);
+            case GREATER_THAN_EQUAL -> new GreaterThanOrEquals<>(attribute, value, convertedValue, queryContext, valueConverter);
+            case LESS_THAN -> new LessThan<>(attribute, value, convertedValue, queryContext, valueConverter);
+            case LESS_THAN_EQUAL -> new LessThanOrEquals<>(attribute, value, convertedValue, queryContext, valueConverter);
+            default -> super.createSpecification(queryContext, valueConverter);
+        };
+    }
+
+}
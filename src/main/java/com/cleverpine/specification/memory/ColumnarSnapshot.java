@@ -0,0 +1,805 @@
+package com.cleverpine.specification.memory;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.NormalizedFilterItems;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.parser.SpecificationParserManager;
+import com.cleverpine.specification.util.AttributePathPlan;
+import com.cleverpine.specification.util.FilterTypeMetadata;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import com.cleverpine.specification.util.SpecificationRequest;
+import com.cleverpine.specification.util.ValueConverter;
+import jakarta.persistence.Id;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import static com.cleverpine.specification.util.FilterConstants.INVALID_TOP_SELECTION;
+import static com.cleverpine.specification.util.FilterConstants.SNAPSHOT_ID_NOT_DEFINED;
+
+/**
+ * The {@link ColumnarSnapshot} is an immutable, column-oriented copy of a list of entities, which serves the
+ * {@link SpecificationRequest}s of a read-mostly entity without a query.
+ * <p>
+ * Each attribute of the filter type is read once, when the snapshot is created, into a column - the integral numbers into a
+ * {@code long[]}, the floating-point numbers into a {@code double[]} and the other values, e.g. the strings and the enums,
+ * into a dictionary-encoded {@code int[]}. A filter item on a column is evaluated with a single loop over its array into a
+ * {@link BitSet} of the matching rows, and the bitsets of the filter items are intersected. The dictionary filters test
+ * every distinct value only once.
+ * <p>
+ * The filter items have the semantics of the {@link InMemoryPredicateCompiler}. The attributes, which cannot be stored in
+ * a column, e.g. the ones on a path through a collection join, are tested with a compiled predicate on the rows left by
+ * the column filters. The matching rows are sorted as an {@code int[]} by the column values of the sort attributes, and
+ * the sort attributes without a column are compared with the {@link InMemoryComparatorCompiler}.
+ * <p>
+ * The snapshot does not see the later changes of the entities, so it should be recreated when they change.
+ *
+ * @param <T> the type of the entity
+ */
+public class ColumnarSnapshot<T> {
+
+    private final SpecificationParserManager specificationParserManager;
+
+    private final Class<T> entityType;
+
+    private final InMemoryPredicateCompiler<T> predicateCompiler;
+
+    private final InMemoryComparatorCompiler<T> comparatorCompiler;
+
+    private final Object[] entities;
+
+    private final Object[] ids;
+
+    private final Map<String, Column> columnsByAttribute = new HashMap<>();
+
+    /**
+     * Creates a new {@link ColumnarSnapshot} of the given entities.
+     *
+     * @param specificationParserManager the parser manager, which produces the filter and the order-by items of a request
+     * @param filterType                 the class, which declares the filter and sort attributes
+     * @param entityType                 the type of the entities
+     * @param valueConverter             the value converter, which converts the filter values to the attribute types
+     * @param specificationQueryConfig   the configuration, which holds the joins, the attribute path mappings and the
+     *                                   configured filter and order-by items
+     * @param entities                   the entities, which are copied into the snapshot
+     */
+    public ColumnarSnapshot(SpecificationParserManager specificationParserManager, Class<?> filterType, Class<T> entityType,
+                            ValueConverter valueConverter, SpecificationQueryConfig<T> specificationQueryConfig,
+                            Collection<? extends T> entities) {
+        this.specificationParserManager = Objects.requireNonNull(specificationParserManager);
+        this.entityType = Objects.requireNonNull(entityType);
+        this.predicateCompiler = new InMemoryPredicateCompiler<>(filterType, entityType, specificationQueryConfig, valueConverter);
+        this.comparatorCompiler = new InMemoryComparatorCompiler<>(filterType, entityType, specificationQueryConfig);
+        this.entities = entities.toArray();
+
+        for (String attribute : FilterTypeMetadata.of(filterType).getAttributes()) {
+            Column column = createColumn(attribute);
+            if (Objects.nonNull(column)) {
+                columnsByAttribute.put(attribute, column);
+            }
+        }
+        String idAttribute = findIdAttribute(entityType);
+        this.ids = Objects.nonNull(idAttribute) ? readValues(new PropertyAccessor[0], PropertyAccessor.of(entityType, idAttribute)) : null;
+    }
+
+    /**
+     * Gets the number of the entities in the snapshot.
+     *
+     * @return the number of the entities
+     */
+    public int size() {
+        return entities.length;
+    }
+
+    /**
+     * Counts the entities, which match the filter parameters of the given request.
+     *
+     * @param specificationRequest the specification request that holds the filter parameters
+     * @return the number of the matching entities
+     */
+    public int count(SpecificationRequest<T> specificationRequest) {
+        return evaluate(specificationParserManager.produceFilterItems(specificationRequest)).cardinality();
+    }
+
+    /**
+     * Finds the entities, which match the filter parameters of the given request, in the order of its sort parameters.
+     * Without sort parameters, the entities are in the order of the snapshot.
+     *
+     * @param specificationRequest the specification request that holds the filter and sort parameters
+     * @return the matching entities
+     */
+    public List<T> findAll(SpecificationRequest<T> specificationRequest) {
+        return getEntities(findRows(specificationRequest, 0, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Finds a page of the entities, which match the filter parameters of the given request, in the order of its sort
+     * parameters. The page is selected without sorting all matching entities.
+     *
+     * @param specificationRequest the specification request that holds the filter and sort parameters
+     * @param offset               the number of the leading matching entities to skip
+     * @param limit                the maximum number of the entities in the page
+     * @return the entities of the page
+     * @throws IllegalArgumentException if the offset or the limit is negative
+     */
+    public List<T> findAll(SpecificationRequest<T> specificationRequest, int offset, int limit) {
+        return getEntities(findRows(specificationRequest, offset, limit));
+    }
+
+    /**
+     * Finds the ids of the entities, which match the filter parameters of the given request, in the order of its sort
+     * parameters.
+     *
+     * @param specificationRequest the specification request that holds the filter and sort parameters
+     * @return the ids of the matching entities
+     * @throws IllegalSpecificationException if the entity type has no id attribute
+     */
+    public List<Object> findAllIds(SpecificationRequest<T> specificationRequest) {
+        if (Objects.isNull(ids)) {
+            throw new IllegalSpecificationException(String.format(SNAPSHOT_ID_NOT_DEFINED, entityType.getSimpleName()));
+        }
+        int[] rows = findRows(specificationRequest, 0, Integer.MAX_VALUE);
+        List<Object> matchingIds = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            matchingIds.add(ids[row]);
+        }
+        return matchingIds;
+    }
+
+    /**
+     * Evaluates the given filter items and the configured filter items into the rows of the matching entities.
+     *
+     * @param requestFilterItems the filter items of the request
+     * @return the bitset of the matching rows, in which the row of an entity is its position in the snapshot
+     * @throws InvalidSpecificationException if an attribute is not declared in the filter type or a value cannot be
+     *                                       converted to the type of its attribute
+     * @throws IllegalSpecificationException if a filter item cannot be evaluated in memory
+     */
+    public BitSet evaluate(List<FilterItem<T>> requestFilterItems) {
+        BitSet rows = new BitSet(entities.length);
+        NormalizedFilterItems<T> normalizedFilterItems = predicateCompiler.normalize(requestFilterItems);
+        if (normalizedFilterItems.isUnsatisfiable()) {
+            return rows;
+        }
+        rows.set(0, entities.length);
+        List<FilterItem<T>> rowFilterItems = new ArrayList<>();
+        for (FilterItem<T> filterItem : normalizedFilterItems.getFilterItems()) {
+            Column column = columnsByAttribute.get(filterItem.getAttribute());
+            if (Objects.nonNull(column) && filterItem.hasDefaultSpecification()) {
+                rows.and(column.evaluate(filterItem));
+            } else {
+                rowFilterItems.add(filterItem);
+            }
+        }
+        if (!rowFilterItems.isEmpty()) {
+            Predicate<Object> predicate = predicateCompiler.compileFilterItems(rowFilterItems);
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                if (!predicate.test(entities[row])) {
+                    rows.clear(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private int[] findRows(SpecificationRequest<T> specificationRequest, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException(String.format(INVALID_TOP_SELECTION, offset, limit));
+        }
+        List<OrderByItem<T>> orderByItems = comparatorCompiler.resolveOrderByItems(
+                specificationParserManager.produceOrderByItems(specificationRequest));
+        RowComparator rowComparator = createRowComparator(orderByItems);
+        int[] rows = evaluate(specificationParserManager.produceFilterItems(specificationRequest)).stream().toArray();
+
+        int end = (int) Math.min((long) offset + limit, rows.length);
+        if (offset >= end) {
+            return new int[0];
+        }
+        if (Objects.isNull(rowComparator)) {
+            return Arrays.copyOfRange(rows, offset, end);
+        }
+        if (end < rows.length) {
+            rows = selectTopRows(rows, rowComparator, end);
+        } else {
+            sortRows(rows, rowComparator);
+        }
+        return offset == 0 && end == rows.length ? rows : Arrays.copyOfRange(rows, offset, end);
+    }
+
+    /**
+     * Creates the comparator of the rows by the given order-by items, which compares the rows by the values of the
+     * columns, if the sort attributes have columns, or by the entities otherwise. The equal rows are compared by their
+     * positions in the snapshot, so the order is total and the same as a stable sort of the entities.
+     *
+     * @return the row comparator or null if there are no order-by items
+     */
+    private RowComparator createRowComparator(List<OrderByItem<T>> orderByItems) {
+        if (orderByItems.isEmpty()) {
+            return null;
+        }
+        RowComparator[] rowComparators = new RowComparator[orderByItems.size()];
+        for (int i = 0; i < rowComparators.length; i++) {
+            OrderByItem<T> orderByItem = orderByItems.get(i);
+            Column column = columnsByAttribute.get(orderByItem.getAttribute());
+            RowComparator rowComparator = Objects.nonNull(column) ? column.createRowComparator() : null;
+            if (Objects.isNull(rowComparator)) {
+                Comparator<Object> entityComparator = comparatorCompiler.compileOrderByItem(orderByItem);
+                rowComparators[i] = (first, second) -> entityComparator.compare(entities[first], entities[second]);
+            } else if (orderByItem.getDirection().isAscending()) {
+                rowComparators[i] = rowComparator;
+            } else {
+                rowComparators[i] = (first, second) -> rowComparator.compare(second, first);
+            }
+        }
+        return (first, second) -> {
+            for (RowComparator rowComparator : rowComparators) {
+                int result = rowComparator.compare(first, second);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(first, second);
+        };
+    }
+
+    /**
+     * Sorts the rows with a bottom-up merge sort, which does not box the rows.
+     */
+    private static void sortRows(int[] rows, RowComparator rowComparator) {
+        int[] source = rows;
+        int[] target = new int[rows.length];
+        for (int width = 1; width < rows.length; width *= 2) {
+            for (int start = 0; start < rows.length; start += 2 * width) {
+                int middle = Math.min(start + width, rows.length);
+                int end = Math.min(start + 2 * width, rows.length);
+                int left = start;
+                int right = middle;
+                for (int i = start; i < end; i++) {
+                    if (right < end && (left >= middle || rowComparator.compare(source[right], source[left]) < 0)) {
+                        target[i] = source[right++];
+                    } else {
+                        target[i] = source[left++];
+                    }
+                }
+            }
+            int[] sorted = target;
+            target = source;
+            source = sorted;
+        }
+        if (source != rows) {
+            System.arraycopy(source, 0, rows, 0, rows.length);
+        }
+    }
+
+    /**
+     * Selects the first {@code count} rows in the order of the comparator with a bounded max-heap and sorts them.
+     */
+    private static int[] selectTopRows(int[] rows, RowComparator rowComparator, int count) {
+        int[] heap = new int[count];
+        int size = 0;
+        for (int row : rows) {
+            if (size < count) {
+                int child = size++;
+                while (child > 0 && rowComparator.compare(row, heap[(child - 1) / 2]) > 0) {
+                    heap[child] = heap[(child - 1) / 2];
+                    child = (child - 1) / 2;
+                }
+                heap[child] = row;
+            } else if (rowComparator.compare(row, heap[0]) < 0) {
+                int parent = 0;
+                while (2 * parent + 1 < size) {
+                    int child = 2 * parent + 1;
+                    if (child + 1 < size && rowComparator.compare(heap[child + 1], heap[child]) > 0) {
+                        child++;
+                    }
+                    if (rowComparator.compare(heap[child], row) <= 0) {
+                        break;
+                    }
+                    heap[parent] = heap[child];
+                    parent = child;
+                }
+                heap[parent] = row;
+            }
+        }
+        sortRows(heap, rowComparator);
+        return heap;
+    }
+
+    private List<T> getEntities(int[] rows) {
+        List<T> matchingEntities = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            matchingEntities.add(getEntity(row));
+        }
+        return matchingEntities;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T getEntity(int row) {
+        return (T) entities[row];
+    }
+
+    /**
+     * Creates the column of the given attribute or returns null if the attribute is not stored in a column, because it has
+     * a custom expression, its path goes through a collection join or it cannot be read.
+     */
+    private Column createColumn(String attribute) {
+        AttributePathPlan attributePathPlan;
+        PropertyAccessor[] joinAccessors;
+        PropertyAccessor accessor;
+        try {
+            attributePathPlan = predicateCompiler.getAttributePathPlan(attribute);
+            if (Objects.isNull(attributePathPlan)) {
+                return null;
+            }
+            Class<?> type = entityType;
+            joinAccessors = new PropertyAccessor[attributePathPlan.getJoinCount()];
+            for (int i = 0; i < joinAccessors.length; i++) {
+                if (!attributePathPlan.getJoinItem(i).getFromEntity().isAssignableFrom(type)) {
+                    return null;
+                }
+                joinAccessors[i] = PropertyAccessor.of(type, attributePathPlan.getJoinItem(i).getJoinAttribute());
+                if (joinAccessors[i].isPlural()) {
+                    return null;
+                }
+                type = joinAccessors[i].getJavaType();
+            }
+            accessor = PropertyAccessor.of(type, attributePathPlan.getAttribute());
+        } catch (IllegalSpecificationException e) {
+            // the filter items on the attribute are rejected by the predicate compiler with the same exception
+            return null;
+        }
+        if (accessor.isPlural()) {
+            return null;
+        }
+
+        Object[] values = readValues(joinAccessors, accessor);
+        Class<?> valueType = accessor.getWrappedType();
+        if (valueType == Long.class || valueType == Integer.class || valueType == Short.class || valueType == Byte.class) {
+            return new LongColumn(valueType, values);
+        }
+        if (valueType == Double.class || valueType == Float.class) {
+            return new DoubleColumn(valueType, values);
+        }
+        return new DictionaryColumn(valueType, values);
+    }
+
+    private Object[] readValues(PropertyAccessor[] joinAccessors, PropertyAccessor accessor) {
+        Object[] values = new Object[entities.length];
+        for (int row = 0; row < entities.length; row++) {
+            Object owner = entities[row];
+            for (int i = 0; i < joinAccessors.length && Objects.nonNull(owner); i++) {
+                owner = joinAccessors[i].get(owner);
+            }
+            values[row] = Objects.nonNull(owner) ? accessor.get(owner) : null;
+        }
+        return values;
+    }
+
+    private long[] createWords() {
+        return new long[(entities.length + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /**
+     * A comparator of two rows of the snapshot.
+     */
+    @FunctionalInterface
+    private interface RowComparator {
+
+        int compare(int firstRow, int secondRow);
+    }
+
+    /**
+     * A column of the values of a single attribute. The null values never match a filter.
+     */
+    private abstract class Column {
+
+        protected final Class<?> valueType;
+
+        private Column(Class<?> valueType) {
+            this.valueType = valueType;
+        }
+
+        abstract BitSet evaluate(FilterItem<T> filterItem);
+
+        /**
+         * Creates the ascending comparator of the rows by the values of the column, in which the null values are last.
+         *
+         * @return the row comparator or null if the values of the column are not comparable
+         */
+        abstract RowComparator createRowComparator();
+
+        /**
+         * Gets the value of the given row, boxed on demand.
+         */
+        abstract Object getValue(int row);
+
+        /**
+         * Matches the non-null values of the column with the given predicate one by one, e.g. the numbers with a pattern.
+         */
+        BitSet matchValues(Predicate<Object> valuePredicate) {
+            BitSet matches = new BitSet(entities.length);
+            for (int row = 0; row < entities.length; row++) {
+                Object value = getValue(row);
+                if (Objects.nonNull(value) && valuePredicate.test(value)) {
+                    matches.set(row);
+                }
+            }
+            return matches;
+        }
+    }
+
+    /**
+     * A column of the integral numbers, which are stored in a {@code long[]} with a bitset of the null values.
+     */
+    private final class LongColumn extends Column {
+
+        private final long[] values;
+
+        private final BitSet nulls = new BitSet();
+
+        private LongColumn(Class<?> valueType, Object[] boxedValues) {
+            super(valueType);
+            this.values = new long[boxedValues.length];
+            for (int row = 0; row < boxedValues.length; row++) {
+                if (Objects.isNull(boxedValues[row])) {
+                    nulls.set(row);
+                } else {
+                    values[row] = ((Number) boxedValues[row]).longValue();
+                }
+            }
+        }
+
+        @Override
+        RowComparator createRowComparator() {
+            if (nulls.isEmpty()) {
+                return (first, second) -> Long.compare(values[first], values[second]);
+            }
+            return (first, second) -> {
+                boolean firstNull = nulls.get(first);
+                boolean secondNull = nulls.get(second);
+                return firstNull || secondNull
+                        ? Boolean.compare(firstNull, secondNull)
+                        : Long.compare(values[first], values[second]);
+            };
+        }
+
+        @Override
+        Object getValue(int row) {
+            if (nulls.get(row)) {
+                return null;
+            }
+            long value = values[row];
+            if (valueType == Integer.class) {
+                return (int) value;
+            }
+            if (valueType == Short.class) {
+                return (short) value;
+            }
+            if (valueType == Byte.class) {
+                return (byte) value;
+            }
+            return value;
+        }
+
+        @Override
+        BitSet evaluate(FilterItem<T> filterItem) {
+            BitSet matches;
+            switch (filterItem.getOperator()) {
+                case EQUAL: {
+                    long value = toLong(predicateCompiler.getConvertedValue(filterItem, valueType));
+                    matches = matchRange(value, value);
+                    break;
+                }
+                case NOT_EQUAL:
+                    matches = matchNotEqual(toLong(predicateCompiler.getConvertedValue(filterItem, valueType)));
+                    break;
+                case GREATER_THAN: {
+                    long value = toLong(predicateCompiler.getComparableValue(filterItem, valueType));
+                    matches = value == Long.MAX_VALUE ? new BitSet() : matchRange(value + 1, Long.MAX_VALUE);
+                    break;
+                }
+                case GREATER_THAN_EQUAL:
+                    matches = matchRange(toLong(predicateCompiler.getComparableValue(filterItem, valueType)), Long.MAX_VALUE);
+                    break;
+                case LESS_THAN: {
+                    long value = toLong(predicateCompiler.getComparableValue(filterItem, valueType));
+                    matches = value == Long.MIN_VALUE ? new BitSet() : matchRange(Long.MIN_VALUE, value - 1);
+                    break;
+                }
+                case LESS_THAN_EQUAL:
+                    matches = matchRange(Long.MIN_VALUE, toLong(predicateCompiler.getComparableValue(filterItem, valueType)));
+                    break;
+                case BETWEEN: {
+                    List<Object> bounds = predicateCompiler.getBetweenValues(filterItem, valueType);
+                    matches = matchRange(toLong(bounds.get(0)), toLong(bounds.get(1)));
+                    break;
+                }
+                case IN:
+                    matches = matchIn(predicateCompiler.getConvertedValues(filterItem, valueType).stream()
+                            .mapToLong(ColumnarSnapshot::toLong)
+                            .sorted()
+                            .distinct()
+                            .toArray());
+                    break;
+                default:
+                    return matchValues(predicateCompiler.compileValuePredicate(filterItem, valueType));
+            }
+            matches.andNot(nulls);
+            return matches;
+        }
+
+        private BitSet matchRange(long lowerBound, long upperBound) {
+            long[] words = createWords();
+            for (int row = 0; row < values.length; row++) {
+                long value = values[row];
+                if (value >= lowerBound && value <= upperBound) {
+                    words[row >>> 6] |= 1L << row;
+                }
+            }
+            return BitSet.valueOf(words);
+        }
+
+        private BitSet matchNotEqual(long excludedValue) {
+            long[] words = createWords();
+            for (int row = 0; row < values.length; row++) {
+                if (values[row] != excludedValue) {
+                    words[row >>> 6] |= 1L << row;
+                }
+            }
+            return BitSet.valueOf(words);
+        }
+
+        private BitSet matchIn(long[] sortedValues) {
+            long[] words = createWords();
+            if (sortedValues.length == 0) {
+                return BitSet.valueOf(words);
+            }
+            long minValue = sortedValues[0];
+            long maxValue = sortedValues[sortedValues.length - 1];
+            for (int row = 0; row < values.length; row++) {
+                long value = values[row];
+                if (value >= minValue && value <= maxValue && Arrays.binarySearch(sortedValues, value) >= 0) {
+                    words[row >>> 6] |= 1L << row;
+                }
+            }
+            return BitSet.valueOf(words);
+        }
+    }
+
+    /**
+     * A column of the floating-point numbers, which are stored in a {@code double[]} with a bitset of the null values. The
+     * values are compared as by {@link Double#compare(double, double)}.
+     */
+    private final class DoubleColumn extends Column {
+
+        private final double[] values;
+
+        private final BitSet nulls = new BitSet();
+
+        private DoubleColumn(Class<?> valueType, Object[] boxedValues) {
+            super(valueType);
+            this.values = new double[boxedValues.length];
+            for (int row = 0; row < boxedValues.length; row++) {
+                if (Objects.isNull(boxedValues[row])) {
+                    nulls.set(row);
+                } else {
+                    values[row] = ((Number) boxedValues[row]).doubleValue();
+                }
+            }
+        }
+
+        @Override
+        RowComparator createRowComparator() {
+            if (nulls.isEmpty()) {
+                return (first, second) -> Double.compare(values[first], values[second]);
+            }
+            return (first, second) -> {
+                boolean firstNull = nulls.get(first);
+                boolean secondNull = nulls.get(second);
+                return firstNull || secondNull
+                        ? Boolean.compare(firstNull, secondNull)
+                        : Double.compare(values[first], values[second]);
+            };
+        }
+
+        @Override
+        Object getValue(int row) {
+            if (nulls.get(row)) {
+                return null;
+            }
+            return valueType == Float.class ? (Object) (float) values[row] : (Object) values[row];
+        }
+
+        @Override
+        BitSet evaluate(FilterItem<T> filterItem) {
+            BitSet matches;
+            switch (filterItem.getOperator()) {
+                case EQUAL: {
+                    double value = toDouble(predicateCompiler.getConvertedValue(filterItem, valueType));
+                    matches = matchRange(value, true, value, true);
+                    break;
+                }
+                case NOT_EQUAL: {
+                    double value = toDouble(predicateCompiler.getConvertedValue(filterItem, valueType));
+                    matches = matchRange(value, true, value, true);
+                    matches.flip(0, values.length);
+                    break;
+                }
+                case GREATER_THAN:
+                    matches = matchRange(toDouble(predicateCompiler.getComparableValue(filterItem, valueType)), false,
+                            Double.NaN, true);
+                    break;
+                case GREATER_THAN_EQUAL:
+                    matches = matchRange(toDouble(predicateCompiler.getComparableValue(filterItem, valueType)), true,
+                            Double.NaN, true);
+                    break;
+                case LESS_THAN:
+                    matches = matchRange(Double.NEGATIVE_INFINITY, true,
+                            toDouble(predicateCompiler.getComparableValue(filterItem, valueType)), false);
+                    break;
+                case LESS_THAN_EQUAL:
+                    matches = matchRange(Double.NEGATIVE_INFINITY, true,
+                            toDouble(predicateCompiler.getComparableValue(filterItem, valueType)), true);
+                    break;
+                case BETWEEN: {
+                    List<Object> bounds = predicateCompiler.getBetweenValues(filterItem, valueType);
+                    matches = matchRange(toDouble(bounds.get(0)), true, toDouble(bounds.get(1)), true);
+                    break;
+                }
+                default:
+                    return matchValues(predicateCompiler.compileValuePredicate(filterItem, valueType));
+            }
+            matches.andNot(nulls);
+            return matches;
+        }
+
+        /**
+         * Matches the values between the given bounds in the order of {@link Double#compare(double, double)}, in which
+         * the negative infinity is the lowest value and NaN is the highest one.
+         */
+        private BitSet matchRange(double lowerBound, boolean lowerInclusive, double upperBound, boolean upperInclusive) {
+            int minLowerComparison = lowerInclusive ? 0 : 1;
+            int maxUpperComparison = upperInclusive ? 0 : -1;
+            long[] words = createWords();
+            for (int row = 0; row < values.length; row++) {
+                double value = values[row];
+                if (Double.compare(value, lowerBound) >= minLowerComparison
+                        && Double.compare(value, upperBound) <= maxUpperComparison) {
+                    words[row >>> 6] |= 1L << row;
+                }
+            }
+            return BitSet.valueOf(words);
+        }
+    }
+
+    /**
+     * A column of the dictionary-encoded values, e.g. strings or enums. Each distinct value is stored once in the
+     * dictionary and the rows hold its code in an {@code int[]}, with -1 for a null value. A filter item is tested once
+     * per distinct value and the rows are matched by their codes. The comparable values are ranked once, so the rows are
+     * sorted by the ranks of their codes.
+     */
+    private final class DictionaryColumn extends Column {
+
+        private final int[] codes;
+
+        private final Object[] dictionary;
+
+        private final int[] ranks;
+
+        private DictionaryColumn(Class<?> valueType, Object[] values) {
+            super(valueType);
+            Map<Object, Integer> codesByValue = new HashMap<>();
+            List<Object> distinctValues = new ArrayList<>();
+            this.codes = new int[values.length];
+            for (int row = 0; row < values.length; row++) {
+                Object value = values[row];
+                if (Objects.isNull(value)) {
+                    codes[row] = -1;
+                    continue;
+                }
+                Integer code = codesByValue.get(value);
+                if (Objects.isNull(code)) {
+                    code = distinctValues.size();
+                    codesByValue.put(value, code);
+                    distinctValues.add(value);
+                }
+                codes[row] = code;
+            }
+            this.dictionary = distinctValues.toArray();
+            this.ranks = Comparable.class.isAssignableFrom(valueType) ? rankDictionary() : null;
+        }
+
+        @Override
+        RowComparator createRowComparator() {
+            if (Objects.isNull(ranks)) {
+                return null;
+            }
+            return (first, second) -> Integer.compare(getRank(codes[first]), getRank(codes[second]));
+        }
+
+        @Override
+        Object getValue(int row) {
+            return codes[row] < 0 ? null : dictionary[codes[row]];
+        }
+
+        private int getRank(int code) {
+            return code < 0 ? Integer.MAX_VALUE : ranks[code];
+        }
+
+        /**
+         * Ranks the values of the dictionary in their natural order, in which the equal values have the same rank.
+         */
+        @SuppressWarnings("unchecked")
+        private int[] rankDictionary() {
+            Integer[] sortedCodes = new Integer[dictionary.length];
+            Arrays.setAll(sortedCodes, code -> code);
+            Comparator<Integer> codeComparator = (first, second) ->
+                    ((Comparable<Object>) dictionary[first]).compareTo(dictionary[second]);
+            Arrays.sort(sortedCodes, codeComparator);
+            int[] dictionaryRanks = new int[dictionary.length];
+            for (int i = 1; i < sortedCodes.length; i++) {
+                int previousRank = dictionaryRanks[sortedCodes[i - 1]];
+                dictionaryRanks[sortedCodes[i]] = codeComparator.compare(sortedCodes[i - 1], sortedCodes[i]) == 0
+                        ? previousRank
+                        : previousRank + 1;
+            }
+            return dictionaryRanks;
+        }
+
+        @Override
+        BitSet evaluate(FilterItem<T> filterItem) {
+            Predicate<Object> valuePredicate = predicateCompiler.compileValuePredicate(filterItem, valueType);
+            boolean[] matchingCodes = new boolean[dictionary.length];
+            for (int code = 0; code < dictionary.length; code++) {
+                matchingCodes[code] = valuePredicate.test(dictionary[code]);
+            }
+            long[] words = createWords();
+            for (int row = 0; row < codes.length; row++) {
+                int code = codes[row];
+                if (code >= 0 && matchingCodes[code]) {
+                    words[row >>> 6] |= 1L << row;
+                }
+            }
+            return BitSet.valueOf(words);
+        }
+    }
+
+    /**
+     * Finds the field or the getter annotated with {@link Id} in the entity type or in its superclasses. The snapshot
+     * holds plain objects without a persistence unit, so the id is found by its mapping annotation.
+     */
+    private static String findIdAttribute(Class<?> entityType) {
+        for (Class<?> type = entityType; Objects.nonNull(type) && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Id.class)) {
+                    return field.getName();
+                }
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Id.class) && method.getName().startsWith("get") && method.getName().length() > 3) {
+                    return Character.toLowerCase(method.getName().charAt(3)) + method.getName().substring(4);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static double toDouble(Object value) {
+        return ((Number) value).doubleValue();
+    }
+}
@@ -0,0 +1,236 @@
+package com.cleverpine.specification.memory;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.JoinItem;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.producer.SimpleSpecificationProducer;
+import com.cleverpine.specification.util.AttributePathPlan;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+import static com.cleverpine.specification.util.FilterConstants.INVALID_JOIN;
+import static com.cleverpine.specification.util.FilterConstants.INVALID_TOP_SELECTION;
+import static com.cleverpine.specification.util.FilterConstants.IN_MEMORY_SORT_NOT_SUPPORTED;
+
+/**
+ * The {@link InMemoryComparatorCompiler} compiles a list of {@link OrderByItem}s into a single {@link Comparator}, which
+ * sorts the entities already held in memory in the order of the
+ * {@link com.cleverpine.specification.core.OrderBySpecification}s of a
+ * {@link com.cleverpine.specification.producer.ComplexSpecificationProducer}.
+ * <p>
+ * The sort attributes are validated against the filter type and are resolved through the joins and the attribute path
+ * mappings of the {@link SpecificationQueryConfig} once per compilation. The configured order-by items are appended to the
+ * given ones. The null values are last in ascending order and first in descending order, and a null relation on the path
+ * sorts as a null value, as with an outer join. The primitive numeric properties are compared without boxing. The strings
+ * are compared by their natural order, which can differ from the collation of the database.
+ * <p>
+ * The sort attributes must not have a custom expression and must not go through a collection join.
+ *
+ * @param <T> the type of the entity
+ */
+public class InMemoryComparatorCompiler<T> {
+
+    private final Class<?> filterType;
+
+    private final Class<T> entityType;
+
+    private final SpecificationQueryConfig<T> specificationQueryConfig;
+
+    private final SimpleSpecificationProducer simpleSpecificationProducer = new SimpleSpecificationProducer();
+
+    /**
+     * Creates a new {@link InMemoryComparatorCompiler}.
+     *
+     * @param filterType               the class, which declares the sort attributes
+     * @param entityType               the type of the sorted entities
+     * @param specificationQueryConfig the configuration, which holds the joins, the attribute path mappings and the
+     *                                 configured order-by items
+     */
+    public InMemoryComparatorCompiler(Class<?> filterType, Class<T> entityType,
+                                      SpecificationQueryConfig<T> specificationQueryConfig) {
+        this.filterType = Objects.requireNonNull(filterType);
+        this.entityType = Objects.requireNonNull(entityType);
+        this.specificationQueryConfig = Objects.requireNonNull(specificationQueryConfig);
+    }
+
+    /**
+     * Compiles the given order-by items and the configured order-by items into a single comparator.
+     *
+     * @param requestOrderByItems the order-by items of the request, e.g. produced by
+     *                            {@link com.cleverpine.specification.parser.SpecificationParserManager#produceOrderByItems}
+     * @return the comparator, which compares the entities by all order-by items in their order
+     * @throws InvalidSpecificationException if an attribute is not declared in the filter type
+     * @throws IllegalSpecificationException if a path cannot be resolved or an attribute cannot be sorted in memory
+     */
+    @SuppressWarnings("unchecked")
+    public Comparator<T> compile(List<OrderByItem<T>> requestOrderByItems) {
+        Comparator<Object>[] comparators = resolveOrderByItems(requestOrderByItems).stream()
+                .map(this::compileOrderByItem)
+                .toArray(Comparator[]::new);
+        if (comparators.length == 1) {
+            return comparators[0]::compare;
+        }
+        return (first, second) -> {
+            for (Comparator<Object> comparator : comparators) {
+                int result = comparator.compare(first, second);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+    }
+
+    /**
+     * Selects the elements at the positions from {@code offset} to {@code offset + limit} of the sorted elements, e.g. a
+     * page, without sorting all of them. The elements are selected with a bounded heap of {@code offset + limit} elements,
+     * and the equal elements keep their encounter order, so the result is the same as sorting the elements with
+     * {@link List#sort(Comparator)} and taking the sublist.
+     *
+     * @param elements   the elements to select from
+     * @param comparator the comparator of the elements
+     * @param offset     the number of the leading sorted elements to skip
+     * @param limit      the maximum number of the selected elements
+     * @param <E>        the type of the elements
+     * @return the selected elements in sorted order
+     * @throws IllegalArgumentException if the offset or the limit is negative
+     */
+    public static <E> List<E> selectTop(Iterable<? extends E> elements, Comparator<? super E> comparator, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException(String.format(INVALID_TOP_SELECTION, offset, limit));
+        }
+        if (limit == 0) {
+            return List.of();
+        }
+        int capacity = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        Comparator<Candidate<E>> candidateComparator = (first, second) -> {
+            int result = comparator.compare(first.element, second.element);
+            return result != 0 ? result : Long.compare(first.index, second.index);
+        };
+        PriorityQueue<Candidate<E>> heap = new PriorityQueue<>(Math.min(capacity, 1024), candidateComparator.reversed());
+        long index = 0;
+        for (E element : elements) {
+            if (heap.size() < capacity) {
+                heap.add(new Candidate<>(element, index));
+            } else if (comparator.compare(element, heap.peek().element) < 0) {
+                heap.poll();
+                heap.add(new Candidate<>(element, index));
+            }
+            index++;
+        }
+        if (heap.size() <= offset) {
+            return List.of();
+        }
+        Object[] sortedElements = new Object[heap.size()];
+        for (int i = sortedElements.length - 1; i >= 0; i--) {
+            sortedElements[i] = heap.poll().element;
+        }
+        @SuppressWarnings("unchecked")
+        List<E> selectedElements = (List<E>) Arrays.asList(sortedElements).subList(offset, sortedElements.length);
+        return new ArrayList<>(selectedElements);
+    }
+
+    /**
+     * Appends the configured order-by items to the given ones and validates all of them against the filter type.
+     */
+    List<OrderByItem<T>> resolveOrderByItems(List<OrderByItem<T>> requestOrderByItems) {
+        List<OrderByItem<T>> orderByItems = new ArrayList<>();
+        if (Objects.nonNull(requestOrderByItems)) {
+            orderByItems.addAll(requestOrderByItems);
+        }
+        orderByItems.addAll(specificationQueryConfig.getOrderByConfig().getOrderByItems());
+        simpleSpecificationProducer.validateItems(filterType, null, orderByItems);
+        return orderByItems;
+    }
+
+    /**
+     * Compiles the comparator of a single validated order-by item, including its direction.
+     */
+    Comparator<Object> compileOrderByItem(OrderByItem<T> orderByItem) {
+        String attribute = orderByItem.getAttribute();
+        if (Objects.nonNull(specificationQueryConfig.getCustomExpressionConfig()
+                .getCustomSpecificationExpressionProviderByAttribute(attribute))) {
+            throw new IllegalSpecificationException(String.format(IN_MEMORY_SORT_NOT_SUPPORTED, attribute));
+        }
+        String pathToEntityAttribute = specificationQueryConfig.getAttributePathConfig().getPathToEntityAttribute(attribute);
+        AttributePathPlan attributePathPlan = specificationQueryConfig.getJoinConfig()
+                .getAttributePathPlan(Objects.nonNull(pathToEntityAttribute) ? pathToEntityAttribute : attribute);
+
+        Class<?> type = entityType;
+        PropertyAccessor[] joinAccessors = new PropertyAccessor[attributePathPlan.getJoinCount()];
+        for (int i = 0; i < joinAccessors.length; i++) {
+            JoinItem joinItem = attributePathPlan.getJoinItem(i);
+            if (!joinItem.getFromEntity().isAssignableFrom(type)) {
+                throw new IllegalSpecificationException(String.format(INVALID_JOIN, joinItem.getJoinAttribute(),
+                        type.getSimpleName(), joinItem.getFromEntity().getSimpleName()));
+            }
+            joinAccessors[i] = PropertyAccessor.of(type, joinItem.getJoinAttribute());
+            if (joinAccessors[i].isPlural()) {
+                throw new IllegalSpecificationException(String.format(IN_MEMORY_SORT_NOT_SUPPORTED, attribute));
+            }
+            type = joinAccessors[i].getJavaType();
+        }
+        PropertyAccessor accessor = PropertyAccessor.of(type, attributePathPlan.getAttribute());
+
+        Comparator<Object> comparator = compileValueComparator(attribute, accessor);
+        if (joinAccessors.length > 0) {
+            comparator = Comparator.nullsLast(comparator);
+            comparator = Comparator.comparing(entity -> navigate(entity, joinAccessors), comparator);
+        }
+        return orderByItem.getDirection().isAscending() ? comparator : comparator.reversed();
+    }
+
+    /**
+     * Compiles the comparator of two non-null owners of the property. The null property values are last.
+     */
+    @SuppressWarnings("unchecked")
+    private Comparator<Object> compileValueComparator(String attribute, PropertyAccessor accessor) {
+        if (accessor.hasLongValue()) {
+            return (first, second) -> Long.compare(accessor.getLong(first), accessor.getLong(second));
+        }
+        if (accessor.hasDoubleValue()) {
+            return (first, second) -> Double.compare(accessor.getDouble(first), accessor.getDouble(second));
+        }
+        Class<?> javaType = accessor.getJavaType();
+        Comparator<Object> valueComparator;
+        if (javaType == Long.class || javaType == Integer.class || javaType == Short.class || javaType == Byte.class) {
+            valueComparator = (first, second) -> Long.compare(((Number) first).longValue(), ((Number) second).longValue());
+        } else if (javaType == Double.class || javaType == Float.class) {
+            valueComparator = (first, second) -> Double.compare(((Number) first).doubleValue(), ((Number) second).doubleValue());
+        } else if (Comparable.class.isAssignableFrom(javaType) || javaType.isPrimitive()) {
+            valueComparator = (first, second) -> ((Comparable<Object>) first).compareTo(second);
+        } else {
+            throw new IllegalSpecificationException(String.format(IN_MEMORY_SORT_NOT_SUPPORTED, attribute));
+        }
+        return Comparator.comparing(accessor::get, Comparator.nullsLast(valueComparator));
+    }
+
+    private static Object navigate(Object entity, PropertyAccessor[] joinAccessors) {
+        Object joinedEntity = entity;
+        for (PropertyAccessor joinAccessor : joinAccessors) {
+            joinedEntity = joinAccessor.get(joinedEntity);
+            if (Objects.isNull(joinedEntity)) {
+                return null;
+            }
+        }
+        return joinedEntity;
+    }
+
+    private static final class Candidate<E> {
+
+        private final E element;
+
+        private final long index;
+
+        private Candidate(E element, long index) {
+            this.element = element;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,453 @@
+package com.cleverpine.specification.memory;
+
+import com.cleverpine.specification.core.Between;
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.FilterItemNormalizer;
+import com.cleverpine.specification.item.JoinItem;
+import com.cleverpine.specification.item.MultiFilterItem;
+import com.cleverpine.specification.item.NormalizedFilterItems;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.item.TypedMultiFilterItem;
+import com.cleverpine.specification.item.TypedSingleFilterItem;
+import com.cleverpine.specification.producer.SimpleSpecificationProducer;
+import com.cleverpine.specification.util.AttributePathPlan;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import com.cleverpine.specification.util.ValueConverter;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static com.cleverpine.specification.util.FilterConstants.IN_MEMORY_FILTER_NOT_SUPPORTED;
+import static com.cleverpine.specification.util.FilterConstants.INVALID_JOIN;
+import static com.cleverpine.specification.util.FilterConstants.INVALID_VALUES_COUNT;
+import static com.cleverpine.specification.util.FilterConstants.INVALID_VALUE_FOR_CLASS;
+
+/**
+ * The {@link InMemoryPredicateCompiler} compiles a list of {@link FilterItem}s into a {@link Predicate}, which filters the
+ * entities already held in memory, e.g. a cached reference table, with the same filter parameters as the JPA
+ * {@link org.springframework.data.jpa.domain.Specification}s of a
+ * {@link com.cleverpine.specification.producer.ComplexSpecificationProducer}.
+ * <p>
+ * The filter attributes are validated against the filter type and are resolved through the {@link SpecificationQueryConfig}
+ * once per compilation. The properties are read with cached {@link java.lang.invoke.MethodHandle}s and the values are
+ * converted with the {@link ValueConverter} before the predicate is returned, so testing an entity does not reflect, parse
+ * or allocate. The compiled predicate is immutable and can be cached per filter parameter and shared across threads.
+ * <p>
+ * The operators follow the semantics of their specifications:
+ * <ul>
+ *     <li>a null property or a null relation on the path matches no operator, as a SQL comparison with NULL</li>
+ *     <li>{@code like}, {@code startswith} and {@code endswith} match the string form of the property case-sensitively
+ *     and treat {@code %} and {@code _} in the value as wildcards</li>
+ *     <li>the filters on paths through the same collection join have to match the same element of the collection, as the
+ *     conditions on a single joined row</li>
+ * </ul>
+ * The configured filter items of the {@link SpecificationQueryConfig} are applied as well. The attributes with a custom
+ * expression and the filter items with a custom specification factory cannot be evaluated in memory.
+ *
+ * @param <T> the type of the entity
+ */
+public class InMemoryPredicateCompiler<T> {
+
+    private final Class<?> filterType;
+
+    private final Class<T> entityType;
+
+    private final SpecificationQueryConfig<T> specificationQueryConfig;
+
+    private final ValueConverter valueConverter;
+
+    private final SimpleSpecificationProducer simpleSpecificationProducer = new SimpleSpecificationProducer();
+
+    private final FilterItemNormalizer filterItemNormalizer;
+
+    /**
+     * Creates a new {@link InMemoryPredicateCompiler}.
+     *
+     * @param filterType               the class, which declares the filter attributes
+     * @param entityType               the type of the filtered entities
+     * @param specificationQueryConfig the configuration, which holds the joins, the attribute path mappings and the
+     *                                 configured filter items
+     * @param valueConverter           the value converter, which converts the filter values to the property types
+     */
+    public InMemoryPredicateCompiler(Class<?> filterType, Class<T> entityType,
+                                     SpecificationQueryConfig<T> specificationQueryConfig, ValueConverter valueConverter) {
+        this.filterType = Objects.requireNonNull(filterType);
+        this.entityType = Objects.requireNonNull(entityType);
+        this.specificationQueryConfig = Objects.requireNonNull(specificationQueryConfig);
+        this.valueConverter = Objects.requireNonNull(valueConverter);
+        this.filterItemNormalizer = new FilterItemNormalizer(valueConverter);
+    }
+
+    /**
+     * Compiles the given filter items and the configured filter items into a single predicate.
+     *
+     * @param requestFilterItems the filter items of the request, e.g. produced by
+     *                           {@link com.cleverpine.specification.parser.SpecificationParserManager#produceFilterItems}
+     * @return the predicate, which matches the entities satisfying all filter items
+     * @throws InvalidSpecificationException if an attribute is not declared in the filter type or a value cannot be
+     *                                       converted to the type of its property
+     * @throws IllegalSpecificationException if a path cannot be resolved or a filter item cannot be evaluated in memory
+     */
+    public Predicate<T> compile(List<FilterItem<T>> requestFilterItems) {
+        NormalizedFilterItems<T> normalizedFilterItems = normalize(requestFilterItems);
+        if (normalizedFilterItems.isUnsatisfiable()) {
+            return entity -> false;
+        }
+        Predicate<Object> predicate = compileFilterItems(normalizedFilterItems.getFilterItems());
+        return predicate::test;
+    }
+
+    /**
+     * Appends the configured filter items to the given ones, validates their attributes against the filter type and
+     * normalizes them.
+     */
+    NormalizedFilterItems<T> normalize(List<FilterItem<T>> requestFilterItems) {
+        List<FilterItem<T>> filterItems = new ArrayList<>();
+        if (Objects.nonNull(requestFilterItems)) {
+            filterItems.addAll(requestFilterItems);
+        }
+        filterItems.addAll(specificationQueryConfig.getFilterConfig().getFilterItems());
+        simpleSpecificationProducer.validateItems(filterType, filterItems, null);
+        return filterItemNormalizer.normalize(filterItems, filterType, specificationQueryConfig);
+    }
+
+    /**
+     * Compiles the given filter items as they are, into a predicate on the entity type.
+     */
+    Predicate<Object> compileFilterItems(List<FilterItem<T>> filterItems) {
+        List<FilterPath> filterPaths = new ArrayList<>();
+        for (FilterItem<T> filterItem : filterItems) {
+            if (!filterItem.hasDefaultSpecification()) {
+                throw new IllegalSpecificationException(String.format(IN_MEMORY_FILTER_NOT_SUPPORTED, filterItem.getAttribute()));
+            }
+            AttributePathPlan attributePathPlan = getAttributePathPlan(filterItem.getAttribute());
+            if (Objects.isNull(attributePathPlan)) {
+                throw new IllegalSpecificationException(String.format(IN_MEMORY_FILTER_NOT_SUPPORTED, filterItem.getAttribute()));
+            }
+            filterPaths.add(new FilterPath(filterItem, attributePathPlan));
+        }
+        return compileFilterPaths(entityType, 0, filterPaths);
+    }
+
+    /**
+     * Gets the compiled path to the entity attribute of the given filter attribute.
+     *
+     * @return the path plan or null if the attribute has a custom expression
+     */
+    AttributePathPlan getAttributePathPlan(String attribute) {
+        if (Objects.nonNull(specificationQueryConfig.getCustomExpressionConfig()
+                .getCustomSpecificationExpressionProviderByAttribute(attribute))) {
+            return null;
+        }
+        String pathToEntityAttribute = specificationQueryConfig.getAttributePathConfig().getPathToEntityAttribute(attribute);
+        return specificationQueryConfig.getJoinConfig()
+                .getAttributePathPlan(Objects.nonNull(pathToEntityAttribute) ? pathToEntityAttribute : attribute);
+    }
+
+    /**
+     * Compiles the filters on the given type. The filters, which go through the same join, are compiled together, so they
+     * are tested on the same joined entity.
+     */
+    private Predicate<Object> compileFilterPaths(Class<?> type, int joinIndex, List<FilterPath> filterPaths) {
+        List<Predicate<Object>> predicates = new ArrayList<>();
+        Map<JoinItem, List<FilterPath>> filterPathsByJoin = new LinkedHashMap<>();
+        for (FilterPath filterPath : filterPaths) {
+            if (filterPath.attributePathPlan.getJoinCount() == joinIndex) {
+                predicates.add(compileFilter(type, filterPath));
+            } else {
+                filterPathsByJoin.computeIfAbsent(filterPath.attributePathPlan.getJoinItem(joinIndex), joinItem -> new ArrayList<>())
+                        .add(filterPath);
+            }
+        }
+        filterPathsByJoin.forEach((joinItem, joinedFilterPaths) ->
+                predicates.add(compileJoin(type, joinIndex, joinItem, joinedFilterPaths)));
+        return and(predicates);
+    }
+
+    private Predicate<Object> compileJoin(Class<?> type, int joinIndex, JoinItem joinItem, List<FilterPath> filterPaths) {
+        if (!joinItem.getFromEntity().isAssignableFrom(type)) {
+            throw new IllegalSpecificationException(String.format(INVALID_JOIN, joinItem.getJoinAttribute(),
+                    type.getSimpleName(), joinItem.getFromEntity().getSimpleName()));
+        }
+        PropertyAccessor accessor = PropertyAccessor.of(type, joinItem.getJoinAttribute());
+        if (!accessor.isPlural()) {
+            Predicate<Object> joinedPredicate = compileFilterPaths(accessor.getJavaType(), joinIndex + 1, filterPaths);
+            return entity -> {
+                Object joinedEntity = accessor.get(entity);
+                return Objects.nonNull(joinedEntity) && joinedPredicate.test(joinedEntity);
+            };
+        }
+        Predicate<Object> elementPredicate = compileFilterPaths(accessor.getElementType(), joinIndex + 1, filterPaths);
+        return entity -> {
+            Object elements = accessor.get(entity);
+            if (Objects.isNull(elements)) {
+                return false;
+            }
+            for (Object element : (Iterable<?>) elements) {
+                if (Objects.nonNull(element) && elementPredicate.test(element)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private Predicate<Object> compileFilter(Class<?> type, FilterPath filterPath) {
+        PropertyAccessor accessor = PropertyAccessor.of(type, filterPath.attributePathPlan.getAttribute());
+        Predicate<Object> valuePredicate = compileValuePredicate(filterPath.filterItem, accessor.getWrappedType());
+        return entity -> {
+            Object value = accessor.get(entity);
+            return Objects.nonNull(value) && valuePredicate.test(value);
+        };
+    }
+
+    /**
+     * Compiles the predicate of the given filter item on a non-null value of the given type.
+     */
+    Predicate<Object> compileValuePredicate(FilterItem<T> filterItem, Class<?> valueType) {
+        FilterOperator operator = filterItem.getOperator();
+        switch (operator) {
+            case EQUAL: {
+                Object expectedValue = getConvertedValue(filterItem, valueType);
+                return value -> isEqual(value, expectedValue);
+            }
+            case NOT_EQUAL: {
+                Object expectedValue = getConvertedValue(filterItem, valueType);
+                return value -> !isEqual(value, expectedValue);
+            }
+            case GREATER_THAN: {
+                Object bound = getComparableValue(filterItem, valueType);
+                return value -> compare(value, bound) > 0;
+            }
+            case GREATER_THAN_EQUAL: {
+                Object bound = getComparableValue(filterItem, valueType);
+                return value -> compare(value, bound) >= 0;
+            }
+            case LESS_THAN: {
+                Object bound = getComparableValue(filterItem, valueType);
+                return value -> compare(value, bound) < 0;
+            }
+            case LESS_THAN_EQUAL: {
+                Object bound = getComparableValue(filterItem, valueType);
+                return value -> compare(value, bound) <= 0;
+            }
+            case BETWEEN: {
+                List<Object> bounds = getBetweenValues(filterItem, valueType);
+                Object lowerBound = bounds.get(0);
+                Object upperBound = bounds.get(1);
+                return value -> compare(value, lowerBound) >= 0 && compare(value, upperBound) <= 0;
+            }
+            case IN:
+                return compileInPredicate(getConvertedValues(filterItem, valueType), valueType);
+            case LIKE:
+                return compileLikePredicate("%" + getValue(filterItem) + "%");
+            case STARTS_WITH:
+                return compileLikePredicate(getValue(filterItem) + "%");
+            case ENDS_WITH:
+                return compileLikePredicate("%" + getValue(filterItem));
+            default:
+                throw new IllegalSpecificationException(String.format(IN_MEMORY_FILTER_NOT_SUPPORTED, filterItem.getAttribute()));
+        }
+    }
+
+    private Predicate<Object> compileInPredicate(List<Object> expectedValues, Class<?> valueType) {
+        if (expectedValues.isEmpty()) {
+            return value -> false;
+        }
+        if (BigDecimal.class.equals(valueType) || ChronoZonedDateTime.class.isAssignableFrom(valueType)
+                || OffsetDateTime.class.equals(valueType)) {
+            // the equal values of these types may differ in scale or in zone, so they are not looked up by hash code
+            return value -> expectedValues.stream().anyMatch(expectedValue -> isEqual(value, expectedValue));
+        }
+        Set<Object> expectedValueSet = Set.copyOf(expectedValues);
+        return expectedValueSet::contains;
+    }
+
+    /**
+     * Translates the SQL LIKE pattern to a regular expression - {@code %} matches any sequence and {@code _} matches a single
+     * character.
+     */
+    private Predicate<Object> compileLikePredicate(String likePattern) {
+        StringBuilder regex = new StringBuilder(likePattern.length() + 16);
+        StringBuilder literal = new StringBuilder();
+        for (char character : likePattern.toCharArray()) {
+            if (character == '%' || character == '_') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        Pattern pattern = Pattern.compile(regex.toString(), Pattern.DOTALL);
+        return value -> pattern.matcher(String.valueOf(value)).matches();
+    }
+
+    private String getValue(FilterItem<T> filterItem) {
+        if (!(filterItem instanceof SingleFilterItem<T> singleFilterItem)) {
+            throw new IllegalSpecificationException(String.format(IN_MEMORY_FILTER_NOT_SUPPORTED, filterItem.getAttribute()));
+        }
+        return singleFilterItem.getValue();
+    }
+
+    private List<String> getValues(FilterItem<T> filterItem) {
+        if (!(filterItem instanceof MultiFilterItem<T> multiFilterItem)) {
+            throw new IllegalSpecificationException(String.format(IN_MEMORY_FILTER_NOT_SUPPORTED, filterItem.getAttribute()));
+        }
+        return multiFilterItem.getValues();
+    }
+
+    Object getConvertedValue(FilterItem<T> filterItem, Class<?> valueType) {
+        if (filterItem instanceof TypedSingleFilterItem<T> typedFilterItem) {
+            return typedFilterItem.getConvertedValue();
+        }
+        return convert(valueType, getValue(filterItem));
+    }
+
+    Object getComparableValue(FilterItem<T> filterItem, Class<?> valueType) {
+        if (filterItem instanceof TypedSingleFilterItem<T> typedFilterItem) {
+            return typedFilterItem.getConvertedValue();
+        }
+        return convertToComparable(valueType, getValue(filterItem));
+    }
+
+    List<Object> getConvertedValues(FilterItem<T> filterItem, Class<?> valueType) {
+        if (filterItem instanceof TypedMultiFilterItem<T> typedFilterItem) {
+            return typedFilterItem.getConvertedValues();
+        }
+        List<String> values = getValues(filterItem);
+        List<Object> convertedValues = new ArrayList<>(values.size());
+        values.forEach(value -> convertedValues.add(convert(valueType, value)));
+        return convertedValues;
+    }
+
+    /**
+     * Gets the lower and the upper bound of a between filter item.
+     */
+    List<Object> getBetweenValues(FilterItem<T> filterItem, Class<?> valueType) {
+        List<Object> bounds = getComparableValues(filterItem, valueType);
+        if (bounds.size() != 2) {
+            throw new InvalidSpecificationException(String.format(INVALID_VALUES_COUNT, Between.class.getSimpleName(), 2));
+        }
+        return bounds;
+    }
+
+    private List<Object> getComparableValues(FilterItem<T> filterItem, Class<?> valueType) {
+        if (filterItem instanceof TypedMultiFilterItem<T> typedFilterItem) {
+            return typedFilterItem.getConvertedValues();
+        }
+        List<String> values = getValues(filterItem);
+        List<Object> convertedValues = new ArrayList<>(values.size());
+        values.forEach(value -> convertedValues.add(convertToComparable(valueType, value)));
+        return convertedValues;
+    }
+
+    private Object convertToComparable(Class<?> valueType, String value) {
+        if (!Comparable.class.isAssignableFrom(valueType)) {
+            throw new InvalidSpecificationException(String.format(INVALID_VALUE_FOR_CLASS, value, valueType.getSimpleName()));
+        }
+        return convert(valueType, value);
+    }
+
+    /**
+     * Converts the value with the {@link ValueConverter}. The enum values without a custom converter are resolved by their
+     * names, since the entity holds the constants and not their string form.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object convert(Class<?> valueType, String value) {
+        Object convertedValue = valueConverter.convert(valueType, value);
+        if (valueType.isEnum() && convertedValue instanceof String name) {
+            try {
+                return Enum.valueOf((Class<? extends Enum>) valueType, name);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidSpecificationException(String.format(INVALID_VALUE_FOR_CLASS, value, valueType.getSimpleName()));
+            }
+        }
+        if (!valueType.isInstance(convertedValue)) {
+            throw new InvalidSpecificationException(String.format(INVALID_VALUE_FOR_CLASS, value, valueType.getSimpleName()));
+        }
+        return convertedValue;
+    }
+
+    /**
+     * Checks the equality of the values as the database does - the decimals regardless of their scale and the date-times
+     * by their instant regardless of their zone or offset.
+     */
+    private static boolean isEqual(Object value, Object expectedValue) {
+        if (value instanceof BigDecimal decimalValue && expectedValue instanceof BigDecimal expectedDecimalValue) {
+            return decimalValue.compareTo(expectedDecimalValue) == 0;
+        }
+        if (value instanceof ChronoZonedDateTime<?> zonedValue
+                && expectedValue instanceof ChronoZonedDateTime<?> expectedZonedValue) {
+            return zonedValue.isEqual(expectedZonedValue);
+        }
+        if (value instanceof OffsetDateTime offsetValue && expectedValue instanceof OffsetDateTime expectedOffsetValue) {
+            return offsetValue.isEqual(expectedOffsetValue);
+        }
+        return expectedValue.equals(value);
+    }
+
+    /**
+     * Compares the values in their natural order, in which the date-times of the same instant are equal.
+     */
+    @SuppressWarnings("unchecked")
+    private static int compare(Object value, Object bound) {
+        if (value instanceof ChronoZonedDateTime<?> zonedValue && bound instanceof ChronoZonedDateTime<?> zonedBound) {
+            return zonedValue.isEqual(zonedBound) ? 0 : zonedValue.compareTo(zonedBound);
+        }
+        if (value instanceof OffsetDateTime offsetValue && bound instanceof OffsetDateTime offsetBound) {
+            return offsetValue.isEqual(offsetBound) ? 0 : offsetValue.compareTo(offsetBound);
+        }
+        return ((Comparable<Object>) value).compareTo(bound);
+    }
+
+    private static Predicate<Object> and(List<Predicate<Object>> predicates) {
+        if (predicates.isEmpty()) {
+            return entity -> true;
+        }
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+        @SuppressWarnings("unchecked")
+        Predicate<Object>[] predicateArray = predicates.toArray(Predicate[]::new);
+        return entity -> {
+            for (Predicate<Object> predicate : predicateArray) {
+                if (!predicate.test(entity)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * A filter item and the compiled path to its entity attribute.
+     */
+    private final class FilterPath {
+
+        private final FilterItem<T> filterItem;
+
+        private final AttributePathPlan attributePathPlan;
+
+        private FilterPath(FilterItem<T> filterItem, AttributePathPlan attributePathPlan) {
+            this.filterItem = filterItem;
+            this.attributePathPlan = attributePathPlan;
+        }
+    }
+}
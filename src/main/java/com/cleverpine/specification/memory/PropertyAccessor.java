@@ -0,0 +1,248 @@
+package com.cleverpine.specification.memory;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.util.ClassUtils;
+
+import static com.cleverpine.specification.util.FilterConstants.ATTRIBUTE_NOT_DECLARED;
+import static com.cleverpine.specification.util.FilterConstants.ATTRIBUTE_NOT_READABLE;
+
+/**
+ * The {@link PropertyAccessor} reads a single property of an entity through a precomputed {@link MethodHandle}. The public
+ * getter of the property is preferred, so the lazy relations of the entity proxies are initialized, and the declared field
+ * is used when there is no getter. The accessors are resolved only once per entity type and property and are cached.
+ */
+final class PropertyAccessor {
+
+    private static final MethodType OBJECT_GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType LONG_GETTER_TYPE = MethodType.methodType(long.class, Object.class);
+
+    private static final MethodType DOUBLE_GETTER_TYPE = MethodType.methodType(double.class, Object.class);
+
+    private static final ClassValue<Map<String, PropertyAccessor>> ACCESSORS_BY_TYPE = new ClassValue<>() {
+        @Override
+        protected Map<String, PropertyAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String name;
+
+    private final Class<?> javaType;
+
+    private final Class<?> elementType;
+
+    private final MethodHandle objectGetter;
+
+    private final MethodHandle longGetter;
+
+    private final MethodHandle doubleGetter;
+
+    private PropertyAccessor(String name, Class<?> javaType, Class<?> elementType, MethodHandle getter) {
+        this.name = name;
+        this.javaType = javaType;
+        this.elementType = elementType;
+        this.objectGetter = getter.asType(OBJECT_GETTER_TYPE);
+        this.longGetter = isIntegralPrimitive(javaType) ? getter.asType(LONG_GETTER_TYPE) : null;
+        this.doubleGetter = javaType == double.class || javaType == float.class ? getter.asType(DOUBLE_GETTER_TYPE) : null;
+    }
+
+    /**
+     * Returns the cached accessor of the given property. The accessor is resolved on the first call.
+     *
+     * @param type the type, which declares or inherits the property
+     * @param name the name of the property
+     * @return the accessor of the property
+     * @throws IllegalSpecificationException if the property is not declared in the type or cannot be read
+     */
+    static PropertyAccessor of(Class<?> type, String name) {
+        Map<String, PropertyAccessor> accessors = ACCESSORS_BY_TYPE.get(type);
+        PropertyAccessor accessor = accessors.get(name);
+        if (Objects.isNull(accessor)) {
+            accessor = accessors.computeIfAbsent(name, property -> resolve(type, property));
+        }
+        return accessor;
+    }
+
+    /**
+     * Gets the name of the property.
+     *
+     * @return the property name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the declared type of the property.
+     *
+     * @return the property type, which can be a primitive type
+     */
+    Class<?> getJavaType() {
+        return javaType;
+    }
+
+    /**
+     * Gets the declared type of the property with the primitive types replaced by their wrappers.
+     *
+     * @return the wrapped property type
+     */
+    Class<?> getWrappedType() {
+        return ClassUtils.resolvePrimitiveIfNecessary(javaType);
+    }
+
+    /**
+     * Checks if the property holds a collection of elements, e.g. a one-to-many relation.
+     *
+     * @return true if the property is an {@link Iterable}, false otherwise
+     */
+    boolean isPlural() {
+        return Iterable.class.isAssignableFrom(javaType);
+    }
+
+    /**
+     * Gets the type of the elements of a plural property.
+     *
+     * @return the element type or {@link Object} if it cannot be resolved from the generic type of the property
+     */
+    Class<?> getElementType() {
+        return elementType;
+    }
+
+    /**
+     * Checks if the property is an integral primitive, e.g. an {@code int} or a {@code long}, so it can be read with
+     * {@link #getLong(Object)}.
+     *
+     * @return true if the property can be read as a long without boxing, false otherwise
+     */
+    boolean hasLongValue() {
+        return Objects.nonNull(longGetter);
+    }
+
+    /**
+     * Checks if the property is a floating-point primitive, so it can be read with {@link #getDouble(Object)}.
+     *
+     * @return true if the property can be read as a double without boxing, false otherwise
+     */
+    boolean hasDoubleValue() {
+        return Objects.nonNull(doubleGetter);
+    }
+
+    /**
+     * Reads the integral primitive property of the given target without boxing.
+     *
+     * @param target the entity, which holds the property
+     * @return the value of the property widened to a long
+     */
+    long getLong(Object target) {
+        try {
+            return (long) longGetter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads the floating-point primitive property of the given target without boxing.
+     *
+     * @param target the entity, which holds the property
+     * @return the value of the property widened to a double
+     */
+    double getDouble(Object target) {
+        try {
+            return (double) doubleGetter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads the property of the given target.
+     *
+     * @param target the entity, which holds the property
+     * @return the value of the property, with the primitive values boxed
+     */
+    Object get(Object target) {
+        try {
+            return (Object) objectGetter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isIntegralPrimitive(Class<?> type) {
+        return type == long.class || type == int.class || type == short.class || type == byte.class || type == char.class;
+    }
+
+    private static PropertyAccessor resolve(Class<?> type, String name) {
+        try {
+            Method getterMethod = findGetterMethod(type, name);
+            if (Objects.nonNull(getterMethod)) {
+                return new PropertyAccessor(name, getterMethod.getReturnType(),
+                        resolveElementType(getterMethod.getGenericReturnType()), MethodHandles.publicLookup().unreflect(getterMethod));
+            }
+            Field field = findField(type, name);
+            if (Objects.nonNull(field)) {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+                return new PropertyAccessor(name, field.getType(), resolveElementType(field.getGenericType()),
+                        lookup.unreflectGetter(field));
+            }
+        } catch (IllegalAccessException | SecurityException e) {
+            throw new IllegalSpecificationException(String.format(ATTRIBUTE_NOT_READABLE, name, type.getSimpleName()));
+        }
+        throw new IllegalSpecificationException(String.format(ATTRIBUTE_NOT_DECLARED, name, type.getSimpleName()));
+    }
+
+    private static Method findGetterMethod(Class<?> type, String name) {
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String prefix : new String[] {"get", "is"}) {
+            try {
+                Method method = type.getMethod(prefix + suffix);
+                if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class
+                        && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // try the next prefix or the field
+            }
+        }
+        return null;
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        for (Class<?> current = type; Objects.nonNull(current) && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> resolveElementType(Type genericType) {
+        if (genericType instanceof ParameterizedType parameterizedType
+                && parameterizedType.getActualTypeArguments().length == 1
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+            return elementType;
+        }
+        return Object.class;
+    }
+}
@@ -0,0 +1,190 @@
+package com.cleverpine.specification.pagination;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.util.ValueConverter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import org.springframework.util.ClassUtils;
+
+import static com.cleverpine.specification.util.FilterConstants.INVALID_KEYSET_CURSOR;
+import static com.cleverpine.specification.util.FilterConstants.INVALID_VALUE_FOR_CLASS;
+import static com.cleverpine.specification.util.FilterConstants.KEYSET_SORT_KEY_TYPE_NOT_SUPPORTED;
+
+/**
+ * The {@link KeysetCursor} holds the sort key values of the last row of a page. The values are kept in their textual
+ * form in the order of the sort keys and are converted to the attribute types when the next page is queried - see
+ * {@link #formatValue(Object)} and {@link #parseValue(Class, String, ValueConverter)}.
+ * <p>
+ * The cursor is encoded as an opaque URL-safe string, which can be passed to the clients and back without escaping.
+ */
+@EqualsAndHashCode
+public final class KeysetCursor {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TypeReference<List<String>> VALUES_TYPE = new TypeReference<>() {
+    };
+
+    private static final ClassValue<Optional<Method>> VALUE_FACTORIES = new ClassValue<>() {
+        @Override
+        protected Optional<Method> computeValue(Class<?> type) {
+            return findValueFactory(type);
+        }
+    };
+
+    private final List<String> values;
+
+    private KeysetCursor(List<String> values) {
+        this.values = Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+    /**
+     * Creates a cursor with the given sort key values. A null value stands for a null sort key.
+     *
+     * @param values the sort key values in the order of the sort keys
+     * @return the cursor
+     */
+    public static KeysetCursor of(List<String> values) {
+        return new KeysetCursor(Objects.requireNonNull(values));
+    }
+
+    /**
+     * Formats a sort key value to its textual form in the cursor - the name of an enum constant or the string form of
+     * any other value, which is parsed back by {@link #parseValue(Class, String, ValueConverter)}.
+     *
+     * @param value the sort key value
+     * @return the textual form of the value or null for a null value
+     */
+    public static String formatValue(Object value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        return value instanceof Enum<?> enumValue ? enumValue.name() : value.toString();
+    }
+
+    /**
+     * Parses the textual form of a sort key value to the type of the sort key. The types with a converter in the
+     * {@link ValueConverter} are converted by it, the enums by their constant names and the other types, e.g.
+     * {@code LocalDate}, {@code Instant} or {@code Boolean}, by their static {@code parse(CharSequence)} or
+     * {@code valueOf(String)} factory method.
+     *
+     * @param type           the Java type of the sort key
+     * @param value          the textual form of the value
+     * @param valueConverter the value converter
+     * @return the parsed value or null for a null value
+     * @throws InvalidSpecificationException if the value cannot be parsed to the type
+     * @throws IllegalSpecificationException if the type has no converter, is not comparable or cannot be parsed from text
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Comparable<Object> parseValue(Class<?> type, String value, ValueConverter valueConverter) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        Class<?> wrappedType = ClassUtils.resolvePrimitiveIfNecessary(type);
+        if (!Comparable.class.isAssignableFrom(wrappedType)) {
+            throw new IllegalSpecificationException(String.format(KEYSET_SORT_KEY_TYPE_NOT_SUPPORTED, type.getSimpleName()));
+        }
+        Object convertedValue = valueConverter.convert(type, value);
+        if (wrappedType.isInstance(convertedValue)) {
+            return (Comparable<Object>) convertedValue;
+        }
+        if (wrappedType.isEnum()) {
+            try {
+                return (Comparable<Object>) Enum.valueOf((Class<? extends Enum>) wrappedType, value);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidSpecificationException(String.format(INVALID_VALUE_FOR_CLASS, value, type.getSimpleName()));
+            }
+        }
+        Method valueFactory = VALUE_FACTORIES.get(wrappedType)
+                .orElseThrow(() -> new IllegalSpecificationException(
+                        String.format(KEYSET_SORT_KEY_TYPE_NOT_SUPPORTED, type.getSimpleName())));
+        try {
+            return (Comparable<Object>) valueFactory.invoke(null, value);
+        } catch (InvocationTargetException e) {
+            throw new InvalidSpecificationException(String.format(INVALID_VALUE_FOR_CLASS, value, type.getSimpleName()));
+        } catch (IllegalAccessException e) {
+            throw new IllegalSpecificationException(String.format(KEYSET_SORT_KEY_TYPE_NOT_SUPPORTED, type.getSimpleName()));
+        }
+    }
+
+    /**
+     * Decodes a cursor from its opaque string form.
+     *
+     * @param cursor the encoded cursor
+     * @return the decoded cursor or null if the given cursor is null or empty
+     * @throws InvalidSpecificationException if the given string is not a valid cursor
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (Objects.isNull(cursor) || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            List<String> values = OBJECT_MAPPER.readValue(json, VALUES_TYPE);
+            if (Objects.nonNull(values)) {
+                return new KeysetCursor(values);
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            // the cursor is not a Base64 encoded JSON array of values
+        }
+        throw new InvalidSpecificationException(String.format(INVALID_KEYSET_CURSOR, cursor));
+    }
+
+    /**
+     * Encodes the cursor to an opaque URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsString(values).getBytes(StandardCharsets.UTF_8);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gets the sort key values of the cursor.
+     *
+     * @return an unmodifiable list of the values
+     */
+    public List<String> getValues() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+
+    private static Optional<Method> findValueFactory(Class<?> type) {
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())
+                    && type.equals(method.getReturnType())
+                    && method.getParameterCount() == 1
+                    && (isFactory(method, "parse", CharSequence.class) || isFactory(method, "valueOf", String.class))) {
+                return Optional.of(method);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isFactory(Method method, String name, Class<?> parameterType) {
+        return method.getName().equals(name) && method.getParameterTypes()[0].equals(parameterType);
+    }
+}
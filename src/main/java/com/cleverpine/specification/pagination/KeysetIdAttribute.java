@@ -0,0 +1,87 @@
+package com.cleverpine.specification.pagination;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.IdentifiableType;
+import java.util.Objects;
+
+import static com.cleverpine.specification.util.FilterConstants.KEYSET_ID_NOT_DEFINED;
+import static com.cleverpine.specification.util.FilterConstants.KEYSET_ID_NOT_RESOLVED;
+
+/**
+ * The {@link KeysetIdAttribute} holds the name of the id attribute of the root entity, which is the final tie-breaker of
+ * a keyset page. It is shared by the {@link com.cleverpine.specification.core.KeysetSpecification}, which sorts and
+ * compares by the id, and the {@link KeysetPagination}, which reads the id of the last entity into the next cursor, so
+ * both use the same attribute of the JPA metamodel.
+ * <p>
+ * The name is resolved from the metamodel of the entity either up front or by the first query the specification is
+ * applied to.
+ */
+public final class KeysetIdAttribute {
+
+    private volatile String name;
+
+    private KeysetIdAttribute(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates an id attribute resolved from the given metamodel type of the root entity.
+     *
+     * @param entityType the metamodel type of the root entity
+     * @return the resolved id attribute
+     * @throws IllegalSpecificationException if the entity has no single id attribute
+     */
+    public static KeysetIdAttribute of(IdentifiableType<?> entityType) {
+        return new KeysetIdAttribute(getIdAttributeName(entityType));
+    }
+
+    /**
+     * Creates an id attribute, which is resolved from the root of the first query.
+     *
+     * @return the unresolved id attribute
+     */
+    public static KeysetIdAttribute unresolved() {
+        return new KeysetIdAttribute(null);
+    }
+
+    /**
+     * Gets the name of the id attribute and resolves it from the metamodel type of the given root, if it is not resolved yet.
+     *
+     * @param root the root of the query
+     * @return the name of the id attribute
+     * @throws IllegalSpecificationException if the entity has no single id attribute
+     */
+    public String resolve(Root<?> root) {
+        String idAttributeName = name;
+        if (Objects.isNull(idAttributeName)) {
+            idAttributeName = getIdAttributeName(root.getModel());
+            name = idAttributeName;
+        }
+        return idAttributeName;
+    }
+
+    /**
+     * Gets the name of the resolved id attribute.
+     *
+     * @param entityType the type of the root entity
+     * @return the name of the id attribute
+     * @throws IllegalSpecificationException if the id attribute is not resolved, because the specification has not been
+     *                                       applied to a query yet
+     */
+    public String getName(Class<?> entityType) {
+        String idAttributeName = name;
+        if (Objects.isNull(idAttributeName)) {
+            throw new IllegalSpecificationException(String.format(KEYSET_ID_NOT_RESOLVED, entityType.getSimpleName()));
+        }
+        return idAttributeName;
+    }
+
+    private static String getIdAttributeName(IdentifiableType<?> entityType) {
+        if (!entityType.hasSingleIdAttribute()) {
+            throw new IllegalSpecificationException(
+                    String.format(KEYSET_ID_NOT_DEFINED, entityType.getJavaType().getSimpleName()));
+        }
+        return entityType.getId(entityType.getIdType().getJavaType()).getName();
+    }
+}
@@ -0,0 +1,146 @@
+package com.cleverpine.specification.pagination;
+
+import com.cleverpine.specification.core.KeysetSpecification;
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.util.AttributePathPlan;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.NullValueInNestedPathException;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.jpa.domain.Specification;
+
+import static com.cleverpine.specification.util.FilterConstants.ENTITY_ATTRIBUTE_SEPARATOR;
+import static com.cleverpine.specification.util.FilterConstants.KEYSET_ATTRIBUTE_NOT_READABLE;
+
+/**
+ * The {@link KeysetPagination} holds the {@link Specification} of a keyset (seek) page and creates the cursor of the next
+ * page from the last entity of the current one.
+ * <p>
+ * The specification sorts by the resolved {@link OrderByItem}s and the entity id as a final tie-breaker and selects only
+ * the rows after the given cursor (see {@link KeysetSpecification}). The page size is applied by the caller, e.g. with
+ * {@code PageRequest.ofSize(size)} of a Spring Data repository or with {@code setMaxResults} of a JPA query.
+ * <p>
+ * The cursor values are read from the entity through its bean properties by following the joins of the sort attribute
+ * paths. The sort attributes must not have a custom expression and must not go through a collection join.
+ *
+ * @param <T> the type of the root entity
+ */
+public class KeysetPagination<T> {
+
+    private final Specification<T> specification;
+
+    private final List<OrderByItem<T>> orderByItems;
+
+    private final KeysetIdAttribute idAttribute;
+
+    private final SpecificationQueryConfig<T> specificationQueryConfig;
+
+    /**
+     * Creates a new {@link KeysetPagination}.
+     *
+     * @param specification            the specification of the page
+     * @param orderByItems             the resolved order by items of the page without the id tie-breaker
+     * @param idAttribute              the id attribute of the root entity, which is shared with the specification
+     * @param specificationQueryConfig the configuration used to resolve the entity paths of the sort attributes
+     */
+    public KeysetPagination(Specification<T> specification, List<OrderByItem<T>> orderByItems,
+                            KeysetIdAttribute idAttribute, SpecificationQueryConfig<T> specificationQueryConfig) {
+        this.specification = specification;
+        this.orderByItems = List.copyOf(orderByItems);
+        this.idAttribute = idAttribute;
+        this.specificationQueryConfig = specificationQueryConfig;
+    }
+
+    /**
+     * Gets the specification, which sorts the entities and selects the ones after the cursor.
+     *
+     * @return the specification of the page
+     */
+    public Specification<T> getSpecification() {
+        return specification;
+    }
+
+    /**
+     * Gets the resolved order by items of the page. The id tie-breaker is not included.
+     *
+     * @return an unmodifiable list of the order by items
+     */
+    public List<OrderByItem<T>> getOrderByItems() {
+        return orderByItems;
+    }
+
+    /**
+     * Creates the cursor of the next page, if the given page is full.
+     *
+     * @param content  the entities of the current page
+     * @param pageSize the requested page size
+     * @return the encoded cursor of the next page or null if the page is not full, so there is no next page
+     */
+    public String nextCursor(List<T> content, int pageSize) {
+        if (content.isEmpty() || content.size() < pageSize) {
+            return null;
+        }
+        return nextCursor(content.get(content.size() - 1));
+    }
+
+    /**
+     * Creates the cursor of the page, which starts after the given entity.
+     *
+     * @param lastEntity the last entity of the current page
+     * @return the encoded cursor of the next page
+     * @throws IllegalSpecificationException if a sort attribute or the id cannot be read from the entity or the id
+     *                                       attribute is not resolved, because the specification has not been applied yet
+     */
+    public String nextCursor(T lastEntity) {
+        BeanWrapper entityWrapper = PropertyAccessorFactory.forBeanPropertyAccess(lastEntity);
+        List<String> values = new ArrayList<>(orderByItems.size() + 1);
+        for (OrderByItem<T> orderByItem : orderByItems) {
+            String attribute = orderByItem.getAttribute();
+            values.add(readValue(entityWrapper, attribute, getEntityPropertyPath(attribute, lastEntity)));
+        }
+        String idAttributeName = idAttribute.getName(lastEntity.getClass());
+        values.add(readValue(entityWrapper, idAttributeName, idAttributeName));
+        return KeysetCursor.of(values).encode();
+    }
+
+    private String getEntityPropertyPath(String attribute, T entity) {
+        if (Objects.nonNull(specificationQueryConfig.getCustomExpressionConfig()
+                .getCustomSpecificationExpressionProviderByAttribute(attribute))) {
+            throw notReadable(attribute, entity.getClass());
+        }
+        String pathToEntityAttribute = specificationQueryConfig.getAttributePathConfig().getPathToEntityAttribute(attribute);
+        AttributePathPlan attributePathPlan = specificationQueryConfig.getJoinConfig()
+                .getAttributePathPlan(Objects.nonNull(pathToEntityAttribute) ? pathToEntityAttribute : attribute);
+        StringBuilder propertyPath = new StringBuilder();
+        for (int i = 0; i < attributePathPlan.getJoinCount(); i++) {
+            propertyPath.append(attributePathPlan.getJoinItem(i).getJoinAttribute()).append(ENTITY_ATTRIBUTE_SEPARATOR);
+        }
+        return propertyPath.append(attributePathPlan.getAttribute()).toString();
+    }
+
+    private String readValue(BeanWrapper entityWrapper, String attribute, String propertyPath) {
+        Object value;
+        try {
+            value = entityWrapper.getPropertyValue(propertyPath);
+        } catch (NullValueInNestedPathException e) {
+            // a null relation has a null sort key, as the outer join would produce
+            return null;
+        } catch (BeansException e) {
+            throw notReadable(attribute, entityWrapper.getWrappedClass());
+        }
+        if (value instanceof Iterable || (Objects.nonNull(value) && value.getClass().isArray())) {
+            throw notReadable(attribute, entityWrapper.getWrappedClass());
+        }
+        return KeysetCursor.formatValue(value);
+    }
+
+    private static IllegalSpecificationException notReadable(String attribute, Class<?> entityType) {
+        return new IllegalSpecificationException(
+                String.format(KEYSET_ATTRIBUTE_NOT_READABLE, attribute, entityType.getSimpleName()));
+    }
+}
@@ -0,0 +1,207 @@
+package com.cleverpine.specification.parser.json;
+
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.MultiFilterItem;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.parser.SingleFilterParser;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.SpecificationUtil;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.cleverpine.specification.util.FilterConstants.INVALID_FILTER_ARGS_COUNT;
+import static com.cleverpine.specification.util.FilterConstants.INVALID_FILTER_QUERY_PARAMETER;
+import static com.cleverpine.specification.util.FilterConstants.VALID_FILTER_ARGS_COUNT;
+
+/**
+ * This class is responsible for parsing a JSON array of filter parameters and returning a list of {@link FilterItem}.
+ * It implements the {@link SingleFilterParser} interface and accepts the same input as {@link FilterJsonArrayParser}.
+ * <p>
+ * Unlike {@link FilterJsonArrayParser}, it reads the filter parameter token by token with Jackson's streaming
+ * {@link JsonParser} and creates the {@link FilterItem}s directly in a single pass, without binding the JSON to
+ * intermediate lists. The values of a multi-value operator can be given as a nested JSON array, e.g.
+ * {@code [["id","in",["1","2"]]]}. A value, which is a string holding a JSON array, e.g. {@code [["id","in","[\"1\",\"2\"]"]]},
+ * is still supported for backward compatibility and is the only case, which requires a second parse.
+ * </p>
+ * <p>
+ * Scalar numbers and booleans are accepted as values and kept in their textual form.
+ * </p>
+ */
+public class FilterJsonStreamingParser implements SingleFilterParser {
+
+    private static final String FILTER_PARAM_TYPE = "Json array";
+
+    private final JsonFactory jsonFactory;
+
+    public FilterJsonStreamingParser() {
+        this(new JsonFactory());
+    }
+
+    /**
+     * Creates a new {@link FilterJsonStreamingParser}, which shares the {@link JsonFactory} of the given {@link ObjectMapper}.
+     *
+     * @param objectMapper the object mapper, whose factory creates the streaming parsers
+     */
+    public FilterJsonStreamingParser(ObjectMapper objectMapper) {
+        this(objectMapper.getFactory());
+    }
+
+    /**
+     * Creates a new {@link FilterJsonStreamingParser} with the given {@link JsonFactory}.
+     *
+     * @param jsonFactory the factory, which creates the streaming parsers
+     */
+    public FilterJsonStreamingParser(JsonFactory jsonFactory) {
+        this.jsonFactory = Objects.requireNonNull(jsonFactory);
+    }
+
+    /**
+     * Parses a JSON string representing a list of filter items into a list of {@link FilterItem}s in a single pass.
+     * Each inner array represents a single filter item with three elements: filter attribute, operator value and value.
+     * Creates a {@link SingleFilterItem} if the operator is a single value operator,
+     * or a {@link MultiFilterItem} if the operator is a multi-value operator.
+     *
+     * @param filterParam the JSON string representing a list of filter items.
+     * @return a list of {@link FilterItem}s parsed from the JSON string.
+     * @throws InvalidSpecificationException if the JSON string is invalid or cannot be parsed.
+     */
+    @Override
+    public <T> List<FilterItem<T>> parseFilterParam(String filterParam) {
+        if (Objects.isNull(filterParam) || filterParam.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<FilterItem<T>> filterItems = new ArrayList<>();
+        List<EncodedFilterItem> encodedFilterItems = new ArrayList<>(0);
+        try (JsonParser parser = jsonFactory.createParser(filterParam)) {
+            expectToken(parser.nextToken(), JsonToken.START_ARRAY);
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                expectToken(token, JsonToken.START_ARRAY);
+                filterItems.add(parseFilterItem(parser, filterItems.size(), encodedFilterItems));
+            }
+            expectToken(parser.nextToken(), null);
+        } catch (IOException e) {
+            throw invalidFilterParam();
+        }
+        // the string-encoded values are parsed after the main parser is closed, so its recycled buffers are reused
+        for (EncodedFilterItem encodedFilterItem : encodedFilterItems) {
+            filterItems.set(encodedFilterItem.index, new MultiFilterItem<>(
+                    encodedFilterItem.attribute,
+                    encodedFilterItem.operator,
+                    parseEncodedValues(encodedFilterItem.encodedValues)));
+        }
+        return filterItems;
+    }
+
+    private <T> FilterItem<T> parseFilterItem(JsonParser parser, int index, List<EncodedFilterItem> encodedFilterItems)
+            throws IOException {
+        String attribute = nextScalarArgument(parser);
+        String operatorValue = nextScalarArgument(parser);
+
+        JsonToken valueToken = nextArgument(parser);
+        String value = null;
+        List<String> values = null;
+        if (valueToken == JsonToken.START_ARRAY) {
+            values = parseValues(parser);
+        } else {
+            value = readScalar(parser, valueToken);
+        }
+        if (parser.nextToken() != JsonToken.END_ARRAY) {
+            throw invalidArgumentsCount();
+        }
+
+        FilterOperator operator = SpecificationUtil.getFilterOperatorByValue(operatorValue);
+        if (operator.isSingleFilterValue()) {
+            if (Objects.isNull(value)) {
+                throw invalidFilterParam();
+            }
+            return new SingleFilterItem<>(attribute, operator, value);
+        }
+        if (Objects.isNull(values)) {
+            encodedFilterItems.add(new EncodedFilterItem(index, attribute, operator, value));
+            return null;
+        }
+        return new MultiFilterItem<>(attribute, operator, values);
+    }
+
+    private List<String> parseEncodedValues(String encodedValues) {
+        try (JsonParser parser = jsonFactory.createParser(encodedValues)) {
+            expectToken(parser.nextToken(), JsonToken.START_ARRAY);
+            List<String> values = parseValues(parser);
+            expectToken(parser.nextToken(), null);
+            return values;
+        } catch (IOException e) {
+            throw invalidFilterParam();
+        }
+    }
+
+    private List<String> parseValues(JsonParser parser) throws IOException {
+        List<String> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            values.add(readScalar(parser, token));
+        }
+        return values;
+    }
+
+    private String nextScalarArgument(JsonParser parser) throws IOException {
+        return readScalar(parser, nextArgument(parser));
+    }
+
+    private JsonToken nextArgument(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            throw invalidArgumentsCount();
+        }
+        return token;
+    }
+
+    private String readScalar(JsonParser parser, JsonToken token) throws IOException {
+        if (Objects.isNull(token) || !token.isScalarValue() || token == JsonToken.VALUE_NULL) {
+            throw invalidFilterParam();
+        }
+        return parser.getText();
+    }
+
+    private void expectToken(JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw invalidFilterParam();
+        }
+    }
+
+    private InvalidSpecificationException invalidArgumentsCount() {
+        return new InvalidSpecificationException(
+                String.format(INVALID_FILTER_ARGS_COUNT, VALID_FILTER_ARGS_COUNT));
+    }
+
+    private InvalidSpecificationException invalidFilterParam() {
+        return new InvalidSpecificationException(
+                String.format(INVALID_FILTER_QUERY_PARAMETER, FILTER_PARAM_TYPE));
+    }
+
+    private static class EncodedFilterItem {
+
+        private final int index;
+
+        private final String attribute;
+
+        private final FilterOperator operator;
+
+        private final String encodedValues;
+
+        private EncodedFilterItem(int index, String attribute, FilterOperator operator, String encodedValues) {
+            this.index = index;
+            this.attribute = attribute;
+            this.operator = operator;
+            this.encodedValues = encodedValues;
+        }
+    }
+}
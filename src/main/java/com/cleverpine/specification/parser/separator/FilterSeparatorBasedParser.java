@@ -7,13 +7,10 @@ import com.cleverpine.specification.item.SingleFilterItem;
 import com.cleverpine.specification.parser.MultipleFilterParser;
 import com.cleverpine.specification.util.SpecificationUtil;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.springframework.util.StringUtils;
 
 
@@ -23,15 +20,38 @@ import static com.cleverpine.specification.util.FilterConstants.VALID_FILTER_ARG
 /**
  * A parser for multiple filter parameters based on a separator.
  * It implements the {@link MultipleFilterParser} interface.
+ * <p>
+ * The parameters are split by an index-based {@link SeparatorTokenizer}. By default, the result is the same as the one of
+ * {@link String#split(String)}. When escaping is enabled, the separators are always literal and a backslash directly before
+ * a separator makes it a part of the argument or the value, e.g. {@code title:eq:10\:30} produces the value {@code 10:30}.
  */
-@RequiredArgsConstructor
 public class FilterSeparatorBasedParser implements MultipleFilterParser {
 
-    @NonNull
-    private final String separator;
+    private final SeparatorTokenizer argumentsTokenizer;
 
-    @NonNull
-    private final String valuesSeparator;
+    private final SeparatorTokenizer valuesTokenizer;
+
+    /**
+     * Creates a new {@link FilterSeparatorBasedParser} without escaping.
+     *
+     * @param separator       the separator of the filter arguments
+     * @param valuesSeparator the separator of the values of a multi-value filter
+     */
+    public FilterSeparatorBasedParser(@NonNull String separator, @NonNull String valuesSeparator) {
+        this(separator, valuesSeparator, false);
+    }
+
+    /**
+     * Creates a new {@link FilterSeparatorBasedParser}.
+     *
+     * @param separator       the separator of the filter arguments
+     * @param valuesSeparator the separator of the values of a multi-value filter
+     * @param escapingEnabled whether the separators are literal and can be escaped with a backslash
+     */
+    public FilterSeparatorBasedParser(@NonNull String separator, @NonNull String valuesSeparator, boolean escapingEnabled) {
+        this.argumentsTokenizer = SeparatorTokenizer.of(separator, escapingEnabled);
+        this.valuesTokenizer = SeparatorTokenizer.of(valuesSeparator, escapingEnabled);
+    }
 
     /**
      * Parses a list of filter parameters and returns a list of {@link FilterItem}.
@@ -46,7 +66,7 @@ public class FilterSeparatorBasedParser implements MultipleFilterParser {
         }
         return filterParams.stream()
                 .filter(StringUtils::hasLength)
-                .map(filterParam -> Arrays.stream(filterParam.split(separator)).toList())
+                .map(argumentsTokenizer::tokenize)
                 .filter(this::isValueArgOfFilterNotEmpty)
                 .map(this::<T>createFilterItem)
                 .collect(Collectors.toList());
@@ -73,9 +93,6 @@ public class FilterSeparatorBasedParser implements MultipleFilterParser {
                     String.format(INVALID_FILTER_ARGS_COUNT, VALID_FILTER_ARGS_COUNT));
         }
 
-        Function<String, List<String>> multipleValuesParserHandler = values -> Arrays.stream(values.split(valuesSeparator))
-                .collect(Collectors.toList());
-
-        return SpecificationUtil.createFilterItem(filterArgs, multipleValuesParserHandler);
+        return SpecificationUtil.createFilterItem(filterArgs, valuesTokenizer::tokenize);
     }
 }
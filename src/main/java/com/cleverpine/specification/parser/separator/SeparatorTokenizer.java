@@ -0,0 +1,127 @@
+package com.cleverpine.specification.parser.separator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * An index-based tokenizer, which splits a parameter by a separator.
+ * <p>
+ * A literal separator is searched with {@link String#indexOf(String, int)} and the tokens are produced in a single pass.
+ * The result is the same as the one of {@link String#split(String)} - the trailing empty tokens are removed and an input
+ * without a separator produces a single token. A separator, which contains regular expression metacharacters, keeps the
+ * regular expression semantics of {@link String#split(String)} for backward compatibility, but the pattern is compiled
+ * only once, unless the tokenizer is created with escaping, which always treats the separator literally.
+ * <p>
+ * With escaping enabled, a backslash directly before the separator makes the separator a part of the token, e.g.
+ * {@code title:eq:a\:b} is split by {@code :} into {@code title}, {@code eq} and {@code a:b}. Any other backslash is
+ * kept as it is.
+ */
+final class SeparatorTokenizer {
+
+    private static final char ESCAPE_CHARACTER = '\\';
+
+    private static final String REGEX_METACHARACTERS = ".$|()[]{}^?*+\\";
+
+    private final String separator;
+
+    private final Pattern pattern;
+
+    private final boolean escapingEnabled;
+
+    private SeparatorTokenizer(String separator, Pattern pattern, boolean escapingEnabled) {
+        this.separator = separator;
+        this.pattern = pattern;
+        this.escapingEnabled = escapingEnabled;
+    }
+
+    /**
+     * Creates a tokenizer for the given separator.
+     *
+     * @param separator       the separator
+     * @param escapingEnabled whether the separator is always literal and can be escaped with a backslash
+     * @return the tokenizer
+     */
+    static SeparatorTokenizer of(String separator, boolean escapingEnabled) {
+        if (separator.isEmpty() || (!escapingEnabled && containsRegexMetacharacter(separator))) {
+            return new SeparatorTokenizer(separator, Pattern.compile(separator), false);
+        }
+        return new SeparatorTokenizer(separator, null, escapingEnabled);
+    }
+
+    /**
+     * Splits the given input into tokens.
+     *
+     * @param input the input to be split
+     * @return the tokens without the trailing empty ones
+     */
+    List<String> tokenize(String input) {
+        if (pattern != null) {
+            return Arrays.asList(pattern.split(input));
+        }
+        return escapingEnabled ? tokenizeEscaped(input) : tokenizeLiteral(input);
+    }
+
+    private List<String> tokenizeLiteral(String input) {
+        int index = input.indexOf(separator);
+        if (index < 0) {
+            return List.of(input);
+        }
+        List<String> tokens = new ArrayList<>(4);
+        int start = 0;
+        while (index >= 0) {
+            tokens.add(input.substring(start, index));
+            start = index + separator.length();
+            index = input.indexOf(separator, start);
+        }
+        tokens.add(input.substring(start));
+        return removeTrailingEmptyTokens(tokens);
+    }
+
+    private List<String> tokenizeEscaped(String input) {
+        int index = input.indexOf(separator);
+        if (index < 0) {
+            return List.of(input);
+        }
+        List<String> tokens = new ArrayList<>(4);
+        StringBuilder escapedToken = null;
+        int start = 0;
+        while (index >= 0) {
+            if (index > start && input.charAt(index - 1) == ESCAPE_CHARACTER) {
+                if (escapedToken == null) {
+                    escapedToken = new StringBuilder();
+                }
+                escapedToken.append(input, start, index - 1).append(separator);
+            } else if (escapedToken != null) {
+                tokens.add(escapedToken.append(input, start, index).toString());
+                escapedToken = null;
+            } else {
+                tokens.add(input.substring(start, index));
+            }
+            start = index + separator.length();
+            index = input.indexOf(separator, start);
+        }
+        tokens.add(escapedToken != null
+                ? escapedToken.append(input, start, input.length()).toString()
+                : input.substring(start));
+        return removeTrailingEmptyTokens(tokens);
+    }
+
+    private static List<String> removeTrailingEmptyTokens(List<String> tokens) {
+        int size = tokens.size();
+        while (size > 0 && tokens.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return size == tokens.size() ? tokens : tokens.subList(0, size);
+    }
+
+    private static boolean containsRegexMetacharacter(String separator) {
+        for (int i = 0; i < separator.length(); i++) {
+            if (REGEX_METACHARACTERS.indexOf(separator.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -5,11 +5,9 @@ import com.cleverpine.specification.item.OrderByItem;
 import com.cleverpine.specification.parser.MultipleSortParser;
 import com.cleverpine.specification.util.SpecificationUtil;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -20,12 +18,32 @@ import static com.cleverpine.specification.util.FilterConstants.VALID_SORT_ARGS_
 /**
  * A parser for multiple sort parameters based on a separator.
  * It implements the {@link MultipleSortParser} interface.
+ * <p>
+ * The parameters are split by an index-based {@link SeparatorTokenizer}. By default, the result is the same as the one of
+ * {@link String#split(String)}. When escaping is enabled, the separator is always literal and can be escaped with a backslash.
  */
-@RequiredArgsConstructor
 public class SortSeparatorBasedParser implements MultipleSortParser {
 
-    @NonNull
-    private final String separator;
+    private final SeparatorTokenizer tokenizer;
+
+    /**
+     * Creates a new {@link SortSeparatorBasedParser} without escaping.
+     *
+     * @param separator the separator of the sort arguments
+     */
+    public SortSeparatorBasedParser(@NonNull String separator) {
+        this(separator, false);
+    }
+
+    /**
+     * Creates a new {@link SortSeparatorBasedParser}.
+     *
+     * @param separator       the separator of the sort arguments
+     * @param escapingEnabled whether the separator is literal and can be escaped with a backslash
+     */
+    public SortSeparatorBasedParser(@NonNull String separator, boolean escapingEnabled) {
+        this.tokenizer = SeparatorTokenizer.of(separator, escapingEnabled);
+    }
 
     /**
      * Parses the given list of sort parameters into a list of {@link OrderByItem} objects.
@@ -60,9 +78,6 @@ public class SortSeparatorBasedParser implements MultipleSortParser {
                     String.format(INVALID_SORT_ARGS_COUNT, VALID_SORT_ARGS_COUNT));
         }
 
-        List<String> sortArgs = Arrays.stream(sortParam.split(separator))
-                .collect(Collectors.toList());
-
-        return SpecificationUtil.createSortItem(sortArgs);
+        return SpecificationUtil.createSortItem(tokenizer.tokenize(sortParam));
     }
 }
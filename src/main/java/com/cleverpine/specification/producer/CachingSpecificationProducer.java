@@ -0,0 +1,133 @@
+package com.cleverpine.specification.producer;
+
+import com.cleverpine.specification.cache.SpecificationCache;
+import com.cleverpine.specification.cache.SpecificationCacheKey;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.parser.SpecificationParserManager;
+import com.cleverpine.specification.util.MetamodelAttributeResolver;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import com.cleverpine.specification.util.SpecificationRequest;
+import com.cleverpine.specification.util.ValueConverter;
+import lombok.Getter;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The {@link CachingSpecificationProducer} class is a {@link ComplexSpecificationProducer}, which keeps the produced
+ * immutable specifications in a bounded {@link SpecificationCache}.
+ * <p>
+ * The specifications are cached only by the canonical form of their filter and order-by items, so the requests that
+ * differ only in their formatting share one cache entry. A separate bounded index maps the raw filter and sort
+ * parameters of a request to its item key - on a hit the cached specification is returned without parsing, validation
+ * and item construction. Only the newly created specifications are cached, invalid requests fail every time.
+ *
+ * @param <T> The type of the entity for which the specification is being produced.
+ */
+public class CachingSpecificationProducer<T> extends ComplexSpecificationProducer<T> {
+
+    /**
+     * The {@link SpecificationCache} holding the produced specifications.
+     */
+    @Getter
+    private final SpecificationCache<T> specificationCache;
+
+    private final Map<SpecificationCacheKey, SpecificationCacheKey> itemsKeysByParameters;
+
+    /**
+     * Creates a new instance of {@link CachingSpecificationProducer} with the default {@link SpecificationQueryConfig}.
+     *
+     * @param specificationParserManager the parser manager used to produce filter and order-by items from a specification request
+     * @param filterType                 the type of filter used in the query
+     * @param valueConverter             the converter used to convert values between different types
+     * @param specificationCache         the cache of the produced specifications, which should not be shared with other producers
+     */
+    public CachingSpecificationProducer(SpecificationParserManager specificationParserManager,
+            Class<?> filterType,
+            ValueConverter valueConverter,
+            SpecificationCache<T> specificationCache) {
+        this(specificationParserManager, filterType, valueConverter, SpecificationQueryConfig.<T>builder().build(), specificationCache);
+    }
+
+    /**
+     * Creates a new instance of {@link CachingSpecificationProducer}.
+     *
+     * @param specificationParserManager the parser manager used to produce filter and order-by items from a specification request
+     * @param filterType                 the type of filter used in the query
+     * @param valueConverter             the converter used to convert values between different types
+     * @param specificationQueryConfig   the configuration used to create the query context
+     * @param specificationCache         the cache of the produced specifications, which should not be shared with other producers
+     */
+    public CachingSpecificationProducer(SpecificationParserManager specificationParserManager,
+            Class<?> filterType,
+            ValueConverter valueConverter,
+            SpecificationQueryConfig<T> specificationQueryConfig,
+            SpecificationCache<T> specificationCache) {
+        this(specificationParserManager, filterType, valueConverter, specificationQueryConfig, null, specificationCache);
+    }
+
+    /**
+     * Creates a new instance of {@link CachingSpecificationProducer}, which resolves the filter attributes with the given
+     * {@link MetamodelAttributeResolver}.
+     *
+     * @param specificationParserManager the parser manager used to produce filter and order-by items from a specification request
+     * @param filterType                 the type of filter used in the query
+     * @param valueConverter             the converter used to convert values between different types
+     * @param specificationQueryConfig   the configuration used to create the query context
+     * @param attributeResolver          the resolver of the filter attributes or null to use the types of the criteria expressions
+     * @param specificationCache         the cache of the produced specifications, which should not be shared with other producers
+     */
+    public CachingSpecificationProducer(SpecificationParserManager specificationParserManager,
+            Class<?> filterType,
+            ValueConverter valueConverter,
+            SpecificationQueryConfig<T> specificationQueryConfig,
+            MetamodelAttributeResolver<T> attributeResolver,
+            SpecificationCache<T> specificationCache) {
+        super(specificationParserManager, filterType, valueConverter, specificationQueryConfig, attributeResolver);
+        this.specificationCache = Objects.requireNonNull(specificationCache);
+        this.itemsKeysByParameters = createItemsKeysIndex(specificationCache.getMaximumSize());
+    }
+
+    /**
+     * Returns the cached {@link Specification} of the given {@link SpecificationRequest} or creates and caches it.
+     *
+     * @param specificationRequest the specification request that holds the filter and sort parameters
+     * @return the complex JPA Specification
+     */
+    @Override
+    public Specification<T> createSpecification(SpecificationRequest<T> specificationRequest) {
+        SpecificationCacheKey parametersKey = SpecificationCacheKey.ofParameters(specificationRequest);
+        SpecificationCacheKey indexedItemsKey = Objects.isNull(parametersKey) ? null : itemsKeysByParameters.get(parametersKey);
+        if (Objects.nonNull(indexedItemsKey)) {
+            Specification<T> cachedSpecification = specificationCache.getIfPresent(indexedItemsKey);
+            if (Objects.nonNull(cachedSpecification)) {
+                return cachedSpecification;
+            }
+        }
+
+        List<FilterItem<T>> requestFilterItems = getSpecificationParserManager().produceFilterItems(specificationRequest);
+        List<OrderByItem<T>> requestOrderByItems = getSpecificationParserManager().produceOrderByItems(specificationRequest);
+        SpecificationCacheKey itemsKey = SpecificationCacheKey.ofItems(requestFilterItems, requestOrderByItems);
+
+        Specification<T> specification = specificationCache.get(itemsKey,
+                () -> createSpecification(requestFilterItems, requestOrderByItems));
+        if (Objects.nonNull(parametersKey)) {
+            itemsKeysByParameters.put(parametersKey, itemsKey);
+        }
+        return specification;
+    }
+
+    private static Map<SpecificationCacheKey, SpecificationCacheKey> createItemsKeysIndex(int maximumSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SpecificationCacheKey, SpecificationCacheKey> eldest) {
+                return size() > maximumSize;
+            }
+        });
+    }
+}
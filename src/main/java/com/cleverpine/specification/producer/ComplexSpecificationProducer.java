@@ -1,21 +1,33 @@
 package com.cleverpine.specification.producer;
 
-import com.cleverpine.specification.core.OrderBySpecification;
+import com.cleverpine.specification.core.KeysetSpecification;
+import com.cleverpine.specification.core.KnownEmptySpecification;
 import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.FilterItemNormalizer;
+import com.cleverpine.specification.item.JoinItem;
+import com.cleverpine.specification.item.NormalizedFilterItems;
 import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.pagination.KeysetCursor;
+import com.cleverpine.specification.pagination.KeysetIdAttribute;
+import com.cleverpine.specification.pagination.KeysetPagination;
 import com.cleverpine.specification.parser.SpecificationParserManager;
+import com.cleverpine.specification.util.MetamodelAttributeResolver;
 import com.cleverpine.specification.util.QueryContext;
 import com.cleverpine.specification.util.SpecificationQueryConfig;
 import com.cleverpine.specification.util.SpecificationRequest;
 import com.cleverpine.specification.util.ValueConverter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.springframework.data.jpa.domain.Specification;
 
 /**
@@ -32,6 +44,7 @@ public class ComplexSpecificationProducer<T> {
      * The {@link SpecificationParserManager} used to parse the {@link SpecificationRequest} and produce
      * the filter and order by items.
      */
+    @Getter(AccessLevel.PROTECTED)
     private final SpecificationParserManager specificationParserManager;
 
     /**
@@ -54,6 +67,22 @@ public class ComplexSpecificationProducer<T> {
      */
     private final SimpleSpecificationProducer simpleSpecificationProducer = new SimpleSpecificationProducer();
 
+    /**
+     * The {@link FilterItemNormalizer} used to simplify the filter items before the specification is built.
+     */
+    private final FilterItemNormalizer filterItemNormalizer;
+
+    /**
+     * The {@link ComplexityBudgetValidator} used to reject the requests over the complexity budget of the configuration.
+     */
+    private final ComplexityBudgetValidator complexityBudgetValidator = new ComplexityBudgetValidator();
+
+    /**
+     * The {@link MetamodelAttributeResolver} used to resolve the types of the filter attributes or null if the types are
+     * taken from the criteria expressions.
+     */
+    private final MetamodelAttributeResolver<T> attributeResolver;
+
     public ComplexSpecificationProducer(SpecificationParserManager specificationParserManager,
             Class<?> filterType,
             ValueConverter valueConverter) {
@@ -73,58 +102,216 @@ public class ComplexSpecificationProducer<T> {
             Class<?> filterType,
             ValueConverter valueConverter,
             SpecificationQueryConfig<T> specificationQueryConfig) {
+        this(specificationParserManager, filterType, valueConverter, specificationQueryConfig, null);
+    }
+
+    /**
+     * Creates a new instance of {@link ComplexSpecificationProducer}, which resolves the filter attributes with the given
+     * {@link MetamodelAttributeResolver}. The values of the filter items are then converted and validated when the
+     * specification is created, and the specifications use the cached converters of the resolved attributes.
+     *
+     * @param specificationParserManager the parser manager used to produce filter and order-by items from a specification request
+     * @param filterType                 the type of filter used in the query
+     * @param valueConverter             the converter used to convert values between different types
+     * @param specificationQueryConfig   the configuration used to create the query context
+     * @param attributeResolver          the resolver of the filter attributes or null to use the types of the criteria expressions
+     */
+    public ComplexSpecificationProducer(SpecificationParserManager specificationParserManager,
+            Class<?> filterType,
+            ValueConverter valueConverter,
+            SpecificationQueryConfig<T> specificationQueryConfig,
+            MetamodelAttributeResolver<T> attributeResolver) {
         this.specificationParserManager = specificationParserManager;
         this.filterType = filterType;
         this.valueConverter = valueConverter;
         this.specificationQueryConfig = specificationQueryConfig;
+        this.filterItemNormalizer = new FilterItemNormalizer(valueConverter);
+        this.attributeResolver = attributeResolver;
     }
 
     /**
      * Creates a {@link Specification} instance from the given {@link SpecificationRequest} and based on the {@link SpecificationQueryConfig}.
      * The produced {@link Specification} instance is composed of simple specifications produced by
      * {@link SimpleSpecificationProducer}.
+     * <p>
+     * The attributes of the request are validated eagerly. The returned {@link Specification} is immutable - every
+     * {@link Specification#toPredicate(Root, CriteriaQuery, CriteriaBuilder)} call works with its own {@link QueryContext},
+     * so the same instance can be cached and evaluated by many queries and threads at once.
+     * <p>
+     * When the specification is applied to a count query (a query with {@link Long} result type, e.g. the count query of
+     * a Spring Data {@code Page}), only the predicates are built - the ordering is skipped and the joins are not fetched.
+     * <p>
+     * The filters on paths through a join defined with {@link com.cleverpine.specification.util.JoinStrategy#EXISTS} are
+     * built as correlated {@code EXISTS} subqueries - one per join - and the query is made distinct only if it still
+     * contains a regular collection join.
+     * <p>
+     * The filter items are normalized by a {@link FilterItemNormalizer} first - the duplicates are removed and the range
+     * filters on the same attribute are merged. If the filter items contradict each other, a {@link KnownEmptySpecification}
+     * is returned, so the query can be skipped, e.g. by a
+     * {@link com.cleverpine.specification.repository.KnownEmptySpecificationExecutor}.
+     * <p>
+     * The request items are checked against the {@link SpecificationQueryConfig.ComplexityConfig complexity budget}
+     * before anything is built. With a {@link MetamodelAttributeResolver} the values of the filter items are converted
+     * and validated here as well, so an invalid value is rejected before any query is started.
      *
      * @param specificationRequest the specification request that holds the filter and sort parameters
      * @return the complex JPA Specification
      */
     public Specification<T> createSpecification(SpecificationRequest<T> specificationRequest) {
         List<FilterItem<T>> requestFilterItems = specificationParserManager.produceFilterItems(specificationRequest);
-        List<FilterItem<T>> specificationFilterItems = getAllSpecificationFilterItems(requestFilterItems);
+        List<OrderByItem<T>> requestOrderByItems = specificationParserManager.produceOrderByItems(specificationRequest);
+        return createSpecification(requestFilterItems, requestOrderByItems);
+    }
 
+    /**
+     * Creates a {@link Specification} instance from already produced filter and order-by items and based on the
+     * {@link SpecificationQueryConfig}. The configured default items are appended to the given ones.
+     *
+     * @param requestFilterItems  the filter items of the request
+     * @param requestOrderByItems the order-by items of the request
+     * @return the complex JPA Specification
+     * @throws com.cleverpine.specification.exception.InvalidSpecificationException if the request items exceed the
+     * complexity budget of the configuration
+     */
+    public Specification<T> createSpecification(List<FilterItem<T>> requestFilterItems, List<OrderByItem<T>> requestOrderByItems) {
+        List<OrderByItem<T>> specificationOrderByItems = getAllSpecificationOrderByItems(requestOrderByItems);
+        NormalizedFilterItems<T> filterItems =
+                prepareFilterItems(requestFilterItems, requestOrderByItems, specificationOrderByItems);
+        if (filterItems.isUnsatisfiable()) {
+            return KnownEmptySpecification.instance();
+        }
+        return conjugate(filterItems.getFilterItems(), List.copyOf(specificationOrderByItems), null, null);
+    }
+
+    /**
+     * Creates a {@link KeysetPagination} from the given {@link SpecificationRequest} and an opaque cursor of the previous
+     * page. The produced {@link Specification} sorts by the order-by items of the request and the configuration, followed
+     * by the entity id as a tie-breaker, and selects only the entities after the cursor, so no offset is required.
+     *
+     * @param specificationRequest the specification request that holds the filter and sort parameters
+     * @param cursor               the cursor returned for the previous page or null for the first page
+     * @return the keyset pagination, which holds the specification and creates the cursor of the next page
+     * @throws com.cleverpine.specification.exception.InvalidSpecificationException if the cursor is not valid or the
+     * request items exceed the complexity budget of the configuration
+     */
+    public KeysetPagination<T> createKeysetPagination(SpecificationRequest<T> specificationRequest, String cursor) {
+        List<FilterItem<T>> requestFilterItems = specificationParserManager.produceFilterItems(specificationRequest);
         List<OrderByItem<T>> requestOrderByItems = specificationParserManager.produceOrderByItems(specificationRequest);
         List<OrderByItem<T>> specificationOrderByItems = getAllSpecificationOrderByItems(requestOrderByItems);
+        NormalizedFilterItems<T> filterItems =
+                prepareFilterItems(requestFilterItems, requestOrderByItems, specificationOrderByItems);
 
-        QueryContext<T> queryContext = new QueryContext<>(specificationQueryConfig);
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        KeysetIdAttribute idAttribute = Objects.nonNull(attributeResolver)
+                ? KeysetIdAttribute.of(attributeResolver.getEntityModel())
+                : KeysetIdAttribute.unresolved();
+        Specification<T> specification = filterItems.isUnsatisfiable()
+                ? KnownEmptySpecification.<T>instance()
+                : conjugate(filterItems.getFilterItems(), List.copyOf(specificationOrderByItems), keysetCursor, idAttribute);
+        return new KeysetPagination<>(specification, specificationOrderByItems, idAttribute, specificationQueryConfig);
+    }
+
+    /**
+     * Validates the attributes of all filter and order-by items, checks the request items against the complexity budget,
+     * and normalizes the filter items. The values of the normalized items are then converted, unless they are
+     * unsatisfiable.
+     */
+    private NormalizedFilterItems<T> prepareFilterItems(List<FilterItem<T>> requestFilterItems,
+                                                        List<OrderByItem<T>> requestOrderByItems,
+                                                        List<OrderByItem<T>> specificationOrderByItems) {
+        List<FilterItem<T>> specificationFilterItems = getAllSpecificationFilterItems(requestFilterItems);
 
-        List<Specification<T>> specifications = new ArrayList<>();
-        specifications.addAll(simpleSpecificationProducer
-                .produceFilterSpecifications(filterType, specificationFilterItems, queryContext, valueConverter));
-        specifications.addAll(simpleSpecificationProducer
-                .produceOrderBySpecifications(filterType, specificationOrderByItems, queryContext));
+        simpleSpecificationProducer.validateItems(filterType, specificationFilterItems, specificationOrderByItems);
+        complexityBudgetValidator.validate(requestFilterItems, requestOrderByItems, specificationQueryConfig);
 
-        return conjugate(specifications, queryContext);
+        NormalizedFilterItems<T> normalizedFilterItems =
+                filterItemNormalizer.normalize(specificationFilterItems, filterType, specificationQueryConfig);
+        if (normalizedFilterItems.isUnsatisfiable()) {
+            return normalizedFilterItems;
+        }
+        return NormalizedFilterItems.of(convertValues(normalizedFilterItems.getFilterItems()));
     }
 
-    private Specification<T> conjugate(List<Specification<T>> specifications, QueryContext<T> queryContext) {
+    private Specification<T> conjugate(List<FilterItem<T>> filterItems, List<OrderByItem<T>> orderByItems,
+                                       KeysetCursor keysetCursor, KeysetIdAttribute keysetIdAttribute) {
         return (root, query, criteriaBuilder) -> {
-            queryContext.clearState();
-            queryContext.setEntityDistinctRequired(specificationQueryConfig.isEntityDistinctRequired());
-            if (queryContext.isEntityDistinctRequired()) {
-                query.distinct(true);
+            QueryContext<T> queryContext = new QueryContext<>(specificationQueryConfig, isCountQuery(query), attributeResolver);
+
+            if (!queryContext.isCountQuery()) {
+                simpleSpecificationProducer.produceValidatedOrderBySpecifications(orderByItems, queryContext)
+                        .forEach(spec -> spec.toPredicate(root, query, criteriaBuilder));
+            }
+
+            List<FilterItem<T>> joinFilterItems = new ArrayList<>();
+            Map<JoinItem, List<FilterItem<T>>> existsFilterItems = new LinkedHashMap<>();
+            for (FilterItem<T> filterItem : filterItems) {
+                JoinItem existsJoinItem = queryContext.getExistsJoinItem(filterItem.getAttribute());
+                if (Objects.isNull(existsJoinItem)) {
+                    joinFilterItems.add(filterItem);
+                } else {
+                    existsFilterItems.computeIfAbsent(existsJoinItem, joinItem -> new ArrayList<>()).add(filterItem);
+                }
             }
 
-            processOrderBySpecifications(specifications, root, query, criteriaBuilder);
-            Predicate[] predicates = specifications.stream()
-                    .filter(spec -> !isOrderBySpecification(spec))
-                    .map(spec -> spec.toPredicate(root, query, criteriaBuilder))
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList())
-                    .toArray(new Predicate[] {});
+            List<Predicate> predicates = new ArrayList<>(joinFilterItems.size() + existsFilterItems.size());
+            produceFilterPredicates(joinFilterItems, queryContext, root, query, criteriaBuilder, predicates);
+            existsFilterItems.values().forEach(existsJoinFilterItems -> predicates.add(
+                    produceExistsPredicate(existsJoinFilterItems, root, query, criteriaBuilder)));
+            if (Objects.nonNull(keysetIdAttribute)) {
+                Predicate keysetPredicate = new KeysetSpecification<>(orderByItems, keysetCursor, keysetIdAttribute,
+                        queryContext, valueConverter)
+                        .toPredicate(root, query, criteriaBuilder);
+                if (Objects.nonNull(keysetPredicate)) {
+                    predicates.add(keysetPredicate);
+                }
+            }
 
-            return criteriaBuilder.and(predicates);
+            // with EXISTS joins the root query is multiplied only by the regular collection joins, if there are any
+            if (queryContext.isEntityDistinctRequired()
+                    && (existsFilterItems.isEmpty() || queryContext.isCollectionJoinPresent())) {
+                query.distinct(true);
+            }
+            return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
         };
     }
 
+    /**
+     * Builds a correlated {@code EXISTS} subquery with the predicates of the filter items, which share the same
+     * {@link com.cleverpine.specification.util.JoinStrategy#EXISTS EXISTS} join, so they must match the same joined row.
+     */
+    private Predicate produceExistsPredicate(List<FilterItem<T>> filterItems, Root<T> root, CriteriaQuery<?> query,
+                                             CriteriaBuilder criteriaBuilder) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<T> correlatedRoot = subquery.correlate(root);
+        QueryContext<T> subqueryContext = new QueryContext<>(specificationQueryConfig, true, attributeResolver);
+
+        List<Predicate> predicates = new ArrayList<>(filterItems.size());
+        produceFilterPredicates(filterItems, subqueryContext, correlatedRoot, query, criteriaBuilder, predicates);
+        subquery.select(criteriaBuilder.literal(1))
+                .where(predicates.toArray(Predicate[]::new));
+        return criteriaBuilder.exists(subquery);
+    }
+
+    private void produceFilterPredicates(List<FilterItem<T>> filterItems, QueryContext<T> queryContext, Root<T> root,
+                                         CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder, List<Predicate> predicates) {
+        simpleSpecificationProducer.produceValidatedFilterSpecifications(filterItems, queryContext, valueConverter)
+                .stream()
+                .map(spec -> spec.toPredicate(root, query, criteriaBuilder))
+                .filter(Objects::nonNull)
+                .forEach(predicates::add);
+    }
+
+    private List<FilterItem<T>> convertValues(List<FilterItem<T>> filterItems) {
+        return Objects.nonNull(attributeResolver)
+                ? attributeResolver.convert(filterItems)
+                : filterItems;
+    }
+
+    private boolean isCountQuery(CriteriaQuery<?> query) {
+        Class<?> resultType = query.getResultType();
+        return Long.class.equals(resultType) || long.class.equals(resultType);
+    }
+
     private List<FilterItem<T>> getAllSpecificationFilterItems(List<FilterItem<T>> filterItems) {
         ArrayList<FilterItem<T>> specificationFilterItems = new ArrayList<>();
         specificationFilterItems.addAll(filterItems);
@@ -139,14 +326,4 @@ public class ComplexSpecificationProducer<T> {
         return specificationOrderItems;
     }
 
-    private void processOrderBySpecifications(List<Specification<T>> specifications, Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
-        specifications.stream()
-                .filter(this::isOrderBySpecification)
-                .forEach(spec -> spec.toPredicate(root, query, cb));
-    }
-
-    private boolean isOrderBySpecification(Specification<T> specification) {
-        return specification instanceof OrderBySpecification;
-    }
-
 }
@@ -0,0 +1,110 @@
+package com.cleverpine.specification.producer;
+
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.JoinItem;
+import com.cleverpine.specification.item.MultiFilterItem;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.util.AttributePathPlan;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.cleverpine.specification.util.FilterConstants.COMPLEXITY_LIMIT_EXCEEDED;
+
+/**
+ * Checks the filter and order-by items of a request against the
+ * {@link SpecificationQueryConfig.ComplexityConfig complexity budget} of the configuration. The check works with the items
+ * and the compiled attribute paths only, so a request over budget is rejected before any criteria objects are built.
+ */
+class ComplexityBudgetValidator {
+
+    private static final char LIKE_ANY_WILDCARD = '%';
+
+    private static final char LIKE_SINGLE_WILDCARD = '_';
+
+    /**
+     * Validates the given request items.
+     *
+     * @param filterItems              the filter items of the request
+     * @param orderByItems             the order-by items of the request
+     * @param specificationQueryConfig the configuration with the complexity budget and the attribute paths
+     * @param <T>                      the type of the entity
+     * @throws InvalidSpecificationException if the request exceeds a limit of the budget
+     */
+    <T> void validate(List<FilterItem<T>> filterItems, List<OrderByItem<T>> orderByItems,
+                      SpecificationQueryConfig<T> specificationQueryConfig) {
+        SpecificationQueryConfig.ComplexityConfig<T> complexityConfig = specificationQueryConfig.getComplexityConfig();
+        if (!complexityConfig.isLimited()) {
+            return;
+        }
+        checkLimit("number of filters", filterItems.size(), complexityConfig.getMaxFilters());
+        checkLimit("number of sorts", orderByItems.size(), complexityConfig.getMaxSorts());
+
+        long cost = 0;
+        int leadingWildcardLikes = 0;
+        Set<JoinItem> collectionJoins = new HashSet<>();
+        for (FilterItem<T> filterItem : filterItems) {
+            if (filterItem instanceof MultiFilterItem<T> multiFilterItem && filterItem.getOperator() == FilterOperator.IN) {
+                checkLimit("number of IN values", multiFilterItem.getValues().size(), complexityConfig.getMaxInValues());
+            }
+            if (hasLeadingWildcard(filterItem)) {
+                leadingWildcardLikes++;
+            }
+            cost += complexityConfig.getAttributeCost(filterItem.getAttribute());
+            collectJoins(filterItem.getAttribute(), specificationQueryConfig, collectionJoins);
+        }
+        for (OrderByItem<T> orderByItem : orderByItems) {
+            cost += complexityConfig.getAttributeCost(orderByItem.getAttribute());
+            collectJoins(orderByItem.getAttribute(), specificationQueryConfig, collectionJoins);
+        }
+        checkLimit("number of leading wildcard likes", leadingWildcardLikes, complexityConfig.getMaxLeadingWildcardLikes());
+        checkLimit("number of joined collections", collectionJoins.size(), complexityConfig.getMaxCollectionJoins());
+        checkLimit("cost", cost, complexityConfig.getMaxCost());
+    }
+
+    private <T> void collectJoins(String attribute, SpecificationQueryConfig<T> specificationQueryConfig,
+                                  Set<JoinItem> collectionJoins) {
+        SpecificationQueryConfig.CustomExpressionConfig<T> customExpressionConfig =
+                specificationQueryConfig.getCustomExpressionConfig();
+        if (Objects.nonNull(customExpressionConfig.getCustomSpecificationExpressionByAttribute(attribute))
+                || Objects.nonNull(customExpressionConfig.getCustomSpecificationExpressionProviderByAttribute(attribute))) {
+            // the joins of a custom expression are not known in advance
+            return;
+        }
+        String pathToEntityAttribute = specificationQueryConfig.getAttributePathConfig().getPathToEntityAttribute(attribute);
+        AttributePathPlan attributePathPlan = specificationQueryConfig.getJoinConfig()
+                .getAttributePathPlan(Objects.nonNull(pathToEntityAttribute) ? pathToEntityAttribute : attribute);
+        checkLimit("join depth", attributePathPlan.getJoinCount(),
+                specificationQueryConfig.getComplexityConfig().getMaxJoinDepth());
+        for (int i = 0; i < attributePathPlan.getJoinCount(); i++) {
+            JoinItem joinItem = attributePathPlan.getJoinItem(i);
+            if (joinItem.isCollection()) {
+                collectionJoins.add(joinItem);
+            }
+        }
+    }
+
+    private <T> boolean hasLeadingWildcard(FilterItem<T> filterItem) {
+        FilterOperator operator = filterItem.getOperator();
+        if (operator == FilterOperator.LIKE || operator == FilterOperator.ENDS_WITH) {
+            return true;
+        }
+        if (operator == FilterOperator.STARTS_WITH && filterItem instanceof SingleFilterItem<T> singleFilterItem) {
+            String value = singleFilterItem.getValue();
+            return !value.isEmpty()
+                    && (value.charAt(0) == LIKE_ANY_WILDCARD || value.charAt(0) == LIKE_SINGLE_WILDCARD);
+        }
+        return false;
+    }
+
+    private void checkLimit(String name, long value, int limit) {
+        if (value > limit) {
+            throw new InvalidSpecificationException(String.format(COMPLEXITY_LIMIT_EXCEEDED, name, limit));
+        }
+    }
+}
@@ -3,11 +3,11 @@ package com.cleverpine.specification.producer;
 import com.cleverpine.specification.exception.InvalidSpecificationException;
 import com.cleverpine.specification.item.FilterItem;
 import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.util.FilterTypeMetadata;
 import com.cleverpine.specification.util.QueryContext;
 import com.cleverpine.specification.util.ValueConverter;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.lang.reflect.Field;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -28,17 +28,29 @@ public class SimpleSpecificationProducer {
      * @param valueConverter the value converter
      * @param <T>            the type of the entity
      * @return a list of filter specifications
+     * @throws InvalidSpecificationException if an attribute is missing or not declared in the filter type
      */
     public <T> List<Specification<T>> produceFilterSpecifications(Class<?> filterType,
                                                                   List<FilterItem<T>> filterItems,
                                                                   QueryContext<T> queryContext,
                                                                   ValueConverter valueConverter) {
+        validateItems(filterType, filterItems, null);
+        return produceValidatedFilterSpecifications(filterItems, queryContext, valueConverter);
+    }
+
+    /**
+     * Produces a list of filter specifications for the filter items, which were already validated with
+     * {@link #validateItems(Class, List, List)}.
+     */
+    <T> List<Specification<T>> produceValidatedFilterSpecifications(List<FilterItem<T>> filterItems,
+                                                                    QueryContext<T> queryContext,
+                                                                    ValueConverter valueConverter) {
         if (Objects.isNull(filterItems)) {
             return new ArrayList<>();
         }
         return filterItems.stream()
                 .map(filterItem ->
-                        produceSimpleSpecification(filterItem, filterType, queryContext, valueConverter))
+                        produceSimpleSpecification(filterItem, queryContext, valueConverter))
                 .collect(Collectors.toList());
     }
 
@@ -50,26 +62,55 @@ public class SimpleSpecificationProducer {
      * @param queryContext the query context
      * @param <T>          the type of the entity
      * @return a list of order-by specifications
+     * @throws InvalidSpecificationException if an attribute is missing or not declared in the filter type
      */
     public <T> List<Specification<T>> produceOrderBySpecifications(Class<?> filterType,
                                                                    List<OrderByItem<T>> orderByItems,
                                                                    QueryContext<T> queryContext) {
+        validateItems(filterType, null, orderByItems);
+        return produceValidatedOrderBySpecifications(orderByItems, queryContext);
+    }
+
+    /**
+     * Produces a list of order-by specifications for the order-by items, which were already validated with
+     * {@link #validateItems(Class, List, List)}.
+     */
+    <T> List<Specification<T>> produceValidatedOrderBySpecifications(List<OrderByItem<T>> orderByItems,
+                                                                     QueryContext<T> queryContext) {
         if (Objects.isNull(orderByItems)) {
             return new ArrayList<>();
         }
         return orderByItems.stream()
                 .map(orderByItem ->
-                        produceSimpleSpecification(orderByItem, filterType, queryContext))
+                        produceSimpleSpecification(orderByItem, queryContext))
                 .collect(Collectors.toList());
     }
 
-    private <T> Specification<T> produceSimpleSpecification(FilterItem<T> filterItem, Class<?> filterType, QueryContext<T> queryContext, ValueConverter valueConverter) {
-        validateFilterAttribute(filterItem.getAttribute(), filterType);
+    /**
+     * Validates that the attributes of the given filter and order-by items are declared in the filter type.
+     *
+     * @param filterType   the type of the filter
+     * @param filterItems  the filter items
+     * @param orderByItems the order-by items
+     * @param <T>          the type of the entity
+     * @throws InvalidSpecificationException if an attribute is missing or not declared in the filter type
+     */
+    public <T> void validateItems(Class<?> filterType,
+                                  List<FilterItem<T>> filterItems,
+                                  List<OrderByItem<T>> orderByItems) {
+        if (Objects.nonNull(filterItems)) {
+            filterItems.forEach(filterItem -> validateFilterAttribute(filterItem.getAttribute(), filterType));
+        }
+        if (Objects.nonNull(orderByItems)) {
+            orderByItems.forEach(orderByItem -> validateFilterAttribute(orderByItem.getAttribute(), filterType));
+        }
+    }
+
+    private <T> Specification<T> produceSimpleSpecification(FilterItem<T> filterItem, QueryContext<T> queryContext, ValueConverter valueConverter) {
         return filterItem.createSpecification(queryContext, valueConverter);
     }
 
-    private <T> Specification<T> produceSimpleSpecification(OrderByItem<T> orderByItem, Class<?> filterType, QueryContext<T> queryContext) {
-        validateFilterAttribute(orderByItem.getAttribute(), filterType);
+    private <T> Specification<T> produceSimpleSpecification(OrderByItem<T> orderByItem, QueryContext<T> queryContext) {
         return orderByItem.createSpecification(queryContext);
     }
 
@@ -77,20 +118,10 @@ public class SimpleSpecificationProducer {
         if (Objects.isNull(attribute)) {
             throw new InvalidSpecificationException(EMPTY_FILTER_ATTRIBUTE);
         }
-        if (!getAllAttributesOf(filterType).contains(attribute)) {
+        if (!FilterTypeMetadata.of(filterType).hasAttribute(attribute)) {
             throw new InvalidSpecificationException(
                     String.format(INVALID_FILTER_ATTRIBUTE, attribute, filterType.getSimpleName()));
         }
     }
 
-    private Set<String> getAllAttributesOf(Class<?> type) {
-        Set<String> fields = Arrays.stream(type.getDeclaredFields())
-                .map(Field::getName)
-                .collect(Collectors.toSet());
-        if (Objects.nonNull(type.getSuperclass())) {
-            fields.addAll(getAllAttributesOf(type.getSuperclass()));
-        }
-        return fields;
-    }
-
 }
@@ -0,0 +1,83 @@
+package com.cleverpine.specification.repository;
+
+import com.cleverpine.specification.core.KnownEmptySpecification;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+/**
+ * A {@link JpaSpecificationExecutor}, which does not query the database for a {@link KnownEmptySpecification}. The
+ * repositories extend it instead of {@link JpaSpecificationExecutor} and call the {@code IfSatisfiable} methods with the
+ * produced specifications, so the filters, which can never match, do not cost a database round trip.
+ *
+ * <pre>{@code
+ * public interface MovieRepository extends JpaRepository<Movie, Long>, KnownEmptySpecificationExecutor<Movie> {
+ * }
+ *
+ * Page<Movie> movies = movieRepository.findAllIfSatisfiable(specification, pageable);
+ * }</pre>
+ *
+ * @param <T> the type of the entity
+ */
+public interface KnownEmptySpecificationExecutor<T> extends JpaSpecificationExecutor<T> {
+
+    /**
+     * Returns all entities matching the given specification or an empty list without a query if it is known to be empty.
+     *
+     * @param specification the specification of the entities
+     * @return the matching entities
+     */
+    default List<T> findAllIfSatisfiable(Specification<T> specification) {
+        if (KnownEmptySpecification.isKnownEmpty(specification)) {
+            return List.of();
+        }
+        return findAll(specification);
+    }
+
+    /**
+     * Returns a page of the entities matching the given specification or an empty page without a query if it is known to
+     * be empty.
+     *
+     * @param specification the specification of the entities
+     * @param pageable      the requested page
+     * @return the page of the matching entities
+     */
+    default Page<T> findAllIfSatisfiable(Specification<T> specification, Pageable pageable) {
+        if (KnownEmptySpecification.isKnownEmpty(specification)) {
+            return Page.empty(pageable);
+        }
+        return findAll(specification, pageable);
+    }
+
+    /**
+     * Returns the sorted entities matching the given specification or an empty list without a query if it is known to be
+     * empty.
+     *
+     * @param specification the specification of the entities
+     * @param sort          the sort of the entities
+     * @return the matching entities
+     */
+    default List<T> findAllIfSatisfiable(Specification<T> specification, Sort sort) {
+        if (KnownEmptySpecification.isKnownEmpty(specification)) {
+            return List.of();
+        }
+        return findAll(specification, sort);
+    }
+
+    /**
+     * Returns the number of the entities matching the given specification or zero without a query if it is known to be
+     * empty.
+     *
+     * @param specification the specification of the entities
+     * @return the number of the matching entities
+     */
+    default long countIfSatisfiable(Specification<T> specification) {
+        if (KnownEmptySpecification.isKnownEmpty(specification)) {
+            return 0L;
+        }
+        return count(specification);
+    }
+}
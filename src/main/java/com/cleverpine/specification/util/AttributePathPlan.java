@@ -0,0 +1,143 @@
+package com.cleverpine.specification.util;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.item.JoinItem;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+
+import static com.cleverpine.specification.util.FilterConstants.ENTITY_ATTRIBUTE_SEPARATOR;
+import static com.cleverpine.specification.util.FilterConstants.JOIN_NOT_DEFINED;
+
+/**
+ * The {@link AttributePathPlan} class is a precompiled entity attribute path. The path is split only once into its tokens,
+ * the join aliases are resolved to their {@link JoinItem}s and the leaf attribute is extracted, so navigating the path at
+ * query time is a loop over an array. Instances are immutable and are cached per attribute path in the
+ * {@link SpecificationQueryConfig.JoinConfig}.
+ */
+public final class AttributePathPlan {
+
+    private static final Pattern ENTITY_ATTRIBUTE_SEPARATOR_PATTERN = Pattern.compile(Pattern.quote(ENTITY_ATTRIBUTE_SEPARATOR));
+
+    private final String path;
+
+    private final String[] tokens;
+
+    private final JoinItem[] joinItems;
+
+    private final String attribute;
+
+    private final JoinItem existsJoinItem;
+
+    private AttributePathPlan(String path, String[] tokens, JoinItem[] joinItems, String attribute) {
+        this.path = path;
+        this.tokens = tokens;
+        this.joinItems = joinItems;
+        this.attribute = attribute;
+        this.existsJoinItem = Arrays.stream(joinItems)
+                .filter(joinItem -> joinItem.getStrategy() == JoinStrategy.EXISTS)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Compiles the given entity attribute path. Each token except the last one should be an alias of a defined join.
+     *
+     * @param path              the full path to the entity attribute
+     * @param joinItemResolver  resolves a {@link JoinItem} by its alias
+     * @return the compiled path plan
+     * @throws IllegalSpecificationException if a join alias in the path is not defined
+     */
+    static AttributePathPlan compile(String path, Function<String, JoinItem> joinItemResolver) {
+        if (!path.contains(ENTITY_ATTRIBUTE_SEPARATOR)) {
+            return new AttributePathPlan(path, new String[] {path}, new JoinItem[0], path);
+        }
+
+        String[] tokens = ENTITY_ATTRIBUTE_SEPARATOR_PATTERN.split(path);
+        JoinItem[] joinItems = new JoinItem[tokens.length - 1];
+        for (int i = 0; i < joinItems.length; i++) {
+            JoinItem joinItem = joinItemResolver.apply(tokens[i]);
+            if (Objects.isNull(joinItem)) {
+                throw new IllegalSpecificationException(String.format(JOIN_NOT_DEFINED, tokens[i]));
+            }
+            joinItems[i] = joinItem;
+        }
+        return new AttributePathPlan(path, tokens, joinItems, tokens[tokens.length - 1]);
+    }
+
+    /**
+     * Gets the full path to the entity attribute.
+     *
+     * @return the compiled path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the number of joins required to reach the leaf attribute.
+     *
+     * @return the number of joins
+     */
+    public int getJoinCount() {
+        return joinItems.length;
+    }
+
+    /**
+     * Gets the {@link JoinItem} at the given position of the join chain.
+     *
+     * @param index the position of the join, starting from the root entity
+     * @return the join item
+     */
+    public JoinItem getJoinItem(int index) {
+        return joinItems[index];
+    }
+
+    /**
+     * Gets the token at the given position of the path.
+     *
+     * @param index the position of the token
+     * @return the token
+     */
+    public String getToken(int index) {
+        return tokens[index];
+    }
+
+    /**
+     * Gets the number of tokens in the path.
+     *
+     * @return the number of tokens
+     */
+    public int getTokenCount() {
+        return tokens.length;
+    }
+
+    /**
+     * Gets the leaf attribute of the path, which is accessed on the root entity or on the last join.
+     *
+     * @return the leaf attribute
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Gets the first join of the path, which is defined with the {@link JoinStrategy#EXISTS} strategy.
+     *
+     * @return the first EXISTS join or null if all joins of the path are regular joins
+     */
+    public JoinItem getExistsJoinItem() {
+        return existsJoinItem;
+    }
+
+    /**
+     * Checks if the path is a single attribute of the root entity.
+     *
+     * @return true if no joins are required, false otherwise
+     */
+    public boolean isSingleAttributePath() {
+        return joinItems.length == 0;
+    }
+}
@@ -55,8 +55,46 @@ public final class FilterConstants {
 
     public static final String JOIN_NOT_DEFINED = "Join with alias [%s] is not defined";
 
+    public static final String ATTRIBUTE_NOT_DECLARED = "Attribute [%s] is not declared in [%s] entity";
+
+    public static final String ATTRIBUTE_NOT_READABLE = "Attribute [%s] of [%s] entity cannot be read";
+
     public static final String INVALID_JOIN = "Cannot join [%s] from [%s] entity. Entity [%s] is defined for this join";
 
+    public static final String INVALID_FILTER_TYPE_DESCRIPTOR = "Descriptor [%s] of [%s] filter type cannot be instantiated";
+
+    public static final String IN_MEMORY_FILTER_NOT_SUPPORTED = "Filter attribute [%s] cannot be evaluated in memory";
+
+    public static final String IN_MEMORY_SORT_NOT_SUPPORTED = "Sort attribute [%s] cannot be evaluated in memory";
+
+    public static final String INVALID_TOP_SELECTION = "Invalid top selection offset [%d] or limit [%d]";
+
+    public static final String SNAPSHOT_ID_NOT_DEFINED = "Snapshot ids require a single id attribute in [%s] entity";
+
+    public static final String INVALID_CACHE_CONFIGURATION = "Invalid specification cache %s [%s]";
+
+    public static final String INVALID_COMPLEXITY_CONFIGURATION = "Invalid complexity %s [%s]";
+
+    public static final String COMPLEXITY_LIMIT_EXCEEDED = "The request exceeds the maximum %s [%d]";
+
+    public static final String FROZEN_CONFIGURATION = "The %s configuration of a built specification query configuration cannot be modified";
+
+    public static final String INVALID_IN_STRATEGY_CONFIGURATION = "Invalid IN strategy %s [%s]";
+
+    public static final String ARRAY_PARAMETER_NOT_SUPPORTED = "The criteria builder [%s] has no value method to bind an array parameter";
+
+    public static final String INVALID_KEYSET_CURSOR = "Invalid keyset cursor [%s]";
+
+    public static final String INVALID_KEYSET_CURSOR_VALUES_COUNT = "Keyset cursor should have [%d] values, but it has [%d]";
+
+    public static final String KEYSET_ID_NOT_DEFINED = "Keyset pagination requires a single id attribute in [%s] entity";
+
+    public static final String KEYSET_ID_NOT_RESOLVED = "The id attribute of [%s] entity is resolved when the keyset specification is applied to a query";
+
+    public static final String KEYSET_SORT_KEY_TYPE_NOT_SUPPORTED = "Keyset pagination cannot sort by a key of type [%s]";
+
+    public static final String KEYSET_ATTRIBUTE_NOT_READABLE = "Cannot read sort attribute [%s] from [%s] entity for the keyset cursor";
+
     public static final String NULL_VALUE = "This value cannot be converted, because it is null";
 
     public static final String ENTITY_ATTRIBUTE_SEPARATOR = ".";
@@ -9,12 +9,15 @@ import com.cleverpine.specification.core.In;
 import com.cleverpine.specification.core.LessThan;
 import com.cleverpine.specification.core.LessThanOrEquals;
 import com.cleverpine.specification.core.Like;
+import com.cleverpine.specification.core.MultiValueSpecificationFactory;
 import com.cleverpine.specification.core.NotEquals;
+import com.cleverpine.specification.core.SingleValueSpecificationFactory;
 import com.cleverpine.specification.core.StartsWith;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
@@ -35,23 +38,24 @@ import static com.cleverpine.specification.util.FilterConstants.STARTS_WITH_OPER
 /**
  * The {@link FilterOperator} enumeration defines different types of operators that can be used in a filter
  * expression. Each operator has a unique value, a corresponding {@link Specification} implementation
- * class, and a flag indicating if it requires a single filter value or a range of filter values.
+ * class, a flag indicating if it requires a single filter value or a range of filter values and a pre-bound factory,
+ * which creates the {@link Specification} implementation without reflection.
  */
 @RequiredArgsConstructor
 @Getter
 public enum FilterOperator {
 
-    EQUAL(EQUAL_OPERATOR, Equals.class, true),
-    NOT_EQUAL(NOT_EQUAL_OPERATOR, NotEquals.class, true),
-    GREATER_THAN(GREATER_THAN_OPERATOR, GreaterThan.class, true),
-    LESS_THAN(LESS_THAN_OPERATOR, LessThan.class, true),
-    GREATER_THAN_EQUAL(GREATER_THAN_EQUAL_OPERATOR, GreaterThanOrEquals.class, true),
-    LESS_THAN_EQUAL(LESS_THAN_EQUAL_OPERATOR, LessThanOrEquals.class, true),
-    LIKE(LIKE_OPERATOR, Like.class, true),
-    STARTS_WITH(STARTS_WITH_OPERATOR, StartsWith.class, true),
-    ENDS_WITH(ENDS_WITH_OPERATOR, EndsWith.class, true),
-    BETWEEN(BETWEEN_OPERATOR, Between.class, false),
-    IN(IN_OPERATOR, In.class, false);
+    EQUAL(EQUAL_OPERATOR, Equals.class, true, Equals::new, null),
+    NOT_EQUAL(NOT_EQUAL_OPERATOR, NotEquals.class, true, NotEquals::new, null),
+    GREATER_THAN(GREATER_THAN_OPERATOR, GreaterThan.class, true, GreaterThan::new, null),
+    LESS_THAN(LESS_THAN_OPERATOR, LessThan.class, true, LessThan::new, null),
+    GREATER_THAN_EQUAL(GREATER_THAN_EQUAL_OPERATOR, GreaterThanOrEquals.class, true, GreaterThanOrEquals::new, null),
+    LESS_THAN_EQUAL(LESS_THAN_EQUAL_OPERATOR, LessThanOrEquals.class, true, LessThanOrEquals::new, null),
+    LIKE(LIKE_OPERATOR, Like.class, true, Like::new, null),
+    STARTS_WITH(STARTS_WITH_OPERATOR, StartsWith.class, true, StartsWith::new, null),
+    ENDS_WITH(ENDS_WITH_OPERATOR, EndsWith.class, true, EndsWith::new, null),
+    BETWEEN(BETWEEN_OPERATOR, Between.class, false, null, Between::new),
+    IN(IN_OPERATOR, In.class, false, null, In::new);
 
     private static final Map<String, FilterOperator> VALUES = new HashMap<>();
 
@@ -66,6 +70,12 @@ public enum FilterOperator {
 
     private final boolean singleFilterValue;
 
+    @Getter(AccessLevel.NONE)
+    private final SingleValueSpecificationFactory<?> singleValueSpecificationFactory;
+
+    @Getter(AccessLevel.NONE)
+    private final MultiValueSpecificationFactory<?> multiValueSpecificationFactory;
+
     /**
      * Returns the {@link FilterOperator} enumeration value corresponding to the provided operator value.
      *
@@ -77,4 +87,36 @@ public enum FilterOperator {
         return Optional.ofNullable(VALUES.get(value));
     }
 
+    /**
+     * Returns the factory, which creates the single-value {@link Specification} of this operator.
+     *
+     * @param <T> the type of the entity
+     * @return the single-value specification factory or null if the operator requires multiple values
+     */
+    @SuppressWarnings("unchecked")
+    public <T> SingleValueSpecificationFactory<T> getSingleValueSpecificationFactory() {
+        return (SingleValueSpecificationFactory<T>) singleValueSpecificationFactory;
+    }
+
+    /**
+     * Returns the factory, which creates the multi-value {@link Specification} of this operator.
+     *
+     * @param <T> the type of the entity
+     * @return the multi-value specification factory or null if the operator requires a single value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> MultiValueSpecificationFactory<T> getMultiValueSpecificationFactory() {
+        return (MultiValueSpecificationFactory<T>) multiValueSpecificationFactory;
+    }
+
+    /**
+     * Checks if the default {@link Specification} of this operator converts its values to the type of the attribute. The
+     * pattern operators compare the attribute as a string, so their values are used as they are.
+     *
+     * @return true if the values are converted, false otherwise
+     */
+    public boolean isValueConverted() {
+        return this != LIKE && this != STARTS_WITH && this != ENDS_WITH;
+    }
+
 }
@@ -0,0 +1,108 @@
+package com.cleverpine.specification.util;
+
+import com.cleverpine.specification.descriptor.FilterTypeDescriptor;
+import com.cleverpine.specification.descriptor.FilterTypeDescriptors;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The {@link FilterTypeMetadata} class holds the attribute metadata of a filter type - the class, which declares the possible
+ * filter and sorting attributes. The metadata is built only once per filter type by walking its declared fields and the
+ * declared fields of its superclasses. If a {@link FilterTypeDescriptor} is generated for the filter type, its attributes are
+ * used instead and the fields are not reflected on. The created instances are immutable and cached, so they can be safely shared
+ * across threads and requests.
+ */
+public final class FilterTypeMetadata {
+
+    private static final ClassValue<FilterTypeMetadata> METADATA_BY_FILTER_TYPE = new ClassValue<>() {
+        @Override
+        protected FilterTypeMetadata computeValue(Class<?> filterType) {
+            FilterTypeDescriptor<?> descriptor = FilterTypeDescriptors.find(filterType);
+            return new FilterTypeMetadata(filterType, Objects.nonNull(descriptor)
+                    ? new LinkedHashMap<>(descriptor.getAttributeTypes())
+                    : collectAttributeTypes(filterType));
+        }
+    };
+
+    private final Class<?> filterType;
+
+    private final Map<String, Class<?>> attributeTypes;
+
+    private FilterTypeMetadata(Class<?> filterType, Map<String, Class<?>> attributeTypes) {
+        this.filterType = filterType;
+        this.attributeTypes = Collections.unmodifiableMap(attributeTypes);
+    }
+
+    /**
+     * Returns the cached {@link FilterTypeMetadata} of the given filter type. The metadata is built on the first call.
+     *
+     * @param filterType the class, which holds the possible filter and sorting attributes
+     * @return the metadata of the filter type
+     */
+    public static FilterTypeMetadata of(Class<?> filterType) {
+        return METADATA_BY_FILTER_TYPE.get(filterType);
+    }
+
+    /**
+     * Gets the filter type, which this metadata describes.
+     *
+     * @return the filter type
+     */
+    public Class<?> getFilterType() {
+        return filterType;
+    }
+
+    /**
+     * Checks if the filter type declares the given attribute.
+     *
+     * @param attribute the name of the attribute
+     * @return true if the attribute is declared in the filter type or in any of its superclasses, false otherwise
+     */
+    public boolean hasAttribute(String attribute) {
+        return attributeTypes.containsKey(attribute);
+    }
+
+    /**
+     * Gets the declared Java type of the given attribute.
+     *
+     * @param attribute the name of the attribute
+     * @return the declared type of the attribute or null if the filter type does not declare it
+     */
+    public Class<?> getAttributeType(String attribute) {
+        return attributeTypes.get(attribute);
+    }
+
+    /**
+     * Gets the names of all attributes declared in the filter type.
+     *
+     * @return an unmodifiable set of attribute names
+     */
+    public Set<String> getAttributes() {
+        return attributeTypes.keySet();
+    }
+
+    /**
+     * Gets the declared Java types of all attributes in the filter type.
+     *
+     * @return an unmodifiable map of attribute types by attribute name
+     */
+    public Map<String, Class<?>> getAttributeTypes() {
+        return attributeTypes;
+    }
+
+    private static Map<String, Class<?>> collectAttributeTypes(Class<?> filterType) {
+        Map<String, Class<?>> attributeTypes = new LinkedHashMap<>();
+        Class<?> type = filterType;
+        while (Objects.nonNull(type)) {
+            for (Field field : type.getDeclaredFields()) {
+                attributeTypes.putIfAbsent(field.getName(), field.getType());
+            }
+            type = type.getSuperclass();
+        }
+        return attributeTypes;
+    }
+}
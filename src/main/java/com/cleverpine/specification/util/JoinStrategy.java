@@ -0,0 +1,21 @@
+package com.cleverpine.specification.util;
+
+/**
+ * The {@link JoinStrategy} enumeration defines how the filter predicates on a path through a join are built.
+ */
+public enum JoinStrategy {
+
+    /**
+     * The join is added to the root query and the predicates are applied to the joined rows. A to-many join multiplies the
+     * rows of the root entity, so distinct entities require a DISTINCT query.
+     */
+    JOIN,
+
+    /**
+     * The predicates on the paths through the join are moved to a correlated {@code EXISTS} subquery, so the root query is
+     * not multiplied and does not need DISTINCT. All filter predicates through the same join share one subquery, so they
+     * must be satisfied by the same joined row. The ordering through the join still uses a regular join.
+     */
+    EXISTS
+
+}
@@ -0,0 +1,189 @@
+package com.cleverpine.specification.util;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.JoinItem;
+import com.cleverpine.specification.item.MultiFilterItem;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.item.TypedMultiFilterItem;
+import com.cleverpine.specification.item.TypedSingleFilterItem;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.cleverpine.specification.util.FilterConstants.ATTRIBUTE_NOT_DECLARED;
+import static com.cleverpine.specification.util.FilterConstants.INVALID_JOIN;
+
+/**
+ * The {@link MetamodelAttributeResolver} resolves the filter attributes to the entity attributes with the JPA
+ * {@link Metamodel}. Each filter attribute is resolved only once - its path is followed through the joins of the
+ * {@link SpecificationQueryConfig}, and the Java type, the plural nature and the converter of the entity attribute are
+ * cached in a {@link ResolvedAttribute}.
+ * <p>
+ * When the resolver is given to a {@link com.cleverpine.specification.producer.ComplexSpecificationProducer}, the values of
+ * the filter items are converted once, when the specification is created, before any criteria query is built. The filter
+ * items are replaced with {@link TypedSingleFilterItem}s and {@link TypedMultiFilterItem}s, so the specifications only bind
+ * the converted values instead of converting them by the type of the criteria expression on each query.
+ * <p>
+ * The converters are taken from the {@link ValueConverter} on the first resolution of an attribute, so the custom
+ * converters should be added before the resolver is used.
+ *
+ * @param <T> the type of the root entity
+ */
+public class MetamodelAttributeResolver<T> {
+
+    private final Metamodel metamodel;
+
+    private final Class<T> entityType;
+
+    private final SpecificationQueryConfig<T> specificationQueryConfig;
+
+    private final ValueConverter valueConverter;
+
+    private final Map<String, ResolvedAttribute> resolvedAttributes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link MetamodelAttributeResolver}.
+     *
+     * @param metamodel                the metamodel of the persistence unit, e.g. {@code entityManager.getMetamodel()}
+     * @param entityType               the root entity type
+     * @param specificationQueryConfig the configuration, which holds the joins and the attribute path mappings
+     * @param valueConverter           the value converter, which provides the converters of the attribute types
+     */
+    public MetamodelAttributeResolver(Metamodel metamodel, Class<T> entityType,
+                                      SpecificationQueryConfig<T> specificationQueryConfig, ValueConverter valueConverter) {
+        this.metamodel = Objects.requireNonNull(metamodel);
+        this.entityType = Objects.requireNonNull(entityType);
+        this.specificationQueryConfig = Objects.requireNonNull(specificationQueryConfig);
+        this.valueConverter = Objects.requireNonNull(valueConverter);
+    }
+
+    /**
+     * Resolves the given filter attribute to its entity attribute.
+     *
+     * @param attribute the name of the filter attribute
+     * @return the resolved attribute or null if the attribute has a custom expression, so it is not an entity attribute
+     * @throws IllegalSpecificationException if a join or an attribute of the path is not declared in the metamodel
+     */
+    public ResolvedAttribute resolve(String attribute) {
+        if (Objects.nonNull(specificationQueryConfig.getCustomExpressionConfig()
+                .getCustomSpecificationExpressionProviderByAttribute(attribute))) {
+            return null;
+        }
+        ResolvedAttribute resolvedAttribute = resolvedAttributes.get(attribute);
+        if (Objects.isNull(resolvedAttribute)) {
+            resolvedAttribute = resolvedAttributes.computeIfAbsent(attribute, this::resolveAttribute);
+        }
+        return resolvedAttribute;
+    }
+
+    /**
+     * Gets the metamodel type of the root entity.
+     *
+     * @return the entity type of the metamodel
+     */
+    public EntityType<T> getEntityModel() {
+        return metamodel.entity(entityType);
+    }
+
+    /**
+     * Converts the values of the given filter items to the types of their entity attributes. The items, which create the
+     * default specification of an operator converting its values, are replaced with typed filter items holding the
+     * converted values. The other items are kept as they are.
+     *
+     * @param filterItems the filter items to convert
+     * @return the filter items in the same order, with the convertible ones replaced by typed filter items
+     * @throws InvalidSpecificationException if a value cannot be converted
+     */
+    public List<FilterItem<T>> convert(List<FilterItem<T>> filterItems) {
+        List<FilterItem<T>> convertedFilterItems = new ArrayList<>(filterItems.size());
+        for (FilterItem<T> filterItem : filterItems) {
+            convertedFilterItems.add(convertFilterItem(filterItem));
+        }
+        return convertedFilterItems;
+    }
+
+    private FilterItem<T> convertFilterItem(FilterItem<T> filterItem) {
+        if (filterItem instanceof TypedSingleFilterItem || filterItem instanceof TypedMultiFilterItem
+                || !filterItem.getOperator().isValueConverted() || !filterItem.hasDefaultSpecification()) {
+            return filterItem;
+        }
+        ResolvedAttribute resolvedAttribute = resolve(filterItem.getAttribute());
+        if (Objects.isNull(resolvedAttribute)) {
+            return filterItem;
+        }
+        boolean comparable = isComparison(filterItem.getOperator());
+        if (filterItem instanceof SingleFilterItem<T> singleFilterItem) {
+            String value = singleFilterItem.getValue();
+            Object convertedValue = comparable
+                    ? resolvedAttribute.convertToComparable(value)
+                    : resolvedAttribute.convert(value);
+            return new TypedSingleFilterItem<>(filterItem.getAttribute(), filterItem.getOperator(), value, convertedValue);
+        }
+        if (filterItem instanceof MultiFilterItem<T> multiFilterItem) {
+            List<String> values = multiFilterItem.getValues();
+            List<Object> convertedValues = new ArrayList<>(values.size());
+            for (String value : values) {
+                convertedValues.add(comparable
+                        ? resolvedAttribute.convertToComparable(value)
+                        : resolvedAttribute.convert(value));
+            }
+            return new TypedMultiFilterItem<>(filterItem.getAttribute(), filterItem.getOperator(), values, convertedValues);
+        }
+        return filterItem;
+    }
+
+    private boolean isComparison(FilterOperator operator) {
+        return switch (operator) {
+            case GREATER_THAN, GREATER_THAN_EQUAL, LESS_THAN, LESS_THAN_EQUAL, BETWEEN -> true;
+            default -> false;
+        };
+    }
+
+    private ResolvedAttribute resolveAttribute(String attribute) {
+        String pathToEntityAttribute = specificationQueryConfig.getAttributePathConfig().getPathToEntityAttribute(attribute);
+        String path = Objects.nonNull(pathToEntityAttribute) ? pathToEntityAttribute : attribute;
+        AttributePathPlan attributePathPlan = specificationQueryConfig.getJoinConfig().getAttributePathPlan(path);
+
+        ManagedType<?> managedType = metamodel.managedType(entityType);
+        for (int i = 0; i < attributePathPlan.getJoinCount(); i++) {
+            JoinItem joinItem = attributePathPlan.getJoinItem(i);
+            if (!managedType.getJavaType().equals(joinItem.getFromEntity())) {
+                throw new IllegalSpecificationException(String.format(INVALID_JOIN, joinItem.getJoinAttribute(),
+                        managedType.getJavaType().getSimpleName(), joinItem.getFromEntity().getSimpleName()));
+            }
+            Attribute<?, ?> joinAttribute = getAttribute(managedType, joinItem.getJoinAttribute());
+            Type<?> joinedType = joinAttribute instanceof PluralAttribute
+                    ? ((PluralAttribute<?, ?, ?>) joinAttribute).getElementType()
+                    : ((SingularAttribute<?, ?>) joinAttribute).getType();
+            if (!(joinedType instanceof ManagedType)) {
+                throw new IllegalSpecificationException(String.format(INVALID_JOIN, joinItem.getJoinAttribute(),
+                        managedType.getJavaType().getSimpleName(), joinItem.getFromEntity().getSimpleName()));
+            }
+            managedType = (ManagedType<?>) joinedType;
+        }
+
+        Attribute<?, ?> leafAttribute = getAttribute(managedType, attributePathPlan.getAttribute());
+        Class<?> javaType = leafAttribute.getJavaType();
+        return new ResolvedAttribute(path, javaType, leafAttribute.isCollection(), valueConverter.getConverter(javaType));
+    }
+
+    private Attribute<?, ?> getAttribute(ManagedType<?> managedType, String attribute) {
+        try {
+            return managedType.getAttribute(attribute);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalSpecificationException(
+                    String.format(ATTRIBUTE_NOT_DECLARED, attribute, managedType.getJavaType().getSimpleName()));
+        }
+    }
+}
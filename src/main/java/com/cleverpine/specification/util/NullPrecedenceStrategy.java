@@ -0,0 +1,27 @@
+package com.cleverpine.specification.util;
+
+/**
+ * The {@link NullPrecedenceStrategy} enumeration defines how the null values of a sort attribute are placed. The null
+ * values are last in ascending order and first in descending order, unless the strategy is {@link #NONE}.
+ */
+public enum NullPrecedenceStrategy {
+
+    /**
+     * No null ordering is added. The attribute is expected to be non-nullable, so the sort can use an index on it.
+     */
+    NONE,
+
+    /**
+     * The null ordering is added as {@code NULLS FIRST} / {@code NULLS LAST} of the order itself, which keeps the sort
+     * index-friendly. It requires a JPA provider with null precedence support, e.g. Hibernate 6 {@code JpaOrder}, and
+     * falls back to {@link #CASE} otherwise.
+     */
+    NATIVE,
+
+    /**
+     * The null ordering is added as a preceding {@code CASE WHEN attribute IS NULL} order, which is supported by every
+     * JPA provider, but prevents the database from sorting by an index.
+     */
+    CASE
+
+}
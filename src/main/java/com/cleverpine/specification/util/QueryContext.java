@@ -1,16 +1,23 @@
 package com.cleverpine.specification.util;
 
 import com.cleverpine.specification.expression.SpecificationExpression;
+import com.cleverpine.specification.expression.SpecificationExpressionProvider;
+import com.cleverpine.specification.in.InStrategy;
 import com.cleverpine.specification.item.JoinItem;
 
 import jakarta.persistence.criteria.Join;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * A utility class to hold context information required to build JPA criteria queries using
  * {@link SpecificationExpression}. It provides access to {@link Join} objects and attribute paths
  * configured in {@link SpecificationQueryConfig} to be used while building the criteria query.
+ * <p>
+ * A {@link QueryContext} holds the join state of a single criteria query and is not thread-safe. A new instance should be
+ * created for every {@link org.springframework.data.jpa.domain.Specification#toPredicate toPredicate} invocation, while the
+ * shared configuration is read from the immutable {@link SpecificationQueryConfig}.
  *
  * @param <T> the type of the root entity
  */
@@ -24,6 +31,16 @@ public class QueryContext<T> {
 
     private final SpecificationQueryConfig.CustomExpressionConfig<T> customExpressionConfig;
 
+    private final SpecificationQueryConfig.OrderByConfig<T> orderByConfig;
+
+    private final SpecificationQueryConfig.FilterConfig<T> filterConfig;
+
+    private final boolean countQuery;
+
+    private final boolean bindParameterStable;
+
+    private final MetamodelAttributeResolver<T> attributeResolver;
+
     private boolean entityDistinctRequired;
 
     /**
@@ -33,9 +50,41 @@ public class QueryContext<T> {
      * queries.
      */
     public QueryContext(SpecificationQueryConfig<T> specificationQueryConfig) {
+        this(specificationQueryConfig, false);
+    }
+
+    /**
+     * Creates a new QueryContext instance with the given {@link SpecificationQueryConfig} for a regular or a count query.
+     *
+     * @param specificationQueryConfig the {@link SpecificationQueryConfig} object to be used for building criteria
+     * queries.
+     * @param countQuery whether the criteria query only counts the matching entities. A count query is built without
+     * ordering and fetch joins.
+     */
+    public QueryContext(SpecificationQueryConfig<T> specificationQueryConfig, boolean countQuery) {
+        this(specificationQueryConfig, countQuery, null);
+    }
+
+    /**
+     * Creates a new QueryContext instance with the given {@link SpecificationQueryConfig} for a regular or a count query,
+     * which resolves the types of the filter attributes with the given {@link MetamodelAttributeResolver}.
+     *
+     * @param specificationQueryConfig the {@link SpecificationQueryConfig} object to be used for building criteria
+     * queries.
+     * @param countQuery whether the criteria query only counts the matching entities.
+     * @param attributeResolver the resolver of the filter attributes or null to use the types of the criteria expressions.
+     */
+    public QueryContext(SpecificationQueryConfig<T> specificationQueryConfig, boolean countQuery,
+                        MetamodelAttributeResolver<T> attributeResolver) {
+        this.attributeResolver = attributeResolver;
         this.joinConfig = specificationQueryConfig.getJoinConfig();
         this.attributePathConfig = specificationQueryConfig.getAttributePathConfig();
         this.customExpressionConfig = specificationQueryConfig.getCustomExpressionConfig();
+        this.orderByConfig = specificationQueryConfig.getOrderByConfig();
+        this.filterConfig = specificationQueryConfig.getFilterConfig();
+        this.entityDistinctRequired = specificationQueryConfig.isEntityDistinctRequired();
+        this.countQuery = countQuery;
+        this.bindParameterStable = specificationQueryConfig.isBindParameterStable();
     }
 
     /**
@@ -78,6 +127,75 @@ public class QueryContext<T> {
         return attributePathConfig.getPathToEntityAttribute(attribute);
     }
 
+    /**
+     * Gets the compiled {@link AttributePathPlan} of the given entity attribute path.
+     *
+     * @param path the full path to the entity attribute.
+     * @return the compiled path plan.
+     */
+    public AttributePathPlan getAttributePathPlan(String path) {
+        return joinConfig.getAttributePathPlan(path);
+    }
+
+    /**
+     * Gets the first join on the path of the given filter attribute, which is defined with the {@link JoinStrategy#EXISTS}
+     * strategy. The predicates of the attribute should be built in a correlated subquery of this join.
+     *
+     * @param attribute the name of the filter attribute.
+     * @return the EXISTS join or null if the attribute is not filtered through an EXISTS join or has a custom expression.
+     */
+    public JoinItem getExistsJoinItem(String attribute) {
+        if (!joinConfig.isExistsJoinDefined()
+                || Objects.nonNull(getCustomSpecificationExpressionProviderByAttribute(attribute))) {
+            return null;
+        }
+        String pathToEntityAttribute = getPathToEntityAttribute(attribute);
+        String fullAttributePath = Objects.nonNull(pathToEntityAttribute) ? pathToEntityAttribute : attribute;
+        return getAttributePathPlan(fullAttributePath).getExistsJoinItem();
+    }
+
+    /**
+     * Checks if any of the joins built in this context is a join to a collection attribute, which can multiply the rows
+     * of the root entity.
+     *
+     * @return true if a collection join is present, false otherwise.
+     */
+    public boolean isCollectionJoinPresent() {
+        return joinsByAlias.values().stream()
+                .anyMatch(join -> join.getAttribute().isCollection());
+    }
+
+    /**
+     * Gets the entity attribute, to which the given filter attribute is resolved.
+     *
+     * @param attribute the name of the filter attribute.
+     * @return the resolved attribute or null if there is no {@link MetamodelAttributeResolver} or the attribute has a custom
+     * expression.
+     */
+    public ResolvedAttribute getResolvedAttribute(String attribute) {
+        return Objects.isNull(attributeResolver) ? null : attributeResolver.resolve(attribute);
+    }
+
+    /**
+     * Gets the {@link InStrategy} of the given filter attribute.
+     *
+     * @param attribute the name of the filter attribute.
+     * @return the configured strategy of the attribute or the default one.
+     */
+    public InStrategy getInStrategy(String attribute) {
+        return filterConfig.getInStrategy(attribute);
+    }
+
+    /**
+     * Gets the {@link NullPrecedenceStrategy} of the given sort attribute.
+     *
+     * @param attribute the name of the sort attribute.
+     * @return the configured strategy of the attribute or the default one.
+     */
+    public NullPrecedenceStrategy getNullPrecedenceStrategy(String attribute) {
+        return orderByConfig.getNullPrecedenceStrategy(attribute);
+    }
+
     /**
      * Gets the {@link JoinItem} object with the given alias from the join configuration object.
      *
@@ -100,6 +218,30 @@ public class QueryContext<T> {
         return entityDistinctRequired;
     }
 
+    public boolean isCountQuery() {
+        return countQuery;
+    }
+
+    /**
+     * Checks if the bind-parameter-stable mode is enabled, in which the predicates keep the number of the bind
+     * parameters bounded, e.g. by padding the IN lists.
+     *
+     * @return true if the mode is enabled, false otherwise
+     */
+    public boolean isBindParameterStable() {
+        return bindParameterStable;
+    }
+
+    /**
+     * Checks if the joins should be fetched. The joins are fetched when distinct entities are required, except in a count
+     * query, which does not select the entities.
+     *
+     * @return true if the joins should be fetched, false otherwise
+     */
+    public boolean isFetchJoinRequired() {
+        return entityDistinctRequired && !countQuery;
+    }
+
     public void setEntityDistinctRequired(boolean entityDistinctRequired) {
         this.entityDistinctRequired = entityDistinctRequired;
     }
@@ -113,4 +255,13 @@ public class QueryContext<T> {
     public Class<? extends SpecificationExpression> getCustomSpecificationExpressionByAttribute(String attribute) {
         return customExpressionConfig.getCustomSpecificationExpressionByAttribute(attribute);
     }
+
+    /**
+     * Returns the {@link SpecificationExpressionProvider} of the custom {@link SpecificationExpression} by an attribute
+     * @param attribute the attribute
+     * @return Returns the {@link SpecificationExpressionProvider} by an attribute or null if there is no custom expression
+     */
+    public SpecificationExpressionProvider<T> getCustomSpecificationExpressionProviderByAttribute(String attribute) {
+        return customExpressionConfig.getCustomSpecificationExpressionProviderByAttribute(attribute);
+    }
 }
@@ -0,0 +1,102 @@
+package com.cleverpine.specification.util;
+
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.cleverpine.specification.util.FilterConstants.INVALID_VALUE_FOR_CLASS;
+
+/**
+ * The {@link ResolvedAttribute} class holds the entity attribute, to which a filter attribute is resolved by the
+ * {@link MetamodelAttributeResolver} - the path to the attribute, its Java type, whether it is a plural (collection)
+ * attribute, and the converter of its type. Instances are immutable and cached per filter attribute.
+ */
+public final class ResolvedAttribute {
+
+    private final String path;
+
+    private final Class<?> javaType;
+
+    private final boolean plural;
+
+    private final boolean comparable;
+
+    private final Function<String, Object> converter;
+
+    ResolvedAttribute(String path, Class<?> javaType, boolean plural, Function<String, Object> converter) {
+        this.path = path;
+        this.javaType = javaType;
+        this.plural = plural;
+        this.comparable = Comparable.class.isAssignableFrom(javaType);
+        this.converter = converter;
+    }
+
+    /**
+     * Gets the full path to the entity attribute.
+     *
+     * @return the path to the entity attribute
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the Java type of the entity attribute, which is the type of its criteria expression.
+     *
+     * @return the Java type of the attribute
+     */
+    public Class<?> getJavaType() {
+        return javaType;
+    }
+
+    /**
+     * Checks if the entity attribute is a collection or a map.
+     *
+     * @return true if the attribute is plural, false otherwise
+     */
+    public boolean isPlural() {
+        return plural;
+    }
+
+    /**
+     * Converts a value to the type of the attribute.
+     *
+     * @param value the value to convert
+     * @return the converted value
+     * @throws InvalidSpecificationException if the value is null or cannot be converted
+     */
+    public Object convert(String value) {
+        return converter.apply(value);
+    }
+
+    /**
+     * Converts a list of values to the type of the attribute.
+     *
+     * @param values the values to convert
+     * @return the converted values
+     * @throws InvalidSpecificationException if a value is null or cannot be converted
+     */
+    public List<Object> convert(List<String> values) {
+        List<Object> convertedValues = new ArrayList<>(values.size());
+        for (String value : values) {
+            convertedValues.add(converter.apply(value));
+        }
+        return convertedValues;
+    }
+
+    /**
+     * Converts a value to the type of the attribute, which is required to be comparable.
+     *
+     * @param value the value to convert
+     * @return the converted value
+     * @throws InvalidSpecificationException if the value cannot be converted or the attribute type is not comparable
+     */
+    @SuppressWarnings("unchecked")
+    public Comparable<Object> convertToComparable(String value) {
+        if (!comparable) {
+            throw new InvalidSpecificationException(String.format(INVALID_VALUE_FOR_CLASS, value, javaType.getSimpleName()));
+        }
+        return (Comparable<Object>) converter.apply(value);
+    }
+}
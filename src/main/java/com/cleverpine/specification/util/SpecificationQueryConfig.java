@@ -1,21 +1,37 @@
 package com.cleverpine.specification.util;
 
+import com.cleverpine.specification.exception.IllegalSpecificationException;
 import com.cleverpine.specification.expression.SpecificationExpression;
+import com.cleverpine.specification.expression.SpecificationExpressionFactory;
+import com.cleverpine.specification.expression.SpecificationExpressionProvider;
+import com.cleverpine.specification.in.InStrategy;
+import com.cleverpine.specification.in.SingleInStrategy;
 import com.cleverpine.specification.item.*;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import jakarta.persistence.criteria.JoinType;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import static com.cleverpine.specification.util.FilterConstants.FROZEN_CONFIGURATION;
+import static com.cleverpine.specification.util.FilterConstants.INVALID_COMPLEXITY_CONFIGURATION;
+
 /**
  * This class represents a configuration object for creating a JPA specification query.
  * The {@link SpecificationQueryConfig} object contains various nested objects that define how to build
  * the JPA specification query.
+ * <p>
+ * The {@link SpecificationQueryConfigBuilder#build()} method produces a frozen snapshot of the configuration - all nested
+ * objects hold immutable collections and the attribute path mappings are cross-validated against the defined joins
+ * and precompiled. The mutators and the {@code end()} methods of the nested objects of a built configuration throw an
+ * {@link IllegalSpecificationException}. A built configuration can be shared across threads and requests.
  *
  * @param <T> The entity type to which the JPA specification query is applied.
  */
@@ -35,6 +51,31 @@ public class SpecificationQueryConfig<T> {
 
     private final boolean entityDistinctRequired;
 
+    private final boolean bindParameterStable;
+
+    private final ComplexityConfig<T> complexityConfig;
+
+    public SpecificationQueryConfig(JoinConfig<T> joinConfig,
+                                    AttributePathConfig<T> attributePathConfig,
+                                    FilterConfig<T> filterConfig,
+                                    OrderByConfig<T> orderByConfig,
+                                    CustomExpressionConfig<T> customExpressionConfig,
+                                    boolean entityDistinctRequired) {
+        this(joinConfig, attributePathConfig, filterConfig, orderByConfig, customExpressionConfig, entityDistinctRequired,
+                false);
+    }
+
+    public SpecificationQueryConfig(JoinConfig<T> joinConfig,
+                                    AttributePathConfig<T> attributePathConfig,
+                                    FilterConfig<T> filterConfig,
+                                    OrderByConfig<T> orderByConfig,
+                                    CustomExpressionConfig<T> customExpressionConfig,
+                                    boolean entityDistinctRequired,
+                                    boolean bindParameterStable) {
+        this(joinConfig, attributePathConfig, filterConfig, orderByConfig, customExpressionConfig, entityDistinctRequired,
+                bindParameterStable, ComplexityConfig.unlimited());
+    }
+
     public static <T> SpecificationQueryConfigBuilder<T> builder() {
         return new SpecificationQueryConfigBuilder<>();
     }
@@ -51,8 +92,12 @@ public class SpecificationQueryConfig<T> {
 
         private final CustomExpressionConfig<T> customExpressionConfig = new CustomExpressionConfig<>(this);
 
+        private final ComplexityConfig<T> complexityConfig = new ComplexityConfig<>(this, false);
+
         private boolean entityDistinctRequired;
 
+        private boolean bindParameterStable;
+
         public JoinConfig<T> joinConfig() {
             return joinConfig;
         }
@@ -73,13 +118,56 @@ public class SpecificationQueryConfig<T> {
             return customExpressionConfig;
         }
 
+        public ComplexityConfig<T> complexityConfig() {
+            return complexityConfig;
+        }
+
         public SpecificationQueryConfigBuilder<T> entityDistinctRequired(boolean entityDistinctRequired) {
             this.entityDistinctRequired = entityDistinctRequired;
             return this;
         }
 
+        /**
+         * Enables the bind-parameter-stable mode, which bounds the number of distinct SQL statements produced for the
+         * same filters, so the query plan cache of the JPA provider and the statement cache of the database are reused.
+         * The values of an IN filter are de-duplicated and padded to a power-of-two count by repeating the last value,
+         * so the lists of 5 to 8 values, for example, share one statement.
+         * <p>
+         * The filter values are always passed to the criteria builder as values, never as inlined literals, which the JPA
+         * provider binds as parameters - Hibernate 6 does it by default, while Hibernate 5 inlines numeric values unless
+         * {@code hibernate.criteria.literal_handling_mode} is set to {@code bind}.
+         *
+         * @param bindParameterStable whether the bind-parameter-stable mode is enabled
+         * @return this builder
+         */
+        public SpecificationQueryConfigBuilder<T> bindParameterStable(boolean bindParameterStable) {
+            this.bindParameterStable = bindParameterStable;
+            return this;
+        }
+
+        /**
+         * Builds a frozen snapshot of the configuration. The attribute path mappings are validated against the defined
+         * joins and their path plans are compiled.
+         *
+         * @return the immutable {@link SpecificationQueryConfig}
+         * @throws com.cleverpine.specification.exception.IllegalSpecificationException if an attribute path mapping
+         * refers to a join alias, which is not defined
+         */
         public SpecificationQueryConfig<T> build() {
-            return new SpecificationQueryConfig<>(joinConfig, attributePathConfig, filterConfig, orderByConfig, customExpressionConfig, entityDistinctRequired);
+            JoinConfig<T> frozenJoinConfig = new JoinConfig<>(joinConfig);
+            AttributePathConfig<T> frozenAttributePathConfig = new AttributePathConfig<>(attributePathConfig);
+            frozenAttributePathConfig.pathToEntityAttributeMappings.values()
+                    .forEach(frozenJoinConfig::getAttributePathPlan);
+
+            return new SpecificationQueryConfig<>(
+                    frozenJoinConfig,
+                    frozenAttributePathConfig,
+                    new FilterConfig<>(filterConfig),
+                    new OrderByConfig<>(orderByConfig),
+                    new CustomExpressionConfig<>(customExpressionConfig),
+                    entityDistinctRequired,
+                    bindParameterStable,
+                    new ComplexityConfig<>(complexityConfig));
         }
     }
 
@@ -87,38 +175,130 @@ public class SpecificationQueryConfig<T> {
 
         private final SpecificationQueryConfigBuilder<T> specificationQueryConfigBuilder;
 
-        private final Map<String, JoinItem> joinClauses = new HashMap<>();
+        private final Map<String, JoinItem> joinClauses;
+
+        private final Map<String, AttributePathPlan> attributePathPlans = new ConcurrentHashMap<>();
+
+        private final boolean frozen;
+
+        private boolean existsJoinDefined;
 
         private JoinConfig(SpecificationQueryConfigBuilder<T> specificationQueryConfigBuilder) {
             this.specificationQueryConfigBuilder = specificationQueryConfigBuilder;
+            this.joinClauses = new HashMap<>();
+            this.frozen = false;
+        }
+
+        private JoinConfig(JoinConfig<T> joinConfig) {
+            this.specificationQueryConfigBuilder = null;
+            this.joinClauses = Collections.unmodifiableMap(new HashMap<>(joinConfig.joinClauses));
+            this.existsJoinDefined = joinConfig.existsJoinDefined;
+            this.frozen = true;
         }
 
         public JoinItem getJoinItemByAlias(String alias) {
             return joinClauses.get(alias);
         }
 
+        /**
+         * Gets the compiled {@link AttributePathPlan} of the given entity attribute path. The plan is compiled on the first
+         * request and cached for the next ones.
+         *
+         * @param path the full path to the entity attribute
+         * @return the compiled path plan
+         * @throws com.cleverpine.specification.exception.IllegalSpecificationException if a join alias in the path is not defined
+         */
+        public AttributePathPlan getAttributePathPlan(String path) {
+            return attributePathPlans.computeIfAbsent(path, key -> AttributePathPlan.compile(key, joinClauses::get));
+        }
+
         public JoinConfig<T> defineJoinClause(Class<?> fromEntity, String joinAttribute, String alias, JoinType joinType) {
-            JoinItem joinItem = new JoinItem(fromEntity, joinAttribute, alias, joinType);
-            joinClauses.put(alias, joinItem);
+            return defineJoinClause(fromEntity, joinAttribute, alias, joinType, JoinStrategy.JOIN);
+        }
+
+        /**
+         * Defines a join with the given {@link JoinStrategy}. With {@link JoinStrategy#EXISTS} the filter predicates on
+         * the paths through the join are built as a correlated {@code EXISTS} subquery instead of a join in the root query.
+         *
+         * @param fromEntity    the entity, from which the join starts
+         * @param joinAttribute the attribute of the entity to join
+         * @param alias         the alias of the join used in the attribute paths
+         * @param joinType      the type of the join
+         * @param joinStrategy  the strategy of building the filter predicates through the join
+         * @return this join configuration
+         */
+        public JoinConfig<T> defineJoinClause(Class<?> fromEntity, String joinAttribute, String alias, JoinType joinType,
+                                              JoinStrategy joinStrategy) {
+            return defineJoinClause(new JoinItem(fromEntity, joinAttribute, alias, joinType, joinStrategy));
+        }
+
+        /**
+         * Defines the given join, e.g. one of a generated {@link com.cleverpine.specification.descriptor.FilterTypeDescriptor}.
+         *
+         * @param joinItem the join to define
+         * @return this join configuration
+         * @throws IllegalSpecificationException if the join configuration belongs to a built configuration
+         */
+        public JoinConfig<T> defineJoinClause(JoinItem joinItem) {
+            requireNotFrozen();
+            joinClauses.put(joinItem.getAlias(), joinItem);
+            attributePathPlans.clear();
+            existsJoinDefined = joinClauses.values().stream()
+                    .anyMatch(definedJoinItem -> definedJoinItem.getStrategy() == JoinStrategy.EXISTS);
             return this;
         }
 
+        /**
+         * Checks if any of the joins is defined with the {@link JoinStrategy#EXISTS} strategy.
+         *
+         * @return true if there is an EXISTS join, false otherwise
+         */
+        public boolean isExistsJoinDefined() {
+            return existsJoinDefined;
+        }
+
         public SpecificationQueryConfigBuilder<T> end() {
+            requireNotFrozen();
             return specificationQueryConfigBuilder;
         }
+
+        private void requireNotFrozen() {
+            if (frozen) {
+                throw new IllegalSpecificationException(String.format(FROZEN_CONFIGURATION, "join"));
+            }
+        }
     }
 
     public static class AttributePathConfig<T> {
 
         private final SpecificationQueryConfigBuilder<T> specificationQueryConfigBuilder;
 
-        private final Map<String, String> pathToEntityAttributeMappings = new HashMap<>();
+        private final Map<String, String> pathToEntityAttributeMappings;
+
+        private final boolean frozen;
 
         private AttributePathConfig(SpecificationQueryConfigBuilder<T> specificationQueryConfigBuilder) {
             this.specificationQueryConfigBuilder = specificationQueryConfigBuilder;
+            this.pathToEntityAttributeMappings = new HashMap<>();
+            this.frozen = false;
+        }
+
+        private AttributePathConfig(AttributePathConfig<T> attributePathConfig) {
+            this.specificationQueryConfigBuilder = null;
+            this.pathToEntityAttributeMappings = Collections.unmodifiableMap(new HashMap<>(attributePathConfig.pathToEntityAttributeMappings));
+            this.frozen = true;
         }
 
+        /**
+         * Maps the given filter attribute to a path to an entity attribute.
+         *
+         * @param filterAttribute       the filter attribute
+         * @param pathToEntityAttribute the path to the entity attribute, which may start with a join alias
+         * @return this attribute path configuration
+         * @throws IllegalSpecificationException if the attribute path configuration belongs to a built configuration
+         */
         public AttributePathConfig<T> addAttributePathMapping(String filterAttribute, String pathToEntityAttribute) {
+            requireNotFrozen();
             pathToEntityAttributeMappings.put(filterAttribute, pathToEntityAttribute);
             return this;
         }
@@ -128,31 +308,72 @@ public class SpecificationQueryConfig<T> {
         }
 
         public SpecificationQueryConfigBuilder<T> end() {
+            requireNotFrozen();
             return specificationQueryConfigBuilder;
         }
+
+        private void requireNotFrozen() {
+            if (frozen) {
+                throw new IllegalSpecificationException(String.format(FROZEN_CONFIGURATION, "attribute path"));
+            }
+        }
     }
 
     public static class FilterConfig<T> {
 
         private final SpecificationQueryConfigBuilder<T> specificationQueryConfigBuilder;
 
-        private final List<FilterItem<T>> filterItems = new ArrayList<>();
+        private final List<FilterItem<T>> filterItems;
+
+        private final Map<String, InStrategy> inStrategiesByAttribute;
+
+        private final boolean frozen;
+
+        private InStrategy defaultInStrategy = new SingleInStrategy();
 
         private FilterConfig(SpecificationQueryConfigBuilder<T> specificationQueryConfigBuilder) {
             this.specificationQueryConfigBuilder = specificationQueryConfigBuilder;
+            this.filterItems = new ArrayList<>();
+            this.inStrategiesByAttribute = new HashMap<>();
+            this.frozen = false;
+        }
+
+        private FilterConfig(FilterConfig<T> filterConfig) {
+            this.specificationQueryConfigBuilder = null;
+            this.filterItems = List.copyOf(filterConfig.filterItems);
+            this.inStrategiesByAttribute = Map.copyOf(filterConfig.inStrategiesByAttribute);
+            this.defaultInStrategy = filterConfig.defaultInStrategy;
+            this.frozen = true;
         }
 
+        /**
+         * Gets the default filter items. The list of a built configuration is immutable and is returned without copying.
+         *
+         * @return the default filter items
+         */
         public List<FilterItem<T>> getFilterItems() {
-            return new ArrayList<>(filterItems);
+            return filterItems;
+        }
+
+        /**
+         * Gets the {@link InStrategy} of the given filter attribute.
+         *
+         * @param attribute the filter attribute
+         * @return the strategy of the attribute or the default strategy if there is no strategy for the attribute
+         */
+        public InStrategy getInStrategy(String attribute) {
+            return inStrategiesByAttribute.getOrDefault(attribute, defaultInStrategy);
         }
 
         public FilterConfig<T> addFilter(String attribute, FilterOperator operator, Object value) {
+            requireNotFrozen();
             FilterItem<T> filterItem = new SingleFilterItem<>(attribute, operator, value.toString());
             filterItems.add(filterItem);
             return this;
         }
 
         public FilterConfig<T> addFilter(String attribute, FilterOperator operator, List<Object> values) {
+            requireNotFrozen();
             List<String> stringValues = values.stream()
                     .map(Object::toString)
                     .collect(Collectors.toList());
@@ -162,34 +383,137 @@ public class SpecificationQueryConfig<T> {
             return this;
         }
 
+        /**
+         * Sets the {@link InStrategy} of the IN filters on the given attribute.
+         *
+         * @param attribute  the filter attribute
+         * @param inStrategy the strategy of building the IN predicate
+         * @return this filter configuration
+         * @throws IllegalSpecificationException if the filter configuration belongs to a built configuration
+         */
+        public FilterConfig<T> inStrategy(String attribute, @NonNull InStrategy inStrategy) {
+            requireNotFrozen();
+            inStrategiesByAttribute.put(attribute, inStrategy);
+            return this;
+        }
+
+        /**
+         * Sets the {@link InStrategy} of the IN filters on the attributes without their own strategy. The default is
+         * {@link SingleInStrategy}.
+         *
+         * @param inStrategy the default strategy of building the IN predicate
+         * @return this filter configuration
+         * @throws IllegalSpecificationException if the filter configuration belongs to a built configuration
+         */
+        public FilterConfig<T> defaultInStrategy(@NonNull InStrategy inStrategy) {
+            requireNotFrozen();
+            this.defaultInStrategy = inStrategy;
+            return this;
+        }
+
         public SpecificationQueryConfigBuilder<T> end() {
+            requireNotFrozen();
             return specificationQueryConfigBuilder;
         }
+
+        private void requireNotFrozen() {
+            if (frozen) {
+                throw new IllegalSpecificationException(String.format(FROZEN_CONFIGURATION, "filter"));
+            }
+        }
     }
 
     public static class OrderByConfig<T> {
 
         private final SpecificationQueryConfigBuilder<T> specificationQueryConfigBuilder;
 
-        private final List<OrderByItem<T>> orderItems = new ArrayList<>();
+        private final List<OrderByItem<T>> orderItems;
+
+        private final Map<String, NullPrecedenceStrategy> nullPrecedenceStrategiesByAttribute;
+
+        private final boolean frozen;
+
+        private NullPrecedenceStrategy defaultNullPrecedenceStrategy = NullPrecedenceStrategy.CASE;
 
         private OrderByConfig(SpecificationQueryConfigBuilder<T> specificationQueryConfigBuilder) {
             this.specificationQueryConfigBuilder = specificationQueryConfigBuilder;
+            this.orderItems = new ArrayList<>();
+            this.nullPrecedenceStrategiesByAttribute = new HashMap<>();
+            this.frozen = false;
         }
 
+        private OrderByConfig(OrderByConfig<T> orderByConfig) {
+            this.specificationQueryConfigBuilder = null;
+            this.orderItems = List.copyOf(orderByConfig.orderItems);
+            this.nullPrecedenceStrategiesByAttribute = Map.copyOf(orderByConfig.nullPrecedenceStrategiesByAttribute);
+            this.defaultNullPrecedenceStrategy = orderByConfig.defaultNullPrecedenceStrategy;
+            this.frozen = true;
+        }
+
+        /**
+         * Gets the default order-by items. The list of a built configuration is immutable and is returned without copying.
+         *
+         * @return the default order-by items
+         */
         public List<OrderByItem<T>> getOrderByItems() {
-            return new ArrayList<>(orderItems);
+            return orderItems;
+        }
+
+        /**
+         * Gets the {@link NullPrecedenceStrategy} of the given sort attribute.
+         *
+         * @param attribute the sort attribute
+         * @return the strategy of the attribute or the default strategy if there is no strategy for the attribute
+         */
+        public NullPrecedenceStrategy getNullPrecedenceStrategy(String attribute) {
+            return nullPrecedenceStrategiesByAttribute.getOrDefault(attribute, defaultNullPrecedenceStrategy);
         }
 
         public OrderByConfig<T> addOrderBy(String attribute, SortDirection direction) {
+            requireNotFrozen();
             OrderByItem<T> orderItem = new OrderByItem<>(attribute, direction);
             orderItems.add(orderItem);
             return this;
         }
 
+        /**
+         * Sets the {@link NullPrecedenceStrategy} of the given sort attribute.
+         *
+         * @param attribute              the sort attribute
+         * @param nullPrecedenceStrategy the strategy of placing the null values of the attribute
+         * @return this order-by configuration
+         * @throws IllegalSpecificationException if the order-by configuration belongs to a built configuration
+         */
+        public OrderByConfig<T> nullPrecedence(String attribute, @NonNull NullPrecedenceStrategy nullPrecedenceStrategy) {
+            requireNotFrozen();
+            nullPrecedenceStrategiesByAttribute.put(attribute, nullPrecedenceStrategy);
+            return this;
+        }
+
+        /**
+         * Sets the {@link NullPrecedenceStrategy} of the sort attributes without their own strategy. The default is
+         * {@link NullPrecedenceStrategy#CASE}.
+         *
+         * @param nullPrecedenceStrategy the default strategy of placing the null values
+         * @return this order-by configuration
+         * @throws IllegalSpecificationException if the order-by configuration belongs to a built configuration
+         */
+        public OrderByConfig<T> defaultNullPrecedence(@NonNull NullPrecedenceStrategy nullPrecedenceStrategy) {
+            requireNotFrozen();
+            this.defaultNullPrecedenceStrategy = nullPrecedenceStrategy;
+            return this;
+        }
+
         public SpecificationQueryConfigBuilder<T> end() {
+            requireNotFrozen();
             return specificationQueryConfigBuilder;
         }
+
+        private void requireNotFrozen() {
+            if (frozen) {
+                throw new IllegalSpecificationException(String.format(FROZEN_CONFIGURATION, "order-by"));
+            }
+        }
     }
 
     @SuppressWarnings("rawtypes")
@@ -197,23 +521,322 @@ public class SpecificationQueryConfig<T> {
 
         private final SpecificationQueryConfigBuilder<T> specificationQueryConfigBuilder;
 
-        private final Map<String, Class<? extends SpecificationExpression>> customSpecExpressionsByAttribute = new HashMap<>();
+        private final Map<String, Class<? extends SpecificationExpression>> customSpecExpressionsByAttribute;
+
+        private final Map<String, SpecificationExpressionProvider<T>> customSpecExpressionProvidersByAttribute;
+
+        private final boolean frozen;
 
         private CustomExpressionConfig(SpecificationQueryConfigBuilder<T> specificationQueryConfigBuilder) {
             this.specificationQueryConfigBuilder = specificationQueryConfigBuilder;
+            this.customSpecExpressionsByAttribute = new HashMap<>();
+            this.customSpecExpressionProvidersByAttribute = new HashMap<>();
+            this.frozen = false;
+        }
+
+        private CustomExpressionConfig(CustomExpressionConfig<T> customExpressionConfig) {
+            this.specificationQueryConfigBuilder = null;
+            this.customSpecExpressionsByAttribute =
+                    Collections.unmodifiableMap(new HashMap<>(customExpressionConfig.customSpecExpressionsByAttribute));
+            this.customSpecExpressionProvidersByAttribute =
+                    Collections.unmodifiableMap(new HashMap<>(customExpressionConfig.customSpecExpressionProvidersByAttribute));
+            this.frozen = true;
         }
 
         public Class<? extends SpecificationExpression> getCustomSpecificationExpressionByAttribute(String attribute) {
             return customSpecExpressionsByAttribute.get(attribute);
         }
 
+        public SpecificationExpressionProvider<T> getCustomSpecificationExpressionProviderByAttribute(String attribute) {
+            return customSpecExpressionProvidersByAttribute.get(attribute);
+        }
+
+        /**
+         * Adds a custom specification expression type for the given attribute. The constructor of the type is resolved
+         * immediately, so the type should declare a constructor with an attribute path and a query context.
+         *
+         * @param attribute                   the filter or sort attribute
+         * @param specificationExpressionType the type of the custom specification expression
+         * @return this config
+         * @throws com.cleverpine.specification.exception.IllegalSpecificationException if the required constructor is not found
+         * or the custom expression configuration belongs to a built configuration
+         */
         public CustomExpressionConfig<T> addCustomSpecificationExpression(String attribute, Class<? extends SpecificationExpression> specificationExpressionType) {
+            requireNotFrozen();
+            SpecificationExpressionProvider<T> provider =
+                    SpecificationExpressionFactory.createSpecificationExpressionProvider(specificationExpressionType);
             customSpecExpressionsByAttribute.put(attribute, specificationExpressionType);
+            customSpecExpressionProvidersByAttribute.put(attribute, provider);
+            return this;
+        }
+
+        /**
+         * Adds a custom specification expression provider for the given attribute.
+         *
+         * @param attribute                       the filter or sort attribute
+         * @param specificationExpressionProvider the provider, which creates the custom specification expression
+         * @return this config
+         * @throws IllegalSpecificationException if the custom expression configuration belongs to a built configuration
+         */
+        public CustomExpressionConfig<T> addCustomSpecificationExpression(String attribute, SpecificationExpressionProvider<T> specificationExpressionProvider) {
+            requireNotFrozen();
+            customSpecExpressionsByAttribute.remove(attribute);
+            customSpecExpressionProvidersByAttribute.put(attribute, specificationExpressionProvider);
             return this;
         }
 
         public SpecificationQueryConfigBuilder<T> end() {
+            requireNotFrozen();
             return specificationQueryConfigBuilder;
         }
+
+        private void requireNotFrozen() {
+            if (frozen) {
+                throw new IllegalSpecificationException(String.format(FROZEN_CONFIGURATION, "custom expression"));
+            }
+        }
+    }
+
+    /**
+     * The complexity budget of a request. The filter and sort items of a request are checked against the limits before
+     * the specification is built and a request over a limit is rejected with an
+     * {@link com.cleverpine.specification.exception.InvalidSpecificationException}. The default filter and order-by
+     * items of the configuration are not counted. All limits are unlimited by default. The complexity configuration of a
+     * built {@link SpecificationQueryConfig} cannot be modified.
+     */
+    public static class ComplexityConfig<T> {
+
+        /**
+         * The value of a limit, which is not set.
+         */
+        public static final int UNLIMITED = Integer.MAX_VALUE;
+
+        private static final int DEFAULT_ATTRIBUTE_COST = 1;
+
+        private final SpecificationQueryConfigBuilder<T> specificationQueryConfigBuilder;
+
+        private final Map<String, Integer> attributeCosts;
+
+        private final boolean frozen;
+
+        private int maxFilters = UNLIMITED;
+
+        private int maxSorts = UNLIMITED;
+
+        private int maxJoinDepth = UNLIMITED;
+
+        private int maxCollectionJoins = UNLIMITED;
+
+        private int maxInValues = UNLIMITED;
+
+        private int maxLeadingWildcardLikes = UNLIMITED;
+
+        private int maxCost = UNLIMITED;
+
+        private int defaultAttributeCost = DEFAULT_ATTRIBUTE_COST;
+
+        private ComplexityConfig(SpecificationQueryConfigBuilder<T> specificationQueryConfigBuilder, boolean frozen) {
+            this.specificationQueryConfigBuilder = specificationQueryConfigBuilder;
+            this.attributeCosts = frozen ? Map.of() : new HashMap<>();
+            this.frozen = frozen;
+        }
+
+        private ComplexityConfig(ComplexityConfig<T> complexityConfig) {
+            this.specificationQueryConfigBuilder = null;
+            this.attributeCosts = Map.copyOf(complexityConfig.attributeCosts);
+            this.frozen = true;
+            this.maxFilters = complexityConfig.maxFilters;
+            this.maxSorts = complexityConfig.maxSorts;
+            this.maxJoinDepth = complexityConfig.maxJoinDepth;
+            this.maxCollectionJoins = complexityConfig.maxCollectionJoins;
+            this.maxInValues = complexityConfig.maxInValues;
+            this.maxLeadingWildcardLikes = complexityConfig.maxLeadingWildcardLikes;
+            this.maxCost = complexityConfig.maxCost;
+            this.defaultAttributeCost = complexityConfig.defaultAttributeCost;
+        }
+
+        /**
+         * Creates a frozen complexity configuration without limits, which is used by the configurations created without
+         * the builder.
+         *
+         * @param <T> the entity type
+         * @return the unlimited complexity configuration
+         */
+        public static <T> ComplexityConfig<T> unlimited() {
+            return new ComplexityConfig<>(null, true);
+        }
+
+        public int getMaxFilters() {
+            return maxFilters;
+        }
+
+        public int getMaxSorts() {
+            return maxSorts;
+        }
+
+        public int getMaxJoinDepth() {
+            return maxJoinDepth;
+        }
+
+        public int getMaxCollectionJoins() {
+            return maxCollectionJoins;
+        }
+
+        public int getMaxInValues() {
+            return maxInValues;
+        }
+
+        public int getMaxLeadingWildcardLikes() {
+            return maxLeadingWildcardLikes;
+        }
+
+        public int getMaxCost() {
+            return maxCost;
+        }
+
+        /**
+         * Gets the cost of a filter or a sort on the given attribute.
+         *
+         * @param attribute the filter or sort attribute
+         * @return the cost of the attribute or the default cost if there is no cost for the attribute
+         */
+        public int getAttributeCost(String attribute) {
+            return attributeCosts.getOrDefault(attribute, defaultAttributeCost);
+        }
+
+        /**
+         * Checks if any of the limits is set.
+         *
+         * @return true if the requests are checked against at least one limit, false otherwise
+         */
+        public boolean isLimited() {
+            return maxFilters != UNLIMITED
+                    || maxSorts != UNLIMITED
+                    || maxJoinDepth != UNLIMITED
+                    || maxCollectionJoins != UNLIMITED
+                    || maxInValues != UNLIMITED
+                    || maxLeadingWildcardLikes != UNLIMITED
+                    || maxCost != UNLIMITED;
+        }
+
+        /**
+         * Sets the maximum number of the filter items of a request.
+         *
+         * @param maxFilters the maximum number of filters
+         * @return this complexity configuration
+         */
+        public ComplexityConfig<T> maxFilters(int maxFilters) {
+            this.maxFilters = requireNonNegative("maximum filters", maxFilters);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the order-by items of a request.
+         *
+         * @param maxSorts the maximum number of sorts
+         * @return this complexity configuration
+         */
+        public ComplexityConfig<T> maxSorts(int maxSorts) {
+            this.maxSorts = requireNonNegative("maximum sorts", maxSorts);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of joins on the path of a single filter or sort attribute.
+         *
+         * @param maxJoinDepth the maximum join depth
+         * @return this complexity configuration
+         */
+        public ComplexityConfig<T> maxJoinDepth(int maxJoinDepth) {
+            this.maxJoinDepth = requireNonNegative("maximum join depth", maxJoinDepth);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of distinct joins to collection attributes used by the filters and sorts of a request.
+         *
+         * @param maxCollectionJoins the maximum number of joined collections
+         * @return this complexity configuration
+         */
+        public ComplexityConfig<T> maxCollectionJoins(int maxCollectionJoins) {
+            this.maxCollectionJoins = requireNonNegative("maximum collection joins", maxCollectionJoins);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of values of a single IN filter.
+         *
+         * @param maxInValues the maximum number of IN values
+         * @return this complexity configuration
+         */
+        public ComplexityConfig<T> maxInValues(int maxInValues) {
+            this.maxInValues = requireNonNegative("maximum IN values", maxInValues);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the filters with a leading wildcard, which cannot use an index - {@code like},
+         * {@code ew} and {@code sw} with a value starting with a wildcard.
+         *
+         * @param maxLeadingWildcardLikes the maximum number of leading wildcard filters
+         * @return this complexity configuration
+         */
+        public ComplexityConfig<T> maxLeadingWildcardLikes(int maxLeadingWildcardLikes) {
+            this.maxLeadingWildcardLikes = requireNonNegative("maximum leading wildcard likes", maxLeadingWildcardLikes);
+            return this;
+        }
+
+        /**
+         * Sets the maximum total cost of a request - the sum of the attribute costs of its filters and sorts.
+         *
+         * @param maxCost the maximum cost
+         * @return this complexity configuration
+         */
+        public ComplexityConfig<T> maxCost(int maxCost) {
+            this.maxCost = requireNonNegative("maximum cost", maxCost);
+            return this;
+        }
+
+        /**
+         * Sets the cost of a filter or a sort on the given attribute, e.g. a higher cost for an attribute without an index.
+         *
+         * @param attribute the filter or sort attribute
+         * @param cost      the cost of the attribute
+         * @return this complexity configuration
+         */
+        public ComplexityConfig<T> attributeCost(String attribute, int cost) {
+            attributeCosts.put(attribute, requireNonNegative("attribute cost", cost));
+            return this;
+        }
+
+        /**
+         * Sets the cost of a filter or a sort on the attributes without their own cost. The default is 1.
+         *
+         * @param cost the default cost of an attribute
+         * @return this complexity configuration
+         */
+        public ComplexityConfig<T> defaultAttributeCost(int cost) {
+            this.defaultAttributeCost = requireNonNegative("default attribute cost", cost);
+            return this;
+        }
+
+        public SpecificationQueryConfigBuilder<T> end() {
+            requireNotFrozen();
+            return specificationQueryConfigBuilder;
+        }
+
+        private void requireNotFrozen() {
+            if (frozen) {
+                throw new IllegalSpecificationException(String.format(FROZEN_CONFIGURATION, "complexity"));
+            }
+        }
+
+        private int requireNonNegative(String name, int value) {
+            requireNotFrozen();
+            if (value < 0) {
+                throw new IllegalSpecificationException(String.format(INVALID_COMPLEXITY_CONFIGURATION, name, value));
+            }
+            return value;
+        }
     }
 }
@@ -5,6 +5,8 @@ import com.cleverpine.specification.item.FilterItem;
 import com.cleverpine.specification.item.MultiFilterItem;
 import com.cleverpine.specification.item.OrderByItem;
 import com.cleverpine.specification.item.SingleFilterItem;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -112,6 +114,41 @@ public final class SpecificationUtil {
         }
     }
 
+    /**
+     * Removes the duplicate values and pads the list to the next power-of-two size by repeating its last value. The
+     * padding does not change the result of an IN predicate, but bounds the number of distinct parameter counts.
+     *
+     * @param values the values of an IN predicate
+     * @param <V>    the type of the values
+     * @return the distinct values padded to a power-of-two size
+     */
+    public static <V> List<V> padToPowerOfTwo(List<V> values) {
+        return padToPowerOfTwo(values, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes the duplicate values and pads the list to the next power-of-two size, but not above the given maximum size,
+     * by repeating its last value.
+     *
+     * @param values  the values of an IN predicate
+     * @param maxSize the maximum size of the padded list
+     * @param <V>     the type of the values
+     * @return the distinct values padded to a power-of-two size or to the maximum size
+     */
+    public static <V> List<V> padToPowerOfTwo(List<V> values, int maxSize) {
+        List<V> distinctValues = new ArrayList<>(new LinkedHashSet<>(values));
+        int size = distinctValues.size();
+        if (size < 2 || size >= maxSize) {
+            return distinctValues;
+        }
+        int paddedSize = Math.min(Integer.highestOneBit(size - 1) << 1, maxSize);
+        V lastValue = distinctValues.get(size - 1);
+        while (distinctValues.size() < paddedSize) {
+            distinctValues.add(lastValue);
+        }
+        return distinctValues;
+    }
+
     public static boolean isFilterItemValid(List<String> filterArgs) {
         return filterArgs.size() == VALID_FILTER_ARGS_COUNT;
     }
@@ -57,6 +57,23 @@ public class ValueConverter {
         return parseFunction.apply(value);
     }
 
+    /**
+     * Gets the converter of the specified type, so the converter is looked up once instead of once per value. Like
+     * {@link #convert(Class, String)}, the returned function rejects null values and returns the value of a type without
+     * a converter unchanged.
+     * @param type the class of the desired object type
+     * @return the converter function of the type
+     */
+    public Function<String, Object> getConverter(Class<?> type) {
+        Function<String, Object> parseFunction = valueParsers.get(type);
+        return value -> {
+            if (Objects.isNull(value)) {
+                throw new InvalidSpecificationException(NULL_VALUE);
+            }
+            return Objects.isNull(parseFunction) ? value : parseFunction.apply(value);
+        };
+    }
+
     /**
      * Converts a string value to a comparable object of the specified type.
      * @param type the class of the desired comparable object type
@@ -0,0 +1,77 @@
+package com.cleverpine.specification.cache;
+
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.MultiFilterItem;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.SortDirection;
+import com.cleverpine.specification.util.SpecificationRequest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SpecificationCacheKeyTest {
+
+    @Test
+    void ofItems_whenFilterItemsDifferOnlyInOrderAndDuplicates_shouldBeEqual() {
+        FilterItem<Object> title = new SingleFilterItem<>("title", FilterOperator.EQUAL, "Matrix");
+        FilterItem<Object> id = new MultiFilterItem<>("id", FilterOperator.IN, List.of("1", "2"));
+
+        SpecificationCacheKey first = SpecificationCacheKey.ofItems(List.of(title, id), List.of());
+        SpecificationCacheKey second = SpecificationCacheKey.ofItems(
+                List.of(new MultiFilterItem<>("id", FilterOperator.IN, List.of("1", "2")),
+                        new SingleFilterItem<>("title", FilterOperator.EQUAL, "Matrix"),
+                        title),
+                List.of());
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    void ofItems_whenValuesOperatorsOrSortOrderDiffer_shouldNotBeEqual() {
+        OrderByItem<Object> byTitle = new OrderByItem<>("title", SortDirection.ASC);
+        OrderByItem<Object> byId = new OrderByItem<>("id", SortDirection.DESC);
+
+        assertNotEquals(
+                SpecificationCacheKey.ofItems(List.of(new SingleFilterItem<>("title", FilterOperator.EQUAL, "a")), List.of()),
+                SpecificationCacheKey.ofItems(List.of(new SingleFilterItem<>("title", FilterOperator.EQUAL, "b")), List.of()));
+        assertNotEquals(
+                SpecificationCacheKey.ofItems(List.of(new SingleFilterItem<>("title", FilterOperator.EQUAL, "a")), List.of()),
+                SpecificationCacheKey.ofItems(List.of(new SingleFilterItem<>("title", FilterOperator.LIKE, "a")), List.of()));
+        assertNotEquals(
+                SpecificationCacheKey.ofItems(List.of(), List.of(byTitle, byId)),
+                SpecificationCacheKey.ofItems(List.of(), List.of(byId, byTitle)));
+    }
+
+    @Test
+    void ofParameters_whenRawParametersAreEqual_shouldBeEqual() {
+        SpecificationRequest<Object> first = SpecificationRequest.builder()
+                .withFilterParam("[[\"title\",\"eq\",\"a\"]]")
+                .withSortParams(List.of("title:asc"))
+                .build();
+        SpecificationRequest<Object> second = SpecificationRequest.builder()
+                .withFilterParam("[[\"title\",\"eq\",\"a\"]]")
+                .withSortParams(List.of("title:asc"))
+                .build();
+
+        assertEquals(SpecificationCacheKey.ofParameters(first), SpecificationCacheKey.ofParameters(second));
+        assertNotEquals(
+                SpecificationCacheKey.ofParameters(first),
+                SpecificationCacheKey.ofItems(List.of(), List.of()));
+    }
+
+    @Test
+    void ofParameters_whenRequestHoldsItems_shouldReturnNull() {
+        SpecificationRequest<Object> request = SpecificationRequest.builder()
+                .withFilterItems(List.of(new SingleFilterItem<>("title", FilterOperator.EQUAL, "a")))
+                .build();
+
+        assertNull(SpecificationCacheKey.ofParameters(request));
+    }
+}
@@ -0,0 +1,157 @@
+package com.cleverpine.specification.cache;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.util.SortDirection;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SpecificationCacheTest {
+
+    private static final Specification<Object> SPECIFICATION = (root, query, criteriaBuilder) -> null;
+
+    @Test
+    void get_whenKeyIsCached_shouldNotCallTheLoaderAgain() {
+        SpecificationCache<Object> cache = SpecificationCache.builder().build();
+        AtomicInteger loads = new AtomicInteger();
+
+        Specification<Object> first = cache.get(key("a"), () -> {
+            loads.incrementAndGet();
+            return SPECIFICATION;
+        });
+        Specification<Object> second = cache.get(key("a"), () -> {
+            loads.incrementAndGet();
+            return (root, query, criteriaBuilder) -> null;
+        });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        SpecificationCacheStats stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    void get_whenMaximumSizeIsExceeded_shouldEvictTheLeastRecentlyUsedEntry() {
+        SpecificationCache<Object> cache = SpecificationCache.builder()
+                .withMaximumSize(2)
+                .build();
+
+        cache.put(key("a"), SPECIFICATION);
+        cache.put(key("b"), SPECIFICATION);
+        cache.getIfPresent(key("a"));
+        cache.put(key("c"), SPECIFICATION);
+
+        assertEquals(2, cache.size());
+        assertSame(SPECIFICATION, cache.getIfPresent(key("a")));
+        assertNull(cache.getIfPresent(key("b")));
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    void getIfPresent_whenEntryIsExpired_shouldReturnNullAndEvictIt() {
+        MutableClock clock = new MutableClock();
+        SpecificationCache<Object> cache = SpecificationCache.builder()
+                .withExpireAfterWrite(Duration.ofMinutes(5))
+                .withClock(clock)
+                .build();
+
+        cache.put(key("a"), SPECIFICATION);
+        clock.advance(Duration.ofMinutes(4));
+        assertSame(SPECIFICATION, cache.getIfPresent(key("a")));
+
+        clock.advance(Duration.ofMinutes(1));
+        assertNull(cache.getIfPresent(key("a")));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    void getIfPresent_onMiss_shouldNotRecordAMiss() {
+        SpecificationCache<Object> cache = SpecificationCache.builder().build();
+
+        assertNull(cache.getIfPresent(key("a")));
+
+        assertEquals(0, cache.getStats().getRequestCount());
+    }
+
+    @Test
+    void get_whenLoaderThrows_shouldNotCacheAnything() {
+        SpecificationCache<Object> cache = SpecificationCache.builder().build();
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> cache.get(key("a"), () -> {
+                    throw new IllegalStateException();
+                })
+        );
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidateAll_shouldRemoveAllEntries() {
+        SpecificationCache<Object> cache = SpecificationCache.builder().build();
+        cache.put(key("a"), SPECIFICATION);
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void build_whenMaximumSizeIsNotPositive_shouldThrow() {
+        assertThrows(
+                IllegalSpecificationException.class,
+                () -> SpecificationCache.builder().withMaximumSize(0).build()
+        );
+    }
+
+    @Test
+    void build_whenExpireAfterWriteIsNotPositive_shouldThrow() {
+        assertThrows(
+                IllegalSpecificationException.class,
+                () -> SpecificationCache.builder().withExpireAfterWrite(Duration.ZERO).build()
+        );
+    }
+
+    private static SpecificationCacheKey key(String attribute) {
+        return SpecificationCacheKey.ofItems(List.of(), List.of(new OrderByItem<>(attribute, SortDirection.ASC)));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.cleverpine.specification.core;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import org.hibernate.NullPrecedence;
+import org.hibernate.query.criteria.internal.OrderImpl;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NativeNullPrecedenceTest {
+
+    @Test
+    void apply_whenOrderSupportsNullPrecedence_shouldApplyTheRequestedPrecedence() {
+        NullPrecedenceOrder order = new NullPrecedenceOrder();
+
+        assertSame(order, NativeNullPrecedence.apply(order, true));
+        assertEquals(ProviderNullPrecedence.FIRST, order.nullPrecedence);
+
+        NativeNullPrecedence.apply(order, false);
+        assertEquals(ProviderNullPrecedence.LAST, order.nullPrecedence);
+    }
+
+    @Test
+    void apply_whenOrderDoesNotSupportNullPrecedence_shouldReturnNull() {
+        assertNull(NativeNullPrecedence.apply(new PlainOrder(), true));
+    }
+
+    @Test
+    void apply_onHibernate5Order_shouldReturnNull() {
+        assertNull(NativeNullPrecedence.apply(new OrderImpl(null, true), true));
+    }
+
+    @Test
+    void apply_onHibernate6JpaOrderSignature_shouldApplyTheHibernateNullPrecedence() {
+        SortSpecification order = new SortSpecification();
+
+        Order actual = NativeNullPrecedence.apply(order, false);
+
+        assertSame(order, actual);
+        assertEquals(NullPrecedence.LAST, ((JpaOrder) actual).getNullPrecedence());
+    }
+
+    @Test
+    void apply_whenProviderMethodThrowsRuntimeException_shouldRethrowIt() {
+        assertThrows(IllegalStateException.class,
+                () -> NativeNullPrecedence.apply(new FailingOrder(new IllegalStateException()), true));
+    }
+
+    @Test
+    void apply_whenProviderMethodThrowsCheckedException_shouldRethrowIt() {
+        IOException failure = new IOException();
+
+        UndeclaredThrowableException exception = assertThrows(UndeclaredThrowableException.class,
+                () -> NativeNullPrecedence.apply(new FailingOrder(failure), true));
+        assertSame(failure, exception.getUndeclaredThrowable());
+        assertInstanceOf(IOException.class, exception.getCause());
+    }
+
+    public enum ProviderNullPrecedence {
+        NONE, FIRST, LAST
+    }
+
+    public static class PlainOrder implements Order {
+
+        @Override
+        public Order reverse() {
+            return this;
+        }
+
+        @Override
+        public boolean isAscending() {
+            return true;
+        }
+
+        @Override
+        public Expression<?> getExpression() {
+            return null;
+        }
+    }
+
+    public static class NullPrecedenceOrder extends PlainOrder {
+
+        private ProviderNullPrecedence nullPrecedence = ProviderNullPrecedence.NONE;
+
+        public NullPrecedenceOrder nullPrecedence(ProviderNullPrecedence nullPrecedence) {
+            this.nullPrecedence = nullPrecedence;
+            return this;
+        }
+    }
+
+    /**
+     * The null precedence methods of {@code org.hibernate.query.criteria.JpaOrder} of Hibernate 6.
+     */
+    public interface JpaOrder extends Order {
+
+        JpaOrder nullPrecedence(NullPrecedence precedence);
+
+        NullPrecedence getNullPrecedence();
+    }
+
+    /**
+     * Mirrors {@code SqmSortSpecification} of Hibernate 6, which is not public API and narrows the return type.
+     */
+    static class SortSpecification extends PlainOrder implements JpaOrder {
+
+        private NullPrecedence nullPrecedence = NullPrecedence.NONE;
+
+        @Override
+        public SortSpecification nullPrecedence(NullPrecedence precedence) {
+            this.nullPrecedence = precedence;
+            return this;
+        }
+
+        @Override
+        public NullPrecedence getNullPrecedence() {
+            return nullPrecedence;
+        }
+    }
+
+    public static class FailingOrder extends PlainOrder {
+
+        private final Throwable failure;
+
+        FailingOrder(Throwable failure) {
+            this.failure = failure;
+        }
+
+        public FailingOrder nullPrecedence(ProviderNullPrecedence nullPrecedence) {
+            throw NativeNullPrecedenceTest.<RuntimeException>sneakyThrow(failure);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E sneakyThrow(Throwable failure) throws E {
+        throw (E) failure;
+    }
+}
@@ -0,0 +1,98 @@
+package com.cleverpine.specification.descriptor;
+
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.integration.entity.Movie;
+import com.cleverpine.specification.item.JoinItem;
+import com.cleverpine.specification.util.FilterTypeMetadata;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import com.cleverpine.specification.util.ValueConverter;
+import jakarta.persistence.criteria.JoinType;
+import java.time.LocalDate;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FilterTypeDescriptorsTest {
+
+    @Test
+    void find_whenDescriptorIsGenerated_shouldReturnTheCachedDescriptor() {
+        FilterTypeDescriptor<?> descriptor = FilterTypeDescriptors.find(DescribedCriteria.class);
+
+        assertInstanceOf(FilterTypeDescriptorsTest_DescribedCriteria_SpecificationDescriptor.class, descriptor);
+        assertSame(descriptor, FilterTypeDescriptors.find(DescribedCriteria.class));
+    }
+
+    @Test
+    void find_whenDescriptorIsNotGenerated_shouldReturnNull() {
+        assertNull(FilterTypeDescriptors.find(UndescribedCriteria.class));
+        assertNull(FilterTypeDescriptors.find(String.class));
+    }
+
+    @Test
+    void getDescriptorName_onNestedFilterType_shouldJoinTheEnclosingClassNames() {
+        assertEquals("com.cleverpine.specification.descriptor.FilterTypeDescriptorsTest_DescribedCriteria_SpecificationDescriptor",
+                FilterTypeDescriptors.getDescriptorName(DescribedCriteria.class));
+    }
+
+    @Test
+    void filterTypeMetadata_whenDescriptorIsGenerated_shouldUseTheDescribedAttributes() {
+        FilterTypeMetadata metadata = FilterTypeMetadata.of(DescribedCriteria.class);
+
+        assertEquals(Set.of("genreName", "releaseDate"), metadata.getAttributes());
+        assertEquals(LocalDate.class, metadata.getAttributeType("releaseDate"));
+    }
+
+    @Test
+    void configure_shouldDefineTheJoinsAndTheAttributePathMappings() {
+        @SuppressWarnings("unchecked")
+        FilterTypeDescriptor<Movie> descriptor = (FilterTypeDescriptor<Movie>) FilterTypeDescriptors.find(DescribedCriteria.class);
+
+        SpecificationQueryConfig<Movie> config = descriptor.configure(SpecificationQueryConfig.<Movie>builder()).build();
+
+        JoinItem joinItem = config.getJoinConfig().getJoinItemByAlias("g");
+        assertEquals(Movie.class, joinItem.getFromEntity());
+        assertEquals("genre", joinItem.getJoinAttribute());
+        assertEquals(JoinType.LEFT, joinItem.getType());
+        assertEquals("g.name", config.getAttributePathConfig().getPathToEntityAttribute("genreName"));
+    }
+
+    @Test
+    void configure_shouldRegisterTheValueConverters() {
+        FilterTypeDescriptor<?> descriptor = FilterTypeDescriptors.find(DescribedCriteria.class);
+
+        ValueConverter valueConverter = descriptor.configure(new ValueConverter());
+
+        assertEquals(LocalDate.of(2024, 1, 31), valueConverter.convert(LocalDate.class, "2024-01-31"));
+    }
+
+    @Test
+    void converter_whenValueCannotBeParsed_shouldThrow() {
+        ValueConverter valueConverter = FilterTypeDescriptors.find(DescribedCriteria.class).configure(new ValueConverter());
+
+        InvalidSpecificationException exception = assertThrows(
+                InvalidSpecificationException.class,
+                () -> valueConverter.convert(LocalDate.class, "invalid")
+        );
+        assertEquals("Invalid value [invalid] for type [LocalDate]", exception.getMessage());
+    }
+
+    static class DescribedCriteria {
+
+        private String genreName;
+
+        private LocalDate releaseDate;
+
+        private String ignored;
+    }
+
+    private static class UndescribedCriteria {
+
+        private String title;
+    }
+}
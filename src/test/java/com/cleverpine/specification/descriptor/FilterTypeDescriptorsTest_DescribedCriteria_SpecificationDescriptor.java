@@ -0,0 +1,47 @@
+package com.cleverpine.specification.descriptor;
+
+import com.cleverpine.specification.integration.entity.Movie;
+import com.cleverpine.specification.item.JoinItem;
+import com.cleverpine.specification.util.JoinStrategy;
+import jakarta.persistence.criteria.JoinType;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class FilterTypeDescriptorsTest_DescribedCriteria_SpecificationDescriptor implements FilterTypeDescriptor<Movie> {
+
+    @Override
+    public Class<?> getFilterType() {
+        return FilterTypeDescriptorsTest.DescribedCriteria.class;
+    }
+
+    @Override
+    public Class<Movie> getEntityType() {
+        return Movie.class;
+    }
+
+    @Override
+    public Map<String, Class<?>> getAttributeTypes() {
+        Map<String, Class<?>> attributeTypes = new LinkedHashMap<>();
+        attributeTypes.put("genreName", String.class);
+        attributeTypes.put("releaseDate", LocalDate.class);
+        return attributeTypes;
+    }
+
+    @Override
+    public Map<String, String> getAttributePathMappings() {
+        return Map.of("genreName", "g.name");
+    }
+
+    @Override
+    public List<JoinItem> getJoinItems() {
+        return List.of(new JoinItem(Movie.class, "genre", "g", JoinType.LEFT, JoinStrategy.JOIN, false));
+    }
+
+    @Override
+    public Map<Class<?>, Function<String, Object>> getValueConverters() {
+        return Map.of(LocalDate.class, FilterTypeDescriptors.converter(LocalDate.class, LocalDate::parse));
+    }
+}
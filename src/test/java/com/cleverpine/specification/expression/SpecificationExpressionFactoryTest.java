@@ -37,16 +37,28 @@ public class SpecificationExpressionFactoryTest {
     }
 
     @Test
-    void createSpecificationExpression_whenTheSpecificationExpressionHasNotTheRequiredConstructor_shouldThrow() {
+    void createSpecificationExpression_whenCustomExpressionProviderIsFoundForTheGivenAttribute_shouldUseIt() {
         SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
                 .customExpressionConfig()
-                .addCustomSpecificationExpression("attribute", SpecificationExpressionFactoryTest.InvalidConstructorSpecExpression.class)
+                .addCustomSpecificationExpression("attribute", CustomSpecExpression::new)
                 .end()
                 .build();
 
+        SpecificationExpression<Object, Object> specificationExpression =
+                SpecificationExpressionFactory.createSpecificationExpression("attribute", new QueryContext<>(queryConfig));
+
+        assertEquals(CustomSpecExpression.class, specificationExpression.getClass());
+        assertEquals("attribute", specificationExpression.getAttributePath());
+    }
+
+    @Test
+    void addCustomSpecificationExpression_whenTheSpecificationExpressionHasNotTheRequiredConstructor_shouldThrow() {
+        SpecificationQueryConfig.CustomExpressionConfig<Object> customExpressionConfig = SpecificationQueryConfig.builder()
+                .customExpressionConfig();
+
         assertThrows(
                 IllegalSpecificationException.class,
-                () -> SpecificationExpressionFactory.createSpecificationExpression("attribute", new QueryContext<>(queryConfig))
+                () -> customExpressionConfig.addCustomSpecificationExpression("attribute", SpecificationExpressionFactoryTest.InvalidConstructorSpecExpression.class)
         );
     }
 
@@ -0,0 +1,72 @@
+package com.cleverpine.specification.in;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ArrayParameterInStrategyTest {
+
+    @Mock
+    private Expression<String> expression;
+
+    @Mock
+    private Expression<String[]> arrayExpression;
+
+    @Mock
+    private Expression<Boolean> functionExpression;
+
+    @Mock
+    private Predicate predicate;
+
+    @Mock
+    private ValueCriteriaBuilder criteriaBuilder;
+
+    @Mock
+    private CriteriaBuilder standardCriteriaBuilder;
+
+    @Test
+    void constructor_onBlankFunctionName_shouldThrow() {
+        assertThrows(IllegalSpecificationException.class, () -> new ArrayParameterInStrategy(" "));
+    }
+
+    @Test
+    void createPredicate_shouldCompareTheExpressionWithTheDistinctValuesArray() {
+        doReturn(String.class).when(expression).getJavaType();
+        when(criteriaBuilder.value(aryEq(new String[]{"a", "b"}))).thenReturn(arrayExpression);
+        when(criteriaBuilder.function("array_contains", Boolean.class, expression, arrayExpression))
+                .thenReturn(functionExpression);
+        when(criteriaBuilder.isTrue(functionExpression)).thenReturn(predicate);
+
+        Predicate actual = new ArrayParameterInStrategy("array_contains")
+                .createPredicate(expression, List.of("a", "b", "a"), null, null, criteriaBuilder);
+
+        assertSame(predicate, actual);
+    }
+
+    @Test
+    void createPredicate_onCriteriaBuilderWithoutValueMethod_shouldThrow() {
+        ArrayParameterInStrategy inStrategy = new ArrayParameterInStrategy("array_contains");
+
+        assertThrows(IllegalSpecificationException.class, () -> inStrategy
+                .createPredicate(expression, List.of("a"), null, null, standardCriteriaBuilder));
+    }
+
+    public interface ValueCriteriaBuilder extends CriteriaBuilder {
+
+        <T> Expression<T> value(T value);
+    }
+}
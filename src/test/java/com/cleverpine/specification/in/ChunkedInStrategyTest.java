@@ -0,0 +1,87 @@
+package com.cleverpine.specification.in;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.util.QueryContext;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ChunkedInStrategyTest {
+
+    @Mock
+    private Expression<Object> expression;
+
+    @Mock
+    private CriteriaBuilder criteriaBuilder;
+
+    @Mock
+    private Predicate firstPredicate;
+
+    @Mock
+    private Predicate secondPredicate;
+
+    @Mock
+    private Predicate orPredicate;
+
+    @Test
+    void constructor_onNonPositiveChunkSize_shouldThrow() {
+        assertThrows(IllegalSpecificationException.class, () -> new ChunkedInStrategy(0));
+    }
+
+    @Test
+    void createPredicate_whenValuesFitInOneChunk_shouldCreateASingleList() {
+        when(expression.in(List.<Object>of("a", "b"))).thenReturn(firstPredicate);
+
+        Predicate actual = new ChunkedInStrategy(2)
+                .createPredicate(expression, List.of("a", "b", "a"), createQueryContext(false), null, criteriaBuilder);
+
+        assertSame(firstPredicate, actual);
+    }
+
+    @Test
+    void createPredicate_whenValuesExceedTheChunkSize_shouldCombineTheChunksWithOr() {
+        when(expression.in(List.<Object>of("a", "b"))).thenReturn(firstPredicate);
+        when(expression.in(List.<Object>of("c"))).thenReturn(secondPredicate);
+        when(criteriaBuilder.or(any(Predicate[].class))).thenReturn(orPredicate);
+
+        Predicate actual = new ChunkedInStrategy(2)
+                .createPredicate(expression, List.of("a", "b", "c"), createQueryContext(false), null, criteriaBuilder);
+
+        assertSame(orPredicate, actual);
+        verify(criteriaBuilder).or(aryEq(new Predicate[]{firstPredicate, secondPredicate}));
+    }
+
+    @Test
+    void createPredicate_whenBindParameterStable_shouldPadTheChunksUpToTheChunkSize() {
+        when(expression.in(List.<Object>of("a", "b", "c", "d"))).thenReturn(firstPredicate);
+        when(expression.in(List.<Object>of("e", "f", "g", "g"))).thenReturn(secondPredicate);
+        when(criteriaBuilder.or(any(Predicate[].class))).thenReturn(orPredicate);
+
+        Predicate actual = new ChunkedInStrategy(4)
+                .createPredicate(expression, List.of("a", "b", "c", "d", "e", "f", "g"), createQueryContext(true), null, criteriaBuilder);
+
+        assertSame(orPredicate, actual);
+        verify(criteriaBuilder).or(aryEq(new Predicate[]{firstPredicate, secondPredicate}));
+    }
+
+    private QueryContext<Object> createQueryContext(boolean bindParameterStable) {
+        return new QueryContext<>(SpecificationQueryConfig.builder()
+                .bindParameterStable(bindParameterStable)
+                .build());
+    }
+}
@@ -0,0 +1,52 @@
+package com.cleverpine.specification.in;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SizeBasedInStrategyTest {
+
+    @Test
+    void getStrategy_shouldChooseTheSmallestMaxSizeNotLessThanTheSize() {
+        InStrategy singleInStrategy = new SingleInStrategy();
+        InStrategy chunkedInStrategy = new ChunkedInStrategy();
+        InStrategy arrayParameterInStrategy = new ArrayParameterInStrategy("array_contains");
+
+        SizeBasedInStrategy sizeBasedInStrategy = SizeBasedInStrategy.builder()
+                .upTo(1000, chunkedInStrategy)
+                .upTo(10, singleInStrategy)
+                .otherwise(arrayParameterInStrategy)
+                .build();
+
+        assertSame(singleInStrategy, sizeBasedInStrategy.getStrategy(1));
+        assertSame(singleInStrategy, sizeBasedInStrategy.getStrategy(10));
+        assertSame(chunkedInStrategy, sizeBasedInStrategy.getStrategy(11));
+        assertSame(chunkedInStrategy, sizeBasedInStrategy.getStrategy(1000));
+        assertSame(arrayParameterInStrategy, sizeBasedInStrategy.getStrategy(1001));
+    }
+
+    @Test
+    void getStrategy_whenOtherwiseIsNotSet_shouldUseASingleList() {
+        SizeBasedInStrategy sizeBasedInStrategy = SizeBasedInStrategy.builder()
+                .upTo(10, new ChunkedInStrategy(5))
+                .build();
+
+        assertInstanceOf(SingleInStrategy.class, sizeBasedInStrategy.getStrategy(11));
+    }
+
+    @Test
+    void upTo_onNonPositiveMaxSize_shouldThrow() {
+        assertThrows(IllegalSpecificationException.class,
+                () -> SizeBasedInStrategy.builder().upTo(0, new SingleInStrategy()));
+    }
+
+    @Test
+    void otherwise_onNullStrategy_shouldThrow() {
+        assertThrows(IllegalSpecificationException.class,
+                () -> SizeBasedInStrategy.builder().otherwise(null));
+    }
+}
@@ -0,0 +1,112 @@
+package com.cleverpine.specification.in;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class SubqueryInStrategyTest {
+
+    @Mock
+    private InValuesStore valuesStore;
+
+    @Mock
+    private Expression<Object> expression;
+
+    @Mock
+    private CriteriaQuery<Object> query;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private Subquery<Object> subquery;
+
+    @Mock
+    private Root<Object> valuesRoot;
+
+    @Mock
+    private Path<Object> valuePath;
+
+    @Mock
+    private CriteriaBuilder criteriaBuilder;
+
+    @Mock
+    private Predicate predicate;
+
+    @BeforeEach
+    void setUp() {
+        when(query.subquery(Object.class)).thenReturn(subquery);
+        doReturn(valuesRoot).when(subquery).from(Object.class);
+        when(valuesRoot.get(any(String.class))).thenReturn(valuePath);
+        when(expression.in(subquery)).thenReturn(predicate);
+        when(valuesStore.store(any())).thenReturn("first", "second", "third");
+    }
+
+    @Test
+    void constructor_onNonPositiveMaximumStoredLists_shouldThrow() {
+        assertThrows(IllegalSpecificationException.class,
+                () -> new SubqueryInStrategy(Object.class, "key", "value", valuesStore, 0));
+    }
+
+    @Test
+    void createPredicate_onEqualValues_shouldStoreThemOnce() {
+        SubqueryInStrategy inStrategy = new SubqueryInStrategy(Object.class, "key", "value", valuesStore);
+
+        createPredicate(inStrategy, List.of("a", "b"));
+        createPredicate(inStrategy, List.of("b", "a", "b"));
+
+        verify(valuesStore, times(1)).store(List.of("a", "b"));
+        verify(criteriaBuilder, times(2)).equal(valuePath, "first");
+    }
+
+    @Test
+    void createPredicate_overMaximumStoredLists_shouldReleaseTheLeastRecentlyUsedKey() {
+        SubqueryInStrategy inStrategy = new SubqueryInStrategy(Object.class, "key", "value", valuesStore, 2);
+
+        createPredicate(inStrategy, List.of("a"));
+        createPredicate(inStrategy, List.of("b"));
+        createPredicate(inStrategy, List.of("a"));
+        createPredicate(inStrategy, List.of("c"));
+
+        verify(valuesStore).release("second");
+        verify(valuesStore, never()).release("first");
+    }
+
+    @Test
+    void releaseAll_shouldReleaseTheStoredKeysAndStoreTheValuesAgain() {
+        SubqueryInStrategy inStrategy = new SubqueryInStrategy(Object.class, "key", "value", valuesStore);
+        createPredicate(inStrategy, List.of("a"));
+
+        inStrategy.releaseAll();
+        createPredicate(inStrategy, List.of("a"));
+
+        verify(valuesStore).release("first");
+        verify(valuesStore, times(2)).store(List.of("a"));
+    }
+
+    private void createPredicate(SubqueryInStrategy inStrategy, List<Object> values) {
+        inStrategy.createPredicate(expression, values, null, query, criteriaBuilder);
+    }
+}
@@ -1,5 +1,6 @@
 package com.cleverpine.specification.integration.criteria;
 
+import java.time.LocalDate;
 import lombok.Data;
 
 @Data
@@ -9,6 +10,8 @@ public class MovieFilterCriteria {
 
     private String title;
 
+    private LocalDate releaseDate;
+
     private String genreName;
 
     private String actorFirstName;
@@ -0,0 +1,26 @@
+package com.cleverpine.specification.integration.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Table(name = "filter_values")
+@Data
+public class FilterValue {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "list_key")
+    private String listKey;
+
+    @Column(name = "filter_value")
+    private String value;
+
+}
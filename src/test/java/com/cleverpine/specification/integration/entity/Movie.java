@@ -1,5 +1,6 @@
 package com.cleverpine.specification.integration.entity;
 
+import java.time.LocalDate;
 import java.util.Set;
 import jakarta.persistence.*;
 import lombok.Data;
@@ -15,6 +16,9 @@ public class Movie {
     @Column
     private String title;
 
+    @Column(name = "release_date")
+    private LocalDate releaseDate;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private Genre genre;
 
@@ -1,29 +1,52 @@
 package com.cleverpine.specification.integration.test;
 
+import com.cleverpine.specification.core.KnownEmptySpecification;
 import com.cleverpine.specification.exception.IllegalSpecificationException;
 import com.cleverpine.specification.exception.InvalidSpecificationException;
 import com.cleverpine.specification.integration.criteria.MovieFilterCriteria;
+import com.cleverpine.specification.in.ChunkedInStrategy;
+import com.cleverpine.specification.in.InValuesStore;
+import com.cleverpine.specification.in.SingleInStrategy;
+import com.cleverpine.specification.in.SizeBasedInStrategy;
+import com.cleverpine.specification.in.SubqueryInStrategy;
 import com.cleverpine.specification.integration.entity.Actor;
+import com.cleverpine.specification.integration.entity.FilterValue;
 import com.cleverpine.specification.integration.entity.Movie;
 import com.cleverpine.specification.integration.expression.MovieTitleAndGenreSpecExpression;
 import com.cleverpine.specification.item.FilterItem;
 import com.cleverpine.specification.item.MultiFilterItem;
+import com.cleverpine.specification.item.OrderByItem;
 import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.item.TypedMultiFilterItem;
+import com.cleverpine.specification.item.TypedSingleFilterItem;
+import com.cleverpine.specification.memory.InMemoryComparatorCompiler;
+import com.cleverpine.specification.memory.InMemoryPredicateCompiler;
+import com.cleverpine.specification.pagination.KeysetPagination;
 import com.cleverpine.specification.parser.SpecificationParserManager;
 import com.cleverpine.specification.parser.json.FilterJsonArrayParser;
 import com.cleverpine.specification.parser.json.SortJsonArrayParser;
 import com.cleverpine.specification.producer.ComplexSpecificationProducer;
 import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.JoinStrategy;
+import com.cleverpine.specification.util.MetamodelAttributeResolver;
+import com.cleverpine.specification.util.NullPrecedenceStrategy;
+import com.cleverpine.specification.util.ResolvedAttribute;
 import com.cleverpine.specification.util.SortDirection;
 import com.cleverpine.specification.util.SpecificationQueryConfig;
 import com.cleverpine.specification.util.SpecificationRequest;
 import com.cleverpine.specification.util.ValueConverter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jpa.domain.Specification;
@@ -34,6 +57,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -193,33 +217,16 @@ public class SpecificationProducerIT extends SpecificationProducerIntegrationTes
 
     @Test
     void findOne_onEqualForRelationalEntityAttributeAndMappingToRelationalEntityIsPresentButNoJoin_shouldThrow() {
-        String filterParam = createJsonArrayFilterParam(
-                List.of(
-                        List.of("genreName", "eq", "Action")));
-
         // @formatter:off
-        SpecificationQueryConfig<Movie> specificationQueryConfig = SpecificationQueryConfig.<Movie>builder()
+        SpecificationQueryConfig.SpecificationQueryConfigBuilder<Movie> specificationQueryConfigBuilder = SpecificationQueryConfig.<Movie>builder()
                 .attributePathConfig()
                 .addAttributePathMapping("genreName", "g.name")
-                .end()
-                .build();
+                .end();
         // @formatter:on
 
-        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
-                specificationParserManager,
-                MovieFilterCriteria.class,
-                valueConverter,
-                specificationQueryConfig);
-
-        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.<Movie>builder()
-                .withFilterParam(filterParam)
-                .build();
-
-        Specification<Movie> movieSpecification = specificationProducer.createSpecification(specificationRequest);
-
         assertThrows(
                 IllegalSpecificationException.class,
-                () -> findAll(movieSpecification, Movie.class)
+                specificationQueryConfigBuilder::build
         );
     }
 
@@ -278,6 +285,37 @@ public class SpecificationProducerIT extends SpecificationProducerIntegrationTes
         assertEquals(expectedGenre, movie.getGenre().getName());
     }
 
+    @Test
+    void findAll_whenTheSameSpecificationIsEvaluatedConcurrently_shouldUseSeparateJoinsPerQuery() {
+        String expectedGenre = "Action";
+        String filterParam = createJsonArrayFilterParam(
+                List.of(
+                        List.of("genreName", "eq", expectedGenre)));
+
+        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.<Movie>builder()
+                .withFilterParam(filterParam)
+                .build();
+
+        Specification<Movie> movieSpecification = movieSpecificationProducer.createSpecification(specificationRequest);
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        List<CriteriaQuery<Movie>> queries = IntStream.range(0, 16)
+                .parallel()
+                .mapToObj(index -> {
+                    CriteriaQuery<Movie> query = criteriaBuilder.createQuery(Movie.class);
+                    Root<Movie> root = query.from(Movie.class);
+                    query.where(movieSpecification.toPredicate(root, query, criteriaBuilder));
+                    return query;
+                })
+                .collect(Collectors.toList());
+
+        for (CriteriaQuery<Movie> query : queries) {
+            List<Movie> actual = entityManager.createQuery(query).getResultList();
+            assertEquals(1, actual.size());
+            assertEquals(expectedGenre, actual.get(0).getGenre().getName());
+        }
+    }
+
     @Test
     void findAll_onEqualForRelationalEntityAttributeButJoinDeclarationIsInvalid_shouldThrow() {
         String expectedGenre = "Action";
@@ -570,29 +608,18 @@ public class SpecificationProducerIT extends SpecificationProducerIntegrationTes
     @Test
     void findAll_onSortForNestedEntityAttributeAndJoinNotDefined_shouldThrow() {
         // @formatter:off
-        SpecificationQueryConfig<Movie> specificationQueryConfig = SpecificationQueryConfig.<Movie>builder()
+        SpecificationQueryConfig.SpecificationQueryConfigBuilder<Movie> specificationQueryConfigBuilder = SpecificationQueryConfig.<Movie>builder()
                 .attributePathConfig()
                 .addAttributePathMapping("genreName", "g.name")
                 .end()
                 .orderByConfig()
                 .addOrderBy("genreName", SortDirection.DESC)
-                .end()
-                .build();
+                .end();
         // @formatter:on
 
-        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
-                specificationParserManager,
-                MovieFilterCriteria.class,
-                valueConverter,
-                specificationQueryConfig);
-
-        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.createEmpty();
-
-        Specification<Movie> movieSpecification = specificationProducer.createSpecification(specificationRequest);
-
         assertThrows(
                 IllegalSpecificationException.class,
-                () -> findAll(movieSpecification, Movie.class)
+                specificationQueryConfigBuilder::build
         );
     }
 
@@ -976,4 +1003,719 @@ public class SpecificationProducerIT extends SpecificationProducerIntegrationTes
 
         assertEquals("Fast and Furious", actualMovie.getTitle());
     }
+
+    @Test
+    void count_whenDistinctIsRequiredAndSortingIsPresent_shouldCountWithoutOrderingAndFetchJoins() {
+        String filterParam = createJsonArrayFilterParam(
+                List.of(
+                        List.of("genreName", "eq", "Comedy")));
+        String sortParam = createJsonArraySortParam(
+                List.of(
+                        List.of("actorFirstName", "asc")));
+
+        // @formatter:off
+        SpecificationQueryConfig<Movie> specificationQueryConfig = SpecificationQueryConfig.<Movie>builder()
+                .joinConfig()
+                .defineJoinClause(Movie.class, "genre", "g", JoinType.INNER)
+                .defineJoinClause(Movie.class, "actors", "a", JoinType.INNER)
+                .end()
+                .attributePathConfig()
+                .addAttributePathMapping("genreName", "g.name")
+                .addAttributePathMapping("actorFirstName", "a.firstName")
+                .end()
+                .entityDistinctRequired(true)
+                .build();
+        // @formatter:on
+
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                specificationQueryConfig);
+
+        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.<Movie>builder()
+                .withFilterParam(filterParam)
+                .withSortParam(sortParam)
+                .build();
+
+        Specification<Movie> movieSpecification = specificationProducer.createSpecification(specificationRequest);
+
+        CriteriaQuery<Long> countQuery = getCountQuery(movieSpecification, Movie.class);
+        Root<?> root = countQuery.getRoots().iterator().next();
+
+        assertTrue(countQuery.getOrderList().isEmpty());
+        assertTrue(root.getFetches().isEmpty());
+        assertEquals(1, root.getJoins().size());
+        assertEquals(2L, entityManager.createQuery(countQuery).getSingleResult());
+        assertEquals(2, findAll(movieSpecification, Movie.class).size());
+    }
+
+    @Test
+    void findAll_onExistsJoinStrategy_shouldReturnNoDuplicatesWithoutDistinct() {
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                createExistsJoinSpecificationQueryConfig());
+
+        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.<Movie>builder()
+                .withFilterItems(List.of(
+                        new MultiFilterItem<>("actorFirstName", FilterOperator.IN, List.of("Ryan", "Morena"))))
+                .build();
+
+        Specification<Movie> movieSpecification = specificationProducer.createSpecification(specificationRequest);
+
+        CriteriaQuery<Movie> query = getQuery(movieSpecification, Movie.class);
+        List<Long> actual = entityManager.createQuery(query).getResultList().stream()
+                .map(Movie::getId)
+                .sorted()
+                .collect(Collectors.toList());
+
+        assertFalse(query.isDistinct());
+        assertTrue(query.getRoots().iterator().next().getJoins().isEmpty());
+        assertEquals(List.of(3L, 4L), actual);
+        assertEquals(2L, count(movieSpecification, Movie.class));
+    }
+
+    @Test
+    void findAll_onExistsJoinStrategyAndFiltersOnTheSameJoin_shouldMatchTheSameJoinedRow() {
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                createExistsJoinSpecificationQueryConfig());
+
+        SpecificationRequest<Movie> sameActorRequest = SpecificationRequest.<Movie>builder()
+                .withFilterItems(List.of(
+                        new SingleFilterItem<>("actorFirstName", FilterOperator.EQUAL, "Ryan"),
+                        new SingleFilterItem<>("actorLastName", FilterOperator.EQUAL, "Reynolds")))
+                .build();
+        SpecificationRequest<Movie> differentActorsRequest = SpecificationRequest.<Movie>builder()
+                .withFilterItems(List.of(
+                        new SingleFilterItem<>("actorFirstName", FilterOperator.EQUAL, "Ryan"),
+                        new SingleFilterItem<>("actorLastName", FilterOperator.EQUAL, "Baccarin")))
+                .build();
+
+        assertEquals(2, findAll(specificationProducer.createSpecification(sameActorRequest), Movie.class).size());
+        assertTrue(findAll(specificationProducer.createSpecification(differentActorsRequest), Movie.class).isEmpty());
+    }
+
+    @Test
+    void findAll_onExistsJoinStrategyAndSortThroughTheJoin_shouldKeepDistinctForTheSortJoin() {
+        String sortParam = createJsonArraySortParam(
+                List.of(
+                        List.of("actorFirstName", "asc")));
+
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                createExistsJoinSpecificationQueryConfig());
+
+        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.<Movie>builder()
+                .withFilterItems(List.of(
+                        new SingleFilterItem<>("genreName", FilterOperator.EQUAL, "Comedy"),
+                        new SingleFilterItem<>("actorLastName", FilterOperator.EQUAL, "Reynolds")))
+                .withSortParam(sortParam)
+                .build();
+
+        Specification<Movie> movieSpecification = specificationProducer.createSpecification(specificationRequest);
+
+        CriteriaQuery<Movie> query = getQuery(movieSpecification, Movie.class);
+        List<Movie> actual = entityManager.createQuery(query).getResultList();
+
+        assertTrue(query.isDistinct());
+        assertEquals(2, actual.size());
+        assertEquals(2L, count(movieSpecification, Movie.class));
+    }
+
+    @Test
+    void findAll_onKeysetPagination_shouldReadAllPagesInSortOrderWithTheIdTieBreaker() {
+        String sortParam = createJsonArraySortParam(
+                List.of(
+                        List.of("genreName", "asc")));
+
+        List<Long> actual = readAllKeysetPages(movieSpecificationProducer, sortParam, 1);
+
+        assertEquals(List.of(1L, 3L, 4L, 2L), actual);
+    }
+
+    @Test
+    void findAll_onKeysetPaginationByDateAttribute_shouldParseTheCursorValuesToTheAttributeType() {
+        List<Long> ascending = readAllKeysetPages(movieSpecificationProducer,
+                createJsonArraySortParam(List.of(List.of("releaseDate", "asc"))), 1);
+        List<Long> descending = readAllKeysetPages(movieSpecificationProducer,
+                createJsonArraySortParam(List.of(List.of("releaseDate", "desc"))), 3);
+
+        assertEquals(List.of(1L, 3L, 2L, 4L), ascending);
+        assertEquals(List.of(4L, 2L, 3L, 1L), descending);
+    }
+
+    @Test
+    void findAll_onKeysetPaginationWithAttributeResolver_shouldTakeTheIdAttributeFromTheMetamodel() {
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                SPECIFICATION_QUERY_CONFIG,
+                new MetamodelAttributeResolver<>(entityManager.getMetamodel(), Movie.class, SPECIFICATION_QUERY_CONFIG, valueConverter));
+
+        List<Long> actual = readAllKeysetPages(specificationProducer,
+                createJsonArraySortParam(List.of(List.of("genreName", "asc"))), 1);
+
+        assertEquals(List.of(1L, 3L, 4L, 2L), actual);
+    }
+
+    @Test
+    void nextCursor_beforeTheKeysetSpecificationIsApplied_shouldThrow() {
+        KeysetPagination<Movie> keysetPagination = movieSpecificationProducer.createKeysetPagination(
+                SpecificationRequest.createEmpty(), null);
+        Movie movie = entityManager.find(Movie.class, 1L);
+
+        assertThrows(IllegalSpecificationException.class, () -> keysetPagination.nextCursor(movie));
+    }
+
+    @Test
+    void findAll_onKeysetPaginationAndNullSortKeys_shouldFollowTheNullOrderingOfTheSort() {
+        // @formatter:off
+        SpecificationQueryConfig<Movie> specificationQueryConfig = SpecificationQueryConfig.<Movie>builder()
+                .joinConfig()
+                .defineJoinClause(Movie.class, "genre", "g", JoinType.LEFT)
+                .end()
+                .attributePathConfig()
+                .addAttributePathMapping("genreName", "g.name")
+                .end()
+                .build();
+        // @formatter:on
+
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                specificationQueryConfig);
+
+        Movie movieWithoutGenre = new Movie();
+        movieWithoutGenre.setId(5L);
+        movieWithoutGenre.setTitle("Unknown");
+
+        entityManager.getTransaction().begin();
+        try {
+            entityManager.persist(movieWithoutGenre);
+            entityManager.flush();
+
+            List<Long> ascending = readAllKeysetPages(specificationProducer,
+                    createJsonArraySortParam(List.of(List.of("genreName", "asc"))), 2);
+            List<Long> descending = readAllKeysetPages(specificationProducer,
+                    createJsonArraySortParam(List.of(List.of("genreName", "desc"))), 2);
+
+            assertEquals(List.of(1L, 3L, 4L, 2L, 5L), ascending);
+            assertEquals(List.of(5L, 2L, 3L, 4L, 1L), descending);
+        } finally {
+            entityManager.getTransaction().rollback();
+            entityManager.clear();
+        }
+    }
+
+    @Test
+    void findAll_onKeysetPaginationAndFilter_shouldApplyTheFilterToEveryPage() {
+        String filterParam = createJsonArrayFilterParam(
+                List.of(
+                        List.of("title", "like", "Deadpool")));
+        String sortParam = createJsonArraySortParam(
+                List.of(
+                        List.of("title", "desc")));
+
+        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.<Movie>builder()
+                .withFilterParam(filterParam)
+                .withSortParam(sortParam)
+                .build();
+
+        KeysetPagination<Movie> firstPage = movieSpecificationProducer.createKeysetPagination(specificationRequest, null);
+        List<Movie> firstPageContent = findPage(firstPage.getSpecification(), Movie.class, 1);
+        String cursor = firstPage.nextCursor(firstPageContent, 1);
+
+        KeysetPagination<Movie> secondPage = movieSpecificationProducer.createKeysetPagination(specificationRequest, cursor);
+        List<Movie> secondPageContent = findPage(secondPage.getSpecification(), Movie.class, 1);
+
+        assertEquals(4L, firstPageContent.get(0).getId());
+        assertEquals(3L, secondPageContent.get(0).getId());
+        assertEquals(1L, count(secondPage.getSpecification(), Movie.class));
+    }
+
+    @Test
+    void createKeysetPagination_onInvalidCursor_shouldThrow() {
+        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.<Movie>builder().build();
+        KeysetPagination<Movie> unsortedPagination = movieSpecificationProducer.createKeysetPagination(specificationRequest, null);
+        String cursorWithTooManyValues = unsortedPagination
+                .nextCursor(findPage(unsortedPagination.getSpecification(), Movie.class, 1).get(0));
+        SpecificationRequest<Movie> sortedRequest = SpecificationRequest.<Movie>builder()
+                .withSortParam(createJsonArraySortParam(List.of(List.of("title", "asc"))))
+                .build();
+
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> movieSpecificationProducer.createKeysetPagination(specificationRequest, "invalid")
+        );
+        Specification<Movie> specification =
+                movieSpecificationProducer.createKeysetPagination(sortedRequest, cursorWithTooManyValues).getSpecification();
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> findAll(specification, Movie.class)
+        );
+    }
+
+    @Test
+    void findAll_onNullPrecedenceStrategies_shouldBuildTheOrderClausesOfTheStrategy() {
+        // @formatter:off
+        SpecificationQueryConfig<Movie> specificationQueryConfig = SpecificationQueryConfig.<Movie>builder()
+                .joinConfig()
+                .defineJoinClause(Movie.class, "genre", "g", JoinType.INNER)
+                .end()
+                .attributePathConfig()
+                .addAttributePathMapping("genreName", "g.name")
+                .end()
+                .orderByConfig()
+                .nullPrecedence("title", NullPrecedenceStrategy.NATIVE)
+                .nullPrecedence("id", NullPrecedenceStrategy.NONE)
+                .end()
+                .build();
+        // @formatter:on
+
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                specificationQueryConfig);
+
+        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.<Movie>builder()
+                .withSortItems(List.of(
+                        new OrderByItem<>("genreName", SortDirection.DESC),
+                        new OrderByItem<>("title", SortDirection.ASC),
+                        new OrderByItem<>("id", SortDirection.ASC)))
+                .build();
+
+        CriteriaQuery<Movie> query = getQuery(specificationProducer.createSpecification(specificationRequest), Movie.class);
+        List<Long> actual = entityManager.createQuery(query).getResultList().stream()
+                .map(Movie::getId)
+                .collect(Collectors.toList());
+
+        // CASE for the genre, the CASE fallback of NATIVE for the title, as Hibernate 5 has no null precedence, and none for the id
+        assertEquals(5, query.getOrderList().size());
+        assertEquals(List.of(2L, 3L, 4L, 1L), actual);
+    }
+
+    @Test
+    void findAll_onKeysetPaginationAndNonNullableSortKeys_shouldReadAllPages() {
+        // @formatter:off
+        SpecificationQueryConfig<Movie> specificationQueryConfig = SpecificationQueryConfig.<Movie>builder()
+                .orderByConfig()
+                .defaultNullPrecedence(NullPrecedenceStrategy.NONE)
+                .end()
+                .build();
+        // @formatter:on
+
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                specificationQueryConfig);
+
+        List<Long> actual = readAllKeysetPages(specificationProducer,
+                createJsonArraySortParam(List.of(List.of("title", "desc"))), 3);
+
+        assertEquals(List.of(2L, 1L, 4L, 3L), actual);
+    }
+
+    @Test
+    void findAll_onBindParameterStableMode_shouldShareTheQueryOfInListsInTheSamePowerOfTwoBucket() {
+        // @formatter:off
+        SpecificationQueryConfig<Movie> specificationQueryConfig = SpecificationQueryConfig.<Movie>builder()
+                .bindParameterStable(true)
+                .build();
+        // @formatter:on
+
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                specificationQueryConfig);
+
+        String threeValuesQuery = getInQueryString(specificationProducer, List.of("IT", "Deadpool", "Unknown"));
+        String fourValuesQuery = getInQueryString(specificationProducer, List.of("IT", "Deadpool", "Unknown", "Other"));
+        String fiveValuesQuery = getInQueryString(specificationProducer, List.of("IT", "Deadpool", "Unknown", "Other", "More"));
+
+        Specification<Movie> movieSpecification = specificationProducer.createSpecification(
+                SpecificationRequest.<Movie>builder()
+                        .withFilterItems(List.of(
+                                new MultiFilterItem<>("title", FilterOperator.IN, List.of("IT", "Deadpool", "IT"))))
+                        .build());
+
+        assertEquals(threeValuesQuery, fourValuesQuery);
+        assertNotEquals(fourValuesQuery, fiveValuesQuery);
+        assertEquals(Set.of(2L, 3L), findAll(movieSpecification, Movie.class).stream()
+                .map(Movie::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void findAll_onChunkedInStrategy_shouldMatchTheValuesOfAllChunks() {
+        // @formatter:off
+        SpecificationQueryConfig<Movie> specificationQueryConfig = SpecificationQueryConfig.<Movie>builder()
+                .bindParameterStable(true)
+                .filterConfig()
+                .inStrategy("title", new ChunkedInStrategy(2))
+                .end()
+                .build();
+        // @formatter:on
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                specificationQueryConfig);
+
+        Specification<Movie> movieSpecification = specificationProducer.createSpecification(
+                SpecificationRequest.<Movie>builder()
+                        .withFilterItems(List.of(new MultiFilterItem<>("title", FilterOperator.IN,
+                                List.of("IT", "Unknown", "Deadpool", "IT", "Deadpool 2"))))
+                        .build());
+        String queryString = entityManager.createQuery(getQuery(movieSpecification, Movie.class))
+                .unwrap(org.hibernate.query.Query.class)
+                .getQueryString();
+
+        assertTrue(queryString.contains(" or "));
+        assertEquals(Set.of(2L, 3L, 4L), findAll(movieSpecification, Movie.class).stream()
+                .map(Movie::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void findAll_onSubqueryInStrategy_shouldSemiJoinTheValuesStoredOnce() {
+        List<List<Object>> storedValues = new ArrayList<>();
+        List<Object> releasedKeys = new ArrayList<>();
+        InValuesStore valuesStore = new InValuesStore() {
+            @Override
+            public Object store(List<Object> values) {
+                String listKey = "list-" + storedValues.size();
+                storedValues.add(values);
+                entityManager.getTransaction().begin();
+                for (Object value : values) {
+                    FilterValue filterValue = new FilterValue();
+                    filterValue.setListKey(listKey);
+                    filterValue.setValue((String) value);
+                    entityManager.persist(filterValue);
+                }
+                entityManager.getTransaction().commit();
+                return listKey;
+            }
+
+            @Override
+            public void release(Object key) {
+                releasedKeys.add(key);
+                entityManager.getTransaction().begin();
+                entityManager.createQuery("delete from FilterValue v where v.listKey = :listKey")
+                        .setParameter("listKey", key)
+                        .executeUpdate();
+                entityManager.getTransaction().commit();
+            }
+        };
+        SubqueryInStrategy subqueryInStrategy = new SubqueryInStrategy(FilterValue.class, "listKey", "value", valuesStore);
+        // @formatter:off
+        SpecificationQueryConfig<Movie> specificationQueryConfig = SpecificationQueryConfig.<Movie>builder()
+                .filterConfig()
+                .defaultInStrategy(SizeBasedInStrategy.builder()
+                        .upTo(2, new SingleInStrategy())
+                        .otherwise(subqueryInStrategy)
+                        .build())
+                .end()
+                .build();
+        // @formatter:on
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                specificationQueryConfig);
+
+        Specification<Movie> movieSpecification = specificationProducer.createSpecification(
+                SpecificationRequest.<Movie>builder()
+                        .withFilterItems(List.of(new MultiFilterItem<>("title", FilterOperator.IN,
+                                List.of("IT", "Unknown", "Deadpool", "IT"))))
+                        .build());
+
+        assertEquals(Set.of(2L, 3L), findAll(movieSpecification, Movie.class).stream()
+                .map(Movie::getId)
+                .collect(Collectors.toSet()));
+        assertEquals(2L, count(movieSpecification, Movie.class));
+        assertEquals(2, findAll(movieSpecification, Movie.class).size());
+        assertEquals(List.of(List.of("IT", "Unknown", "Deadpool")), storedValues);
+
+        subqueryInStrategy.releaseAll();
+
+        assertEquals(List.of("list-0"), releasedKeys);
+        assertEquals(0L, entityManager.createQuery("select count(v) from FilterValue v", Long.class).getSingleResult());
+    }
+
+    @Test
+    void findAll_onOverlappingRangeFilters_shouldMergeThemIntoASingleRange() {
+        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.<Movie>builder()
+                .withFilterItems(List.of(
+                        new SingleFilterItem<>("id", FilterOperator.GREATER_THAN, "1"),
+                        new SingleFilterItem<>("id", FilterOperator.GREATER_THAN_EQUAL, "2"),
+                        new SingleFilterItem<>("id", FilterOperator.LESS_THAN_EQUAL, "3"),
+                        new SingleFilterItem<>("id", FilterOperator.LESS_THAN_EQUAL, "3")))
+                .build();
+
+        Specification<Movie> movieSpecification = movieSpecificationProducer.createSpecification(specificationRequest);
+        String queryString = entityManager.createQuery(getQuery(movieSpecification, Movie.class))
+                .unwrap(org.hibernate.query.Query.class)
+                .getQueryString();
+
+        assertTrue(queryString.contains(" between "));
+        assertFalse(queryString.contains(">"));
+        assertEquals(List.of(2L, 3L), findAll(movieSpecification, Movie.class).stream()
+                .map(Movie::getId)
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void findAll_onContradictoryFilters_shouldReturnEmptyResult() {
+        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.<Movie>builder()
+                .withFilterItems(List.of(
+                        new MultiFilterItem<>("id", FilterOperator.IN, List.of("1", "2")),
+                        new SingleFilterItem<>("id", FilterOperator.GREATER_THAN, "2")))
+                .build();
+
+        Specification<Movie> movieSpecification = movieSpecificationProducer.createSpecification(specificationRequest);
+
+        assertTrue(KnownEmptySpecification.isKnownEmpty(movieSpecification));
+        assertEquals(List.of(), findAll(movieSpecification, Movie.class));
+        assertEquals(0L, count(movieSpecification, Movie.class));
+    }
+
+    @Test
+    void createSpecification_onInWithoutValues_shouldBeKnownEmpty() {
+        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.<Movie>builder()
+                .withFilterItems(List.of(new MultiFilterItem<>("title", FilterOperator.IN, List.of())))
+                .build();
+
+        Specification<Movie> movieSpecification = movieSpecificationProducer.createSpecification(specificationRequest);
+
+        assertTrue(KnownEmptySpecification.isKnownEmpty(movieSpecification));
+        assertTrue(KnownEmptySpecification.isKnownEmpty(movieSpecificationProducer
+                .createKeysetPagination(specificationRequest, null)
+                .getSpecification()));
+    }
+
+    @Test
+    void createSpecification_whenRequestExceedsTheComplexityBudget_shouldThrow() {
+        // @formatter:off
+        SpecificationQueryConfig<Movie> specificationQueryConfig = SpecificationQueryConfig.<Movie>builder()
+                .joinConfig()
+                .defineJoinClause(Movie.class, "actors", "a", JoinType.INNER)
+                .end()
+                .attributePathConfig()
+                .addAttributePathMapping("actorFirstName", "a.firstName")
+                .addAttributePathMapping("actorLastName", "a.lastName")
+                .end()
+                .complexityConfig()
+                .maxFilters(2)
+                .attributeCost("actorFirstName", 3)
+                .attributeCost("actorLastName", 3)
+                .maxCost(4)
+                .end()
+                .build();
+        // @formatter:on
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                specificationQueryConfig);
+        String filterParam = createJsonArrayFilterParam(List.of(
+                List.of("actorFirstName", "eq", "Ryan"),
+                List.of("actorLastName", "eq", "Reynolds")));
+
+        InvalidSpecificationException exception = assertThrows(InvalidSpecificationException.class,
+                () -> specificationProducer.createSpecification(SpecificationRequest.<Movie>builder()
+                        .withFilterParam(filterParam)
+                        .build()));
+        assertEquals("The request exceeds the maximum cost [4]", exception.getMessage());
+
+        Specification<Movie> movieSpecification = specificationProducer.createSpecification(SpecificationRequest.<Movie>builder()
+                .withFilterParam(createJsonArrayFilterParam(List.of(List.of("actorFirstName", "eq", "Ryan"))))
+                .build());
+        assertEquals(Set.of(3L, 4L), findAll(movieSpecification, Movie.class).stream()
+                .map(Movie::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void resolve_onFilterAttributes_shouldResolveTheEntityAttributesWithTheMetamodel() {
+        MetamodelAttributeResolver<Movie> attributeResolver = new MetamodelAttributeResolver<>(
+                entityManager.getMetamodel(), Movie.class, SPECIFICATION_QUERY_CONFIG, valueConverter);
+
+        ResolvedAttribute id = attributeResolver.resolve("id");
+        ResolvedAttribute genreName = attributeResolver.resolve("genreName");
+        ResolvedAttribute actors = attributeResolver.resolve("actors");
+
+        assertEquals(Long.class, id.getJavaType());
+        assertFalse(id.isPlural());
+        assertEquals(5L, id.convert("5"));
+        assertSame(id, attributeResolver.resolve("id"));
+        assertEquals("g.name", genreName.getPath());
+        assertEquals(String.class, genreName.getJavaType());
+        assertTrue(actors.isPlural());
+        IllegalSpecificationException exception = assertThrows(IllegalSpecificationException.class,
+                () -> attributeResolver.resolve("actorFirstName"));
+        assertEquals("Attribute [filterName] is not declared in [Actor] entity", exception.getMessage());
+    }
+
+    @Test
+    void createSpecification_withAttributeResolver_shouldRejectInvalidValuesBeforeTheQuery() {
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                SPECIFICATION_QUERY_CONFIG,
+                new MetamodelAttributeResolver<>(entityManager.getMetamodel(), Movie.class, SPECIFICATION_QUERY_CONFIG, valueConverter));
+        SpecificationRequest<Movie> invalidRequest = SpecificationRequest.<Movie>builder()
+                .withFilterParam(createJsonArrayFilterParam(List.of(List.of("id", "gt", "first"))))
+                .build();
+
+        InvalidSpecificationException exception = assertThrows(InvalidSpecificationException.class,
+                () -> specificationProducer.createSpecification(invalidRequest));
+        assertEquals("Invalid value [first] for type [Long]", exception.getMessage());
+        assertNotNull(movieSpecificationProducer.createSpecification(invalidRequest));
+
+        Specification<Movie> movieSpecification = specificationProducer.createSpecification(SpecificationRequest.<Movie>builder()
+                .withFilterParam(createJsonArrayFilterParam(List.of(
+                        List.of("id", "in", "[\\\"1\\\",\\\"2\\\",\\\"3\\\"]"),
+                        List.of("genreName", "eq", "Comedy"))))
+                .build());
+        assertEquals(List.of(3L), findAll(movieSpecification, Movie.class).stream()
+                .map(Movie::getId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void convert_withAttributeResolver_shouldCreateTypedFilterItemsBoundByTheSpecifications() {
+        MetamodelAttributeResolver<Movie> attributeResolver =
+                new MetamodelAttributeResolver<>(entityManager.getMetamodel(), Movie.class, SPECIFICATION_QUERY_CONFIG, valueConverter);
+        List<FilterItem<Movie>> convertedFilterItems = attributeResolver.convert(List.of(
+                new MultiFilterItem<>("id", FilterOperator.BETWEEN, List.of("2", "4")),
+                new SingleFilterItem<>("id", FilterOperator.NOT_EQUAL, "3"),
+                new SingleFilterItem<>("movieTitle", FilterOperator.LIKE, "e")));
+
+        assertEquals(List.of(2L, 4L), ((TypedMultiFilterItem<Movie>) convertedFilterItems.get(0)).getConvertedValues());
+        assertEquals(3L, ((TypedSingleFilterItem<Movie>) convertedFilterItems.get(1)).getConvertedValue());
+        assertEquals(SingleFilterItem.class, convertedFilterItems.get(2).getClass());
+
+        ComplexSpecificationProducer<Movie> specificationProducer = new ComplexSpecificationProducer<>(
+                specificationParserManager,
+                MovieFilterCriteria.class,
+                valueConverter,
+                SPECIFICATION_QUERY_CONFIG,
+                attributeResolver);
+        Specification<Movie> movieSpecification = specificationProducer.createSpecification(SpecificationRequest.<Movie>builder()
+                .withFilterItems(convertedFilterItems)
+                .build());
+        assertEquals(List.of(4L), findAll(movieSpecification, Movie.class).stream()
+                .map(Movie::getId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void compile_withInMemoryPredicateCompiler_shouldMatchTheSameMoviesAsTheSpecification() {
+        InMemoryPredicateCompiler<Movie> predicateCompiler =
+                new InMemoryPredicateCompiler<>(MovieFilterCriteria.class, Movie.class, SPECIFICATION_QUERY_CONFIG, valueConverter);
+        List<Movie> movies = entityManager.createQuery("select m from Movie m", Movie.class).getResultList();
+
+        List<List<List<String>>> filterParams = List.of(
+                List.of(List.of("genreName", "eq", "Comedy")),
+                List.of(List.of("actorLastName", "eq", "Reynolds"), List.of("id", "gt", "3")),
+                List.of(List.of("movieTitle", "sw", "Dead"), List.of("id", "in", "[\\\"1\\\",\\\"4\\\"]")),
+                List.of(List.of("id", "neq", "2"), List.of("movieTitle", "like", "a")));
+        for (List<List<String>> filterParam : filterParams) {
+            SpecificationRequest<Movie> request = SpecificationRequest.<Movie>builder()
+                    .withFilterParam(createJsonArrayFilterParam(filterParam))
+                    .build();
+            List<Long> expected = findAll(movieSpecificationProducer.createSpecification(request), Movie.class).stream()
+                    .map(Movie::getId)
+                    .sorted()
+                    .collect(Collectors.toList());
+
+            Predicate<Movie> predicate = predicateCompiler.compile(specificationParserManager.produceFilterItems(request));
+
+            assertEquals(expected, movies.stream()
+                    .filter(predicate)
+                    .map(Movie::getId)
+                    .sorted()
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void compile_withInMemoryComparatorCompiler_shouldSortTheMoviesAsTheSpecification() {
+        InMemoryComparatorCompiler<Movie> comparatorCompiler =
+                new InMemoryComparatorCompiler<>(MovieFilterCriteria.class, Movie.class, SPECIFICATION_QUERY_CONFIG);
+        List<Movie> movies = entityManager.createQuery("select m from Movie m", Movie.class).getResultList();
+        SpecificationRequest<Movie> request = SpecificationRequest.<Movie>builder()
+                .withSortParam(createJsonArraySortParam(List.of(List.of("genreName", "desc"), List.of("movieTitle", "desc"))))
+                .build();
+        List<Long> expected = findAll(movieSpecificationProducer.createSpecification(request), Movie.class).stream()
+                .map(Movie::getId)
+                .collect(Collectors.toList());
+
+        Comparator<Movie> comparator = comparatorCompiler.compile(specificationParserManager.produceOrderByItems(request));
+
+        assertEquals(expected, movies.stream()
+                .sorted(comparator)
+                .map(Movie::getId)
+                .collect(Collectors.toList()));
+        assertEquals(expected.subList(1, 3), InMemoryComparatorCompiler.selectTop(movies, comparator, 1, 2).stream()
+                .map(Movie::getId)
+                .collect(Collectors.toList()));
+    }
+
+    private String getInQueryString(ComplexSpecificationProducer<Movie> specificationProducer, List<String> titles) {
+        Specification<Movie> movieSpecification = specificationProducer.createSpecification(
+                SpecificationRequest.<Movie>builder()
+                        .withFilterItems(List.of(new MultiFilterItem<>("title", FilterOperator.IN, titles)))
+                        .build());
+        return entityManager.createQuery(getQuery(movieSpecification, Movie.class))
+                .unwrap(org.hibernate.query.Query.class)
+                .getQueryString();
+    }
+
+    private List<Long> readAllKeysetPages(ComplexSpecificationProducer<Movie> specificationProducer, String sortParam,
+                                          int pageSize) {
+        SpecificationRequest<Movie> specificationRequest = SpecificationRequest.<Movie>builder()
+                .withSortParam(sortParam)
+                .build();
+        List<Long> movieIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPagination<Movie> keysetPagination = specificationProducer.createKeysetPagination(specificationRequest, cursor);
+            List<Movie> page = findPage(keysetPagination.getSpecification(), Movie.class, pageSize);
+            page.forEach(movie -> movieIds.add(movie.getId()));
+            cursor = keysetPagination.nextCursor(page, pageSize);
+        } while (cursor != null && movieIds.size() < 10);
+        return movieIds;
+    }
+
+    private SpecificationQueryConfig<Movie> createExistsJoinSpecificationQueryConfig() {
+        // @formatter:off
+        return SpecificationQueryConfig.<Movie>builder()
+                .joinConfig()
+                .defineJoinClause(Movie.class, "genre", "g", JoinType.INNER)
+                .defineJoinClause(Movie.class, "actors", "a", JoinType.INNER, JoinStrategy.EXISTS)
+                .end()
+                .attributePathConfig()
+                .addAttributePathMapping("genreName", "g.name")
+                .addAttributePathMapping("actorFirstName", "a.firstName")
+                .addAttributePathMapping("actorLastName", "a.lastName")
+                .end()
+                .entityDistinctRequired(true)
+                .build();
+        // @formatter:on
+    }
 }
@@ -45,6 +45,27 @@ public class SpecificationProducerIntegrationTest {
                 .getSingleResult();
     }
 
+    protected <T> List<T> findPage(Specification<T> specification, Class<T> entityType, int pageSize) {
+        return entityManager.createQuery(getQuery(specification, entityType))
+                .setMaxResults(pageSize)
+                .getResultList();
+    }
+
+    protected <T> Long count(Specification<T> specification, Class<T> entityType) {
+        return entityManager.createQuery(getCountQuery(specification, entityType))
+                .getSingleResult();
+    }
+
+    protected <T> CriteriaQuery<Long> getCountQuery(Specification<T> specification, Class<T> entityType) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        query.select(query.isDistinct() ? criteriaBuilder.countDistinct(root) : criteriaBuilder.count(root));
+        query.where(predicate);
+        return query;
+    }
+
     protected String createJsonArrayFilterParam(List<List<String>> filterParams) {
         String collect = filterParams.stream()
                 .map(filterParamItems ->
@@ -66,7 +87,7 @@ public class SpecificationProducerIntegrationTest {
         return collect;
     }
 
-    private <T> CriteriaQuery<T> getQuery(Specification<T> specification, Class<T> entityType) {
+    protected <T> CriteriaQuery<T> getQuery(Specification<T> specification, Class<T> entityType) {
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
         CriteriaQuery<T> query = criteriaBuilder.createQuery(entityType);
         Root<T> root = query.from(entityType);
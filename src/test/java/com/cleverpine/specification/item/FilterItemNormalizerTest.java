@@ -0,0 +1,235 @@
+package com.cleverpine.specification.item;
+
+import com.cleverpine.specification.core.Equals;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import com.cleverpine.specification.util.ValueConverter;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FilterItemNormalizerTest {
+
+    private static final SpecificationQueryConfig<Object> SPECIFICATION_QUERY_CONFIG = SpecificationQueryConfig.builder().build();
+
+    private final FilterItemNormalizer filterItemNormalizer = new FilterItemNormalizer(new ValueConverter());
+
+    @Test
+    void normalize_onDuplicateFilterItems_shouldKeepTheFirstOccurrence() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new SingleFilterItem<>("name", FilterOperator.LIKE, "a"),
+                new SingleFilterItem<>("name", FilterOperator.EQUAL, "b"),
+                new SingleFilterItem<>("name", FilterOperator.LIKE, "a"));
+
+        assertEquals(List.of(
+                        new SingleFilterItem<>("name", FilterOperator.LIKE, "a"),
+                        new SingleFilterItem<>("name", FilterOperator.EQUAL, "b")),
+                normalize(filterItems).getFilterItems());
+    }
+
+    @Test
+    void normalize_onLowerBounds_shouldKeepTheTightestOne() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new SingleFilterItem<>("price", FilterOperator.GREATER_THAN, "10"),
+                new SingleFilterItem<>("name", FilterOperator.LIKE, "a"),
+                new SingleFilterItem<>("price", FilterOperator.GREATER_THAN_EQUAL, "15"));
+
+        assertEquals(List.of(
+                        new SingleFilterItem<>("price", FilterOperator.GREATER_THAN_EQUAL, "15"),
+                        new SingleFilterItem<>("name", FilterOperator.LIKE, "a")),
+                normalize(filterItems).getFilterItems());
+    }
+
+    @Test
+    void normalize_onEqualLowerBounds_shouldKeepTheExclusiveOne() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new SingleFilterItem<>("id", FilterOperator.GREATER_THAN_EQUAL, "5"),
+                new SingleFilterItem<>("id", FilterOperator.GREATER_THAN, "5"));
+
+        assertEquals(List.of(new SingleFilterItem<>("id", FilterOperator.GREATER_THAN, "5")),
+                normalize(filterItems).getFilterItems());
+    }
+
+    @Test
+    void normalize_onInclusiveLowerAndUpperBounds_shouldMergeThemIntoBetween() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new SingleFilterItem<>("price", FilterOperator.LESS_THAN_EQUAL, "30"),
+                new MultiFilterItem<>("price", FilterOperator.BETWEEN, List.of("10", "50")),
+                new SingleFilterItem<>("price", FilterOperator.GREATER_THAN_EQUAL, "15.5"));
+
+        assertEquals(List.of(new MultiFilterItem<>("price", FilterOperator.BETWEEN, List.of("15.5", "30"))),
+                normalize(filterItems).getFilterItems());
+    }
+
+    @Test
+    void normalize_onExclusiveBound_shouldKeepTheLowerAndUpperBounds() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new SingleFilterItem<>("id", FilterOperator.LESS_THAN, "30"),
+                new SingleFilterItem<>("id", FilterOperator.GREATER_THAN_EQUAL, "15"));
+
+        assertEquals(List.of(
+                        new SingleFilterItem<>("id", FilterOperator.GREATER_THAN_EQUAL, "15"),
+                        new SingleFilterItem<>("id", FilterOperator.LESS_THAN, "30")),
+                normalize(filterItems).getFilterItems());
+    }
+
+    @Test
+    void normalize_onEqualAndIn_shouldFoldThemIntoASingleValue() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new MultiFilterItem<>("id", FilterOperator.IN, List.of("1", "2", "3", "2")),
+                new SingleFilterItem<>("id", FilterOperator.EQUAL, "2"));
+
+        assertEquals(List.of(new SingleFilterItem<>("id", FilterOperator.EQUAL, "2")),
+                normalize(filterItems).getFilterItems());
+    }
+
+    @Test
+    void normalize_onInAndBounds_shouldKeepTheValuesWithinTheBounds() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new MultiFilterItem<>("id", FilterOperator.IN, List.of("1", "2", "3", "4", "2")),
+                new SingleFilterItem<>("id", FilterOperator.GREATER_THAN, "1"),
+                new SingleFilterItem<>("id", FilterOperator.LESS_THAN_EQUAL, "3"));
+
+        assertEquals(List.of(new MultiFilterItem<>("id", FilterOperator.IN, List.of("2", "3"))),
+                normalize(filterItems).getFilterItems());
+    }
+
+    @Test
+    void normalize_onEqualValuesInDifferentForms_shouldCompareTheConvertedValues() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new SingleFilterItem<>("price", FilterOperator.EQUAL, "1.0"),
+                new SingleFilterItem<>("price", FilterOperator.EQUAL, "1.00"));
+
+        assertEquals(List.of(new SingleFilterItem<>("price", FilterOperator.EQUAL, "1.0")),
+                normalize(filterItems).getFilterItems());
+    }
+
+    @Test
+    void normalize_onSameInstantAtDifferentOffsets_shouldKeepTheFirstValue() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new SingleFilterItem<>("createdAt", FilterOperator.EQUAL, "2020-01-01T10:00:00+02:00"),
+                new SingleFilterItem<>("createdAt", FilterOperator.EQUAL, "2020-01-01T08:00:00Z"));
+
+        NormalizedFilterItems<Object> actual = normalize(filterItems);
+
+        assertFalse(actual.isUnsatisfiable());
+        assertEquals(List.of(new SingleFilterItem<>("createdAt", FilterOperator.EQUAL, "2020-01-01T10:00:00+02:00")),
+                actual.getFilterItems());
+    }
+
+    @Test
+    void normalize_onContradictoryEqualFilters_shouldBeUnsatisfiable() {
+        NormalizedFilterItems<Object> actual = normalize(List.of(
+                new SingleFilterItem<>("id", FilterOperator.EQUAL, "1"),
+                new SingleFilterItem<>("id", FilterOperator.EQUAL, "2")));
+
+        assertTrue(actual.isUnsatisfiable());
+        assertEquals(List.of(), actual.getFilterItems());
+    }
+
+    @Test
+    void normalize_onEmptyRange_shouldBeUnsatisfiable() {
+        assertTrue(normalize(List.of(
+                new SingleFilterItem<>("id", FilterOperator.GREATER_THAN, "5"),
+                new SingleFilterItem<>("id", FilterOperator.LESS_THAN_EQUAL, "5"))).isUnsatisfiable());
+        assertTrue(normalize(List.of(
+                new MultiFilterItem<>("id", FilterOperator.BETWEEN, List.of("10", "5")))).isUnsatisfiable());
+        assertTrue(normalize(List.of(
+                new MultiFilterItem<>("id", FilterOperator.IN, List.of("1", "2")),
+                new SingleFilterItem<>("id", FilterOperator.GREATER_THAN, "2"))).isUnsatisfiable());
+    }
+
+    @Test
+    void normalize_onInWithoutValues_shouldBeUnsatisfiable() {
+        assertTrue(normalize(List.of(
+                new SingleFilterItem<>("name", FilterOperator.LIKE, "a"),
+                new MultiFilterItem<>("name", FilterOperator.IN, List.of()))).isUnsatisfiable());
+    }
+
+    @Test
+    void normalize_onOperatorOfTheOtherItemType_shouldKeepTheFilterItem() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new SingleFilterItem<>("id", FilterOperator.IN, "1"),
+                new MultiFilterItem<>("id", FilterOperator.EQUAL, List.of("2")));
+
+        assertEquals(filterItems, normalize(filterItems).getFilterItems());
+    }
+
+    @Test
+    void normalize_onStringAttribute_shouldOnlyRemoveDuplicates() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new SingleFilterItem<>("name", FilterOperator.EQUAL, "a"),
+                new SingleFilterItem<>("name", FilterOperator.EQUAL, "A"),
+                new SingleFilterItem<>("name", FilterOperator.EQUAL, "a"));
+
+        NormalizedFilterItems<Object> actual = normalize(filterItems);
+
+        assertFalse(actual.isUnsatisfiable());
+        assertEquals(List.of(
+                        new SingleFilterItem<>("name", FilterOperator.EQUAL, "a"),
+                        new SingleFilterItem<>("name", FilterOperator.EQUAL, "A")),
+                actual.getFilterItems());
+    }
+
+    @Test
+    void normalize_onPrimitiveAttribute_shouldMergeTheFilterItems() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new SingleFilterItem<>("rating", FilterOperator.GREATER_THAN_EQUAL, "3"),
+                new SingleFilterItem<>("rating", FilterOperator.GREATER_THAN_EQUAL, "5"),
+                new SingleFilterItem<>("rating", FilterOperator.LESS_THAN_EQUAL, "8"));
+
+        assertEquals(List.of(new MultiFilterItem<>("rating", FilterOperator.BETWEEN, List.of("5", "8"))),
+                normalize(filterItems).getFilterItems());
+    }
+
+    @Test
+    void normalize_onContradictoryPrimitiveAttributeFilters_shouldBeUnsatisfiable() {
+        assertTrue(normalize(List.of(
+                new SingleFilterItem<>("rating", FilterOperator.EQUAL, "1"),
+                new SingleFilterItem<>("rating", FilterOperator.EQUAL, "2"))).isUnsatisfiable());
+    }
+
+    @Test
+    void normalize_onInvalidValue_shouldKeepTheFilterItemsOfTheAttribute() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new SingleFilterItem<>("id", FilterOperator.EQUAL, "1"),
+                new SingleFilterItem<>("id", FilterOperator.EQUAL, "one"));
+
+        assertEquals(filterItems, normalize(filterItems).getFilterItems());
+    }
+
+    @Test
+    void normalize_onCustomSpecificationFactory_shouldKeepTheFilterItem() {
+        List<FilterItem<Object>> filterItems = List.of(
+                new SingleFilterItem<>("id", FilterOperator.EQUAL, "1", Equals::new),
+                new SingleFilterItem<>("id", FilterOperator.EQUAL, "2"));
+
+        assertEquals(filterItems, normalize(filterItems).getFilterItems());
+    }
+
+    private NormalizedFilterItems<Object> normalize(List<FilterItem<Object>> filterItems) {
+        return filterItemNormalizer.normalize(filterItems, TestFilter.class, SPECIFICATION_QUERY_CONFIG);
+    }
+
+    @Data
+    private static class TestFilter {
+
+        private Long id;
+
+        private String name;
+
+        private BigDecimal price;
+
+        private int rating;
+
+        private ZonedDateTime createdAt;
+
+    }
+}
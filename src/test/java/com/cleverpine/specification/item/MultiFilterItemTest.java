@@ -103,4 +103,17 @@ public class MultiFilterItemTest {
         assertEquals(ATTRIBUTE, specification.getAttributePath());
     }
 
+    @Test
+    void createSpecification_whenCustomSpecificationFactoryIsGiven_shouldUseItInsteadOfTheOperatorOne() {
+        MultiFilterItem<Object> filterItem =
+                new MultiFilterItem<>(ATTRIBUTE, FilterOperator.BETWEEN, VALUES, In::new);
+
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder().build();
+        QueryContext<Object> queryContext = new QueryContext<>(queryConfig);
+
+        Specification<Object> specification = filterItem.createSpecification(queryContext, valueConverter);
+
+        assertEquals(In.class, specification.getClass());
+    }
+
 }
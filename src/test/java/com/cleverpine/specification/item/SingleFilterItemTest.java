@@ -1,6 +1,7 @@
 package com.cleverpine.specification.item;
 
 import com.cleverpine.specification.core.GreaterThan;
+import com.cleverpine.specification.core.LessThan;
 import com.cleverpine.specification.exception.IllegalSpecificationException;
 import com.cleverpine.specification.util.FilterOperator;
 import com.cleverpine.specification.util.QueryContext;
@@ -100,4 +101,17 @@ public class SingleFilterItemTest {
         assertEquals(ATTRIBUTE, specification.getAttributePath());
     }
 
+    @Test
+    void createSpecification_whenCustomSpecificationFactoryIsGiven_shouldUseItInsteadOfTheOperatorOne() {
+        SingleFilterItem<Object> filterItem =
+                new SingleFilterItem<>(ATTRIBUTE, FilterOperator.GREATER_THAN, VALUE, LessThan::new);
+
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder().build();
+        QueryContext<Object> queryContext = new QueryContext<>(queryConfig);
+
+        Specification<Object> specification = filterItem.createSpecification(queryContext, valueConverter);
+
+        assertEquals(LessThan.class, specification.getClass());
+    }
+
 }
@@ -0,0 +1,66 @@
+package com.cleverpine.specification.item;
+
+import com.cleverpine.specification.core.Between;
+import com.cleverpine.specification.core.In;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.QueryContext;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import com.cleverpine.specification.util.ValueConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TypedMultiFilterItemTest {
+
+    @Mock
+    private ValueConverter valueConverter;
+
+    private static final String ATTRIBUTE = "attribute";
+
+    private static final List<String> VALUES = List.of("14", "18");
+
+    private static final List<Object> CONVERTED_VALUES = List.of(14L, 18L);
+
+    @Test
+    void constructor_onNullConvertedValues_shouldThrow() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new TypedMultiFilterItem<>(ATTRIBUTE, FilterOperator.IN, VALUES, null)
+        );
+    }
+
+    @Test
+    void createSpecification_onBetweenFilterOperator_shouldCreateSpecificationWithTheConvertedValues() {
+        TypedMultiFilterItem<Object> filterItem =
+                new TypedMultiFilterItem<>(ATTRIBUTE, FilterOperator.BETWEEN, VALUES, CONVERTED_VALUES);
+
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder().build();
+        QueryContext<Object> queryContext = new QueryContext<>(queryConfig);
+
+        Between<Object> specification =
+                (Between<Object>) filterItem.createSpecification(queryContext, valueConverter);
+
+        assertEquals(VALUES, specification.getValues());
+        assertEquals(CONVERTED_VALUES, specification.getConvertedValues());
+    }
+
+    @Test
+    void createSpecification_onInFilterOperator_shouldCreateSpecificationWithTheConvertedValues() {
+        TypedMultiFilterItem<Object> filterItem =
+                new TypedMultiFilterItem<>(ATTRIBUTE, FilterOperator.IN, VALUES, CONVERTED_VALUES);
+
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder().build();
+        QueryContext<Object> queryContext = new QueryContext<>(queryConfig);
+
+        In<Object> specification = (In<Object>) filterItem.createSpecification(queryContext, valueConverter);
+
+        assertEquals(CONVERTED_VALUES, specification.getConvertedValues());
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.cleverpine.specification.item;
+
+import com.cleverpine.specification.core.GreaterThan;
+import com.cleverpine.specification.core.Like;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.QueryContext;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import com.cleverpine.specification.util.ValueConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TypedSingleFilterItemTest {
+
+    @Mock
+    private ValueConverter valueConverter;
+
+    private static final String ATTRIBUTE = "attribute";
+
+    private static final String VALUE = "14";
+
+    private static final Long CONVERTED_VALUE = 14L;
+
+    @Test
+    void constructor_onNullConvertedValue_shouldThrow() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new TypedSingleFilterItem<>(ATTRIBUTE, FilterOperator.GREATER_THAN, VALUE, null)
+        );
+    }
+
+    @Test
+    void createSpecification_onConvertingFilterOperator_shouldCreateSpecificationWithTheConvertedValue() {
+        TypedSingleFilterItem<Object> filterItem =
+                new TypedSingleFilterItem<>(ATTRIBUTE, FilterOperator.GREATER_THAN, VALUE, CONVERTED_VALUE);
+
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder().build();
+        QueryContext<Object> queryContext = new QueryContext<>(queryConfig);
+
+        GreaterThan<Object> specification =
+                (GreaterThan<Object>) filterItem.createSpecification(queryContext, valueConverter);
+
+        assertEquals(VALUE, specification.getValue());
+        assertEquals(CONVERTED_VALUE, specification.getConvertedValue());
+    }
+
+    @Test
+    void createSpecification_onNotConvertingFilterOperator_shouldCreateTheDefaultSpecification() {
+        TypedSingleFilterItem<Object> filterItem =
+                new TypedSingleFilterItem<>(ATTRIBUTE, FilterOperator.LIKE, VALUE, VALUE);
+
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder().build();
+        QueryContext<Object> queryContext = new QueryContext<>(queryConfig);
+
+        Specification<Object> specification = filterItem.createSpecification(queryContext, valueConverter);
+
+        assertEquals(Like.class, specification.getClass());
+    }
+
+    @Test
+    void equals_onDifferentConvertedValues_shouldNotBeEqual() {
+        assertNotEquals(
+                new TypedSingleFilterItem<>(ATTRIBUTE, FilterOperator.EQUAL, VALUE, CONVERTED_VALUE),
+                new TypedSingleFilterItem<>(ATTRIBUTE, FilterOperator.EQUAL, VALUE, 14)
+        );
+    }
+
+}
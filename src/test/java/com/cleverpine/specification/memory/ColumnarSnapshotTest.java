@@ -0,0 +1,323 @@
+package com.cleverpine.specification.memory;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.MultiFilterItem;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.parser.SpecificationParserManager;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.SortDirection;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import com.cleverpine.specification.util.SpecificationRequest;
+import com.cleverpine.specification.util.ValueConverter;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.JoinType;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ColumnarSnapshotTest {
+
+    // @formatter:off
+    private static final SpecificationQueryConfig<Product> SPECIFICATION_QUERY_CONFIG = SpecificationQueryConfig.<Product>builder()
+            .joinConfig()
+                .defineJoinClause(Product.class, "supplier", "s", JoinType.LEFT)
+                .defineJoinClause(Product.class, "tags", "t", JoinType.INNER)
+            .end()
+            .attributePathConfig()
+                .addAttributePathMapping("supplierName", "s.name")
+                .addAttributePathMapping("tagName", "t.name")
+            .end()
+            .build();
+    // @formatter:on
+
+    private static final List<Product> PRODUCTS = List.of(
+            new Product(1L, "Lamp", 10, 4.5, Category.HOME, new Supplier("Acme"), List.of(new Tag("light"))),
+            new Product(2L, "Chair", null, 3.0, Category.HOME, null, List.of(new Tag("wood"), new Tag("seat"))),
+            new Product(3L, "Laptop", 0, Double.NaN, Category.TECH, new Supplier("Globex"), List.of()),
+            new Product(4L, "Lantern", 25, -1.5, null, new Supplier("Acme"), List.of(new Tag("light"), new Tag("camping"))));
+
+    private static final SpecificationParserManager SPECIFICATION_PARSER_MANAGER =
+            new SpecificationParserManager(null, null, null, null);
+
+    private final ColumnarSnapshot<Product> snapshot = createSnapshot(PRODUCTS);
+
+    @Test
+    void findAllIds_onEmptyRequest_shouldReturnAllIdsInTheSnapshotOrder() {
+        assertEquals(4, snapshot.size());
+        assertEquals(List.of(1L, 2L, 3L, 4L), snapshot.findAllIds(SpecificationRequest.createEmpty()));
+    }
+
+    @Test
+    void findAllIds_onIntegralFilters_shouldSkipTheNullValues() {
+        assertEquals(List.of(1L, 3L, 4L), filter(new SingleFilterItem<>("stock", FilterOperator.GREATER_THAN_EQUAL, "0")));
+        assertEquals(List.of(1L, 4L), filter(new SingleFilterItem<>("stock", FilterOperator.NOT_EQUAL, "0")));
+        assertEquals(List.of(1L, 3L), filter(new MultiFilterItem<>("stock", FilterOperator.BETWEEN, List.of("0", "10"))));
+        assertEquals(List.of(3L, 4L), filter(new MultiFilterItem<>("stock", FilterOperator.IN, List.of("25", "0", "7"))));
+        assertEquals(List.of(2L), filter(new SingleFilterItem<>("id", FilterOperator.LESS_THAN, "3"),
+                new SingleFilterItem<>("id", FilterOperator.GREATER_THAN, "1")));
+    }
+
+    @Test
+    void findAllIds_onFloatingPointFilters_shouldCompareTheValuesAsDoubleCompare() {
+        assertEquals(List.of(1L, 3L), filter(new SingleFilterItem<>("rating", FilterOperator.GREATER_THAN, "3")));
+        assertEquals(List.of(2L, 4L), filter(new SingleFilterItem<>("rating", FilterOperator.LESS_THAN_EQUAL, "3")));
+        assertEquals(List.of(1L, 3L, 4L), filter(new SingleFilterItem<>("rating", FilterOperator.NOT_EQUAL, "3.0")));
+    }
+
+    @Test
+    void findAllIds_onDictionaryFilters_shouldMatchTheDistinctValues() {
+        assertEquals(List.of(1L, 2L), filter(new SingleFilterItem<>("category", FilterOperator.EQUAL, "HOME")));
+        assertEquals(List.of(3L), filter(new SingleFilterItem<>("category", FilterOperator.NOT_EQUAL, "HOME")));
+        assertEquals(List.of(1L, 3L, 4L), filter(new SingleFilterItem<>("name", FilterOperator.STARTS_WITH, "La")));
+        assertEquals(List.of(1L, 4L), filter(new SingleFilterItem<>("supplierName", FilterOperator.EQUAL, "Acme")));
+    }
+
+    @Test
+    void findAllIds_onCollectionJoinFilter_shouldTestTheRemainingRows() {
+        assertEquals(List.of(1L, 4L), filter(new SingleFilterItem<>("tagName", FilterOperator.EQUAL, "light")));
+        assertEquals(List.of(4L), filter(new SingleFilterItem<>("tagName", FilterOperator.EQUAL, "light"),
+                new SingleFilterItem<>("stock", FilterOperator.GREATER_THAN, "10")));
+    }
+
+    @Test
+    void findAll_onSortItems_shouldSortAndPageTheMatchingEntities() {
+        SpecificationRequest<Product> specificationRequest = SpecificationRequest.<Product>builder()
+                .withFilterItems(List.of(new SingleFilterItem<>("stock", FilterOperator.GREATER_THAN_EQUAL, "0")))
+                .withSortItems(List.of(new OrderByItem<>("stock", SortDirection.DESC)))
+                .build();
+
+        assertEquals(List.of(4L, 1L, 3L), getIds(snapshot.findAll(specificationRequest)));
+        assertEquals(List.of(1L, 3L), getIds(snapshot.findAll(specificationRequest, 1, 5)));
+        assertEquals(3, snapshot.count(specificationRequest));
+    }
+
+    @Test
+    void findAllIds_onPatternFilterOnNumericColumn_shouldMatchTheValuesAsText() {
+        assertEquals(List.of(1L, 3L), filter(new SingleFilterItem<>("stock", FilterOperator.ENDS_WITH, "0")));
+        assertEquals(List.of(1L, 4L), filter(new SingleFilterItem<>("rating", FilterOperator.LIKE, ".5")));
+    }
+
+    @Test
+    void findAll_onRandomSortItems_shouldSortAndPageAsTheComparatorCompiler() {
+        Random random = new Random(7);
+        List<Product> products = createRandomProducts(random);
+        ColumnarSnapshot<Product> randomSnapshot = createSnapshot(products);
+        InMemoryComparatorCompiler<Product> comparatorCompiler =
+                new InMemoryComparatorCompiler<>(ProductFilter.class, Product.class, SPECIFICATION_QUERY_CONFIG);
+        List<String> sortAttributes = List.of("id", "name", "stock", "rating", "category", "supplierName");
+
+        for (int i = 0; i < 100; i++) {
+            List<OrderByItem<Product>> orderByItems = List.of(
+                    new OrderByItem<>(sortAttributes.get(random.nextInt(sortAttributes.size())), SortDirection.values()[random.nextInt(2)]),
+                    new OrderByItem<>(sortAttributes.get(random.nextInt(sortAttributes.size())), SortDirection.values()[random.nextInt(2)]));
+            Comparator<Product> comparator = comparatorCompiler.compile(orderByItems);
+            List<Long> expectedIds = getIds(products.stream()
+                    .sorted(comparator)
+                    .collect(Collectors.toList()));
+            SpecificationRequest<Product> specificationRequest = SpecificationRequest.<Product>builder()
+                    .withSortItems(orderByItems)
+                    .build();
+            int offset = random.nextInt(products.size());
+            int limit = random.nextInt(50);
+
+            assertEquals(expectedIds, getIds(randomSnapshot.findAll(specificationRequest)), orderByItems.toString());
+            assertEquals(expectedIds.subList(offset, Math.min(offset + limit, expectedIds.size())),
+                    getIds(randomSnapshot.findAll(specificationRequest, offset, limit)), orderByItems.toString());
+        }
+    }
+
+    @Test
+    void findAll_onNegativeOffset_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> snapshot.findAll(SpecificationRequest.createEmpty(), -1, 10));
+    }
+
+    @Test
+    void findAllIds_onRandomFilters_shouldMatchTheSameEntitiesAsThePredicateCompiler() {
+        Random random = new Random(42);
+        List<Product> products = createRandomProducts(random);
+        ColumnarSnapshot<Product> randomSnapshot = createSnapshot(products);
+        InMemoryPredicateCompiler<Product> predicateCompiler = new InMemoryPredicateCompiler<>(ProductFilter.class,
+                Product.class, SPECIFICATION_QUERY_CONFIG, new ValueConverter());
+
+        for (int i = 0; i < 200; i++) {
+            List<FilterItem<Product>> filterItems = List.of(createRandomFilterItem(random), createRandomFilterItem(random));
+            Predicate<Product> predicate = predicateCompiler.compile(filterItems);
+            List<Object> expectedIds = products.stream()
+                    .filter(predicate)
+                    .map(Product::getId)
+                    .collect(Collectors.toList());
+
+            assertEquals(expectedIds, randomSnapshot.findAllIds(SpecificationRequest.<Product>builder()
+                    .withFilterItems(filterItems)
+                    .build()), filterItems.toString());
+        }
+    }
+
+    @Test
+    void findAllIds_onZonedDateTimeFilters_shouldMatchTheSameInstantInAnyZone() {
+        ColumnarSnapshot<Delivery> deliverySnapshot = new ColumnarSnapshot<>(SPECIFICATION_PARSER_MANAGER, DeliveryFilter.class,
+                Delivery.class, new ValueConverter(), SpecificationQueryConfig.<Delivery>builder().build(), List.of(
+                        new Delivery(1L, ZonedDateTime.parse("2020-01-01T10:00:00+02:00")),
+                        new Delivery(2L, ZonedDateTime.parse("2020-01-01T08:00:00Z")),
+                        new Delivery(3L, ZonedDateTime.parse("2020-01-02T08:00:00Z"))));
+
+        assertEquals(List.of(1L, 2L), deliverySnapshot.findAllIds(SpecificationRequest.<Delivery>builder()
+                .withFilterItems(List.of(new SingleFilterItem<>("shippedAt", FilterOperator.EQUAL, "2020-01-01T09:00:00+01:00")))
+                .build()));
+        assertEquals(List.of(3L), deliverySnapshot.findAllIds(SpecificationRequest.<Delivery>builder()
+                .withFilterItems(List.of(new SingleFilterItem<>("shippedAt", FilterOperator.NOT_EQUAL, "2020-01-01T08:00:00Z")))
+                .build()));
+        assertEquals(List.of(1L, 2L), deliverySnapshot.findAllIds(SpecificationRequest.<Delivery>builder()
+                .withFilterItems(List.of(new MultiFilterItem<>("shippedAt", FilterOperator.IN,
+                        List.of("2020-01-01T10:00:00+02:00", "2021-01-01T00:00:00Z"))))
+                .build()));
+    }
+
+    @Test
+    void findAllIds_onInvalidValue_shouldThrow() {
+        assertThrows(InvalidSpecificationException.class,
+                () -> filter(new SingleFilterItem<>("stock", FilterOperator.EQUAL, "many")));
+    }
+
+    @Test
+    void findAllIds_onEntityWithoutId_shouldThrow() {
+        ColumnarSnapshot<Supplier> supplierSnapshot = new ColumnarSnapshot<>(SPECIFICATION_PARSER_MANAGER, SupplierFilter.class,
+                Supplier.class, new ValueConverter(), SpecificationQueryConfig.<Supplier>builder().build(),
+                List.of(new Supplier("Acme")));
+
+        IllegalSpecificationException exception = assertThrows(IllegalSpecificationException.class,
+                () -> supplierSnapshot.findAllIds(SpecificationRequest.createEmpty()));
+        assertEquals("Snapshot ids require a single id attribute in [Supplier] entity", exception.getMessage());
+    }
+
+    private static ColumnarSnapshot<Product> createSnapshot(List<Product> products) {
+        return new ColumnarSnapshot<>(SPECIFICATION_PARSER_MANAGER, ProductFilter.class, Product.class, new ValueConverter(),
+                SPECIFICATION_QUERY_CONFIG, products);
+    }
+
+    private static List<Product> createRandomProducts(Random random) {
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            products.add(new Product(id, "p" + random.nextInt(20), random.nextInt(10) == 0 ? null : random.nextInt(50),
+                    random.nextInt(40) / 4.0, random.nextInt(10) == 0 ? null : Category.values()[random.nextInt(3)],
+                    random.nextBoolean() ? new Supplier("s" + random.nextInt(5)) : null,
+                    List.of(new Tag("t" + random.nextInt(3)))));
+        }
+        return products;
+    }
+
+    private static FilterItem<Product> createRandomFilterItem(Random random) {
+        String value = String.valueOf(random.nextInt(50));
+        return switch (random.nextInt(8)) {
+            case 0 -> new SingleFilterItem<>("stock", FilterOperator.values()[random.nextInt(6)], value);
+            case 1 -> new MultiFilterItem<>("stock", FilterOperator.BETWEEN, List.of(value, String.valueOf(random.nextInt(50))));
+            case 2 -> new MultiFilterItem<>("stock", FilterOperator.IN, List.of(value, String.valueOf(random.nextInt(50))));
+            case 3 -> new SingleFilterItem<>("rating", FilterOperator.values()[random.nextInt(6)], String.valueOf(random.nextInt(40) / 4.0));
+            case 4 -> new SingleFilterItem<>("name", FilterOperator.LIKE, String.valueOf(random.nextInt(20)));
+            case 5 -> new SingleFilterItem<>("category", FilterOperator.NOT_EQUAL, Category.values()[random.nextInt(3)].name());
+            case 6 -> new SingleFilterItem<>("supplierName", FilterOperator.EQUAL, "s" + random.nextInt(5));
+            default -> new SingleFilterItem<>("tagName", FilterOperator.NOT_EQUAL, "t" + random.nextInt(3));
+        };
+    }
+
+    @SafeVarargs
+    private List<Object> filter(FilterItem<Product>... filterItems) {
+        return snapshot.findAllIds(SpecificationRequest.<Product>builder()
+                .withFilterItems(List.of(filterItems))
+                .build());
+    }
+
+    private static List<Long> getIds(List<Product> products) {
+        return products.stream()
+                .map(Product::getId)
+                .collect(Collectors.toList());
+    }
+
+    public enum Category {
+        HOME, TECH, GARDEN
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Product {
+
+        @Id
+        private long id;
+
+        private String name;
+
+        private Integer stock;
+
+        private double rating;
+
+        private Category category;
+
+        private Supplier supplier;
+
+        private List<Tag> tags;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Supplier {
+
+        private String name;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Tag {
+
+        private String name;
+    }
+
+    public static class ProductFilter {
+
+        private Long id;
+
+        private String name;
+
+        private Integer stock;
+
+        private Double rating;
+
+        private Category category;
+
+        private String supplierName;
+
+        private String tagName;
+    }
+
+    public static class SupplierFilter {
+
+        private String name;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Delivery {
+
+        @Id
+        private long id;
+
+        private ZonedDateTime shippedAt;
+    }
+
+    public static class DeliveryFilter {
+
+        private ZonedDateTime shippedAt;
+    }
+}
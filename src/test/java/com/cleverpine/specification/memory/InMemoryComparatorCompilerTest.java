@@ -0,0 +1,179 @@
+package com.cleverpine.specification.memory;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.util.SortDirection;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import jakarta.persistence.criteria.JoinType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InMemoryComparatorCompilerTest {
+
+    // @formatter:off
+    private static final SpecificationQueryConfig<Book> SPECIFICATION_QUERY_CONFIG = SpecificationQueryConfig.<Book>builder()
+            .joinConfig()
+                .defineJoinClause(Book.class, "publisher", "p", JoinType.LEFT)
+                .defineJoinClause(Book.class, "chapters", "c", JoinType.INNER)
+            .end()
+            .attributePathConfig()
+                .addAttributePathMapping("publisherName", "p.name")
+                .addAttributePathMapping("chapterTitle", "c.title")
+            .end()
+            .build();
+    // @formatter:on
+
+    private static final List<Book> BOOKS = List.of(
+            new Book(1L, "Dune", 4.5, 412, new Publisher("Chilton"), List.of()),
+            new Book(2L, "Emma", null, 474, null, List.of()),
+            new Book(3L, "Ulysses", 3.9, 730, new Publisher("Shakespeare and Company"), List.of()),
+            new Book(4L, "Beloved", 4.5, 324, new Publisher("Knopf"), List.of()));
+
+    private final InMemoryComparatorCompiler<Book> comparatorCompiler =
+            new InMemoryComparatorCompiler<>(BookFilter.class, Book.class, SPECIFICATION_QUERY_CONFIG);
+
+    @Test
+    void compile_onPrimitiveAttribute_shouldSortByItsValue() {
+        assertEquals(List.of(4L, 1L, 2L, 3L), sort(List.of(new OrderByItem<>("pages", SortDirection.ASC))));
+        assertEquals(List.of(3L, 2L, 1L, 4L), sort(List.of(new OrderByItem<>("pages", SortDirection.DESC))));
+    }
+
+    @Test
+    void compile_onNullableAttribute_shouldSortTheNullsLastInAscendingAndFirstInDescendingOrder() {
+        assertEquals(List.of(3L, 1L, 4L, 2L), sort(List.of(new OrderByItem<>("rating", SortDirection.ASC))));
+        assertEquals(List.of(2L, 1L, 4L, 3L), sort(List.of(new OrderByItem<>("rating", SortDirection.DESC))));
+    }
+
+    @Test
+    void compile_onSeveralOrderByItems_shouldSortByThemInOrder() {
+        assertEquals(List.of(2L, 4L, 1L, 3L), sort(List.of(
+                new OrderByItem<>("rating", SortDirection.DESC),
+                new OrderByItem<>("title", SortDirection.ASC))));
+    }
+
+    @Test
+    void compile_onPathThroughJoin_shouldSortANullRelationAsANullValue() {
+        assertEquals(List.of(1L, 4L, 3L, 2L), sort(List.of(new OrderByItem<>("publisherName", SortDirection.ASC))));
+        assertEquals(List.of(2L, 3L, 4L, 1L), sort(List.of(new OrderByItem<>("publisherName", SortDirection.DESC))));
+    }
+
+    @Test
+    void compile_onConfiguredOrderByItems_shouldAppendThemToTheGivenOnes() {
+        // @formatter:off
+        SpecificationQueryConfig<Book> queryConfig = SpecificationQueryConfig.<Book>builder()
+                .orderByConfig()
+                    .addOrderBy("title", SortDirection.DESC)
+                .end()
+                .build();
+        // @formatter:on
+        InMemoryComparatorCompiler<Book> compiler = new InMemoryComparatorCompiler<>(BookFilter.class, Book.class, queryConfig);
+
+        assertEquals(List.of(3L, 2L, 1L, 4L), sort(compiler.compile(List.of())));
+        assertEquals(List.of(3L, 1L, 4L, 2L), sort(compiler.compile(List.of(new OrderByItem<>("rating", SortDirection.ASC)))));
+    }
+
+    @Test
+    void compile_onAttributeNotDeclaredInTheFilterType_shouldThrow() {
+        assertThrows(InvalidSpecificationException.class,
+                () -> comparatorCompiler.compile(List.of(new OrderByItem<>("publisher", SortDirection.ASC))));
+    }
+
+    @Test
+    void compile_onPathThroughCollectionJoin_shouldThrow() {
+        assertThrows(IllegalSpecificationException.class,
+                () -> comparatorCompiler.compile(List.of(new OrderByItem<>("chapterTitle", SortDirection.ASC))));
+    }
+
+    @Test
+    void selectTop_onPage_shouldSelectTheSameElementsAsTheSortedSublist() {
+        Random random = new Random(42);
+        List<Book> books = new ArrayList<>();
+        for (long id = 0; id < 500; id++) {
+            books.add(new Book(id, "Book", random.nextInt(5) == 0 ? null : (double) random.nextInt(20), random.nextInt(50),
+                    null, List.of()));
+        }
+        Comparator<Book> comparator = comparatorCompiler.compile(List.of(
+                new OrderByItem<>("rating", SortDirection.DESC),
+                new OrderByItem<>("pages", SortDirection.ASC)));
+        List<Book> sortedBooks = new ArrayList<>(books);
+        sortedBooks.sort(comparator);
+
+        assertEquals(sortedBooks.subList(0, 20), InMemoryComparatorCompiler.selectTop(books, comparator, 0, 20));
+        assertEquals(sortedBooks.subList(40, 60), InMemoryComparatorCompiler.selectTop(books, comparator, 40, 20));
+        assertEquals(sortedBooks.subList(490, 500), InMemoryComparatorCompiler.selectTop(books, comparator, 490, 20));
+        assertEquals(List.of(), InMemoryComparatorCompiler.selectTop(books, comparator, 500, 20));
+    }
+
+    @Test
+    void selectTop_onNegativeLimit_shouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> InMemoryComparatorCompiler.selectTop(BOOKS, Comparator.comparing(Book::getId), 0, -1));
+    }
+
+    private List<Long> sort(List<OrderByItem<Book>> orderByItems) {
+        return sort(comparatorCompiler.compile(orderByItems));
+    }
+
+    private List<Long> sort(Comparator<Book> comparator) {
+        return BOOKS.stream()
+                .sorted(comparator)
+                .map(Book::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Book {
+
+        private long id;
+
+        private String title;
+
+        private Double rating;
+
+        private int pages;
+
+        private Publisher publisher;
+
+        private List<Chapter> chapters;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Publisher {
+
+        private String name;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Chapter {
+
+        private String title;
+    }
+
+    public static class BookFilter {
+
+        private Long id;
+
+        private String title;
+
+        private Double rating;
+
+        private Integer pages;
+
+        private String publisherName;
+
+        private String chapterTitle;
+    }
+}
@@ -0,0 +1,216 @@
+package com.cleverpine.specification.memory;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.MultiFilterItem;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.item.TypedSingleFilterItem;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import com.cleverpine.specification.util.ValueConverter;
+import jakarta.persistence.criteria.JoinType;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InMemoryPredicateCompilerTest {
+
+    // @formatter:off
+    private static final SpecificationQueryConfig<Book> SPECIFICATION_QUERY_CONFIG = SpecificationQueryConfig.<Book>builder()
+            .joinConfig()
+                .defineJoinClause(Book.class, "publisher", "p", JoinType.LEFT)
+                .defineJoinClause(Book.class, "chapters", "c", JoinType.INNER)
+            .end()
+            .attributePathConfig()
+                .addAttributePathMapping("publisherName", "p.name")
+                .addAttributePathMapping("chapterTitle", "c.title")
+                .addAttributePathMapping("chapterPages", "c.pages")
+            .end()
+            .build();
+    // @formatter:on
+
+    private static final List<Book> BOOKS = List.of(
+            new Book(1L, "Dune", new BigDecimal("9.90"), Format.PAPERBACK, new Publisher("Chilton"),
+                    List.of(new Chapter("Arrakis", 40), new Chapter("Desert", 12)), ZonedDateTime.parse("2020-01-01T10:00:00+02:00")),
+            new Book(2L, "Emma", new BigDecimal("5.00"), Format.HARDCOVER, null,
+                    List.of(new Chapter("Highbury", 25)), ZonedDateTime.parse("2020-01-01T08:00:00Z")),
+            new Book(3L, "Ulysses", null, Format.EBOOK, new Publisher("Shakespeare and Company"),
+                    List.of(new Chapter("Telemachus", 12), new Chapter("Penelope", 60)), null));
+
+    private final InMemoryPredicateCompiler<Book> predicateCompiler =
+            new InMemoryPredicateCompiler<>(BookFilter.class, Book.class, SPECIFICATION_QUERY_CONFIG, new ValueConverter());
+
+    @Test
+    void compile_onEmptyFilterItems_shouldMatchAllEntities() {
+        assertEquals(List.of(1L, 2L, 3L), filter(List.of()));
+    }
+
+    @Test
+    void compile_onEqualityFilters_shouldConvertTheValuesToThePropertyTypes() {
+        assertEquals(List.of(2L), filter(List.of(new SingleFilterItem<>("id", FilterOperator.EQUAL, "2"))));
+        assertEquals(List.of(2L), filter(List.of(new SingleFilterItem<>("price", FilterOperator.EQUAL, "5"))));
+        assertEquals(List.of(3L), filter(List.of(new SingleFilterItem<>("format", FilterOperator.EQUAL, "EBOOK"))));
+        assertEquals(List.of(1L), filter(List.of(new SingleFilterItem<>("price", FilterOperator.NOT_EQUAL, "5.0"))));
+    }
+
+    @Test
+    void compile_onRangeFilters_shouldCompareTheConvertedValues() {
+        assertEquals(List.of(1L), filter(List.of(new SingleFilterItem<>("price", FilterOperator.GREATER_THAN, "5"))));
+        assertEquals(List.of(1L, 2L), filter(List.of(new SingleFilterItem<>("id", FilterOperator.LESS_THAN_EQUAL, "2"))));
+        assertEquals(List.of(2L, 3L), filter(List.of(new MultiFilterItem<>("id", FilterOperator.BETWEEN, List.of("2", "3")))));
+    }
+
+    @Test
+    void compile_onInFilter_shouldMatchAnyOfTheValues() {
+        assertEquals(List.of(1L, 3L), filter(List.of(new MultiFilterItem<>("id", FilterOperator.IN, List.of("1", "3", "7")))));
+        assertEquals(List.of(), filter(List.of(new MultiFilterItem<>("id", FilterOperator.IN, List.of()))));
+    }
+
+    @Test
+    void compile_onZonedDateTimeFilters_shouldCompareTheInstants() {
+        assertEquals(List.of(1L, 2L), filter(List.of(new SingleFilterItem<>("published", FilterOperator.EQUAL, "2020-01-01T09:00:00+01:00"))));
+        assertEquals(List.of(), filter(List.of(new SingleFilterItem<>("published", FilterOperator.NOT_EQUAL, "2020-01-01T08:00:00Z"))));
+        assertEquals(List.of(1L, 2L), filter(List.of(new MultiFilterItem<>("published", FilterOperator.IN,
+                List.of("2020-01-01T10:00:00+02:00", "2021-01-01T00:00:00Z")))));
+        assertEquals(List.of(1L, 2L), filter(List.of(new SingleFilterItem<>("published", FilterOperator.LESS_THAN_EQUAL, "2020-01-01T08:00:00Z"))));
+        assertEquals(List.of(), filter(List.of(new SingleFilterItem<>("published", FilterOperator.GREATER_THAN, "2020-01-01T08:00:00Z"))));
+    }
+
+    @Test
+    void compile_onPatternFilters_shouldFollowTheLikeWildcards() {
+        assertEquals(List.of(1L, 3L), filter(List.of(new SingleFilterItem<>("title", FilterOperator.LIKE, "e"))));
+        assertEquals(List.of(3L), filter(List.of(new SingleFilterItem<>("title", FilterOperator.STARTS_WITH, "U_y"))));
+        assertEquals(List.of(1L), filter(List.of(new SingleFilterItem<>("title", FilterOperator.ENDS_WITH, "ne"))));
+        assertEquals(List.of(), filter(List.of(new SingleFilterItem<>("title", FilterOperator.LIKE, "."))));
+    }
+
+    @Test
+    void compile_onNullPropertyOrRelation_shouldNotMatch() {
+        assertEquals(List.of(2L), filter(List.of(new SingleFilterItem<>("price", FilterOperator.NOT_EQUAL, "9.9"))));
+        assertEquals(List.of(1L), filter(List.of(new SingleFilterItem<>("publisherName", FilterOperator.NOT_EQUAL, "Shakespeare and Company"))));
+    }
+
+    @Test
+    void compile_onFiltersThroughTheSameCollectionJoin_shouldMatchTheSameElement() {
+        List<FilterItem<Book>> filterItems = List.of(
+                new SingleFilterItem<>("chapterPages", FilterOperator.EQUAL, "12"),
+                new SingleFilterItem<>("chapterTitle", FilterOperator.STARTS_WITH, "D"));
+
+        assertEquals(List.of(1L), filter(filterItems));
+        assertEquals(List.of(1L, 3L), filter(List.of(filterItems.get(0))));
+    }
+
+    @Test
+    void compile_onTypedFilterItem_shouldUseTheConvertedValue() {
+        assertEquals(List.of(3L), filter(List.of(new TypedSingleFilterItem<>("id", FilterOperator.GREATER_THAN, "2", 2L))));
+    }
+
+    @Test
+    void compile_onContradictingFilterItems_shouldMatchNothing() {
+        assertEquals(List.of(), filter(List.of(
+                new SingleFilterItem<>("id", FilterOperator.GREATER_THAN, "2"),
+                new SingleFilterItem<>("id", FilterOperator.LESS_THAN, "2"))));
+    }
+
+    @Test
+    void compile_onAttributeNotDeclaredInTheFilterType_shouldThrow() {
+        assertThrows(InvalidSpecificationException.class,
+                () -> predicateCompiler.compile(List.of(new SingleFilterItem<>("secret", FilterOperator.EQUAL, "1"))));
+    }
+
+    @Test
+    void compile_onInvalidValue_shouldThrow() {
+        InvalidSpecificationException exception = assertThrows(InvalidSpecificationException.class,
+                () -> predicateCompiler.compile(List.of(new SingleFilterItem<>("format", FilterOperator.EQUAL, "SCROLL"))));
+        assertEquals("Invalid value [SCROLL] for type [Format]", exception.getMessage());
+    }
+
+    @Test
+    void compile_onCustomSpecificationFactory_shouldThrow() {
+        List<FilterItem<Book>> filterItems = List.of(new SingleFilterItem<>("title", FilterOperator.EQUAL, "Dune",
+                (attributePath, value, queryContext, valueConverter) -> null));
+
+        assertThrows(IllegalSpecificationException.class, () -> predicateCompiler.compile(filterItems));
+    }
+
+    private List<Long> filter(List<FilterItem<Book>> filterItems) {
+        Predicate<Book> predicate = predicateCompiler.compile(filterItems);
+        return BOOKS.stream()
+                .filter(predicate)
+                .map(Book::getId)
+                .collect(Collectors.toList());
+    }
+
+    public enum Format {
+        PAPERBACK, HARDCOVER, EBOOK
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Book {
+
+        private long id;
+
+        private String title;
+
+        private BigDecimal price;
+
+        private Format format;
+
+        private Publisher publisher;
+
+        private List<Chapter> chapters;
+
+        private ZonedDateTime published;
+
+        private String secret;
+
+        public Book(long id, String title, BigDecimal price, Format format, Publisher publisher, List<Chapter> chapters,
+                    ZonedDateTime published) {
+            this(id, title, price, format, publisher, chapters, published, "secret");
+        }
+    }
+
+    @AllArgsConstructor
+    public static class Publisher {
+
+        private String name;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Chapter {
+
+        private String title;
+
+        private int pages;
+    }
+
+    public static class BookFilter {
+
+        private Long id;
+
+        private String title;
+
+        private BigDecimal price;
+
+        private Format format;
+
+        private String publisherName;
+
+        private String chapterTitle;
+
+        private Integer chapterPages;
+
+        private ZonedDateTime published;
+    }
+}
@@ -0,0 +1,86 @@
+package com.cleverpine.specification.pagination;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.util.ValueConverter;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KeysetCursorTest {
+
+    @Test
+    void decode_onEncodedCursor_shouldReturnTheSameValues() {
+        List<String> values = Arrays.asList("Comedy", null, "with \"quotes\" & \u00fcnicode", "4");
+
+        String encoded = KeysetCursor.of(values).encode();
+
+        assertEquals(values, KeysetCursor.decode(encoded).getValues());
+        assertFalse(encoded.contains("+") || encoded.contains("/") || encoded.contains("="));
+    }
+
+    @Test
+    void decode_onNullOrEmptyCursor_shouldReturnNull() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+    }
+
+    @Test
+    void decode_onInvalidCursor_shouldThrow() {
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> KeysetCursor.decode("not a cursor")
+        );
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> KeysetCursor.decode("eyJpZCI6MX0")
+        );
+    }
+
+    @Test
+    void parseValue_onFormattedValue_shouldReturnTheValueOfTheSortKeyType() {
+        ValueConverter valueConverter = new ValueConverter();
+        List<Object> values = List.of(LocalDate.of(2016, 2, 12), LocalDateTime.of(2016, 2, 12, 10, 30),
+                Instant.now().truncatedTo(ChronoUnit.MILLIS), Boolean.TRUE, (short) 7, 42L, TimeUnit.SECONDS, "Deadpool");
+
+        for (Object value : values) {
+            assertEquals(value, KeysetCursor.parseValue(value.getClass(), KeysetCursor.formatValue(value), valueConverter));
+        }
+        assertEquals(3, KeysetCursor.parseValue(int.class, "3", valueConverter));
+        assertNull(KeysetCursor.parseValue(LocalDate.class, KeysetCursor.formatValue(null), valueConverter));
+    }
+
+    @Test
+    void parseValue_onInvalidValue_shouldThrow() {
+        ValueConverter valueConverter = new ValueConverter();
+
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> KeysetCursor.parseValue(LocalDate.class, "yesterday", valueConverter)
+        );
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> KeysetCursor.parseValue(TimeUnit.class, "WEEKS", valueConverter)
+        );
+    }
+
+    @Test
+    void parseValue_onTypeWithoutTextualForm_shouldThrow() {
+        IllegalSpecificationException exception = assertThrows(
+                IllegalSpecificationException.class,
+                () -> KeysetCursor.parseValue(Character.class, "x", new ValueConverter())
+        );
+        assertEquals("Keyset pagination cannot sort by a key of type [Character]", exception.getMessage());
+    }
+}
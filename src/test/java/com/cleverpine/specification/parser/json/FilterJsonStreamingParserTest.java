@@ -0,0 +1,171 @@
+package com.cleverpine.specification.parser.json;
+
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.MultiFilterItem;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.util.FilterOperator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FilterJsonStreamingParserTest {
+
+    private final FilterJsonStreamingParser filterJsonStreamingParser = new FilterJsonStreamingParser(new ObjectMapper());
+
+    @Test
+    void parseFilterParam_onNullInput_shouldReturnEmptyList() {
+        List<FilterItem<Object>> actual = filterJsonStreamingParser.parseFilterParam(null);
+        assertNotNull(actual);
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void parseFilterParam_onEmptyInput_shouldReturnEmptyList() {
+        List<FilterItem<Object>> actual = filterJsonStreamingParser.parseFilterParam("");
+        assertNotNull(actual);
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void parseFilterParam_onEmptyJsonArray_shouldReturnEmptyList() {
+        List<FilterItem<Object>> actual = filterJsonStreamingParser.parseFilterParam("[]");
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void parseFilterParam_onInvalidJson_shouldThrow() {
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> filterJsonStreamingParser.parseFilterParam("[[\"id\"]")
+        );
+    }
+
+    @Test
+    void parseFilterParam_onValidJsonButNotJsonArray_shouldThrow() {
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> filterJsonStreamingParser.parseFilterParam("{\"param\": 14}")
+        );
+    }
+
+    @Test
+    void parseFilterParam_onTrailingContent_shouldThrow() {
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> filterJsonStreamingParser.parseFilterParam("[[\"id\",\"eq\",\"1\"]] []")
+        );
+    }
+
+    @Test
+    void parseFilterParam_onInvalidFilterItemParamsCount_shouldThrow() {
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> filterJsonStreamingParser.parseFilterParam("[[\"param\",\"eq\"]]")
+        );
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> filterJsonStreamingParser.parseFilterParam("[[\"param\",\"eq\",\"1\",\"2\"]]")
+        );
+    }
+
+    @Test
+    void parseFilterParam_onInvalidFilterOperator_shouldThrow() {
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> filterJsonStreamingParser.parseFilterParam("[[\"param\",\"invalid\",\"12\"]]")
+        );
+    }
+
+    @Test
+    void parseFilterParam_onNullValue_shouldThrow() {
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> filterJsonStreamingParser.parseFilterParam("[[\"param\",\"eq\",null]]")
+        );
+    }
+
+    @Test
+    void parseFilterParam_onArrayValueForSingleFilterOperator_shouldThrow() {
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> filterJsonStreamingParser.parseFilterParam("[[\"param\",\"eq\",[\"1\"]]]")
+        );
+    }
+
+    @Test
+    void parseFilterParam_onSingleFilterOperator_shouldReturnSingleFilterItems() {
+        List<FilterItem<Object>> actual = filterJsonStreamingParser.parseFilterParam(
+                "[[\"title\",\"eq\",\"Matrix\"],[\"year\",\"gt\",1999]]");
+
+        assertEquals(List.of(
+                new SingleFilterItem<>("title", FilterOperator.EQUAL, "Matrix"),
+                new SingleFilterItem<>("year", FilterOperator.GREATER_THAN, "1999")), actual);
+    }
+
+    @Test
+    void parseFilterParam_onMultiFilterOperatorWithNestedArray_shouldReturnMultiFilterItem() {
+        List<FilterItem<Object>> actual = filterJsonStreamingParser.parseFilterParam(
+                "[[\"id\",\"in\",[\"1\",2,\"3\"]],[\"year\",\"between\",[\"1990\",\"2000\"]]]");
+
+        assertEquals(List.of(
+                new MultiFilterItem<>("id", FilterOperator.IN, List.of("1", "2", "3")),
+                new MultiFilterItem<>("year", FilterOperator.BETWEEN, List.of("1990", "2000"))), actual);
+    }
+
+    @Test
+    void parseFilterParam_onMultiFilterOperatorWithStringEncodedArray_shouldReturnMultiFilterItem() {
+        List<FilterItem<Object>> actual = filterJsonStreamingParser.parseFilterParam(
+                "[[\"attribute\",\"between\",\"[\\\"13\\\",\\\"18\\\"]\"]]");
+
+        assertEquals(List.of(
+                new MultiFilterItem<>("attribute", FilterOperator.BETWEEN, List.of("13", "18"))), actual);
+    }
+
+    @Test
+    void parseFilterParam_onSeveralStringEncodedArrays_shouldKeepTheOrderOfTheFilterItems() {
+        List<FilterItem<Object>> actual = filterJsonStreamingParser.parseFilterParam(
+                "[[\"id\",\"in\",\"[\\\"1\\\",\\\"2\\\"]\"],[\"title\",\"eq\",\"Matrix\"],"
+                        + "[\"year\",\"between\",\"[\\\"1990\\\",\\\"2000\\\"]\"],[\"genre\",\"in\",[\"Drama\"]]]");
+
+        assertEquals(List.of(
+                new MultiFilterItem<>("id", FilterOperator.IN, List.of("1", "2")),
+                new SingleFilterItem<>("title", FilterOperator.EQUAL, "Matrix"),
+                new MultiFilterItem<>("year", FilterOperator.BETWEEN, List.of("1990", "2000")),
+                new MultiFilterItem<>("genre", FilterOperator.IN, List.of("Drama"))), actual);
+    }
+
+    @Test
+    void parseFilterParam_onInvalidStringEncodedArrayAfterValidItems_shouldThrow() {
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> filterJsonStreamingParser.parseFilterParam(
+                        "[[\"title\",\"eq\",\"Matrix\"],[\"id\",\"in\",\"[\\\"1\\\",\"]]")
+        );
+    }
+
+    @Test
+    void parseFilterParam_onMultiFilterOperatorWithInvalidStringEncodedArray_shouldThrow() {
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> filterJsonStreamingParser.parseFilterParam("[[\"id\",\"in\",\"1,2\"]]")
+        );
+    }
+
+    @Test
+    void parseFilterParam_shouldProduceTheSameItemsAsTheArrayParser() {
+        String filterParam = "[[\"title\",\"like\",\"Fast\"],[\"id\",\"in\",\"[\\\"1\\\",\\\"2\\\"]\"],[\"genre\",\"neq\",\"Drama\"]]";
+        FilterJsonArrayParser filterJsonArrayParser = new FilterJsonArrayParser(new ObjectMapper());
+
+        List<FilterItem<Object>> expected = filterJsonArrayParser.parseFilterParam(filterParam);
+        List<FilterItem<Object>> actual = filterJsonStreamingParser.parseFilterParam(filterParam);
+
+        assertEquals(expected, actual);
+    }
+}
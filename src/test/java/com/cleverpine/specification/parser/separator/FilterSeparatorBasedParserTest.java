@@ -2,6 +2,9 @@ package com.cleverpine.specification.parser.separator;
 
 import com.cleverpine.specification.exception.InvalidSpecificationException;
 import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.MultiFilterItem;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.util.FilterOperator;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -97,4 +100,23 @@ public class FilterSeparatorBasedParserTest {
         assertNotNull(actual);
         assertEquals(0, actual.size());
     }
+
+    @Test
+    void parseFilterParams_onMultiValueFilterParam_shouldSplitTheValues() {
+        List<FilterItem<Object>> actual = filterSeparatorBasedParser.parseFilterParams(List.of("id:in:1;2;3"));
+
+        assertEquals(List.of(new MultiFilterItem<>("id", FilterOperator.IN, List.of("1", "2", "3"))), actual);
+    }
+
+    @Test
+    void parseFilterParams_whenEscapingIsEnabled_shouldKeepEscapedSeparatorsInTheValues() {
+        FilterSeparatorBasedParser escapingParser = new FilterSeparatorBasedParser("|", ",", true);
+
+        List<FilterItem<Object>> actual = escapingParser.parseFilterParams(
+                List.of("title|eq|Fast \\| Furious", "name|in|Smith\\, John,Doe"));
+
+        assertEquals(List.of(
+                new SingleFilterItem<>("title", FilterOperator.EQUAL, "Fast | Furious"),
+                new MultiFilterItem<>("name", FilterOperator.IN, List.of("Smith, John", "Doe"))), actual);
+    }
 }
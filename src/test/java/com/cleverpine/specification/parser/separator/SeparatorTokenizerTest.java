@@ -0,0 +1,45 @@
+package com.cleverpine.specification.parser.separator;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SeparatorTokenizerTest {
+
+    private static final List<String> INPUTS = List.of(
+            "", "a", ":", "::", "a:", ":a", "a::b", "a:b:c", "a:b:c::", "::a:b", "a:\\:b", "a|b|c", "a.b", "a;;b;", "ab::cd::");
+
+    @Test
+    void tokenize_withoutEscaping_shouldBehaveAsStringSplit() {
+        for (String separator : List.of(":", "::", ";", "|", ".", "\\|", "")) {
+            SeparatorTokenizer tokenizer = SeparatorTokenizer.of(separator, false);
+            for (String input : INPUTS) {
+                assertEquals(
+                        Arrays.asList(input.split(separator)),
+                        tokenizer.tokenize(input),
+                        String.format("separator [%s], input [%s]", separator, input));
+            }
+        }
+    }
+
+    @Test
+    void tokenize_withEscaping_shouldKeepEscapedSeparatorsInTheToken() {
+        SeparatorTokenizer tokenizer = SeparatorTokenizer.of(":", true);
+
+        assertEquals(List.of("title", "eq", "10:30"), tokenizer.tokenize("title:eq:10\\:30"));
+        assertEquals(List.of("a:b:c"), tokenizer.tokenize("a\\:b\\:c"));
+        assertEquals(List.of("a", "b\\c"), tokenizer.tokenize("a:b\\c"));
+        assertEquals(List.of("", "a:"), tokenizer.tokenize(":a\\::"));
+    }
+
+    @Test
+    void tokenize_withEscaping_shouldTreatRegexMetacharactersLiterally() {
+        SeparatorTokenizer tokenizer = SeparatorTokenizer.of("|", true);
+
+        assertEquals(List.of("title", "eq", "a|b"), tokenizer.tokenize("title|eq|a\\|b"));
+        assertEquals(List.of("a", "b"), SeparatorTokenizer.of(".", true).tokenize("a.b"));
+    }
+}
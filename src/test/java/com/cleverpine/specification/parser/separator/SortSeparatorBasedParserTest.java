@@ -2,6 +2,7 @@ package com.cleverpine.specification.parser.separator;
 
 import com.cleverpine.specification.exception.InvalidSpecificationException;
 import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.util.SortDirection;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -82,4 +83,13 @@ public class SortSeparatorBasedParserTest {
         OrderByItem<Object> filterItem = actual.get(0);
         assertEquals("attribute", filterItem.getAttribute());
     }
+
+    @Test
+    void parseSortParams_whenEscapingIsEnabled_shouldTreatTheSeparatorLiterally() {
+        SortSeparatorBasedParser escapingParser = new SortSeparatorBasedParser(".", true);
+
+        List<OrderByItem<Object>> actual = escapingParser.parseSortParams(List.of("title.asc"));
+
+        assertEquals(List.of(new OrderByItem<>("title", SortDirection.ASC)), actual);
+    }
 }
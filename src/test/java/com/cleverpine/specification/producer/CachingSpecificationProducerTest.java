@@ -0,0 +1,156 @@
+package com.cleverpine.specification.producer;
+
+import com.cleverpine.specification.cache.SpecificationCache;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.parser.SpecificationParserManager;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.SortDirection;
+import com.cleverpine.specification.util.SpecificationRequest;
+import com.cleverpine.specification.util.ValueConverter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingSpecificationProducerTest {
+
+    @Mock
+    private SpecificationParserManager specificationParserManager;
+
+    private SpecificationCache<Object> specificationCache;
+
+    private CachingSpecificationProducer<Object> producer;
+
+    @BeforeEach
+    void setUp() {
+        specificationCache = SpecificationCache.builder().build();
+        producer = new CachingSpecificationProducer<>(
+                specificationParserManager,
+                FilterCriteria.class,
+                new ValueConverter(),
+                specificationCache);
+    }
+
+    @Test
+    void createSpecification_whenRawParametersAreRepeated_shouldSkipParsing() {
+        mockParsedItems(List.of(new SingleFilterItem<>("title", FilterOperator.EQUAL, "a")));
+        SpecificationRequest<Object> request = SpecificationRequest.builder()
+                .withFilterParam("title:eq:a")
+                .build();
+
+        Specification<Object> first = producer.createSpecification(request);
+        Specification<Object> second = producer.createSpecification(SpecificationRequest.builder()
+                .withFilterParam("title:eq:a")
+                .build());
+
+        assertSame(first, second);
+        verify(specificationParserManager, times(1)).produceFilterItems(any());
+        assertEquals(1, specificationCache.getStats().getHitCount());
+        assertEquals(1, specificationCache.getStats().getMissCount());
+    }
+
+    @Test
+    void createSpecification_whenDifferentParametersProduceEqualItems_shouldReuseTheSpecification() {
+        mockParsedItems(List.of(new SingleFilterItem<>("title", FilterOperator.EQUAL, "a")));
+
+        Specification<Object> first = producer.createSpecification(SpecificationRequest.builder()
+                .withFilterParam("title:eq:a")
+                .build());
+        Specification<Object> second = producer.createSpecification(SpecificationRequest.builder()
+                .withFilterParam("title : eq : a")
+                .build());
+
+        assertSame(first, second);
+        verify(specificationParserManager, times(2)).produceFilterItems(any());
+        assertEquals(1, specificationCache.size());
+    }
+
+    @Test
+    void createSpecification_whenRawParametersAreRepeated_shouldCacheOneEntry() {
+        mockParsedItems(List.of(new SingleFilterItem<>("title", FilterOperator.EQUAL, "a")));
+
+        producer.createSpecification(SpecificationRequest.builder()
+                .withFilterParam("title:eq:a")
+                .build());
+        producer.createSpecification(SpecificationRequest.builder()
+                .withFilterParam("title:eq:a")
+                .build());
+
+        assertEquals(1, specificationCache.size());
+        assertEquals(0, specificationCache.getStats().getEvictionCount());
+    }
+
+    @Test
+    void createSpecification_whenIndexedSpecificationIsEvicted_shouldParseTheRequestAgain() {
+        mockParsedItems(List.of(new SingleFilterItem<>("title", FilterOperator.EQUAL, "a")));
+        SpecificationRequest<Object> request = SpecificationRequest.builder()
+                .withFilterParam("title:eq:a")
+                .build();
+
+        Specification<Object> first = producer.createSpecification(request);
+        specificationCache.invalidateAll();
+        Specification<Object> second = producer.createSpecification(request);
+
+        assertNotSame(first, second);
+        verify(specificationParserManager, times(2)).produceFilterItems(any());
+        assertEquals(2, specificationCache.getStats().getMissCount());
+    }
+
+    @Test
+    void createSpecification_whenItemsDiffer_shouldCreateNewSpecification() {
+        when(specificationParserManager.produceFilterItems(any()))
+                .thenReturn(new ArrayList<>(List.of(new SingleFilterItem<>("title", FilterOperator.EQUAL, "a"))))
+                .thenReturn(new ArrayList<>(List.of(new SingleFilterItem<>("title", FilterOperator.EQUAL, "b"))));
+        when(specificationParserManager.produceOrderByItems(any()))
+                .thenReturn(new ArrayList<>(List.of(new OrderByItem<>("title", SortDirection.ASC))));
+
+        Specification<Object> first = producer.createSpecification(SpecificationRequest.builder()
+                .withFilterParam("title:eq:a")
+                .build());
+        Specification<Object> second = producer.createSpecification(SpecificationRequest.builder()
+                .withFilterParam("title:eq:b")
+                .build());
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void createSpecification_whenRequestIsInvalid_shouldThrowEveryTime() {
+        mockParsedItems(List.of(new SingleFilterItem<>("invalid", FilterOperator.EQUAL, "a")));
+        SpecificationRequest<Object> request = SpecificationRequest.builder()
+                .withFilterParam("invalid:eq:a")
+                .build();
+
+        assertThrows(InvalidSpecificationException.class, () -> producer.createSpecification(request));
+        assertThrows(InvalidSpecificationException.class, () -> producer.createSpecification(request));
+        assertEquals(0, specificationCache.size());
+    }
+
+    private void mockParsedItems(List<FilterItem<Object>> filterItems) {
+        when(specificationParserManager.produceFilterItems(any())).thenAnswer(invocation -> new ArrayList<>(filterItems));
+        when(specificationParserManager.produceOrderByItems(any())).thenAnswer(invocation -> new ArrayList<>());
+    }
+
+    private static class FilterCriteria {
+
+        private String title;
+    }
+}
@@ -0,0 +1,227 @@
+package com.cleverpine.specification.producer;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.MultiFilterItem;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.SortDirection;
+import com.cleverpine.specification.util.SpecificationQueryConfig;
+import jakarta.persistence.criteria.JoinType;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ComplexityBudgetValidatorTest {
+
+    private final ComplexityBudgetValidator complexityBudgetValidator = new ComplexityBudgetValidator();
+
+    @Test
+    void validate_whenNoLimitIsSet_shouldAcceptAnyRequest() {
+        SpecificationQueryConfig<Owner> specificationQueryConfig = SpecificationQueryConfig.<Owner>builder().build();
+
+        assertDoesNotThrow(() -> complexityBudgetValidator.validate(
+                List.of(new SingleFilterItem<>("name", FilterOperator.LIKE, "a"),
+                        new SingleFilterItem<>("name", FilterOperator.LIKE, "b")),
+                List.of(new OrderByItem<>("name", SortDirection.ASC)),
+                specificationQueryConfig));
+    }
+
+    @Test
+    void validate_whenFiltersAndSortsExceedTheLimits_shouldThrow() {
+        // @formatter:off
+        SpecificationQueryConfig<Owner> specificationQueryConfig = SpecificationQueryConfig.<Owner>builder()
+                .complexityConfig()
+                .maxFilters(1)
+                .maxSorts(1)
+                .end()
+                .build();
+        // @formatter:on
+        List<FilterItem<Owner>> oneFilter = List.of(new SingleFilterItem<>("name", FilterOperator.EQUAL, "a"));
+        List<OrderByItem<Owner>> oneSort = List.of(new OrderByItem<>("name", SortDirection.ASC));
+
+        assertDoesNotThrow(() -> complexityBudgetValidator.validate(oneFilter, oneSort, specificationQueryConfig));
+        InvalidSpecificationException filtersException = assertThrows(InvalidSpecificationException.class,
+                () -> complexityBudgetValidator.validate(
+                        List.of(oneFilter.get(0), new SingleFilterItem<>("id", FilterOperator.EQUAL, "1")),
+                        oneSort,
+                        specificationQueryConfig));
+        assertEquals("The request exceeds the maximum number of filters [1]", filtersException.getMessage());
+        assertThrows(InvalidSpecificationException.class, () -> complexityBudgetValidator.validate(
+                oneFilter,
+                List.of(oneSort.get(0), new OrderByItem<>("id", SortDirection.DESC)),
+                specificationQueryConfig));
+    }
+
+    @Test
+    void validate_whenInValuesExceedTheLimit_shouldThrow() {
+        // @formatter:off
+        SpecificationQueryConfig<Owner> specificationQueryConfig = SpecificationQueryConfig.<Owner>builder()
+                .complexityConfig()
+                .maxInValues(2)
+                .end()
+                .build();
+        // @formatter:on
+
+        assertDoesNotThrow(() -> complexityBudgetValidator.validate(
+                List.of(new MultiFilterItem<>("id", FilterOperator.IN, List.of("1", "2"))), List.of(), specificationQueryConfig));
+        assertThrows(InvalidSpecificationException.class, () -> complexityBudgetValidator.validate(
+                List.of(new MultiFilterItem<>("id", FilterOperator.IN, List.of("1", "2", "3"))), List.of(), specificationQueryConfig));
+    }
+
+    @Test
+    void validate_whenLeadingWildcardLikesExceedTheLimit_shouldThrow() {
+        // @formatter:off
+        SpecificationQueryConfig<Owner> specificationQueryConfig = SpecificationQueryConfig.<Owner>builder()
+                .complexityConfig()
+                .maxLeadingWildcardLikes(1)
+                .end()
+                .build();
+        // @formatter:on
+
+        assertDoesNotThrow(() -> complexityBudgetValidator.validate(
+                List.of(new SingleFilterItem<>("name", FilterOperator.LIKE, "a"),
+                        new SingleFilterItem<>("name", FilterOperator.STARTS_WITH, "b")),
+                List.of(),
+                specificationQueryConfig));
+        assertThrows(InvalidSpecificationException.class, () -> complexityBudgetValidator.validate(
+                List.of(new SingleFilterItem<>("name", FilterOperator.ENDS_WITH, "a"),
+                        new SingleFilterItem<>("name", FilterOperator.STARTS_WITH, "%b")),
+                List.of(),
+                specificationQueryConfig));
+    }
+
+    @Test
+    void validate_whenJoinDepthExceedsTheLimit_shouldThrow() {
+        // @formatter:off
+        SpecificationQueryConfig<Owner> specificationQueryConfig = SpecificationQueryConfig.<Owner>builder()
+                .joinConfig()
+                .defineJoinClause(Owner.class, "detail", "d", JoinType.INNER)
+                .defineJoinClause(Detail.class, "items", "i", JoinType.INNER)
+                .end()
+                .attributePathConfig()
+                .addAttributePathMapping("detailName", "d.name")
+                .addAttributePathMapping("itemName", "d.i.name")
+                .end()
+                .complexityConfig()
+                .maxJoinDepth(1)
+                .end()
+                .build();
+        // @formatter:on
+
+        assertDoesNotThrow(() -> complexityBudgetValidator.validate(
+                List.of(new SingleFilterItem<>("detailName", FilterOperator.EQUAL, "a")), List.of(), specificationQueryConfig));
+        assertThrows(InvalidSpecificationException.class, () -> complexityBudgetValidator.validate(
+                List.of(), List.of(new OrderByItem<>("itemName", SortDirection.ASC)), specificationQueryConfig));
+    }
+
+    @Test
+    void validate_whenJoinedCollectionsExceedTheLimit_shouldCountOnlyTheDistinctCollectionJoins() {
+        // @formatter:off
+        SpecificationQueryConfig<Owner> specificationQueryConfig = SpecificationQueryConfig.<Owner>builder()
+                .joinConfig()
+                .defineJoinClause(Owner.class, "detail", "d", JoinType.INNER)
+                .defineJoinClause(Owner.class, "items", "i", JoinType.INNER)
+                .defineJoinClause(Owner.class, "tags", "t", JoinType.INNER)
+                .end()
+                .attributePathConfig()
+                .addAttributePathMapping("detailName", "d.name")
+                .addAttributePathMapping("itemName", "i.name")
+                .addAttributePathMapping("itemCode", "i.code")
+                .addAttributePathMapping("tagName", "t.name")
+                .end()
+                .complexityConfig()
+                .maxCollectionJoins(1)
+                .end()
+                .build();
+        // @formatter:on
+
+        assertDoesNotThrow(() -> complexityBudgetValidator.validate(
+                List.of(new SingleFilterItem<>("detailName", FilterOperator.EQUAL, "a"),
+                        new SingleFilterItem<>("itemName", FilterOperator.EQUAL, "b")),
+                List.of(new OrderByItem<>("itemCode", SortDirection.ASC)),
+                specificationQueryConfig));
+        assertThrows(InvalidSpecificationException.class, () -> complexityBudgetValidator.validate(
+                List.of(new SingleFilterItem<>("itemName", FilterOperator.EQUAL, "b")),
+                List.of(new OrderByItem<>("tagName", SortDirection.ASC)),
+                specificationQueryConfig));
+    }
+
+    @Test
+    void validate_whenCostExceedsTheLimit_shouldThrow() {
+        // @formatter:off
+        SpecificationQueryConfig<Owner> specificationQueryConfig = SpecificationQueryConfig.<Owner>builder()
+                .complexityConfig()
+                .attributeCost("name", 5)
+                .maxCost(6)
+                .end()
+                .build();
+        // @formatter:on
+
+        assertDoesNotThrow(() -> complexityBudgetValidator.validate(
+                List.of(new SingleFilterItem<>("name", FilterOperator.EQUAL, "a")),
+                List.of(new OrderByItem<>("id", SortDirection.ASC)),
+                specificationQueryConfig));
+        assertThrows(InvalidSpecificationException.class, () -> complexityBudgetValidator.validate(
+                List.of(new SingleFilterItem<>("name", FilterOperator.EQUAL, "a")),
+                List.of(new OrderByItem<>("name", SortDirection.ASC)),
+                specificationQueryConfig));
+    }
+
+    @Test
+    void complexityConfig_onNegativeLimit_shouldThrow() {
+        assertThrows(IllegalSpecificationException.class,
+                () -> SpecificationQueryConfig.<Owner>builder().complexityConfig().maxFilters(-1));
+    }
+
+    @Test
+    void complexityConfig_ofBuiltConfiguration_shouldNotBeModifiable() {
+        SpecificationQueryConfig<Owner> specificationQueryConfig = SpecificationQueryConfig.<Owner>builder().build();
+
+        IllegalSpecificationException exception = assertThrows(IllegalSpecificationException.class,
+                () -> specificationQueryConfig.getComplexityConfig().maxFilters(1));
+        assertEquals("The complexity configuration of a built specification query configuration cannot be modified",
+                exception.getMessage());
+        assertThrows(IllegalSpecificationException.class,
+                () -> SpecificationQueryConfig.ComplexityConfig.unlimited().attributeCost("name", 2));
+        assertFalse(SpecificationQueryConfig.ComplexityConfig.unlimited().isLimited());
+    }
+
+    private static class Owner {
+
+        private Long id;
+
+        private String name;
+
+        private Detail detail;
+
+        private List<Item> items;
+
+        private Set<String> tags;
+
+    }
+
+    private static class Detail {
+
+        private String name;
+
+        private List<Item> items;
+
+    }
+
+    private static class Item {
+
+        private String name;
+
+        private String code;
+
+    }
+}
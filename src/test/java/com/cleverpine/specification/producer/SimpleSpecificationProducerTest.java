@@ -0,0 +1,41 @@
+package com.cleverpine.specification.producer;
+
+import com.cleverpine.specification.exception.InvalidSpecificationException;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.item.SingleFilterItem;
+import com.cleverpine.specification.util.FilterOperator;
+import com.cleverpine.specification.util.SortDirection;
+import com.cleverpine.specification.util.ValueConverter;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SimpleSpecificationProducerTest {
+
+    private final SimpleSpecificationProducer producer = new SimpleSpecificationProducer();
+
+    @Test
+    void produceFilterSpecifications_onAttributeNotDeclaredInFilterType_shouldThrow() {
+        List<FilterItem<Object>> filterItems =
+                List.of(new SingleFilterItem<>("rating", FilterOperator.EQUAL, "1"));
+
+        assertThrows(InvalidSpecificationException.class, () -> producer
+                .produceFilterSpecifications(FilterCriteria.class, filterItems, null, new ValueConverter()));
+    }
+
+    @Test
+    void produceOrderBySpecifications_onAttributeNotDeclaredInFilterType_shouldThrow() {
+        List<OrderByItem<Object>> orderByItems = List.of(new OrderByItem<>("rating", SortDirection.ASC));
+
+        assertThrows(InvalidSpecificationException.class, () -> producer
+                .produceOrderBySpecifications(FilterCriteria.class, orderByItems, null));
+    }
+
+    private static class FilterCriteria {
+
+        private String title;
+    }
+}
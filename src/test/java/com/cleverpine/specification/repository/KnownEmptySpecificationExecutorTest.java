@@ -0,0 +1,74 @@
+package com.cleverpine.specification.repository;
+
+import com.cleverpine.specification.core.KnownEmptySpecification;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+public class KnownEmptySpecificationExecutorTest {
+
+    private KnownEmptySpecificationExecutor<Object> specificationExecutor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        specificationExecutor = mock(KnownEmptySpecificationExecutor.class,
+                withSettings().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+    }
+
+    @Test
+    void findAllIfSatisfiable_onKnownEmptySpecification_shouldNotQuery() {
+        Specification<Object> specification = KnownEmptySpecification.instance();
+        PageRequest pageRequest = PageRequest.of(2, 20);
+
+        assertEquals(List.of(), specificationExecutor.findAllIfSatisfiable(specification));
+        assertEquals(List.of(), specificationExecutor.findAllIfSatisfiable(specification, Sort.by("id")));
+        Page<Object> page = specificationExecutor.findAllIfSatisfiable(specification, pageRequest);
+        assertTrue(page.isEmpty());
+        assertEquals(pageRequest, page.getPageable());
+        assertEquals(0L, specificationExecutor.countIfSatisfiable(specification));
+
+        verify(specificationExecutor, never()).findAll(any(Specification.class));
+        verify(specificationExecutor, never()).findAll(any(Specification.class), any(Sort.class));
+        verify(specificationExecutor, never()).findAll(any(Specification.class), any(PageRequest.class));
+        verify(specificationExecutor, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void findAllIfSatisfiable_onOtherSpecification_shouldQuery() {
+        Specification<Object> specification = (root, query, criteriaBuilder) -> null;
+        PageRequest pageRequest = PageRequest.of(0, 20);
+        Page<Object> page = new PageImpl<>(List.of("entity"), pageRequest, 1);
+        doReturn(List.of("entity")).when(specificationExecutor).findAll(specification);
+        doReturn(page).when(specificationExecutor).findAll(specification, pageRequest);
+        doReturn(1L).when(specificationExecutor).count(specification);
+
+        assertEquals(List.of("entity"), specificationExecutor.findAllIfSatisfiable(specification));
+        assertSame(page, specificationExecutor.findAllIfSatisfiable(specification, pageRequest));
+        assertEquals(1L, specificationExecutor.countIfSatisfiable(specification));
+    }
+
+    @Test
+    void and_onKnownEmptySpecification_shouldStayKnownEmpty() {
+        Specification<Object> specification = KnownEmptySpecification.instance();
+
+        assertTrue(KnownEmptySpecification.isKnownEmpty(specification.and((root, query, criteriaBuilder) -> null)));
+    }
+}
@@ -0,0 +1,73 @@
+package com.cleverpine.specification.util;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import jakarta.persistence.criteria.JoinType;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AttributePathPlanTest {
+
+    @Test
+    void getAttributePathPlan_onSingleAttributePath_shouldNotRequireJoins() {
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder().build();
+
+        AttributePathPlan actual = queryConfig.getJoinConfig().getAttributePathPlan("title");
+
+        assertTrue(actual.isSingleAttributePath());
+        assertEquals(0, actual.getJoinCount());
+        assertEquals("title", actual.getAttribute());
+    }
+
+    @Test
+    void getAttributePathPlan_onNestedPath_shouldResolveTheJoinChainAndTheLeafAttribute() {
+        // @formatter:off
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
+                .joinConfig()
+                .defineJoinClause(Object.class, "actors", "a", JoinType.INNER)
+                .defineJoinClause(String.class, "address", "ad", JoinType.LEFT)
+                .end()
+                .build();
+        // @formatter:on
+
+        AttributePathPlan actual = queryConfig.getJoinConfig().getAttributePathPlan("a.ad.city");
+
+        assertFalse(actual.isSingleAttributePath());
+        assertEquals(2, actual.getJoinCount());
+        assertEquals("actors", actual.getJoinItem(0).getJoinAttribute());
+        assertEquals("address", actual.getJoinItem(1).getJoinAttribute());
+        assertEquals(3, actual.getTokenCount());
+        assertEquals("ad", actual.getToken(1));
+        assertEquals("city", actual.getAttribute());
+    }
+
+    @Test
+    void getAttributePathPlan_whenCalledMultipleTimes_shouldReturnTheCachedPlan() {
+        // @formatter:off
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
+                .joinConfig()
+                .defineJoinClause(Object.class, "genre", "g", JoinType.INNER)
+                .end()
+                .build();
+        // @formatter:on
+
+        assertSame(
+                queryConfig.getJoinConfig().getAttributePathPlan("g.name"),
+                queryConfig.getJoinConfig().getAttributePathPlan("g.name"));
+    }
+
+    @Test
+    void getAttributePathPlan_whenJoinAliasIsNotDefined_shouldThrow() {
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder().build();
+
+        assertThrows(
+                IllegalSpecificationException.class,
+                () -> queryConfig.getJoinConfig().getAttributePathPlan("g.name")
+        );
+    }
+}
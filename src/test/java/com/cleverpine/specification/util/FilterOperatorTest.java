@@ -6,6 +6,9 @@ import java.util.Optional;
 
 import static com.cleverpine.specification.util.FilterConstants.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FilterOperatorTest {
@@ -76,4 +79,27 @@ public class FilterOperatorTest {
         assertEquals(FilterOperator.IN, actual.get());
     }
 
+    @Test
+    void isValueConverted_onPatternOperators_shouldReturnFalse() {
+        assertFalse(FilterOperator.LIKE.isValueConverted());
+        assertFalse(FilterOperator.STARTS_WITH.isValueConverted());
+        assertFalse(FilterOperator.ENDS_WITH.isValueConverted());
+        assertTrue(FilterOperator.EQUAL.isValueConverted());
+        assertTrue(FilterOperator.BETWEEN.isValueConverted());
+        assertTrue(FilterOperator.IN.isValueConverted());
+    }
+
+    @Test
+    void getSpecificationFactory_onEachOperator_shouldProvideOnlyTheFactoryMatchingTheValuesCount() {
+        for (FilterOperator operator : FilterOperator.values()) {
+            if (operator.isSingleFilterValue()) {
+                assertNotNull(operator.getSingleValueSpecificationFactory());
+                assertNull(operator.getMultiValueSpecificationFactory());
+            } else {
+                assertNull(operator.getSingleValueSpecificationFactory());
+                assertNotNull(operator.getMultiValueSpecificationFactory());
+            }
+        }
+    }
+
 }
@@ -0,0 +1,68 @@
+package com.cleverpine.specification.util;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FilterTypeMetadataTest {
+
+    @Test
+    void of_whenCalledMultipleTimesForTheSameType_shouldReturnTheCachedInstance() {
+        FilterTypeMetadata first = FilterTypeMetadata.of(ChildCriteria.class);
+        FilterTypeMetadata second = FilterTypeMetadata.of(ChildCriteria.class);
+
+        assertSame(first, second);
+        assertEquals(ChildCriteria.class, first.getFilterType());
+    }
+
+    @Test
+    void hasAttribute_whenAttributeIsDeclaredInTheTypeOrItsSuperclass_shouldReturnTrue() {
+        FilterTypeMetadata metadata = FilterTypeMetadata.of(ChildCriteria.class);
+
+        assertTrue(metadata.hasAttribute("title"));
+        assertTrue(metadata.hasAttribute("id"));
+        assertFalse(metadata.hasAttribute("invalid"));
+    }
+
+    @Test
+    void getAttributeType_shouldReturnTheDeclaredTypeAndPreferTheSubclassDeclaration() {
+        FilterTypeMetadata metadata = FilterTypeMetadata.of(ChildCriteria.class);
+
+        assertEquals(String.class, metadata.getAttributeType("title"));
+        assertEquals(Long.class, metadata.getAttributeType("id"));
+        assertEquals(String.class, metadata.getAttributeType("code"));
+        assertNull(metadata.getAttributeType("invalid"));
+    }
+
+    @Test
+    void getAttributes_shouldReturnAnUnmodifiableSetOfAllAttributes() {
+        Set<String> attributes = FilterTypeMetadata.of(ChildCriteria.class).getAttributes();
+
+        assertEquals(Set.of("title", "code", "id"), attributes);
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> attributes.add("invalid")
+        );
+    }
+
+    private static class BaseCriteria {
+
+        private Long id;
+
+        private Integer code;
+    }
+
+    private static class ChildCriteria extends BaseCriteria {
+
+        private String title;
+
+        private String code;
+    }
+}
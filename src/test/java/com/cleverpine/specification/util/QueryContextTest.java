@@ -23,6 +23,30 @@ public class QueryContextTest {
         assertFalse(queryContext.isEntityDistinctRequired());
     }
 
+    @Test
+    void constructor_whenDistinctEntityIsRequiredByTheConfig_shouldRequireDistinctEntity() {
+        // @formatter:off
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
+                .entityDistinctRequired(true)
+                .build();
+        // @formatter:on
+        QueryContext<Object> queryContext = new QueryContext<>(queryConfig);
+        assertTrue(queryContext.isEntityDistinctRequired());
+    }
+
+    @Test
+    void isFetchJoinRequired_whenDistinctEntityIsRequired_shouldBeFalseOnlyForCountQueries() {
+        // @formatter:off
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
+                .entityDistinctRequired(true)
+                .build();
+        // @formatter:on
+
+        assertTrue(new QueryContext<>(queryConfig).isFetchJoinRequired());
+        assertFalse(new QueryContext<>(queryConfig, true).isFetchJoinRequired());
+        assertTrue(new QueryContext<>(queryConfig, true).isCountQuery());
+    }
+
     @Test
     void getPathToEntityField_whenAttributeIsNotPresent_shouldReturnNull() {
         // @formatter:off
@@ -142,4 +166,42 @@ public class QueryContextTest {
         assertEquals(PathSpecificationExpression.class, actual);
     }
 
+    @Test
+    void getExistsJoinItem_whenAttributePathGoesThroughAnExistsJoin_shouldReturnTheExistsJoin() {
+        // @formatter:off
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
+                .joinConfig()
+                .defineJoinClause(Object.class, "genre", "g", JoinType.INNER)
+                .defineJoinClause(Object.class, "actors", "a", JoinType.INNER, JoinStrategy.EXISTS)
+                .end()
+                .attributePathConfig()
+                .addAttributePathMapping("genreName", "g.name")
+                .addAttributePathMapping("actorName", "a.name")
+                .end()
+                .build();
+        // @formatter:on
+        QueryContext<Object> queryContext = new QueryContext<>(queryConfig);
+
+        assertEquals("a", queryContext.getExistsJoinItem("actorName").getAlias());
+        assertEquals(JoinStrategy.EXISTS, queryContext.getExistsJoinItem("a.name").getStrategy());
+        assertNull(queryContext.getExistsJoinItem("genreName"));
+        assertNull(queryContext.getExistsJoinItem("title"));
+    }
+
+    @Test
+    void getExistsJoinItem_whenNoExistsJoinIsDefined_shouldReturnNull() {
+        // @formatter:off
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
+                .joinConfig()
+                .defineJoinClause(Object.class, "actors", "a", JoinType.INNER)
+                .end()
+                .attributePathConfig()
+                .addAttributePathMapping("actorName", "a.name")
+                .end()
+                .build();
+        // @formatter:on
+        QueryContext<Object> queryContext = new QueryContext<>(queryConfig);
+
+        assertNull(queryContext.getExistsJoinItem("actorName"));
+    }
 }
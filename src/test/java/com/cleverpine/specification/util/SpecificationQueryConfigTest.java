@@ -0,0 +1,260 @@
+package com.cleverpine.specification.util;
+
+import com.cleverpine.specification.exception.IllegalSpecificationException;
+import com.cleverpine.specification.in.ChunkedInStrategy;
+import com.cleverpine.specification.in.InStrategy;
+import com.cleverpine.specification.in.SingleInStrategy;
+import com.cleverpine.specification.item.FilterItem;
+import com.cleverpine.specification.item.OrderByItem;
+import com.cleverpine.specification.util.SpecificationQueryConfig.SpecificationQueryConfigBuilder;
+import jakarta.persistence.criteria.JoinType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpecificationQueryConfigTest {
+
+    @Test
+    void build_whenAttributePathMappingRefersToUndefinedJoin_shouldThrow() {
+        // @formatter:off
+        SpecificationQueryConfigBuilder<Object> builder = SpecificationQueryConfig.builder()
+                .attributePathConfig()
+                .addAttributePathMapping("genreName", "g.name")
+                .end();
+        // @formatter:on
+
+        assertThrows(
+                IllegalSpecificationException.class,
+                builder::build
+        );
+    }
+
+    @Test
+    void build_whenAttributePathMappingRefersToDefinedJoin_shouldPrecompileThePathPlan() {
+        // @formatter:off
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
+                .joinConfig()
+                .defineJoinClause(Object.class, "genre", "g", JoinType.INNER)
+                .end()
+                .attributePathConfig()
+                .addAttributePathMapping("genreName", "g.name")
+                .end()
+                .build();
+        // @formatter:on
+
+        AttributePathPlan plan = queryConfig.getJoinConfig().getAttributePathPlan("g.name");
+
+        assertEquals(1, plan.getJoinCount());
+        assertEquals("name", plan.getAttribute());
+        assertSame(plan, queryConfig.getJoinConfig().getAttributePathPlan("g.name"));
+    }
+
+    @Test
+    void build_whenBuilderIsModifiedAfterwards_shouldNotAffectTheBuiltConfig() {
+        SpecificationQueryConfigBuilder<Object> builder = SpecificationQueryConfig.builder();
+        SpecificationQueryConfig<Object> queryConfig = builder.build();
+
+        // @formatter:off
+        builder.filterConfig()
+                .addFilter("title", FilterOperator.EQUAL, "value")
+                .end()
+                .orderByConfig()
+                .addOrderBy("title", SortDirection.ASC)
+                .end()
+                .joinConfig()
+                .defineJoinClause(Object.class, "genre", "g", JoinType.INNER)
+                .end();
+        // @formatter:on
+
+        assertEquals(0, queryConfig.getFilterConfig().getFilterItems().size());
+        assertEquals(0, queryConfig.getOrderByConfig().getOrderByItems().size());
+        assertDoesNotThrow(builder::build);
+        assertThrows(
+                IllegalSpecificationException.class,
+                () -> queryConfig.getJoinConfig().getAttributePathPlan("g.name")
+        );
+    }
+
+    @Test
+    void getFilterItems_onBuiltConfig_shouldReturnTheSameImmutableList() {
+        // @formatter:off
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
+                .filterConfig()
+                .addFilter("title", FilterOperator.EQUAL, "value")
+                .end()
+                .orderByConfig()
+                .addOrderBy("title", SortDirection.ASC)
+                .end()
+                .build();
+        // @formatter:on
+
+        List<FilterItem<Object>> filterItems = queryConfig.getFilterConfig().getFilterItems();
+        List<OrderByItem<Object>> orderByItems = queryConfig.getOrderByConfig().getOrderByItems();
+
+        assertSame(filterItems, queryConfig.getFilterConfig().getFilterItems());
+        assertSame(orderByItems, queryConfig.getOrderByConfig().getOrderByItems());
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> filterItems.add(null)
+        );
+        assertThrows(
+                IllegalSpecificationException.class,
+                () -> queryConfig.getJoinConfig().defineJoinClause(Object.class, "genre", "g", JoinType.INNER)
+        );
+    }
+
+    @Test
+    void mutators_onBuiltConfig_shouldThrow() {
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder().build();
+
+        assertThrows(
+                IllegalSpecificationException.class,
+                () -> queryConfig.getFilterConfig().addFilter("title", FilterOperator.EQUAL, "value")
+        );
+        assertThrows(
+                IllegalSpecificationException.class,
+                () -> queryConfig.getFilterConfig().addFilter("title", FilterOperator.IN, List.of("value"))
+        );
+        assertThrows(
+                IllegalSpecificationException.class,
+                () -> queryConfig.getOrderByConfig().addOrderBy("title", SortDirection.ASC)
+        );
+        assertThrows(
+                IllegalSpecificationException.class,
+                () -> queryConfig.getAttributePathConfig().addAttributePathMapping("genre", "g.name")
+        );
+        assertThrows(
+                IllegalSpecificationException.class,
+                () -> queryConfig.getCustomExpressionConfig().addCustomSpecificationExpression("title",
+                        (path, queryContext) -> null)
+        );
+        assertTrue(queryConfig.getFilterConfig().getFilterItems().isEmpty());
+        assertNull(queryConfig.getAttributePathConfig().getPathToEntityAttribute("genre"));
+    }
+
+    @Test
+    void end_onBuiltConfig_shouldThrow() {
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder().build();
+
+        assertThrows(IllegalSpecificationException.class, () -> queryConfig.getJoinConfig().end());
+        assertThrows(IllegalSpecificationException.class, () -> queryConfig.getAttributePathConfig().end());
+        assertThrows(IllegalSpecificationException.class, () -> queryConfig.getFilterConfig().end());
+        assertThrows(IllegalSpecificationException.class, () -> queryConfig.getOrderByConfig().end());
+        assertThrows(IllegalSpecificationException.class, () -> queryConfig.getCustomExpressionConfig().end());
+        assertThrows(IllegalSpecificationException.class, () -> queryConfig.getComplexityConfig().end());
+    }
+
+    @Test
+    void defineJoinClause_withoutJoinStrategy_shouldUseTheJoinStrategy() {
+        // @formatter:off
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
+                .joinConfig()
+                .defineJoinClause(Object.class, "genre", "g", JoinType.INNER)
+                .end()
+                .build();
+        // @formatter:on
+
+        assertEquals(JoinStrategy.JOIN, queryConfig.getJoinConfig().getJoinItemByAlias("g").getStrategy());
+        assertFalse(queryConfig.getJoinConfig().isExistsJoinDefined());
+    }
+
+    @Test
+    void defineJoinClause_withExistsJoinStrategy_shouldMarkTheExistsJoinInThePathPlan() {
+        // @formatter:off
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
+                .joinConfig()
+                .defineJoinClause(Object.class, "genre", "g", JoinType.INNER)
+                .defineJoinClause(Object.class, "actors", "a", JoinType.LEFT, JoinStrategy.EXISTS)
+                .end()
+                .build();
+        // @formatter:on
+
+        SpecificationQueryConfig.JoinConfig<Object> joinConfig = queryConfig.getJoinConfig();
+
+        assertTrue(joinConfig.isExistsJoinDefined());
+        assertSame(joinConfig.getJoinItemByAlias("a"), joinConfig.getAttributePathPlan("a.name").getExistsJoinItem());
+        assertNull(joinConfig.getAttributePathPlan("g.name").getExistsJoinItem());
+    }
+
+    @Test
+    void getInStrategy_shouldReturnTheStrategyOfTheAttributeOrTheDefaultOne() {
+        InStrategy chunkedInStrategy = new ChunkedInStrategy();
+        InStrategy defaultInStrategy = new ChunkedInStrategy(10);
+        // @formatter:off
+        SpecificationQueryConfig<Object> defaultQueryConfig = SpecificationQueryConfig.builder().build();
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
+                .filterConfig()
+                .inStrategy("id", chunkedInStrategy)
+                .defaultInStrategy(defaultInStrategy)
+                .end()
+                .build();
+        // @formatter:on
+
+        assertTrue(defaultQueryConfig.getFilterConfig().getInStrategy("title") instanceof SingleInStrategy);
+        assertSame(chunkedInStrategy, queryConfig.getFilterConfig().getInStrategy("id"));
+        assertSame(defaultInStrategy, queryConfig.getFilterConfig().getInStrategy("title"));
+    }
+
+    @Test
+    void inStrategy_onBuiltConfig_shouldThrow() {
+        SpecificationQueryConfig.FilterConfig<Object> filterConfig = SpecificationQueryConfig.builder()
+                .build()
+                .getFilterConfig();
+
+        IllegalSpecificationException exception = assertThrows(
+                IllegalSpecificationException.class,
+                () -> filterConfig.defaultInStrategy(new ChunkedInStrategy())
+        );
+        assertEquals("The filter configuration of a built specification query configuration cannot be modified",
+                exception.getMessage());
+        assertThrows(
+                IllegalSpecificationException.class,
+                () -> filterConfig.inStrategy("id", new ChunkedInStrategy())
+        );
+        assertTrue(filterConfig.getInStrategy("id") instanceof SingleInStrategy);
+    }
+
+    @Test
+    void getNullPrecedenceStrategy_shouldReturnTheStrategyOfTheAttributeOrTheDefaultOne() {
+        // @formatter:off
+        SpecificationQueryConfig<Object> defaultQueryConfig = SpecificationQueryConfig.builder().build();
+        SpecificationQueryConfig<Object> queryConfig = SpecificationQueryConfig.builder()
+                .orderByConfig()
+                .nullPrecedence("id", NullPrecedenceStrategy.NONE)
+                .defaultNullPrecedence(NullPrecedenceStrategy.NATIVE)
+                .end()
+                .build();
+        // @formatter:on
+
+        assertEquals(NullPrecedenceStrategy.CASE, defaultQueryConfig.getOrderByConfig().getNullPrecedenceStrategy("title"));
+        assertEquals(NullPrecedenceStrategy.NONE, queryConfig.getOrderByConfig().getNullPrecedenceStrategy("id"));
+        assertEquals(NullPrecedenceStrategy.NATIVE, queryConfig.getOrderByConfig().getNullPrecedenceStrategy("title"));
+    }
+
+    @Test
+    void nullPrecedence_onBuiltConfig_shouldThrow() {
+        SpecificationQueryConfig.OrderByConfig<Object> orderByConfig = SpecificationQueryConfig.builder()
+                .build()
+                .getOrderByConfig();
+
+        IllegalSpecificationException exception = assertThrows(
+                IllegalSpecificationException.class,
+                () -> orderByConfig.defaultNullPrecedence(NullPrecedenceStrategy.NATIVE)
+        );
+        assertEquals("The order-by configuration of a built specification query configuration cannot be modified",
+                exception.getMessage());
+        assertThrows(
+                IllegalSpecificationException.class,
+                () -> orderByConfig.nullPrecedence("id", NullPrecedenceStrategy.NONE)
+        );
+        assertEquals(NullPrecedenceStrategy.CASE, orderByConfig.getNullPrecedenceStrategy("id"));
+    }
+}
@@ -148,4 +148,22 @@ public class SpecificationUtilTest {
                 () -> SpecificationUtil.createFilterItem(List.of("attribute;eq;34"), valuesParserHandler)
         );
     }
+
+    @Test
+    void padToPowerOfTwo_shouldRemoveDuplicatesAndRepeatTheLastValueUpToAPowerOfTwo() {
+        assertEquals(List.of(), SpecificationUtil.padToPowerOfTwo(List.of()));
+        assertEquals(List.of("a"), SpecificationUtil.padToPowerOfTwo(List.of("a", "a")));
+        assertEquals(List.of("a", "b"), SpecificationUtil.padToPowerOfTwo(List.of("a", "b")));
+        assertEquals(List.of("a", "b", "c", "c"), SpecificationUtil.padToPowerOfTwo(List.of("a", "b", "c")));
+        assertEquals(List.of("a", "b", "c", "d", "e", "e", "e", "e"),
+                SpecificationUtil.padToPowerOfTwo(List.of("a", "b", "a", "c", "d", "e")));
+    }
+
+    @Test
+    void padToPowerOfTwo_whenMaxSizeIsGiven_shouldNotPadAboveTheMaxSize() {
+        assertEquals(List.of("a", "b", "c", "c"), SpecificationUtil.padToPowerOfTwo(List.of("a", "b", "c"), 4));
+        assertEquals(List.of("a", "b", "c", "d", "e", "e"),
+                SpecificationUtil.padToPowerOfTwo(List.of("a", "b", "c", "d", "e"), 6));
+        assertEquals(List.of("a", "b", "c"), SpecificationUtil.padToPowerOfTwo(List.of("a", "b", "c", "a"), 3));
+    }
 }
@@ -25,6 +25,30 @@ public class ValueConverterTest {
         );
     }
 
+    @Test
+    void getConverter_onSupportedType_shouldReturnTheConverterOfTheType() {
+        ValueConverter valueConverter = new ValueConverter();
+
+        Function<String, Object> converter = valueConverter.getConverter(Long.class);
+
+        assertEquals(10L, converter.apply("10"));
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> converter.apply("invalid")
+        );
+        assertThrows(
+                InvalidSpecificationException.class,
+                () -> converter.apply(null)
+        );
+    }
+
+    @Test
+    void getConverter_whenNoConvertFunctionForTheGivenClass_shouldReturnTheInputString() {
+        ValueConverter valueConverter = new ValueConverter();
+
+        assertEquals("expected", valueConverter.getConverter(Class.class).apply("expected"));
+    }
+
     @Test
     void convert_whenNoConvertFunctionForTheGivenClass_shouldReturnTheInputString() {
         ValueConverter valueConverter = new ValueConverter();
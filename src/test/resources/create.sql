@@ -1,7 +1,8 @@
 CREATE TABLE movies (
     id BIGINT NOT NULL,
     title VARCHAR(255) NOT NULL,
-    genre_id BIGINT NOT NULL,
+    release_date DATE,
+    genre_id BIGINT,
     PRIMARY KEY (id)
 );
 
@@ -18,6 +19,13 @@ CREATE TABLE actors (
     PRIMARY KEY (id)
 );
 
+CREATE TABLE filter_values (
+    id BIGINT AUTO_INCREMENT NOT NULL,
+    list_key VARCHAR(255) NOT NULL,
+    filter_value VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
 CREATE TABLE movies_actors (
     movie_id BIGINT NOT NULL,
     actor_id BIGINT NOT NULL,
@@ -4,12 +4,12 @@ VALUES
     ( 2, 'Horror' ),
     ( 3, 'Action' );
 
-INSERT INTO movies(id, title, genre_id)
+INSERT INTO movies(id, title, release_date, genre_id)
 VALUES
-    ( 1, 'Fast and Furious', 3 ),
-    ( 2, 'IT', 2 ),
-    ( 3, 'Deadpool', 1 ),
-    ( 4, 'Deadpool 2', 1 );
+    ( 1, 'Fast and Furious', '2001-06-22', 3 ),
+    ( 2, 'IT', '2017-09-08', 2 ),
+    ( 3, 'Deadpool', '2016-02-12', 1 ),
+    ( 4, 'Deadpool 2', '2018-05-18', 1 );
 
 INSERT INTO actors(id, first_name, last_name)
 VALUES